@@ -0,0 +1,597 @@
+/*******************************************************************************
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the {@link ListDiffEntry list diff entries} which transform one list
+ * state into another.
+ * <p>
+ * Small lists are compared with the scanning algorithm adapted from EMF's
+ * ListDifferenceAnalyzer. Larger lists are first trimmed by their common
+ * prefix and suffix. If the remaining elements are unique in both lists, moved
+ * elements are found through a longest increasing subsequence of their new
+ * positions in O(n log n); otherwise the lists are compared with the linear
+ * space variant of the Myers O((N+M)D) difference algorithm. The Myers
+ * algorithm gives up after {@link #MAX_EDIT_COST} steps and reports the parts
+ * of the lists it has not matched yet as removed and added, so that lists
+ * which have hardly anything in common are not compared in quadratic time.
+ * </p>
+ * <p>
+ * Both algorithms describe a moved element as a removal directly followed by
+ * an addition, so that {@link org.eclipse.core.databinding.observable.list.ListDiff#accept}
+ * reports it as a move.
+ * </p>
+ */
+public class ListDifferenceAnalyzer {
+
+	/**
+	 * Lists for which the product of the old and new size does not exceed this
+	 * value are compared with the scanning algorithm.
+	 */
+	public static final int SCANNING_THRESHOLD = 10000;
+
+	/**
+	 * The number of steps after which the Myers algorithm stops looking for a
+	 * shortest edit script.
+	 */
+	public static final int MAX_EDIT_COST = 1 << 24;
+
+	/**
+	 * Computes the differences between the given lists.
+	 *
+	 * @param oldList
+	 *            the old list state
+	 * @param newList
+	 *            the new list state
+	 * @param listDiffs
+	 *            receives the diff entries in the order they are to be
+	 *            processed
+	 */
+	public static <E> void createListDiffs(List<? extends E> oldList, List<? extends E> newList,
+			List<ListDiffEntry<E>> listDiffs) {
+		if ((long) oldList.size() * newList.size() <= SCANNING_THRESHOLD) {
+			createScanningListDiffs(oldList, newList, listDiffs);
+		} else {
+			createIndexedListDiffs(oldList, newList, listDiffs);
+		}
+	}
+
+	/**
+	 * Computes the differences between the given lists with repeated scans of
+	 * the lists. This is quadratic in the list size, but produces compact move
+	 * entries for small lists.
+	 * <p>
+	 * adapted from EMF's ListDifferenceAnalyzer
+	 * </p>
+	 *
+	 * @param oldList
+	 *            the old list state
+	 * @param newList
+	 *            the new list state
+	 * @param listDiffs
+	 *            receives the diff entries
+	 */
+	public static <E> void createScanningListDiffs(List<? extends E> oldList, List<? extends E> newList,
+			List<ListDiffEntry<E>> listDiffs) {
+		List<E> list = new ArrayList<E>(oldList);
+		int index = 0;
+		for (E newValue : newList) {
+			if (list.size() <= index) {
+				// append newValue to newList
+				listDiffs.add(Diffs.createListDiffEntry(index, true, newValue));
+			} else {
+				boolean done;
+				do {
+					done = true;
+					E oldValue = list.get(index);
+					if (oldValue == null ? newValue != null : !oldValue.equals(newValue)) {
+						int oldIndexOfNewValue = listIndexOf(list, newValue, index);
+						if (oldIndexOfNewValue != -1) {
+							int newIndexOfOldValue = listIndexOf(newList, oldValue, index);
+							if (newIndexOfOldValue == -1) {
+								// removing oldValue from list[index]
+								listDiffs.add(Diffs.createListDiffEntry(index, false, oldValue));
+								list.remove(index);
+								done = false;
+							} else if (newIndexOfOldValue > oldIndexOfNewValue) {
+								// moving oldValue from list[index] to
+								// [newIndexOfOldValue]
+								if (list.size() <= newIndexOfOldValue) {
+									// The element cannot be moved to the
+									// correct index now, however later
+									// iterations will insert elements in front
+									// of it, eventually moving it into the
+									// correct spot.
+									newIndexOfOldValue = list.size() - 1;
+								}
+								listDiffs.add(Diffs.createListDiffEntry(index, false, oldValue));
+								list.remove(index);
+								listDiffs.add(Diffs.createListDiffEntry(newIndexOfOldValue, true, oldValue));
+								list.add(newIndexOfOldValue, oldValue);
+								done = false;
+							} else {
+								// move newValue from list[oldIndexOfNewValue]
+								// to [index]
+								listDiffs.add(Diffs.createListDiffEntry(oldIndexOfNewValue, false, newValue));
+								list.remove(oldIndexOfNewValue);
+								listDiffs.add(Diffs.createListDiffEntry(index, true, newValue));
+								list.add(index, newValue);
+							}
+						} else {
+							// add newValue at list[index]
+							list.add(index, newValue);
+							listDiffs.add(Diffs.createListDiffEntry(index, true, newValue));
+						}
+					}
+				} while (!done);
+			}
+			++index;
+		}
+		for (int i = list.size(); i > index;) {
+			// remove excess trailing elements not present in newList
+			listDiffs.add(Diffs.createListDiffEntry(--i, false, list.get(i)));
+		}
+	}
+
+	/**
+	 * @param list
+	 * @param object
+	 * @param index
+	 * @return the index, or -1 if not found
+	 */
+	private static int listIndexOf(List<?> list, Object object, int index) {
+		int size = list.size();
+		for (int i = index; i < size; i++) {
+			Object candidate = list.get(i);
+			if (candidate == null ? object == null : candidate.equals(object)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Computes the differences between the given lists in O(n log n) for lists
+	 * of unique elements and in O((N+M)D) otherwise, where D is the size of the
+	 * shortest edit script. If the lists have too little in common to find that
+	 * script within {@link #MAX_EDIT_COST} steps, the remaining differences are
+	 * described as removals and additions. Elements are compared through their
+	 * {@link Object#hashCode()} and {@link Object#equals(Object)}.
+	 *
+	 * @param oldList
+	 *            the old list state
+	 * @param newList
+	 *            the new list state
+	 * @param listDiffs
+	 *            receives the diff entries
+	 */
+	public static <E> void createIndexedListDiffs(List<? extends E> oldList, List<? extends E> newList,
+			List<ListDiffEntry<E>> listDiffs) {
+		List<E> a = new ArrayList<E>(oldList);
+		List<E> b = new ArrayList<E>(newList);
+		int n = a.size();
+		int m = b.size();
+
+		int prefix = 0;
+		while (prefix < n && prefix < m && Util.equals(a.get(prefix), b.get(prefix))) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < n - prefix && suffix < m - prefix
+				&& Util.equals(a.get(n - 1 - suffix), b.get(m - 1 - suffix))) {
+			suffix++;
+		}
+		int aLength = n - prefix - suffix;
+		int bLength = m - prefix - suffix;
+
+		// replace the elements by integer ids so that they are hashed only once
+		Map<E, Integer> ids = new HashMap<>();
+		int[] aIds = new int[aLength];
+		int[] bIds = new int[bLength];
+		for (int i = 0; i < aLength; i++) {
+			aIds[i] = intern(ids, a.get(prefix + i));
+		}
+		for (int j = 0; j < bLength; j++) {
+			bIds[j] = intern(ids, b.get(prefix + j));
+		}
+
+		if (isUnique(aIds, ids.size()) && isUnique(bIds, ids.size())) {
+			createUniqueListDiffs(a, b, prefix, aIds, bIds, ids.size(), listDiffs);
+			return;
+		}
+
+		MyersDiff myers = new MyersDiff(aIds, bIds);
+		myers.diff(0, aLength, 0, bLength);
+		boolean[] removed = myers.removed;
+		boolean[] added = myers.added;
+
+		// the list is b[0, prefix + j) followed by a[prefix + i, n)
+		int i = 0;
+		int j = 0;
+		while (i < aLength || j < bLength) {
+			if (i < aLength && removed[i]) {
+				listDiffs.add(Diffs.createListDiffEntry(prefix + j, false, a.get(prefix + i)));
+				i++;
+			} else if (j < bLength && added[j]) {
+				listDiffs.add(Diffs.createListDiffEntry(prefix + j, true, b.get(prefix + j)));
+				j++;
+			} else {
+				i++;
+				j++;
+			}
+		}
+	}
+
+	private static <E> int intern(Map<E, Integer> ids, E element) {
+		Integer id = ids.get(element);
+		if (id == null) {
+			id = Integer.valueOf(ids.size());
+			ids.put(element, id);
+		}
+		return id.intValue();
+	}
+
+	private static boolean isUnique(int[] ids, int idCount) {
+		boolean[] seen = new boolean[idCount];
+		for (int id : ids) {
+			if (seen[id]) {
+				return false;
+			}
+			seen[id] = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Diff for lists without duplicate elements. Removed elements are removed
+	 * first, then the elements which are not part of the longest increasing
+	 * subsequence of new positions are moved and new elements are added, in the
+	 * order of their new positions.
+	 */
+	private static <E> void createUniqueListDiffs(List<E> a, List<E> b, int prefix, int[] aIds, int[] bIds,
+			int idCount, List<ListDiffEntry<E>> listDiffs) {
+		int aLength = aIds.length;
+		int bLength = bIds.length;
+
+		int[] newIndexOfId = new int[idCount];
+		Arrays.fill(newIndexOfId, -1);
+		for (int j = 0; j < bLength; j++) {
+			newIndexOfId[bIds[j]] = j;
+		}
+
+		// remove elements which are not contained in the new list, from the end
+		// so that the positions of the preceding elements stay valid
+		int retained = 0;
+		for (int i = aLength - 1; i >= 0; i--) {
+			if (newIndexOfId[aIds[i]] == -1) {
+				listDiffs.add(Diffs.createListDiffEntry(prefix + i, false, a.get(prefix + i)));
+			} else {
+				retained++;
+			}
+		}
+
+		// new positions of the retained elements, in old order
+		int[] targets = new int[retained];
+		int[] retainedIndexOfTarget = new int[bLength];
+		Arrays.fill(retainedIndexOfTarget, -1);
+		for (int i = 0, t = 0; i < aLength; i++) {
+			int target = newIndexOfId[aIds[i]];
+			if (target != -1) {
+				retainedIndexOfTarget[target] = t;
+				targets[t++] = target;
+			}
+		}
+		boolean[] stable = longestIncreasingSubsequence(targets);
+
+		// Slots are laid out per anchor, which is the preceding stable element
+		// (anchor 0 is the list start): the stable element, the new positions
+		// of moved and added elements, then the old positions of the moved
+		// elements. An occupied slot is an element of the current list.
+		int stableCount = 0;
+		for (boolean s : stable) {
+			if (s) {
+				stableCount++;
+			}
+		}
+		int[] insertCount = new int[stableCount + 1];
+		int[] moveCount = new int[stableCount + 1];
+		int[] newAnchor = new int[bLength];
+		for (int j = 0, anchor = 0; j < bLength; j++) {
+			int t = retainedIndexOfTarget[j];
+			if (t != -1 && stable[t]) {
+				anchor++;
+			} else {
+				newAnchor[j] = anchor;
+				insertCount[anchor]++;
+			}
+		}
+		int[] oldAnchor = new int[retained];
+		for (int t = 0, anchor = 0; t < retained; t++) {
+			if (stable[t]) {
+				anchor++;
+			} else {
+				oldAnchor[t] = anchor;
+				moveCount[anchor]++;
+			}
+		}
+		int[] groupStart = new int[stableCount + 2];
+		for (int anchor = 0; anchor <= stableCount; anchor++) {
+			groupStart[anchor + 1] = groupStart[anchor] + (anchor > 0 ? 1 : 0) + insertCount[anchor]
+					+ moveCount[anchor];
+		}
+
+		SlotTree slots = new SlotTree(groupStart[stableCount + 1]);
+		int[] nextInsertSlot = new int[stableCount + 1];
+		int[] nextMoveSlot = new int[stableCount + 1];
+		for (int anchor = 0; anchor <= stableCount; anchor++) {
+			int firstSlot = groupStart[anchor];
+			if (anchor > 0) {
+				slots.occupy(firstSlot++);
+			}
+			nextInsertSlot[anchor] = firstSlot;
+			nextMoveSlot[anchor] = firstSlot + insertCount[anchor];
+		}
+		int[] oldSlots = new int[retained];
+		for (int t = 0; t < retained; t++) {
+			if (!stable[t]) {
+				int slot = nextMoveSlot[oldAnchor[t]]++;
+				slots.occupy(slot);
+				oldSlots[t] = slot;
+			}
+		}
+
+		for (int j = 0; j < bLength; j++) {
+			int t = retainedIndexOfTarget[j];
+			if (t != -1 && stable[t]) {
+				continue;
+			}
+			E element = b.get(prefix + j);
+			if (t != -1) {
+				listDiffs.add(Diffs.createListDiffEntry(prefix + slots.rank(oldSlots[t]), false, element));
+				slots.release(oldSlots[t]);
+			}
+			int slot = nextInsertSlot[newAnchor[j]]++;
+			listDiffs.add(Diffs.createListDiffEntry(prefix + slots.rank(slot), true, element));
+			slots.occupy(slot);
+		}
+	}
+
+	/**
+	 * Returns the members of a longest strictly increasing subsequence of the
+	 * given values.
+	 */
+	private static boolean[] longestIncreasingSubsequence(int[] values) {
+		int[] tails = new int[values.length];
+		int[] predecessors = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (values[tails[mid]] < values[i]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] members = new boolean[values.length];
+		for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = predecessors[i]) {
+			members[i] = true;
+		}
+		return members;
+	}
+
+	/**
+	 * Linear space Myers difference algorithm over element ids, which marks the
+	 * elements that are not part of a longest common subsequence.
+	 */
+	private static final class MyersDiff {
+		private final int[] a;
+		private final int[] b;
+		final boolean[] removed;
+		final boolean[] added;
+		private int remainingCost = MAX_EDIT_COST;
+
+		MyersDiff(int[] a, int[] b) {
+			this.a = a;
+			this.b = b;
+			removed = new boolean[a.length];
+			added = new boolean[b.length];
+		}
+
+		/**
+		 * Marks the elements of a[aLo, aHi) and b[bLo, bHi) which are not part
+		 * of a longest common subsequence.
+		 */
+		void diff(int aLo, int aHi, int bLo, int bHi) {
+			while (aLo < aHi && bLo < bHi && a[aLo] == b[bLo]) {
+				aLo++;
+				bLo++;
+			}
+			while (aLo < aHi && bLo < bHi && a[aHi - 1] == b[bHi - 1]) {
+				aHi--;
+				bHi--;
+			}
+			if (aLo == aHi) {
+				Arrays.fill(added, bLo, bHi, true);
+			} else if (bLo == bHi) {
+				Arrays.fill(removed, aLo, aHi, true);
+			} else {
+				bisect(aLo, aHi, bLo, bHi);
+			}
+		}
+
+		/**
+		 * Finds the middle snake of a[aLo, aHi) and b[bLo, bHi) by running the
+		 * Myers algorithm from both ends, and recurses on both halves. Once the
+		 * cost budget is spent, the ranges are marked as removed and added.
+		 */
+		private void bisect(int aLo, int aHi, int bLo, int bHi) {
+			int n = aHi - aLo;
+			int m = bHi - bLo;
+			int maxD = (n + m + 1) / 2;
+			int vOffset = maxD;
+			int vLength = 2 * maxD + 2;
+			int[] v1 = new int[vLength];
+			int[] v2 = new int[vLength];
+			Arrays.fill(v1, -1);
+			Arrays.fill(v2, -1);
+			v1[vOffset + 1] = 0;
+			v2[vOffset + 1] = 0;
+			int delta = n - m;
+			// if the total number of elements is odd, the front path collides
+			// with the reverse path
+			boolean front = (delta % 2 != 0);
+			// offsets for start and end of k loop, prevents mapping of space
+			// beyond the grid
+			int k1start = 0;
+			int k1end = 0;
+			int k2start = 0;
+			int k2end = 0;
+			for (int d = 0; d < maxD && remainingCost > 0; d++) {
+				// every diagonal of both paths is walked once per step
+				remainingCost -= 2 * d + 2;
+				// walk the front path one step
+				for (int k1 = -d + k1start; k1 <= d - k1end; k1 += 2) {
+					int k1Offset = vOffset + k1;
+					int x1;
+					if (k1 == -d || (k1 != d && v1[k1Offset - 1] < v1[k1Offset + 1])) {
+						x1 = v1[k1Offset + 1];
+					} else {
+						x1 = v1[k1Offset - 1] + 1;
+					}
+					int y1 = x1 - k1;
+					while (x1 < n && y1 < m && a[aLo + x1] == b[bLo + y1]) {
+						x1++;
+						y1++;
+						remainingCost--;
+					}
+					v1[k1Offset] = x1;
+					if (x1 > n) {
+						// ran off the right of the graph
+						k1end += 2;
+					} else if (y1 > m) {
+						// ran off the bottom of the graph
+						k1start += 2;
+					} else if (front) {
+						int k2Offset = vOffset + delta - k1;
+						if (k2Offset >= 0 && k2Offset < vLength && v2[k2Offset] != -1) {
+							// mirror x2 onto top-left coordinate system
+							int x2 = n - v2[k2Offset];
+							if (x1 >= x2) {
+								split(aLo, aHi, bLo, bHi, x1, y1);
+								return;
+							}
+						}
+					}
+				}
+
+				// walk the reverse path one step
+				for (int k2 = -d + k2start; k2 <= d - k2end; k2 += 2) {
+					int k2Offset = vOffset + k2;
+					int x2;
+					if (k2 == -d || (k2 != d && v2[k2Offset - 1] < v2[k2Offset + 1])) {
+						x2 = v2[k2Offset + 1];
+					} else {
+						x2 = v2[k2Offset - 1] + 1;
+					}
+					int y2 = x2 - k2;
+					while (x2 < n && y2 < m && a[aHi - x2 - 1] == b[bHi - y2 - 1]) {
+						x2++;
+						y2++;
+						remainingCost--;
+					}
+					v2[k2Offset] = x2;
+					if (x2 > n) {
+						k2end += 2;
+					} else if (y2 > m) {
+						k2start += 2;
+					} else if (!front) {
+						int k1Offset = vOffset + delta - k2;
+						if (k1Offset >= 0 && k1Offset < vLength && v1[k1Offset] != -1) {
+							int x1 = v1[k1Offset];
+							int y1 = vOffset + x1 - k1Offset;
+							if (x1 >= n - x2) {
+								split(aLo, aHi, bLo, bHi, x1, y1);
+								return;
+							}
+						}
+					}
+				}
+			}
+			// no commonality at all, or too expensive to find it
+			Arrays.fill(removed, aLo, aHi, true);
+			Arrays.fill(added, bLo, bHi, true);
+		}
+
+		private void split(int aLo, int aHi, int bLo, int bHi, int x, int y) {
+			diff(aLo, aLo + x, bLo, bLo + y);
+			diff(aLo + x, aHi, bLo + y, bHi);
+		}
+	}
+
+	/**
+	 * Fenwick tree over slot occupation, used to compute the current list
+	 * position of a slot in O(log n).
+	 */
+	private static final class SlotTree {
+		private final int[] tree;
+
+		SlotTree(int size) {
+			tree = new int[size + 1];
+		}
+
+		void occupy(int slot) {
+			update(slot, 1);
+		}
+
+		void release(int slot) {
+			update(slot, -1);
+		}
+
+		private void update(int slot, int delta) {
+			for (int i = slot + 1; i < tree.length; i += i & -i) {
+				tree[i] += delta;
+			}
+		}
+
+		/**
+		 * @return the number of occupied slots before the given slot
+		 */
+		int rank(int slot) {
+			int rank = 0;
+			for (int i = slot; i > 0; i -= i & -i) {
+				rank += tree[i];
+			}
+			return rank;
+		}
+	}
+}
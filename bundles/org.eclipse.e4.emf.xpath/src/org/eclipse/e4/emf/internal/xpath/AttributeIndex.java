@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.emf.internal.xpath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Index of the elements contained in a root element by the values of their
+ * string attributes, e.g. <code>elementId</code>. The index is attached to the
+ * root and its contents, and is dropped whenever the containment tree or an
+ * indexed attribute changes. It is rebuilt on the next lookup, in one pass
+ * over the contents of the root.
+ */
+final class AttributeIndex extends EContentAdapter {
+
+	private static final Object LOCK = new Object();
+
+	private final EObject root;
+	private final Map<String, Map<String, List<EObject>>> indexes = new HashMap<>();
+	// attributes which are not single valued strings in some element
+	private final Set<String> unsupported = new HashSet<>();
+
+	private AttributeIndex(EObject root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the index of the given root, attaching it if necessary.
+	 */
+	static AttributeIndex getIndex(EObject root) {
+		synchronized (LOCK) {
+			for (Adapter adapter : root.eAdapters()) {
+				if (adapter instanceof AttributeIndex && ((AttributeIndex) adapter).root == root) {
+					return (AttributeIndex) adapter;
+				}
+			}
+			AttributeIndex index = new AttributeIndex(root);
+			root.eAdapters().add(index);
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the elements contained in the root whose attribute has the given
+	 * value, in the order of the containment tree.
+	 *
+	 * @return the elements, or <code>null</code> if the attribute cannot be
+	 *         indexed
+	 */
+	synchronized List<EObject> getElements(String attributeName, String value) {
+		if (unsupported.contains(attributeName)) {
+			return null;
+		}
+		Map<String, List<EObject>> index = indexes.get(attributeName);
+		if (index == null) {
+			index = createIndex(attributeName);
+			if (index == null) {
+				unsupported.add(attributeName);
+				return null;
+			}
+			indexes.put(attributeName, index);
+		}
+		List<EObject> elements = index.get(value);
+		return elements == null ? Collections.<EObject> emptyList() : Collections.unmodifiableList(elements);
+	}
+
+	private Map<String, List<EObject>> createIndex(String attributeName) {
+		Map<String, List<EObject>> index = new HashMap<>();
+		for (Iterator<EObject> it = root.eAllContents(); it.hasNext();) {
+			EObject element = it.next();
+			EStructuralFeature feature = element.eClass().getEStructuralFeature(attributeName);
+			if (feature == null) {
+				continue;
+			}
+			if (!(feature instanceof EAttribute) || feature.isMany()
+					|| feature.getEType().getInstanceClass() != String.class) {
+				return null;
+			}
+			String value = (String) element.eGet(feature);
+			if (value != null) {
+				index.computeIfAbsent(value, v -> new ArrayList<>(1)).add(element);
+			}
+		}
+		return index;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch()) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		boolean containment = feature instanceof EReference && ((EReference) feature).isContainment();
+		if (containment || feature instanceof EAttribute) {
+			synchronized (this) {
+				if (containment || indexes.containsKey(((EAttribute) feature).getName())) {
+					indexes.clear();
+					unsupported.clear();
+				}
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.jxpath.NodeSet;
 import org.apache.commons.jxpath.Pointer;
 import org.eclipse.e4.emf.xpath.XPathContext;
+import org.eclipse.e4.emf.xpath.XPathExpression;
 import org.eclipse.emf.ecore.EObject;
 
 /**
@@ -80,20 +81,26 @@ public final class JXPathContextImpl implements XPathContext {
 
 	@Override
 	public Object getValue(String xpath) {
-		return context.getValue(xpath);
+		return compile(xpath).getValue(this);
 	}
 
 	@Override
 	public Object getValue(String xpath, Class<?> requiredType) {
-		return context.getValue(xpath, requiredType);
+		return compile(xpath).getValue(this, requiredType);
 	}
 
 	@Override
 	public <Type> Iterator<Type> iterate(String xpath) {
-		return context.iterate(xpath);
+		return compile(xpath).iterate(this);
 	}
 
-	private JXPathContext getJXPathContext() {
+	@Override
+	public XPathExpression compile(String xpath) {
+		// JXPath caches the parsed expressions by string
+		return new JXPathExpressionImpl(xpath);
+	}
+
+	JXPathContext getJXPathContext() {
 		return context;
 	}
 
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.emf.internal.xpath;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.jxpath.CompiledExpression;
+import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.util.TypeUtils;
+import org.eclipse.e4.emf.xpath.XPathContext;
+import org.eclipse.e4.emf.xpath.XPathExpression;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Expression compiled by JXPath. Expressions of the form
+ * <code>//*[@attribute='value']</code> evaluated against an {@link EObject}
+ * are answered from the {@link AttributeIndex} of the context bean instead of
+ * walking all features of all elements. If the index finds no element, the
+ * expression is evaluated by JXPath, which also follows non-containment
+ * references.
+ */
+final class JXPathExpressionImpl implements XPathExpression {
+
+	private static final Pattern ATTRIBUTE_LOOKUP = Pattern
+			.compile("//\\*\\[@([\\w.-]+)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")\\]"); //$NON-NLS-1$
+
+	private final String xpath;
+	private final CompiledExpression expression;
+	private final String attributeName;
+	private final String attributeValue;
+
+	JXPathExpressionImpl(String xpath) {
+		this.xpath = xpath;
+		this.expression = JXPathContext.compile(xpath);
+		Matcher matcher = ATTRIBUTE_LOOKUP.matcher(xpath.trim());
+		if (matcher.matches()) {
+			attributeName = matcher.group(1);
+			attributeValue = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+		} else {
+			attributeName = null;
+			attributeValue = null;
+		}
+	}
+
+	@Override
+	public String getExpression() {
+		return xpath;
+	}
+
+	@Override
+	public Object getValue(XPathContext context) {
+		if (!(context instanceof JXPathContextImpl)) {
+			return context.getValue(xpath);
+		}
+		List<EObject> elements = lookup((JXPathContextImpl) context);
+		if (elements != null && !elements.isEmpty()) {
+			return elements.get(0);
+		}
+		return expression.getValue(((JXPathContextImpl) context).getJXPathContext());
+	}
+
+	@Override
+	public Object getValue(XPathContext context, Class<?> requiredType) {
+		if (!(context instanceof JXPathContextImpl)) {
+			return context.getValue(xpath, requiredType);
+		}
+		List<EObject> elements = lookup((JXPathContextImpl) context);
+		if (elements != null && !elements.isEmpty()) {
+			return TypeUtils.convert(elements.get(0), requiredType);
+		}
+		return expression.getValue(((JXPathContextImpl) context).getJXPathContext(), requiredType);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <O> Iterator<O> iterate(XPathContext context) {
+		if (!(context instanceof JXPathContextImpl)) {
+			return context.iterate(xpath);
+		}
+		List<EObject> elements = lookup((JXPathContextImpl) context);
+		if (elements != null && !elements.isEmpty()) {
+			return (Iterator<O>) elements.iterator();
+		}
+		return expression.iterate(((JXPathContextImpl) context).getJXPathContext());
+	}
+
+	private List<EObject> lookup(JXPathContextImpl context) {
+		if (attributeName == null) {
+			return null;
+		}
+		Object bean = context.getJXPathContext().getContextBean();
+		if (!(bean instanceof EObject)) {
+			return null;
+		}
+		return AttributeIndex.getIndex((EObject) bean).getElements(attributeName, attributeValue);
+	}
+
+	@Override
+	public String toString() {
+		return xpath;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,4 +57,38 @@ public interface XPathContext {
 	 * @return Iterator<Object>
 	 */
 	<O> Iterator<O> iterate(String xpath);
+
+	/**
+	 * Compiles the xpath into an expression which can be evaluated repeatedly
+	 * without parsing the xpath again. The default implementation evaluates the
+	 * xpath string in the given context on every call.
+	 *
+	 * @param xpath
+	 *            to compile
+	 * @return the compiled expression
+	 * @since 0.3
+	 */
+	default XPathExpression compile(String xpath) {
+		return new XPathExpression() {
+			@Override
+			public String getExpression() {
+				return xpath;
+			}
+
+			@Override
+			public Object getValue(XPathContext context) {
+				return context.getValue(xpath);
+			}
+
+			@Override
+			public Object getValue(XPathContext context, Class<?> requiredType) {
+				return context.getValue(xpath, requiredType);
+			}
+
+			@Override
+			public <O> Iterator<O> iterate(XPathContext context) {
+				return context.iterate(xpath);
+			}
+		};
+	}
 }
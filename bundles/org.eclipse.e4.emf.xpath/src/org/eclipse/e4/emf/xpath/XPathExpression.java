@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.e4.emf.xpath;
+
+import java.util.Iterator;
+
+/**
+ * An xpath parsed once by {@link XPathContext#compile(String)}, which can be
+ * evaluated repeatedly in any context.
+ *
+ * @since 0.3
+ */
+public interface XPathExpression {
+
+	/**
+	 * @return the xpath this expression was compiled from
+	 */
+	String getExpression();
+
+	/**
+	 * Evaluates the xpath and returns the resulting object. Primitive types are
+	 * wrapped into objects.
+	 *
+	 * @param context
+	 *            the context to evaluate the xpath in
+	 * @return Object found
+	 * @see XPathContext#getValue(String)
+	 */
+	Object getValue(XPathContext context);
+
+	/**
+	 * Evaluates the xpath, converts the result to the specified class and
+	 * returns the resulting object.
+	 *
+	 * @param context
+	 *            the context to evaluate the xpath in
+	 * @param requiredType
+	 *            required type
+	 * @return Object found
+	 * @see XPathContext#getValue(String, Class)
+	 */
+	Object getValue(XPathContext context, Class<?> requiredType);
+
+	/**
+	 * Traverses the xpath and returns an Iterator of all results found for the
+	 * path. If the xpath matches no properties in the graph, the Iterator will
+	 * be empty, but not null.
+	 *
+	 * @param <O>
+	 *            the expected object type
+	 * @param context
+	 *            the context to evaluate the xpath in
+	 * @return Iterator<Object>
+	 * @see XPathContext#iterate(String)
+	 */
+	<O> Iterator<O> iterate(XPathContext context);
+}
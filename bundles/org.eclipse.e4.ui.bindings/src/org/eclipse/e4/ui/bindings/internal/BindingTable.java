@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
@@ -53,9 +55,11 @@ public class BindingTable {
 
 	static class BindingComparator implements Comparator<Binding> {
 		private String[] activeSchemeIds;
+		private int generation;
 
 		public void setActiveSchemes(String[] activeSchemeIds) {
 			this.activeSchemeIds = activeSchemeIds;
+			generation++;
 		}
 
 		public String[] getActiveSchemes() {
@@ -123,13 +127,76 @@ public class BindingTable {
 
 	public static final BindingComparator BEST_SEQUENCE = new BindingComparator();
 
+	/**
+	 * A list of bindings kept sorted by {@link BindingTable#BEST_SEQUENCE}. Bindings are inserted
+	 * at their position; the list is only sorted again if the active schemes changed.
+	 */
+	private static class SortedBindings extends ArrayList<Binding> {
+		private static final long serialVersionUID = 1L;
+
+		private int generation = BEST_SEQUENCE.generation;
+
+		void addSorted(Binding binding) {
+			if (generation != BEST_SEQUENCE.generation) {
+				Collections.sort(this, BEST_SEQUENCE);
+				generation = BEST_SEQUENCE.generation;
+			}
+			// after the equal bindings, like appending and sorting
+			int low = 0;
+			int high = size();
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (BEST_SEQUENCE.compare(get(mid), binding) <= 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			add(low, binding);
+		}
+	}
+
+	/**
+	 * A node of the trie of the trigger sequences of the active bindings. The path from the root
+	 * to a node spells a trigger sequence, so a perfect or partial match is a single walk over the
+	 * triggers of a sequence.
+	 */
+	private static class TriggerNode {
+		final TriggerNode parent;
+		final Trigger trigger;
+		Map<Trigger, TriggerNode> children;
+		// the active binding of the sequence ending here
+		Binding binding;
+		// the number of active bindings of longer sequences starting with this one
+		int partialMatches;
+
+		TriggerNode(TriggerNode parent, Trigger trigger) {
+			this.parent = parent;
+			this.trigger = trigger;
+		}
+
+		TriggerNode getChild(Trigger trigger) {
+			return children == null ? null : children.get(trigger);
+		}
+
+		void collectBindings(Collection<Binding> result) {
+			if (children != null) {
+				for (TriggerNode child : children.values()) {
+					if (child.binding != null) {
+						result.add(child.binding);
+					}
+					child.collectBindings(result);
+				}
+			}
+		}
+	}
+
 	private Context tableId;
-	private ArrayList<Binding> bindings = new ArrayList<Binding>();
-	private Map<TriggerSequence, Binding> bindingsByTrigger = new HashMap<TriggerSequence, Binding>();
-	private Map<ParameterizedCommand, ArrayList<Binding>> bindingsByCommand = new HashMap<ParameterizedCommand, ArrayList<Binding>>();
-	private Map<TriggerSequence, ArrayList<Binding>> bindingsByPrefix = new HashMap<TriggerSequence, ArrayList<Binding>>();
+	private LinkedHashSet<Binding> bindings = new LinkedHashSet<Binding>();
+	private TriggerNode triggerRoot = new TriggerNode(null, null);
+	private Map<ParameterizedCommand, SortedBindings> bindingsByCommand = new HashMap<ParameterizedCommand, SortedBindings>();
 	private Map<TriggerSequence, ArrayList<Binding>> conflicts = new HashMap<TriggerSequence, ArrayList<Binding>>();
-	private Map<TriggerSequence, ArrayList<Binding>> orderedBindingsByTrigger = new HashMap<TriggerSequence, ArrayList<Binding>>();
+	private Map<TriggerSequence, SortedBindings> orderedBindingsByTrigger = new HashMap<TriggerSequence, SortedBindings>();
 
 	/**
 	 * @param context
@@ -166,21 +233,19 @@ public class BindingTable {
 			throw new IllegalArgumentException("Binding context " + binding.getContextId() //$NON-NLS-1$
 					+ " does not match " + getId()); //$NON-NLS-1$
 		}
-		ArrayList<Binding> bindingList = orderedBindingsByTrigger.get(binding.getTriggerSequence());
-		Binding possibleConflict = bindingsByTrigger.get(binding.getTriggerSequence());
+		SortedBindings bindingList = orderedBindingsByTrigger.get(binding.getTriggerSequence());
+		Binding possibleConflict = getPerfectMatch(binding.getTriggerSequence());
 		if (bindingList == null || bindingList.isEmpty()) {
 			if (possibleConflict != null) {
 				if (bindingList == null) {
-					bindingList = new ArrayList<Binding>();
+					bindingList = new SortedBindings();
 					orderedBindingsByTrigger.put(binding.getTriggerSequence(), bindingList);
 				}
 				bindingList.add(binding);
-				bindingList.add(possibleConflict);
-				Collections.sort(bindingList, BEST_SEQUENCE);
+				bindingList.addSorted(possibleConflict);
 			}
 		} else {
-			bindingList.add(binding);
-			Collections.sort(bindingList, BEST_SEQUENCE);
+			bindingList.addSorted(binding);
 		}
 
 		if (possibleConflict != null && bindingList != null && !bindingList.isEmpty()
@@ -194,42 +259,64 @@ public class BindingTable {
 
 	private void addBindingSimple(Binding binding) {
 		bindings.add(binding);
-		bindingsByTrigger.put(binding.getTriggerSequence(), binding);
 
-		ArrayList<Binding> sequences = bindingsByCommand.get(binding.getParameterizedCommand());
-		if (sequences == null) {
-			sequences = new ArrayList<Binding>();
-			bindingsByCommand.put(binding.getParameterizedCommand(), sequences);
+		TriggerNode node = triggerRoot;
+		for (Trigger trigger : binding.getTriggerSequence().getTriggers()) {
+			TriggerNode child = node.getChild(trigger);
+			if (child == null) {
+				if (node.children == null) {
+					node.children = new LinkedHashMap<Trigger, TriggerNode>(4);
+				}
+				child = new TriggerNode(node, trigger);
+				node.children.put(trigger, child);
+			}
+			node = child;
 		}
-		sequences.add(binding);
-		Collections.sort(sequences, BEST_SEQUENCE);
-
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings == null) {
-				bindings = new ArrayList<Binding>();
-				bindingsByPrefix.put(prefs[i], bindings);
+		if (node.binding == null) {
+			for (TriggerNode prefix = node.parent; prefix != triggerRoot; prefix = prefix.parent) {
+				prefix.partialMatches++;
 			}
-			bindings.add(binding);
 		}
+		node.binding = binding;
+
+		SortedBindings sequences = bindingsByCommand.get(binding.getParameterizedCommand());
+		if (sequences == null) {
+			sequences = new SortedBindings();
+			bindingsByCommand.put(binding.getParameterizedCommand(), sequences);
+		}
+		sequences.addSorted(binding);
 	}
 
 	private void removeBindingSimple(Binding binding) {
 		bindings.remove(binding);
-		bindingsByTrigger.remove(binding.getTriggerSequence());
+		TriggerNode node = getNode(binding.getTriggerSequence());
+		if (node != null && node.binding != null) {
+			node.binding = null;
+			for (TriggerNode prefix = node.parent; prefix != triggerRoot; prefix = prefix.parent) {
+				prefix.partialMatches--;
+			}
+			// prune the nodes which no longer lead to a binding
+			while (node != triggerRoot && node.binding == null && node.partialMatches == 0) {
+				node.parent.children.remove(node.trigger);
+				node = node.parent;
+			}
+		}
 		ArrayList<Binding> sequences = bindingsByCommand.get(binding.getParameterizedCommand());
 
 		if (sequences != null) {
 			sequences.remove(binding);
 		}
-		TriggerSequence[] prefs = binding.getTriggerSequence().getPrefixes();
-		for (int i = 1; i < prefs.length; i++) {
-			ArrayList<Binding> bindings = bindingsByPrefix.get(prefs[i]);
-			if (bindings != null) {
-				bindings.remove(binding);
+	}
+
+	private TriggerNode getNode(TriggerSequence sequence) {
+		TriggerNode node = triggerRoot;
+		for (Trigger trigger : sequence.getTriggers()) {
+			node = node.getChild(trigger);
+			if (node == null) {
+				return null;
 			}
 		}
+		return node;
 	}
 
 	public void removeBinding(Binding binding) {
@@ -238,7 +325,7 @@ public class BindingTable {
 					+ " does not match " + getId()); //$NON-NLS-1$
 		}
 		ArrayList<Binding> bindingList = orderedBindingsByTrigger.get(binding.getTriggerSequence());
-		Binding possibleConflict = bindingsByTrigger.get(binding.getTriggerSequence());
+		Binding possibleConflict = getPerfectMatch(binding.getTriggerSequence());
 		if (possibleConflict == binding) {
 			removeBindingSimple(binding);
 			if (bindingList != null) {
@@ -296,26 +383,27 @@ public class BindingTable {
 					}
 				} else {
 					conflicts.remove(sequence);
-					if (bindingsByTrigger.get(sequence) == null) {
+					if (getPerfectMatch(sequence) == null) {
 						addBindingSimple(msb);
 					}
 				}
 			} else {
-				if (bindingsByTrigger.get(sequence) == null) {
+				if (getPerfectMatch(sequence) == null) {
 					addBindingSimple(bindingList.get(0));
 				}
 				orderedBindingsByTrigger.remove(sequence);
 			}
 		} else if (binding != null) {
 			conflicts.remove(sequence);
-			if (bindingsByTrigger.get(sequence) == null) {
+			if (getPerfectMatch(sequence) == null) {
 				addBindingSimple(binding);
 			}
 		}
 	}
 
 	public Binding getPerfectMatch(TriggerSequence trigger) {
-		return bindingsByTrigger.get(trigger);
+		TriggerNode node = getNode(trigger);
+		return node == null ? null : node.binding;
 	}
 
 	public Binding getBestSequenceFor(ParameterizedCommand command) {
@@ -333,11 +421,18 @@ public class BindingTable {
 	}
 
 	public Collection<Binding> getPartialMatches(TriggerSequence sequence) {
-		return bindingsByPrefix.get(sequence);
+		TriggerNode node = getNode(sequence);
+		if (node == null || node.partialMatches == 0) {
+			return null;
+		}
+		ArrayList<Binding> partialMatches = new ArrayList<Binding>(node.partialMatches);
+		node.collectBindings(partialMatches);
+		return partialMatches;
 	}
 
 	public boolean isPartialMatch(TriggerSequence seq) {
-		return bindingsByPrefix.get(seq) != null;
+		TriggerNode node = getNode(seq);
+		return node != null && node.partialMatches > 0;
 	}
 
 	public Collection<Binding> getBindings() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -522,24 +522,13 @@ public class KeyBindingDispatcher {
 	}
 
 	/**
-	 * Determines whether the key sequence perfectly matches on of the active key
-	 * bindings.
+	 * Returns the bindings of the key sequence whose command can be executed. A perfect match is a
+	 * unique match; otherwise the conflicting bindings are filtered by their handlers.
 	 *
 	 * @param keySequence
-	 *            The key sequence to check for a perfect match; must never be
-	 *            <code>null</code>.
+	 *            The key sequence to look up; must never be <code>null</code>.
 	 * @param context2
-	 * @return <code>true</code> if there is a perfect match; <code>false</code>
-	 *         otherwise.
-	 */
-	private boolean isUniqueMatch(KeySequence keySequence, IEclipseContext context2) {
-		return getExecutableMatches(keySequence, context2).size() == 1;
-	}
-
-	/**
-	 * @param keySequence
-	 * @param context2
-	 * @return
+	 * @return the executable bindings, never <code>null</code>
 	 */
 	private Collection<Binding> getExecutableMatches(KeySequence keySequence, IEclipseContext context2) {
 		Binding binding = getBindingService().getPerfectMatch(keySequence);
@@ -576,9 +565,11 @@ public class KeyBindingDispatcher {
 						logger.trace("Partial match: " + sequenceAfterKeyStroke + " in " + describe(context)); //$NON-NLS-1$ //$NON-NLS-2$
 					}
 					return true;
+				}
 
-				} else if (isUniqueMatch(sequenceAfterKeyStroke, staticContext)) {
-					Collection<Binding> executableMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
+				// look up once, the handlers of conflicting bindings are asked on every lookup
+				Collection<Binding> executableMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
+				if (executableMatches.size() == 1) {
 					final ParameterizedCommand cmd = executableMatches.iterator().next().getParameterizedCommand();
 					try {
 						return executeCommand(cmd, event) || !sequenceBeforeKeyStroke.isEmpty();
@@ -604,12 +595,11 @@ public class KeyBindingDispatcher {
 					return false;
 
 				} else {
-					Collection<Binding> errorMatches = getExecutableMatches(sequenceAfterKeyStroke, staticContext);
-					if (!errorMatches.isEmpty()) {
+					if (!executableMatches.isEmpty()) {
 						errorSequence = sequenceAfterKeyStroke;
-						errorMatch = errorMatches;
+						errorMatch = executableMatches;
 						if (isTracingEnabled()) {
-							logger.trace("Error matches for key: " + sequenceAfterKeyStroke + ", :" + errorMatches); //$NON-NLS-1$//$NON-NLS-2$
+							logger.trace("Error matches for key: " + sequenceAfterKeyStroke + ", :" + executableMatches); //$NON-NLS-1$//$NON-NLS-2$
 						}
 					} else {
 						if (isTracingEnabled() && !Character.isLetterOrDigit(event.character)) {
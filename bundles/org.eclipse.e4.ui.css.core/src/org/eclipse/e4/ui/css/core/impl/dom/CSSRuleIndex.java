@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.dom;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.ui.css.core.dom.CSSStylableElement;
+import org.eclipse.e4.ui.css.core.dom.ExtendedCSSRule;
+import org.eclipse.e4.ui.css.core.impl.sac.ExtendedSelector;
+import org.w3c.css.sac.AttributeCondition;
+import org.w3c.css.sac.CombinatorCondition;
+import org.w3c.css.sac.Condition;
+import org.w3c.css.sac.ConditionalSelector;
+import org.w3c.css.sac.DescendantSelector;
+import org.w3c.css.sac.ElementSelector;
+import org.w3c.css.sac.Selector;
+import org.w3c.css.sac.SelectorList;
+import org.w3c.css.sac.SiblingSelector;
+import org.w3c.dom.Element;
+import org.w3c.dom.css.CSSRule;
+import org.w3c.dom.css.CSSStyleRule;
+
+/**
+ * Index over the selectors of a list of CSS rules. Each selector is put in a
+ * single bucket chosen from its rightmost compound selector, in order of
+ * preference: id, class, element name and pseudo-class. Selectors which
+ * provide none of these keys (e.g. <code>*</code> or attribute selectors) are
+ * kept in a universal bucket.
+ * <p>
+ * {@link #getCandidates(Element, String)} returns the selectors that may match
+ * a given element, in stylesheet order. Candidates still have to be tested
+ * with {@link ExtendedSelector#match(Element, String)}.
+ * </p>
+ */
+public class CSSRuleIndex {
+
+	private static final Comparator<Entry> ORDER = (e1, e2) -> Integer.compare(e1.ordinal, e2.ordinal);
+
+	/**
+	 * A selector of a style rule, with its position in the combined rule list.
+	 */
+	public static final class Entry {
+		final int ordinal;
+		final ExtendedSelector selector;
+		final CSSStyleRule rule;
+
+		Entry(int ordinal, ExtendedSelector selector, CSSStyleRule rule) {
+			this.ordinal = ordinal;
+			this.selector = selector;
+			this.rule = rule;
+		}
+
+		public ExtendedSelector getSelector() {
+			return selector;
+		}
+
+		public CSSStyleRule getRule() {
+			return rule;
+		}
+	}
+
+	private final Map<String, List<Entry>> byId = new HashMap<>();
+	private final Map<String, List<Entry>> byClass = new HashMap<>();
+	private final Map<String, List<Entry>> byElementName = new HashMap<>();
+	private final Map<String, List<Entry>> byPseudoClass = new HashMap<>();
+	private final List<Entry> universal = new ArrayList<>();
+	private int size;
+
+	/**
+	 * Builds the index for the given rules. Only style rules with
+	 * {@link ExtendedSelector}s are indexed, other rules are ignored like in
+	 * {@link ViewCSSImpl#getComputedStyle(List, Element, String)}.
+	 *
+	 * @param rules
+	 *            the combined rules of all style sheets
+	 */
+	public CSSRuleIndex(List<CSSRule> rules) {
+		for (CSSRule rule : rules) {
+			if (rule.getType() != CSSRule.STYLE_RULE || !(rule instanceof ExtendedCSSRule)) {
+				continue;
+			}
+			SelectorList selectorList = ((ExtendedCSSRule) rule).getSelectorList();
+			int l = selectorList.getLength();
+			for (int j = 0; j < l; j++) {
+				Selector selector = selectorList.item(j);
+				if (selector instanceof ExtendedSelector) {
+					add(new Entry(size++, (ExtendedSelector) selector, (CSSStyleRule) rule));
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of indexed selectors
+	 */
+	public int size() {
+		return size;
+	}
+
+	private void add(Entry entry) {
+		Key key = new Key();
+		collectKey(rightmost(entry.selector), key);
+		if (key.id != null) {
+			byId.computeIfAbsent(key.id, k -> new ArrayList<>(2)).add(entry);
+		} else if (key.className != null) {
+			byClass.computeIfAbsent(key.className, k -> new ArrayList<>(2)).add(entry);
+		} else if (key.elementName != null) {
+			byElementName.computeIfAbsent(key.elementName, k -> new ArrayList<>(2)).add(entry);
+		} else if (key.pseudoClass != null) {
+			byPseudoClass.computeIfAbsent(key.pseudoClass, k -> new ArrayList<>(2)).add(entry);
+		} else {
+			universal.add(entry);
+		}
+	}
+
+	/**
+	 * Returns the selector which has to match the element itself, i.e. the
+	 * rightmost compound selector of combinator selectors.
+	 */
+	private static Selector rightmost(Selector selector) {
+		while (true) {
+			switch (selector.getSelectorType()) {
+			case Selector.SAC_DESCENDANT_SELECTOR:
+			case Selector.SAC_CHILD_SELECTOR:
+				selector = ((DescendantSelector) selector).getSimpleSelector();
+				break;
+			case Selector.SAC_DIRECT_ADJACENT_SELECTOR:
+				selector = ((SiblingSelector) selector).getSiblingSelector();
+				break;
+			default:
+				return selector;
+			}
+		}
+	}
+
+	private static void collectKey(Selector selector, Key key) {
+		switch (selector.getSelectorType()) {
+		case Selector.SAC_ELEMENT_NODE_SELECTOR:
+			key.elementName = ((ElementSelector) selector).getLocalName();
+			break;
+		case Selector.SAC_CONDITIONAL_SELECTOR:
+			ConditionalSelector conditionalSelector = (ConditionalSelector) selector;
+			collectKey(conditionalSelector.getSimpleSelector(), key);
+			collectKey(conditionalSelector.getCondition(), key);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static void collectKey(Condition condition, Key key) {
+		switch (condition.getConditionType()) {
+		case Condition.SAC_ID_CONDITION:
+			key.id = ((AttributeCondition) condition).getValue();
+			break;
+		case Condition.SAC_CLASS_CONDITION:
+			key.className = ((AttributeCondition) condition).getValue();
+			break;
+		case Condition.SAC_PSEUDO_CLASS_CONDITION:
+			key.pseudoClass = ((AttributeCondition) condition).getValue();
+			break;
+		case Condition.SAC_AND_CONDITION:
+			CombinatorCondition combinatorCondition = (CombinatorCondition) condition;
+			collectKey(combinatorCondition.getFirstCondition(), key);
+			collectKey(combinatorCondition.getSecondCondition(), key);
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Returns the selectors which may match the given element, ordered by their
+	 * position in the style sheets.
+	 *
+	 * @param elt
+	 *            the element to style
+	 * @param pseudoElt
+	 *            the pseudo instance, or <code>null</code>
+	 * @return the candidate selectors, never <code>null</code>
+	 */
+	public List<Entry> getCandidates(Element elt, String pseudoElt) {
+		List<Entry> candidates = new ArrayList<>(universal);
+		CSSStylableElement stylableElement = elt instanceof CSSStylableElement ? (CSSStylableElement) elt : null;
+
+		if (!byId.isEmpty()) {
+			String id = stylableElement != null ? stylableElement.getCSSId() : elt.getAttribute("id");
+			addAll(candidates, byId, id);
+		}
+		if (!byClass.isEmpty()) {
+			String classes = stylableElement != null ? stylableElement.getCSSClass() : elt.getAttribute("class");
+			if (classes != null) {
+				addClassCandidates(candidates, classes);
+			}
+		}
+		if (!byElementName.isEmpty()) {
+			addAll(candidates, byElementName, elt.getPrefix() == null ? elt.getNodeName() : elt.getLocalName());
+		}
+		if (!byPseudoClass.isEmpty()) {
+			if (pseudoElt != null) {
+				addAll(candidates, byPseudoClass, pseudoElt);
+			} else if (stylableElement != null) {
+				for (Map.Entry<String, List<Entry>> bucket : byPseudoClass.entrySet()) {
+					if (stylableElement.isPseudoInstanceOf(bucket.getKey())) {
+						candidates.addAll(bucket.getValue());
+					}
+				}
+			}
+		}
+
+		if (candidates.size() > universal.size()) {
+			Collections.sort(candidates, ORDER);
+		}
+		return candidates;
+	}
+
+	private void addClassCandidates(List<Entry> candidates, String classes) {
+		List<String> seen = null;
+		int length = classes.length();
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			if (i == length || Character.isSpaceChar(classes.charAt(i))) {
+				if (start >= 0) {
+					String className = classes.substring(start, i);
+					List<Entry> bucket = byClass.get(className);
+					if (bucket != null) {
+						// the same class may be listed twice
+						if (seen == null) {
+							seen = new ArrayList<>(2);
+						}
+						if (!seen.contains(className)) {
+							seen.add(className);
+							candidates.addAll(bucket);
+						}
+					}
+					start = -1;
+				}
+			} else if (start < 0) {
+				start = i;
+			}
+		}
+	}
+
+	private static void addAll(List<Entry> candidates, Map<String, List<Entry>> index, String key) {
+		if (key == null) {
+			return;
+		}
+		List<Entry> bucket = index.get(key);
+		if (bucket != null) {
+			candidates.addAll(bucket);
+		}
+	}
+
+	private static class Key {
+		String id;
+		String className;
+		String elementName;
+		String pseudoClass;
+	}
+}
@@ -46,6 +46,8 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	private boolean ruleCachingEnabled;
 	/** Cached state of combined CSS rules for the current stylesheets */
 	private List<CSSRule> currentCombinedRules;
+	/** Index over the selectors of {@link #currentCombinedRules} */
+	private CSSRuleIndex currentRuleIndex;
 
 	/**
 	 * Creates a new ViewCSS.
@@ -72,10 +74,63 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	 */
 	@Override
 	public CSSStyleDeclaration getComputedStyle(Element elt, String pseudoElt) {
+		if (this.ruleCachingEnabled) {
+			return getComputedStyle(getRuleIndex(), elt, pseudoElt);
+		}
 		CSSStyleDeclaration styleDeclaration = getComputedStyle(getCombinedRules(), elt, pseudoElt);
 		return styleDeclaration;
 	}
 
+	/**
+	 * Retrieves the selector index for the combined list of CSS rules. The index
+	 * is built on first use and dropped together with the combined rules when
+	 * the stylesheets change.
+	 *
+	 * @return index over the CSS rules of all style sheets
+	 */
+	private CSSRuleIndex getRuleIndex() {
+		List<CSSRule> combinedRules = getCombinedRules();
+		CSSRuleIndex ruleIndex = this.currentRuleIndex;
+		if (ruleIndex == null) {
+			ruleIndex = new CSSRuleIndex(combinedRules);
+			this.currentRuleIndex = ruleIndex;
+		}
+		return ruleIndex;
+	}
+
+	/**
+	 * Computes the style of an element by testing only the selectors the rule
+	 * index returns as candidates for it.
+	 */
+	private CSSStyleDeclaration getComputedStyle(CSSRuleIndex ruleIndex, Element elt, String pseudoElt) {
+		List<StyleWrapper> styleDeclarations = null;
+		StyleWrapper firstStyleDeclaration = null;
+		int position = 0;
+		for (CSSRuleIndex.Entry candidate : ruleIndex.getCandidates(elt, pseudoElt)) {
+			ExtendedSelector extendedSelector = candidate.getSelector();
+			if (extendedSelector.match(elt, pseudoElt)) {
+				StyleWrapper wrapper = new StyleWrapper(candidate.getRule().getStyle(),
+						extendedSelector.getSpecificity(), position++);
+				if (firstStyleDeclaration == null) {
+					firstStyleDeclaration = wrapper;
+				} else {
+					if (styleDeclarations == null) {
+						styleDeclarations = new ArrayList<>();
+						styleDeclarations.add(firstStyleDeclaration);
+					}
+					styleDeclarations.add(wrapper);
+				}
+			}
+		}
+		if (styleDeclarations != null) {
+			return new CSSComputedStyleImpl(styleDeclarations);
+		}
+		if (firstStyleDeclaration != null) {
+			return firstStyleDeclaration.style;
+		}
+		return null;
+	}
+
 	/**
 	 * Retrieves the combined list of CSS rules for all current stylesheets. This
 	 * method returns a cached state when the stylesheets are the same as on its
@@ -173,10 +228,12 @@ public class ViewCSSImpl implements ViewCSS, ExtendedDocumentCSS.StyleSheetChang
 	@Override
 	public void styleSheetAdded(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 
 	@Override
 	public void styleSheetRemoved(StyleSheet styleSheet) {
 		currentCombinedRules = null;
+		currentRuleIndex = null;
 	}
 }
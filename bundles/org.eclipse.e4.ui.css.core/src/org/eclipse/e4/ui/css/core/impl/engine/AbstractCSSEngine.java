@@ -21,6 +21,8 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.css.core.impl.engine;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -183,6 +185,22 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 	public StyleSheet parseStyleSheet(InputSource source) throws IOException {
 		// Check that CharacterStream or ByteStream is not null
 		checkInputSource(source);
+		String cacheKey = null;
+		if (source.getCharacterStream() == null) {
+			// read the content to look up the rules parsed before
+			byte[] content = readAllBytes(source.getByteStream());
+			cacheKey = ParsedStyleSheetCache.getKey(getClass(), source.getURI(), content);
+			CSSRuleList cachedRules = ParsedStyleSheetCache.INSTANCE.get(cacheKey);
+			if (cachedRules != null) {
+				return addStyleSheet(cachedRules);
+			}
+			InputSource contentSource = new InputSource(source.getURI());
+			contentSource.setEncoding(source.getEncoding());
+			contentSource.setMedia(source.getMedia());
+			contentSource.setTitle(source.getTitle());
+			contentSource.setByteStream(new ByteArrayInputStream(content));
+			source = contentSource;
+		}
 		CSSParser parser = makeCSSParser();
 		CSSStyleSheet styleSheet = parser.parseStyleSheet(source);
 
@@ -238,15 +256,33 @@ public abstract class AbstractCSSEngine implements CSSEngine {
 			masterList.add(rules.item(i));
 		}
 
+		if (cacheKey != null && counter == 0) {
+			ParsedStyleSheetCache.INSTANCE.put(cacheKey, masterList);
+		}
+
 		// final stylesheet
+		return addStyleSheet(masterList);
+	}
+
+	private StyleSheet addStyleSheet(CSSRuleList rules) {
 		CSSStyleSheetImpl s = new CSSStyleSheetImpl();
-		s.setRuleList(masterList);
+		s.setRuleList(rules);
 		if (parseImport == 0) {
 			documentCSS.addStyleSheet(s);
 		}
 		return s;
 	}
 
+	private static byte[] readAllBytes(InputStream stream) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = stream.read(buffer)) != -1) {
+			content.write(buffer, 0, read);
+		}
+		return content.toByteArray();
+	}
+
 	/**
 	 * Return true if <code>source</code> is valid and false otherwise.
 	 *
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.w3c.dom.css.CSSRuleList;
+
+/**
+ * Keeps the rules of the style sheets parsed by the CSS engines, so parsing the
+ * same style sheet again, e.g. when switching back to a theme, does not invoke
+ * the SAC parser. The rules are keyed by the engine class, the URI and a hash
+ * of the content of the style sheet, and are shared by all the engines of the
+ * same class. Style sheets importing other style sheets are not kept, as the
+ * imported content may change or be resolved differently.
+ * <p>
+ * The rules of the most recently parsed style sheets are kept, up to
+ * {@link #MAX_SIZE} style sheets.
+ * </p>
+ */
+public final class ParsedStyleSheetCache {
+
+	/**
+	 * The number of style sheets kept.
+	 */
+	public static final int MAX_SIZE = 64;
+
+	/**
+	 * The cache used by the CSS engines.
+	 */
+	public static final ParsedStyleSheetCache INSTANCE = new ParsedStyleSheetCache();
+
+	private final Map<String, CSSRuleList> ruleLists = new LinkedHashMap<String, CSSRuleList>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CSSRuleList> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private ParsedStyleSheetCache() {
+	}
+
+	/**
+	 * Returns the key of a style sheet.
+	 *
+	 * @param engineClass
+	 *            the class of the engine parsing the style sheet
+	 * @param uri
+	 *            the URI of the style sheet, may be <code>null</code>
+	 * @param content
+	 *            the content of the style sheet
+	 * @return the key
+	 */
+	static String getKey(Class<?> engineClass, String uri, byte[] content) {
+		StringBuilder key = new StringBuilder(engineClass.getName()).append('|').append(uri).append('|');
+		try {
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) { //$NON-NLS-1$
+				key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform supports SHA-256, fall back to the content
+			key.append(new String(content, StandardCharsets.ISO_8859_1));
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Returns the rules of a style sheet.
+	 *
+	 * @param key
+	 *            the key of the style sheet
+	 * @return the rules, or <code>null</code> if the style sheet has not been
+	 *         parsed yet
+	 */
+	synchronized CSSRuleList get(String key) {
+		CSSRuleList rules = ruleLists.get(key);
+		if (rules == null) {
+			missCount.increment();
+		} else {
+			hitCount.increment();
+		}
+		return rules;
+	}
+
+	/**
+	 * Keeps the rules of a style sheet. The rules must not be modified
+	 * afterwards.
+	 *
+	 * @param key
+	 *            the key of the style sheet
+	 * @param rules
+	 *            the rules
+	 */
+	synchronized void put(String key, CSSRuleList rules) {
+		ruleLists.put(key, rules);
+	}
+
+	/**
+	 * Removes all the style sheets.
+	 */
+	public synchronized void clear() {
+		ruleLists.clear();
+	}
+
+	/**
+	 * Returns the number of style sheets kept.
+	 *
+	 * @return the number of style sheets
+	 */
+	public synchronized int size() {
+		return ruleLists.size();
+	}
+
+	/**
+	 * Returns the number of style sheets whose rules were found.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of style sheets which had to be parsed.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+}
@@ -40,6 +40,8 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 
 	protected Display display;
 
+	private CSSSWTRestyleQueue restyleQueue;
+
 	public AbstractCSSSWTEngineImpl(Display display) {
 		this(display, false);
 	}
@@ -65,6 +67,8 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 		super.registerCSSValueConverter(CSSValueSWTImageConverterImpl.INSTANCE);
 
 		if (lazyApplyingStyles) {
+			restyleQueue = new CSSSWTRestyleQueue(display,
+					(widget, applyStylesToChildren) -> applyStyles(widget, applyStylesToChildren.booleanValue()));
 			new CSSSWTApplyStylesListener(display, this);
 		}
 
@@ -74,6 +78,18 @@ public abstract class AbstractCSSSWTEngineImpl extends CSSEngineImpl {
 		setResourceRegistryKeyFactory(new SWTResourceRegistryKeyFactory());
 	}
 
+	/**
+	 * Returns the queue applying the styles of the widgets of this engine once
+	 * per turn of the event loop.
+	 *
+	 * @return the queue, or <code>null</code> if the engine does not apply
+	 *         styles lazily
+	 * @since 0.13.500
+	 */
+	public CSSSWTRestyleQueue getRestyleQueue() {
+		return restyleQueue;
+	}
+
 	protected abstract void initializeCSSPropertyHandlers();
 
 	protected abstract void initializeCSSElementProvider();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 Angelo Zerr and others.
+ * Copyright (c) 2008, 2026 Angelo Zerr and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,14 +20,21 @@ import org.eclipse.swt.widgets.Display;
 
 /**
  * Add SWT filter to the {@link Display} to apply styles when SWT widget is
- * resized or showed.
+ * resized or showed. The styles are applied by the
+ * {@link AbstractCSSSWTEngineImpl#getRestyleQueue() restyle queue} of the
+ * engine, if it has one.
  */
 public class CSSSWTApplyStylesListener {
 	CSSEngine engine;
 	public CSSSWTApplyStylesListener(Display display, final CSSEngine engine) {
 		this.engine = engine;
+		CSSSWTRestyleQueue restyleQueue = engine instanceof AbstractCSSSWTEngineImpl
+				? ((AbstractCSSSWTEngineImpl) engine).getRestyleQueue()
+				: null;
 		display.addListener(SWT.Skin, event -> {
-			if (engine != null) {
+			if (restyleQueue != null) {
+				restyleQueue.restyle(event.widget, false);
+			} else if (engine != null) {
 				engine.applyStyles(event.widget, false);
 			}
 		});
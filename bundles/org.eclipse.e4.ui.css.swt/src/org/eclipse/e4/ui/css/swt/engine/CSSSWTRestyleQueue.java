@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.swt.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Collects the widgets whose styles have to be applied again and applies them
+ * once per turn of the event loop, before the next paint. Requests for the same
+ * widget are merged, and a widget is not styled on its own if one of its parent
+ * controls is styled with its children in the same turn.
+ * <p>
+ * Setting the system property
+ * <code>org.eclipse.e4.ui.css.swt.deferRestyle</code> to <code>false</code>
+ * applies the styles as soon as they are requested.
+ * </p>
+ * <p>
+ * The queue must only be used from the UI thread of its display.
+ * </p>
+ *
+ * @since 0.13.500
+ */
+public class CSSSWTRestyleQueue {
+
+	private static final boolean DEFERRED = !Boolean.FALSE.toString()
+			.equals(System.getProperty("org.eclipse.e4.ui.css.swt.deferRestyle")); //$NON-NLS-1$
+
+	private final Display display;
+
+	private final BiConsumer<Widget, Boolean> styler;
+
+	/** The widgets to style, mapped to whether their children are styled too. */
+	private Map<Widget, Boolean> dirtyWidgets = new LinkedHashMap<>();
+
+	private boolean flushScheduled;
+
+	private final Listener paintFilter = event -> flush();
+
+	private final LongAdder requestedCount = new LongAdder();
+
+	private final LongAdder performedCount = new LongAdder();
+
+	/**
+	 * Creates a queue applying the styles of the widgets of a display.
+	 *
+	 * @param display
+	 *            the display
+	 * @param styler
+	 *            applies the styles to a widget, and to its children if the
+	 *            second argument is <code>true</code>
+	 */
+	public CSSSWTRestyleQueue(Display display, BiConsumer<Widget, Boolean> styler) {
+		this.display = display;
+		this.styler = styler;
+	}
+
+	/**
+	 * Requests the styles of a widget to be applied.
+	 *
+	 * @param widget
+	 *            the widget
+	 * @param applyStylesToChildren
+	 *            whether the styles of the children of the widget are applied
+	 *            as well
+	 */
+	public void restyle(Widget widget, boolean applyStylesToChildren) {
+		requestedCount.increment();
+		if (widget.isDisposed()) {
+			return;
+		}
+		if (!DEFERRED) {
+			apply(widget, applyStylesToChildren);
+			return;
+		}
+		if (applyStylesToChildren) {
+			dirtyWidgets.put(widget, Boolean.TRUE);
+		} else {
+			dirtyWidgets.putIfAbsent(widget, Boolean.FALSE);
+		}
+		if (!flushScheduled && !display.isDisposed()) {
+			flushScheduled = true;
+			display.addFilter(SWT.Paint, paintFilter);
+			display.asyncExec(this::flush);
+		}
+	}
+
+	/**
+	 * Applies the styles of the widgets requested so far.
+	 */
+	public void flush() {
+		if (flushScheduled) {
+			flushScheduled = false;
+			if (!display.isDisposed()) {
+				display.removeFilter(SWT.Paint, paintFilter);
+			}
+		}
+		if (dirtyWidgets.isEmpty()) {
+			return;
+		}
+		// widgets requested while styling are applied with the next flush
+		Map<Widget, Boolean> widgets = dirtyWidgets;
+		dirtyWidgets = new LinkedHashMap<>();
+		for (Entry<Widget, Boolean> entry : widgets.entrySet()) {
+			Widget widget = entry.getKey();
+			if (!widget.isDisposed() && !hasDirtyParent(widgets, widget)) {
+				apply(widget, entry.getValue().booleanValue());
+			}
+		}
+	}
+
+	private static boolean hasDirtyParent(Map<Widget, Boolean> widgets, Widget widget) {
+		if (!(widget instanceof Control)) {
+			return false;
+		}
+		for (Control parent = ((Control) widget).getParent(); parent != null; parent = parent.getParent()) {
+			if (Boolean.TRUE.equals(widgets.get(parent))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void apply(Widget widget, boolean applyStylesToChildren) {
+		performedCount.increment();
+		styler.accept(widget, Boolean.valueOf(applyStylesToChildren));
+	}
+
+	/**
+	 * Returns whether styles have been requested but not applied yet.
+	 *
+	 * @return <code>true</code> if a flush is pending
+	 */
+	public boolean isDirty() {
+		return !dirtyWidgets.isEmpty();
+	}
+
+	/**
+	 * Returns the number of times the styles of a widget have been requested.
+	 *
+	 * @return the number of requests
+	 */
+	public long getRequestedCount() {
+		return requestedCount.sum();
+	}
+
+	/**
+	 * Returns the number of times styles have actually been applied to a
+	 * widget. The difference to {@link #getRequestedCount()} are the requests
+	 * merged with other requests or dropped for disposed widgets.
+	 *
+	 * @return the number of restyles performed
+	 */
+	public long getPerformedCount() {
+		return performedCount.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "CSSSWTRestyleQueue [requested=" + getRequestedCount() + ", performed=" + getPerformedCount() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", pending=" + dirtyWidgets.size() + ']'; //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,11 +21,15 @@ import java.util.Dictionary;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.ui.di.UISynchronize;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -37,6 +41,136 @@ import org.osgi.service.event.EventHandler;
 
 public class EventBroker implements IEventBroker {
 
+	// Event tags of UIEvents, which is not visible from this bundle
+	private static final String TAG_ELEMENT = "ChangedElement"; //$NON-NLS-1$
+	private static final String TAG_TYPE = "EventType"; //$NON-NLS-1$
+	private static final String TAG_ATTNAME = "AttName"; //$NON-NLS-1$
+	private static final String TAG_OLD_VALUE = "OldValue"; //$NON-NLS-1$
+	private static final String TAG_NEW_VALUE = "NewValue"; //$NON-NLS-1$
+	private static final String TAG_POSITION = "Position"; //$NON-NLS-1$
+	private static final String TYPE_SET = "SET"; //$NON-NLS-1$
+
+	/**
+	 * The events queued by the brokers on a thread between
+	 * {@link EventBroker#beginBatch()} and {@link EventBroker#endBatch()}.
+	 */
+	private static class Batch {
+		int depth;
+		// slots of coalesced events are nulled out
+		final List<QueuedEvent> events = new ArrayList<>();
+		final Map<SetKey, Integer> setEvents = new HashMap<>();
+
+		void add(QueuedEvent event) {
+			SetKey key = SetKey.of(event);
+			if (key != null) {
+				Integer previous = setEvents.put(key, Integer.valueOf(events.size()));
+				if (previous != null) {
+					event = event.coalesce(events.set(previous.intValue(), null));
+				}
+			}
+			events.add(event);
+		}
+	}
+
+	private static class QueuedEvent {
+		final EventAdmin eventAdmin;
+		final boolean post;
+		final String topic;
+		final Object data;
+		boolean coalesced;
+
+		QueuedEvent(EventAdmin eventAdmin, boolean post, String topic, Object data) {
+			this.eventAdmin = eventAdmin;
+			this.post = post;
+			this.topic = topic;
+			this.data = data;
+		}
+
+		/**
+		 * Returns the event replacing this SET event and an earlier one of the
+		 * same feature: the old value of the earlier event and the new value of
+		 * this one.
+		 */
+		@SuppressWarnings("unchecked")
+		QueuedEvent coalesce(QueuedEvent earlier) {
+			Map<String, Object> earlierMap = (Map<String, Object>) earlier.data;
+			Map<String, Object> map = new HashMap<>((Map<String, Object>) data);
+			if (earlierMap.containsKey(TAG_OLD_VALUE)) {
+				map.put(TAG_OLD_VALUE, earlierMap.get(TAG_OLD_VALUE));
+			} else {
+				map.remove(TAG_OLD_VALUE);
+			}
+			QueuedEvent event = new QueuedEvent(eventAdmin, post, topic, map);
+			event.coalesced = true;
+			return event;
+		}
+
+		boolean isNoOp() {
+			if (!coalesced) {
+				return false;
+			}
+			Map<?, ?> map = (Map<?, ?>) data;
+			return Objects.equals(map.get(TAG_OLD_VALUE), map.get(TAG_NEW_VALUE));
+		}
+	}
+
+	/**
+	 * Identifies the SET events of a feature of a model element. SET events of
+	 * many-valued features carry the position of the value replaced, only
+	 * events of the same position are coalesced.
+	 */
+	private static class SetKey {
+		final String topic;
+		final Object element;
+		final Object attName;
+		final Object position;
+		final boolean post;
+
+		private SetKey(String topic, Object element, Object attName, Object position, boolean post) {
+			this.topic = topic;
+			this.element = element;
+			this.attName = attName;
+			this.position = position;
+			this.post = post;
+		}
+
+		static SetKey of(QueuedEvent event) {
+			if (!(event.data instanceof Map<?, ?>)) {
+				return null;
+			}
+			Map<?, ?> map = (Map<?, ?>) event.data;
+			Object element = map.get(TAG_ELEMENT);
+			if (element == null || !TYPE_SET.equals(map.get(TAG_TYPE))) {
+				return null;
+			}
+			// SET events of map entries carry the key in their values
+			if (map.get(TAG_OLD_VALUE) instanceof Map.Entry<?, ?> || map.get(TAG_NEW_VALUE) instanceof Map.Entry<?, ?>) {
+				return null;
+			}
+			return new SetKey(event.topic, element, map.get(TAG_ATTNAME), map.get(TAG_POSITION), event.post);
+		}
+
+		@Override
+		public int hashCode() {
+			return topic.hashCode() * 31 + System.identityHashCode(element);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SetKey)) {
+				return false;
+			}
+			SetKey other = (SetKey) obj;
+			return element == other.element && post == other.post && topic.equals(other.topic)
+					&& Objects.equals(attName, other.attName) && Objects.equals(position, other.position);
+		}
+	}
+
+	private static final ThreadLocal<Batch> batch = new ThreadLocal<>();
+
+	// the events of a batch received by batch handlers while it is delivered
+	private static final ThreadLocal<Map<UIEventHandler, List<Event>>> batchHandlerEvents = new ThreadLocal<>();
+
 	// TBD synchronization
 	private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<>();
 
@@ -47,10 +181,19 @@ public class EventBroker implements IEventBroker {
 	@Inject
 	EventAdmin eventAdmin;
 
+	@Inject
+	@Optional
+	Logger logger;
+
 	BundleContext bundleContext = FrameworkUtil.getBundle(getClass()).getBundleContext();
 
 	@Override
 	public boolean send(String topic, Object data) {
+		Batch currentBatch = batch.get();
+		if (currentBatch != null) {
+			currentBatch.add(new QueuedEvent(eventAdmin, false, topic, data));
+			return true;
+		}
 		Event event = constructEvent(topic, data);
 		eventAdmin.sendEvent(event);
 		return true;
@@ -58,11 +201,109 @@ public class EventBroker implements IEventBroker {
 
 	@Override
 	public boolean post(String topic, Object data) {
+		Batch currentBatch = batch.get();
+		if (currentBatch != null) {
+			currentBatch.add(new QueuedEvent(eventAdmin, true, topic, data));
+			return true;
+		}
 		Event event = constructEvent(topic, data);
 		eventAdmin.postEvent(event);
 		return true;
 	}
 
+	/**
+	 * Starts a batch on the current thread. Until the matching
+	 * {@link #endBatch()}, the events sent or posted on this thread by any
+	 * event broker are queued instead of being delivered. Batches may be
+	 * nested, the events are delivered when the outermost batch ends.
+	 * <p>
+	 * Use this around bulk model changes, in a <code>try</code> block with
+	 * {@link #endBatch()} in the <code>finally</code> block. Handlers run after
+	 * all changes of the batch, so they see the final state of the model. SET
+	 * events of the same feature of an element, and of the same position for
+	 * lists, are coalesced into one event carrying the first old value and the
+	 * last new value, and dropped if the values are equal. Handlers implementing {@link IBatchEventHandler}
+	 * receive all their events sent in the batch at once.
+	 * </p>
+	 */
+	public void beginBatch() {
+		Batch currentBatch = batch.get();
+		if (currentBatch == null) {
+			currentBatch = new Batch();
+			batch.set(currentBatch);
+		}
+		currentBatch.depth++;
+	}
+
+	/**
+	 * Ends a batch started with {@link #beginBatch()}, delivering the queued
+	 * events if it is the outermost batch.
+	 *
+	 * @throws IllegalStateException
+	 *             if no batch was started on the current thread
+	 */
+	public void endBatch() {
+		Batch currentBatch = batch.get();
+		if (currentBatch == null) {
+			throw new IllegalStateException("No batch started on this thread"); //$NON-NLS-1$
+		}
+		if (--currentBatch.depth > 0) {
+			return;
+		}
+		// events sent by the handlers are delivered immediately
+		batch.remove();
+
+		Map<UIEventHandler, List<Event>> outerHandlerEvents = batchHandlerEvents.get();
+		Map<UIEventHandler, List<Event>> handlerEvents = new LinkedHashMap<>();
+		batchHandlerEvents.set(handlerEvents);
+		try {
+			for (QueuedEvent queued : currentBatch.events) {
+				if (queued == null || queued.isNoOp()) {
+					continue;
+				}
+				Event event = constructEvent(queued.topic, queued.data);
+				if (queued.post) {
+					queued.eventAdmin.postEvent(event);
+				} else {
+					queued.eventAdmin.sendEvent(event);
+				}
+			}
+		} finally {
+			if (outerHandlerEvents == null) {
+				batchHandlerEvents.remove();
+			} else {
+				batchHandlerEvents.set(outerHandlerEvents);
+			}
+		}
+		for (Map.Entry<UIEventHandler, List<Event>> entry : handlerEvents.entrySet()) {
+			// like the event admin, do not let a failing handler stop the
+			// delivery to the other handlers
+			try {
+				entry.getKey().handleEvents(entry.getValue());
+			} catch (Throwable t) {
+				if (logger != null) {
+					logger.error(t, "Exception while dispatching a batch of events"); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called by the wrapper of a batch handler receiving an event.
+	 *
+	 * @return <code>true</code> if the event is part of a batch being delivered
+	 *         and will be passed to the handler with the other events of the
+	 *         batch
+	 */
+	static boolean addToBatch(UIEventHandler handler, Event event) {
+		Map<UIEventHandler, List<Event>> handlerEvents = batchHandlerEvents.get();
+		if (handlerEvents == null) {
+			return false;
+		}
+		handlerEvents.computeIfAbsent(handler, h -> new ArrayList<>()).add(event);
+		return true;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Event constructEvent(String topic, Object data) {
 		Event event;
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.services.internal.events;
+
+import java.util.List;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * An event handler which receives the events sent in a batch at once, see
+ * {@link EventBroker#beginBatch()}. Events sent outside of a batch and posted
+ * events are still passed to {@link #handleEvent(Event)}.
+ */
+public interface IBatchEventHandler extends EventHandler {
+
+	/**
+	 * Handles the events of a batch matching the subscription of this handler.
+	 *
+	 * @param events
+	 *            the events, in the order they were sent
+	 */
+	void handleEvents(List<Event> events);
+}
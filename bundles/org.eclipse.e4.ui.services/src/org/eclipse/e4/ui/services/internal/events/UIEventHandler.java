@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.services.internal.events;
 
+import java.util.List;
 import org.eclipse.e4.ui.di.UISynchronize;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
@@ -32,10 +33,21 @@ public class UIEventHandler implements EventHandler {
 
 	@Override
 	public void handleEvent(final Event event) {
+		if (eventHandler instanceof IBatchEventHandler && EventBroker.addToBatch(this, event))
+			return;
 		if (uiSync == null)
 			eventHandler.handleEvent(event);
 		else {
 			uiSync.syncExec(() -> eventHandler.handleEvent(event));
 		}
 	}
+
+	void handleEvents(final List<Event> events) {
+		IBatchEventHandler batchHandler = (IBatchEventHandler) eventHandler;
+		if (uiSync == null)
+			batchHandler.handleEvents(events);
+		else {
+			uiSync.syncExec(() -> batchHandler.handleEvents(events));
+		}
+	}
 }
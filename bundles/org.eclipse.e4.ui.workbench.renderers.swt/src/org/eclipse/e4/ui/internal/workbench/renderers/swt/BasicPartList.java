@@ -60,8 +60,7 @@ public class BasicPartList extends AbstractTableInformationControl {
 		public Font getFont(Object element) {
 			if (element instanceof MPart) {
 				MPart part = (MPart) element;
-				CTabItem item = renderer.findItemForPart(part);
-				if (item != null && !item.isShowing()) {
+				if (isHidden(part)) {
 					return boldFont;
 				}
 			}
@@ -119,9 +118,7 @@ public class BasicPartList extends AbstractTableInformationControl {
 				@Override
 				public int category(Object element) {
 					if (element instanceof MPart) {
-						MPart part = (MPart) element;
-						CTabItem item = BasicPartList.this.renderer.findItemForPart(part);
-						if (item != null && !item.isShowing()) {
+						if (isHidden((MPart) element)) {
 							return -1;
 						}
 					}
@@ -145,6 +142,15 @@ public class BasicPartList extends AbstractTableInformationControl {
 		return tableViewer;
 	}
 
+	/**
+	 * Returns whether the tab of a part is not shown, either because it is
+	 * hidden by the chevron or because the stack did not create it.
+	 */
+	private boolean isHidden(MPart part) {
+		CTabItem item = renderer.findItemForPart(part);
+		return item == null || !item.isShowing();
+	}
+
 	private List<Object> getInput() {
 		List<Object> list = new ArrayList<>();
 		for (MUIElement element : input.getChildren()) {
@@ -18,10 +18,13 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -180,6 +183,32 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 	// Minimum characters in for stacks inside the shared area
 	private static int MIN_EDITOR_CHARS = 15;
 
+	/**
+	 * Key of the data holding when the element of a tab was last shown, used
+	 * to find the tabs to dispose if a stack has more than
+	 * {@link #maxTabItems} tabs
+	 */
+	private static final String LAST_SHOWN_KEY = "lastShown"; //$NON-NLS-1$
+
+	/**
+	 * The number of tabs a stack keeps at most, or <code>0</code> to create a
+	 * tab for each of its elements. The tabs of the most recently shown
+	 * elements are kept, the other elements are only listed in the chevron
+	 * menu, and their tabs are created again when they are shown. The limit
+	 * should be larger than the number of tabs a stack can show, so the
+	 * chevron is still shown for the elements without a tab.
+	 */
+	private int maxTabItems = Integer.getInteger("org.eclipse.e4.ui.workbench.renderers.swt.maxTabItems", 0) //$NON-NLS-1$
+			.intValue();
+
+	private long showCount;
+
+	private final LongAdder createdTabItemCount = new LongAdder();
+
+	private final LongAdder deferredTabItemCount = new LongAdder();
+
+	private final LongAdder disposedTabItemCount = new LongAdder();
+
 	private Image viewMenuImage;
 
 	@Inject
@@ -834,6 +863,18 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 
 	@Override
 	protected void createTab(MElementContainer<MUIElement> stack, MUIElement element) {
+		createTab(stack, element, false);
+	}
+
+	/**
+	 * Creates the tab of an element, unless its stack has the maximum number
+	 * of tabs and the element is not selected.
+	 *
+	 * @param force
+	 *            <code>true</code> to create the tab even if the stack has
+	 *            {@link #maxTabItems} tabs already
+	 */
+	private void createTab(MElementContainer<MUIElement> stack, MUIElement element, boolean force) {
 
 		// an invisible element won't have the correct widget hierarchy
 		if (!element.isVisible()) {
@@ -858,6 +899,18 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 				tabItem.setControl((Control) element.getWidget());
 			return;
 		}
+		if (maxTabItems > 0 && !force && tabFolder.getItemCount() >= maxTabItems
+				&& stack.getSelectedElement() != element) {
+			// the element is listed in the chevron menu until it is shown
+			deferredTabItemCount.increment();
+			if (element.getWidget() instanceof Control) {
+				Control control = (Control) element.getWidget();
+				if (control.getParent() == tabFolder) {
+					control.setVisible(false);
+				}
+			}
+			return;
+		}
 		updateMRUValue(tabFolder);
 		int createFlags = SWT.NONE;
 		if (part != null && isClosable(part)) {
@@ -866,8 +919,9 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 
 		// Create the tab; we may have more visible tabs than currently shown
 		// (e.g., a result of calling partStack.getChildren().addAll(partList))
-		int index = Math.min(calcIndexFor(stack, element), tabFolder.getItemCount());
+		int index = Math.min(calcIndexFor(stack, tabFolder, element), tabFolder.getItemCount());
 		tabItem = new CTabItem(tabFolder, createFlags, index);
+		createdTabItemCount.increment();
 
 		tabItem.setData(OWNING_ME, element);
 		tabItem.setText(getLabel(part, part.getLocalizedLabel()));
@@ -884,21 +938,115 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 			if (control.getParent() == tabFolder)
 				tabItem.setControl((Control) element.getWidget());
 		}
+
+		if (maxTabItems > 0) {
+			disposeLeastRecentlyShownTabs(tabFolder, tabItem);
+		}
 	}
 
-	private int calcIndexFor(MElementContainer<MUIElement> stack, final MUIElement part) {
+	/**
+	 * Disposes the tabs of the elements shown least recently until the stack
+	 * has {@link #maxTabItems} tabs. Of the tabs never shown, the ones farthest
+	 * from the selected tab are disposed first.
+	 */
+	private void disposeLeastRecentlyShownTabs(CTabFolder tabFolder, CTabItem newItem) {
+		while (tabFolder.getItemCount() > maxTabItems) {
+			CTabItem selection = tabFolder.getSelection();
+			int selectionIndex = Math.max(0, tabFolder.getSelectionIndex());
+			CTabItem leastRecent = null;
+			long leastRecentShown = Long.MAX_VALUE;
+			int leastRecentDistance = -1;
+			CTabItem[] items = tabFolder.getItems();
+			for (int i = 0; i < items.length; i++) {
+				CTabItem item = items[i];
+				if (item == newItem || item == selection) {
+					continue;
+				}
+				Object lastShown = item.getData(LAST_SHOWN_KEY);
+				long shown = lastShown instanceof Long ? ((Long) lastShown).longValue() : 0;
+				int distance = Math.abs(i - selectionIndex);
+				if (shown < leastRecentShown || (shown == leastRecentShown && distance > leastRecentDistance)) {
+					leastRecent = item;
+					leastRecentShown = shown;
+					leastRecentDistance = distance;
+				}
+			}
+			if (leastRecent == null) {
+				return;
+			}
+			Control control = leastRecent.getControl();
+			leastRecent.setControl(null);
+			if (control != null && !control.isDisposed()) {
+				control.setVisible(false);
+			}
+			leastRecent.dispose();
+			disposedTabItemCount.increment();
+		}
+	}
+
+	private int calcIndexFor(MElementContainer<MUIElement> stack, CTabFolder tabFolder, final MUIElement part) {
 		int index = 0;
 
+		// Elements without a tab are not counted if tabs are created lazily
+		Set<Object> tabElements = null;
+		if (maxTabItems > 0) {
+			tabElements = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (CTabItem item : tabFolder.getItems()) {
+				tabElements.add(item.getData(OWNING_ME));
+			}
+		}
+
 		// Find the -visible- part before this element
 		for (MUIElement mPart : stack.getChildren()) {
 			if (mPart == part)
 				return index;
-			if (mPart.isToBeRendered() && mPart.isVisible())
+			if (tabElements != null ? tabElements.contains(mPart) : mPart.isToBeRendered() && mPart.isVisible())
 				index++;
 		}
 		return index;
 	}
 
+	/**
+	 * Sets the number of tabs a stack keeps at most. Existing tabs are kept
+	 * until other tabs are created.
+	 *
+	 * @param maxTabItems
+	 *            the number of tabs, or <code>0</code> to create a tab for each
+	 *            element of a stack
+	 */
+	void setMaxTabItems(int maxTabItems) {
+		this.maxTabItems = maxTabItems;
+	}
+
+	/**
+	 * Returns the number of tabs created by this renderer.
+	 *
+	 * @return the number of tabs created
+	 */
+	public long getCreatedTabItemCount() {
+		return createdTabItemCount.sum();
+	}
+
+	/**
+	 * Returns the number of times the tab of an element was not created
+	 * because its stack had the maximum number of tabs already.
+	 *
+	 * @return the number of tabs not created
+	 */
+	public long getDeferredTabItemCount() {
+		return deferredTabItemCount.sum();
+	}
+
+	/**
+	 * Returns the number of tabs disposed to keep the maximum number of tabs
+	 * of a stack. Their elements are still in the stack.
+	 *
+	 * @return the number of tabs disposed
+	 */
+	public long getDisposedTabItemCount() {
+		return disposedTabItemCount.sum();
+	}
+
 	@Override
 	public void childRendered(final MElementContainer<MUIElement> parentElement, MUIElement element) {
 		super.childRendered(parentElement, element);
@@ -1284,9 +1432,12 @@ public class StackRenderer extends LazyStackRenderer implements IPreferenceChang
 		final CTabFolder tabFolder = (CTabFolder) getParentWidget(element);
 		CTabItem tabItem = findItemForPart(element, null);
 		if (tabItem == null) {
-			createTab(element.getParent(), element);
+			createTab(element.getParent(), element, true);
 			tabItem = findItemForPart(element, element.getParent());
 		}
+		if (maxTabItems > 0) {
+			tabItem.setData(LAST_SHOWN_KEY, Long.valueOf(++showCount));
+		}
 		Control ctrl = (Control) element.getWidget();
 		if (ctrl != null && ctrl.getParent() != tabFolder) {
 			ctrl.setParent(tabFolder);
@@ -288,6 +288,10 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	private void subscribeTopicUpdateToolbarEnablement(
 			@UIEventTopic(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC) Event eventData) {
 		final Object v = eventData != null ? eventData.getProperty(IEventBroker.DATA) : UIEvents.ALL_ELEMENT_ID;
+		if (UIEvents.UNTRACKED_ELEMENT_ID.equals(v)) {
+			getUpdater().updateUntrackedItems();
+			return;
+		}
 		Selector s;
 		if (v instanceof Selector) {
 			s = (Selector) v;
@@ -345,8 +349,10 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 	@PostConstruct
 	public void init() {
 		context.set(ToolBarManagerRenderer.class, this);
+		// the items whose enablement was computed are updated when the variables
+		// read by their handler change
 		Throttler throttler = new Throttler(Display.getDefault(), Duration.ofMillis(200),
-				() -> getUpdater().updateContributionItems(ALL_SELECTOR));
+				() -> getUpdater().updateUntrackedItems());
 
 		String[] vars = {
 				"org.eclipse.ui.internal.services.EvaluationService.evaluate", //$NON-NLS-1$
@@ -366,7 +372,7 @@ public class ToolBarManagerRenderer extends SWTPartRenderer {
 				// remove disableThrottling system property in 4.11 if no problems are
 				// identified in 4.10
 				if (disableThrottling) {
-					getUpdater().updateContributionItems(ALL_SELECTOR);
+					getUpdater().updateUntrackedItems();
 				} else {
 					throttler.throttledExec();
 				}
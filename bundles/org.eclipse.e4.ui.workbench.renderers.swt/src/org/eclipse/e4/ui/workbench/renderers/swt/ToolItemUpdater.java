@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2015 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,76 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.contexts.RunAndTrack;
 import org.eclipse.e4.ui.workbench.Selector;
 import org.eclipse.swt.widgets.Display;
 
+/**
+ * Updates the enablement of the tool items of the tool bars rendered by a
+ * {@link ToolBarManagerRenderer}.
+ * <p>
+ * The enablement of an item is computed within a {@link RunAndTrack}, so the
+ * context variables read by the handler are recorded. When one of them
+ * changes, only the items which read it are updated again.
+ * </p>
+ */
 public class ToolItemUpdater implements Runnable {
 
+	/**
+	 * Computes the enablement of an item and queues the item for an update
+	 * when a context variable read by the computation changes.
+	 */
+	private final class EnablementTracker extends RunAndTrack {
+		private final AbstractContributionItem item;
+		private boolean computed;
+		// the context may notify the tracker outside of the UI thread
+		private volatile boolean cancelled;
+
+		EnablementTracker(AbstractContributionItem item) {
+			this.item = item;
+		}
+
+		@Override
+		public boolean changed(IEclipseContext context) {
+			if (cancelled) {
+				return false;
+			}
+			if (!computed) {
+				computed = true;
+				item.updateItemEnablement();
+				return true;
+			}
+			// a variable read by the handler has changed, the update creates a
+			// new tracker recording the variables read then
+			cancelled = true;
+			// not while the context notifies its listeners, which may happen
+			// outside of the UI thread
+			Display.getDefault().asyncExec(() -> {
+				if (trackers.remove(item, this) && isRegistered(item) && schedule(item)) {
+					run();
+				}
+			});
+			return false;
+		}
+
+		void cancel() {
+			cancelled = true;
+		}
+	}
+
 	private static int DELAY = 100;
 	private long timestampOfEarliestQueuedUpdate = 0;
-	private List<AbstractContributionItem> itemsToCheck = new ArrayList<>();
+	private final Set<AbstractContributionItem> itemsToCheck = Collections.newSetFromMap(new IdentityHashMap<>());
 	private final List<AbstractContributionItem> orphanedToolItems = new ArrayList<>();
 	private final Set<AbstractContributionItem> itemsToUpdateLater = new LinkedHashSet<>();
+	private final Map<AbstractContributionItem, EnablementTracker> trackers = new IdentityHashMap<>();
 
 	public ToolItemUpdater() {
 		String delayProperty = System.getProperty("ToolItemUpdaterDelayInMs"); //$NON-NLS-1$
@@ -37,40 +94,53 @@ public class ToolItemUpdater implements Runnable {
 	}
 
 	void registerItem(AbstractContributionItem item) {
-		if (!itemsToCheck.contains(item)) {
-			itemsToCheck.add(item);
-		}
+		itemsToCheck.add(item);
 	}
 
 	void removeItem(AbstractContributionItem item) {
 		itemsToCheck.remove(item);
+		cancelTracker(item);
+	}
+
+	private boolean isRegistered(AbstractContributionItem item) {
+		return itemsToCheck.contains(item) && item.getModel() != null && item.getModel().getParent() != null;
+	}
+
+	private void cancelTracker(AbstractContributionItem item) {
+		EnablementTracker tracker = trackers.remove(item);
+		if (tracker != null) {
+			tracker.cancel();
+		}
 	}
 
 	public void updateContributionItems(Selector selector) {
+		updateContributionItems(selector, false);
+	}
+
+	/**
+	 * Updates the items whose enablement does not track the context variables
+	 * read by their handler, e.g. because it has not been computed yet.
+	 */
+	void updateUntrackedItems() {
+		updateContributionItems(element -> true, true);
+	}
+
+	private void updateContributionItems(Selector selector, boolean untrackedOnly) {
 		boolean doRunNow = false;
 		for (final AbstractContributionItem ci : itemsToCheck) {
 			if (ci.getModel() != null && ci.getModel().getParent() != null) {
-				if (selector.select(ci.getModel())) {
-					itemsToUpdateLater.add(ci);
-					if (timestampOfEarliestQueuedUpdate == 0) {
-						timestampOfEarliestQueuedUpdate = System.nanoTime();
-					}
-					if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
-						// runnable was not called within the last DELAY milliseconds, do it now.
-						// For scenario: a plugin is forcing that updateContributionItems is called
-						// again and again in less than given DELAY frequency. TimerExec would then
-						// never be executed.
-						doRunNow = true;
-					} else {
-						Display.getDefault().timerExec(DELAY, this);
-					}
+				if ((!untrackedOnly || !trackers.containsKey(ci)) && selector.select(ci.getModel())) {
+					doRunNow |= schedule(ci);
 				}
 			} else {
 				orphanedToolItems.add(ci);
 			}
 		}
 		if (!orphanedToolItems.isEmpty()) {
-			itemsToCheck.removeAll(orphanedToolItems);
+			for (AbstractContributionItem ci : orphanedToolItems) {
+				itemsToCheck.remove(ci);
+				cancelTracker(ci);
+			}
 			orphanedToolItems.clear();
 		}
 		if (doRunNow) {
@@ -78,13 +148,46 @@ public class ToolItemUpdater implements Runnable {
 		}
 	}
 
+	/**
+	 * Queues the item for an update.
+	 *
+	 * @return <code>true</code> if the queued items have to be updated now
+	 */
+	private boolean schedule(AbstractContributionItem ci) {
+		itemsToUpdateLater.add(ci);
+		if (timestampOfEarliestQueuedUpdate == 0) {
+			timestampOfEarliestQueuedUpdate = System.nanoTime();
+		}
+		if (System.nanoTime() - timestampOfEarliestQueuedUpdate > DELAY * 1_000_000) {
+			// runnable was not called within the last DELAY milliseconds, do it now.
+			// For scenario: a plugin is forcing that updateContributionItems is called
+			// again and again in less than given DELAY frequency. TimerExec would then
+			// never be executed.
+			return true;
+		}
+		Display.getDefault().timerExec(DELAY, this);
+		return false;
+	}
+
 	@Override
 	public void run() {
 		timestampOfEarliestQueuedUpdate = 0;
 		AbstractContributionItem[] copy = itemsToUpdateLater.toArray(new AbstractContributionItem[] {});
 		itemsToUpdateLater.clear();
 		for (AbstractContributionItem it : copy) {
-			it.updateItemEnablement();
+			updateItemEnablement(it);
+		}
+	}
+
+	private void updateItemEnablement(AbstractContributionItem item) {
+		cancelTracker(item);
+		IEclipseContext context = isRegistered(item) ? item.getContext(item.getModel()) : null;
+		if (context == null) {
+			item.updateItemEnablement();
+			return;
 		}
+		EnablementTracker tracker = new EnablementTracker(item);
+		trackers.put(item, tracker);
+		context.runAndTrack(tracker);
 	}
 }
@@ -51,9 +51,12 @@ import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.core.services.statusreporter.StatusReporter;
 import org.eclipse.e4.ui.bindings.keys.KeyBindingDispatcher;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
 import org.eclipse.e4.ui.css.core.util.impl.resources.OSGiResourceLocator;
 import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
+import org.eclipse.e4.ui.css.swt.engine.AbstractCSSSWTEngineImpl;
 import org.eclipse.e4.ui.css.swt.engine.CSSSWTEngineImpl;
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTRestyleQueue;
 import org.eclipse.e4.ui.css.swt.helpers.EclipsePreferencesHelper;
 import org.eclipse.e4.ui.css.swt.theme.IThemeEngine;
 import org.eclipse.e4.ui.css.swt.theme.IThemeManager;
@@ -1315,22 +1318,33 @@ public class PartRenderingEngine implements IPresentationEngine {
 				themeEngine.registerResourceLocator(new OSGiResourceLocator(cssResourcesURI));
 			}
 
+			// Share the queue of the display's engine with its skin listener
+			CSSEngine cssEngine = WidgetElement.getEngine(display);
+			final CSSSWTRestyleQueue restyleQueue = cssEngine instanceof AbstractCSSSWTEngineImpl
+					&& ((AbstractCSSSWTEngineImpl) cssEngine).getRestyleQueue() != null
+							? ((AbstractCSSSWTEngineImpl) cssEngine).getRestyleQueue()
+							: new CSSSWTRestyleQueue(display, themeEngine::applyStyles);
+			appContext.set(CSSSWTRestyleQueue.class, restyleQueue);
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					themeEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 
 				@Override
 				public void style(Object widget) {
-					themeEngine.applyStyles(widget, true);
+					if (widget instanceof Widget) {
+						restyleQueue.restyle((Widget) widget, true);
+					} else {
+						themeEngine.applyStyles(widget, true);
+					}
 				}
 
 				@Override
@@ -1342,7 +1356,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 				public void setClassnameAndId(Object widget, String classname, String id) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					themeEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 			});
 
@@ -1358,22 +1372,28 @@ public class PartRenderingEngine implements IPresentationEngine {
 			}
 			// FIXME: is this needed?
 			display.setData("org.eclipse.e4.ui.css.context", appContext); //$NON-NLS-1$
+			final CSSSWTRestyleQueue restyleQueue = cssEngine.getRestyleQueue();
+			appContext.set(CSSSWTRestyleQueue.class, restyleQueue);
 			appContext.set(IStylingEngine.class, new IStylingEngine() {
 				@Override
 				public void setClassname(Object widget, String classname) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
-					cssEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 
 				@Override
 				public void setId(Object widget, String id) {
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 
 				@Override
 				public void style(Object widget) {
-					cssEngine.applyStyles(widget, true);
+					if (widget instanceof Widget) {
+						restyleQueue.restyle((Widget) widget, true);
+					} else {
+						cssEngine.applyStyles(widget, true);
+					}
 				}
 
 				@Override
@@ -1389,7 +1409,7 @@ public class PartRenderingEngine implements IPresentationEngine {
 				public void setClassnameAndId(Object widget, String classname, String id) {
 					WidgetElement.setCSSClass((Widget) widget, classname);
 					WidgetElement.setID((Widget) widget, id);
-					cssEngine.applyStyles(widget, true);
+					restyleQueue.restyle((Widget) widget, true);
 				}
 			});
 
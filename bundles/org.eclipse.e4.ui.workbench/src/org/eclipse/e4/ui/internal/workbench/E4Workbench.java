@@ -87,6 +87,15 @@ public class E4Workbench implements IWorkbench {
 	 */
 	public static final String FORCED_SHOW_LOCATION = "forcedShowLocation"; //$NON-NLS-1$
 
+	/**
+	 * The argument for whether to journal the changes of the persisted model
+	 * instead of writing the whole model on every save (set on the command
+	 * line)<br>
+	 * <br>
+	 * Value is: <code>journalModel</code>
+	 */
+	public static final String JOURNAL_MODEL = "journalModel"; //$NON-NLS-1$
+
 	private final String id;
 	private ServiceRegistration<?> osgiRegistration;
 
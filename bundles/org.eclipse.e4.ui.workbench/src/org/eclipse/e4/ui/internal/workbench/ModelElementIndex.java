@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Indexes the elements of an application model by their element id, their
+ * tags and their concrete type, and the placeholders by the element they
+ * reference. The index is kept up to date by adapting every element contained
+ * in the application.
+ * <p>
+ * The index does not answer searches itself: it tells which elements a search
+ * for an id, a type and tags has to visit, i.e. the matching elements, their
+ * containers and the placeholders referencing any of them. Searching the
+ * model with this filter gives the same elements in the same order as
+ * searching the whole model.
+ * </p>
+ * <p>
+ * Setting the system property
+ * <code>org.eclipse.e4.ui.workbench.modelIndex</code> to <code>false</code>
+ * disables the index.
+ * </p>
+ */
+public class ModelElementIndex extends EContentAdapter {
+
+	private static final boolean ENABLED = !Boolean.FALSE.toString()
+			.equals(System.getProperty("org.eclipse.e4.ui.workbench.modelIndex")); //$NON-NLS-1$
+
+	private final Set<MApplicationElement> elements = new HashSet<>();
+
+	private final Map<String, Set<MApplicationElement>> elementsById = new HashMap<>();
+
+	private final Map<String, Set<MApplicationElement>> elementsByTag = new HashMap<>();
+
+	private final Map<Class<?>, Set<MApplicationElement>> elementsByType = new HashMap<>();
+
+	private final Map<MUIElement, Set<MPlaceholder>> placeholdersByRef = new HashMap<>();
+
+	/**
+	 * Returns the index of the application containing an element, creating it
+	 * if the application is not indexed yet.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the index, or <code>null</code> if the element is not contained
+	 *         in an application or the index is disabled
+	 */
+	public static ModelElementIndex getIndex(MApplicationElement element) {
+		if (!ENABLED || !(element instanceof EObject)) {
+			return null;
+		}
+		EObject root = EcoreUtil.getRootContainer((EObject) element);
+		if (!(root instanceof MApplication)) {
+			return null;
+		}
+		for (Adapter adapter : root.eAdapters()) {
+			if (adapter instanceof ModelElementIndex) {
+				return (ModelElementIndex) adapter;
+			}
+		}
+		ModelElementIndex index = new ModelElementIndex();
+		root.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * Returns the elements a search has to visit to find the elements matching
+	 * an id, a type and tags.
+	 *
+	 * @param id
+	 *            the id of the elements, may be <code>null</code>
+	 * @param clazz
+	 *            the type of the elements, may be <code>null</code>
+	 * @param tags
+	 *            the tags of the elements, may be <code>null</code>
+	 * @return the elements to visit, or <code>null</code> if the index does
+	 *         not narrow the search and every element has to be visited
+	 */
+	public Set<Object> getSearchPaths(String id, Class<?> clazz, List<String> tags) {
+		for (MUIElement ref : placeholdersByRef.keySet()) {
+			if (!elements.contains(ref)) {
+				// a placeholder references an element outside of the model
+				return null;
+			}
+		}
+		Collection<MApplicationElement> candidates = null;
+		if (id != null) {
+			candidates = elementsById.getOrDefault(id, Collections.emptySet());
+		}
+		if (tags != null) {
+			for (String tag : tags) {
+				Set<MApplicationElement> tagged = elementsByTag.getOrDefault(tag, Collections.emptySet());
+				if (candidates == null || tagged.size() < candidates.size()) {
+					candidates = tagged;
+				}
+			}
+		}
+		if (clazz != null && (candidates == null || !candidates.isEmpty())) {
+			Collection<MApplicationElement> instances = getInstances(clazz,
+					candidates == null ? elements.size() : candidates.size());
+			if (instances != null) {
+				candidates = instances;
+			}
+		}
+		if (candidates == null || candidates.size() > elements.size() / 2) {
+			return null;
+		}
+
+		Set<Object> paths = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<EObject> pending = new ArrayDeque<>();
+		for (MApplicationElement candidate : candidates) {
+			pending.add((EObject) candidate);
+		}
+		while (!pending.isEmpty()) {
+			// an element already visited has its containers visited too
+			for (EObject element = pending.poll(); element != null && paths.add(element); element = element
+					.eContainer()) {
+				Set<MPlaceholder> placeholders = placeholdersByRef.get(element);
+				if (placeholders != null) {
+					for (MPlaceholder placeholder : placeholders) {
+						pending.add((EObject) placeholder);
+					}
+				}
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * Returns the elements of a type, unless there are more of them than a
+	 * limit.
+	 */
+	private Collection<MApplicationElement> getInstances(Class<?> clazz, int limit) {
+		int count = 0;
+		List<Set<MApplicationElement>> sets = new ArrayList<>();
+		for (Entry<Class<?>, Set<MApplicationElement>> entry : elementsByType.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey())) {
+				count += entry.getValue().size();
+				if (count >= limit) {
+					return null;
+				}
+				sets.add(entry.getValue());
+			}
+		}
+		List<MApplicationElement> instances = new ArrayList<>(count);
+		for (Set<MApplicationElement> set : sets) {
+			instances.addAll(set);
+		}
+		return instances;
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		if (target instanceof MApplicationElement) {
+			add((MApplicationElement) target);
+		}
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		if (target instanceof MApplicationElement) {
+			remove((MApplicationElement) target);
+		}
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+
+		if (notification.isTouch() || !(notification.getNotifier() instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) notification.getNotifier();
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			removeValue(elementsById, notification.getOldValue(), element);
+			addValue(elementsById, element.getElementId(), element);
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			updateTags(element, notification.getOldValue());
+			updateTags(element, notification.getNewValue());
+		} else if (feature == AdvancedPackageImpl.Literals.PLACEHOLDER__REF) {
+			MPlaceholder placeholder = (MPlaceholder) element;
+			removeValue(placeholdersByRef, notification.getOldValue(), placeholder);
+			addValue(placeholdersByRef, placeholder.getRef(), placeholder);
+		}
+	}
+
+	/**
+	 * Indexes an element again under the tags added or removed by a change.
+	 * The tags may still be present, as an element may have the same tag more
+	 * than once.
+	 */
+	private void updateTags(MApplicationElement element, Object changedTags) {
+		Collection<?> tags = changedTags instanceof Collection<?> ? (Collection<?>) changedTags
+				: Collections.singleton(changedTags);
+		for (Object tag : tags) {
+			if (tag instanceof String) {
+				if (element.getTags().contains(tag)) {
+					addValue(elementsByTag, (String) tag, element);
+				} else {
+					removeValue(elementsByTag, tag, element);
+				}
+			}
+		}
+	}
+
+	private void add(MApplicationElement element) {
+		if (!elements.add(element)) {
+			return;
+		}
+		addValue(elementsById, element.getElementId(), element);
+		for (String tag : element.getTags()) {
+			addValue(elementsByTag, tag, element);
+		}
+		addValue(elementsByType, element.getClass(), element);
+		if (element instanceof MPlaceholder) {
+			MPlaceholder placeholder = (MPlaceholder) element;
+			addValue(placeholdersByRef, placeholder.getRef(), placeholder);
+		}
+	}
+
+	private void remove(MApplicationElement element) {
+		if (!elements.remove(element)) {
+			return;
+		}
+		removeValue(elementsById, element.getElementId(), element);
+		for (String tag : element.getTags()) {
+			removeValue(elementsByTag, tag, element);
+		}
+		removeValue(elementsByType, element.getClass(), element);
+		if (element instanceof MPlaceholder) {
+			MPlaceholder placeholder = (MPlaceholder) element;
+			removeValue(placeholdersByRef, placeholder.getRef(), placeholder);
+		}
+	}
+
+	private static <K, V> void addValue(Map<K, Set<V>> map, K key, V value) {
+		if (key != null) {
+			map.computeIfAbsent(key, k -> new HashSet<>()).add(value);
+		}
+	}
+
+	private static <K, V> void removeValue(Map<K, Set<V>> map, Object key, V value) {
+		if (key == null) {
+			return;
+		}
+		Set<V> values = map.get(key);
+		if (values != null && values.remove(value) && values.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ModelElementIndex [elements=" + elements.size() + ", ids=" + elementsById.size() + ", tags=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ elementsByTag.size() + ", types=" + elementsByType.size() + ']'; //$NON-NLS-1$
+	}
+}
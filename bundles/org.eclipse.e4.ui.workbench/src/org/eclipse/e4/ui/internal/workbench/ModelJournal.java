@@ -0,0 +1,675 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.EMap;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.osgi.service.log.LogService;
+
+/**
+ * Journal of the changes made to a persisted application model.
+ * <p>
+ * Instead of serializing the whole model on every save, the changes seen since
+ * the last save are appended to a change log next to the model file
+ * (<code>workbench.xmi.journal</code>). A full snapshot of the model is only
+ * written when the journal grows too large, when it does not belong to the
+ * model file on disk, or when the structure of the model changed (elements were
+ * added, removed or moved between containers). Only attribute values,
+ * non-containment references and persisted state entries are journaled.
+ * </p>
+ * <p>
+ * The journal starts with the length and time stamp of the snapshot it applies
+ * to, and every record carries a checksum. Snapshots are written to a temporary
+ * file which then replaces the model file, so a crash while saving leaves
+ * either the previous snapshot with its journal, or the new snapshot, on disk.
+ * A truncated record at the end of the journal is ignored.
+ * </p>
+ */
+public class ModelJournal extends EContentAdapter {
+
+	/**
+	 * The extension appended to the model file name for the journal file
+	 */
+	public static final String JOURNAL_EXTENSION = ".journal"; //$NON-NLS-1$
+
+	/**
+	 * Size of the journal file above which a save writes a new snapshot
+	 */
+	static final long COMPACTION_THRESHOLD = 1024 * 1024;
+
+	private static final int MAGIC = 0x45344a4c; // E4JL
+	private static final int VERSION = 1;
+
+	private static final byte SET = 1;
+	private static final byte UNSET = 2;
+	private static final byte ADD = 3;
+	private static final byte REMOVE = 4;
+	private static final byte MOVE = 5;
+	private static final byte PUT = 6;
+	private static final byte REMOVE_KEY = 7;
+	private static final byte SET_AT = 8;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_LITERAL = 1;
+	private static final byte VALUE_REFERENCE = 2;
+
+	private final XMLResource resource;
+
+	// Records of the changes which are not yet written to the journal
+	private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+	private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream();
+	private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+
+	private boolean snapshotRequired;
+
+	// The journal file and the snapshot it belongs to
+	private File journalFile;
+	private long baseLength = -1;
+	private long baseLastModified;
+
+	/**
+	 * Creates a journal for the given model resource. The journal has to be
+	 * added to the adapters of the resource to record the changes.
+	 *
+	 * @param resource
+	 *            the resource of the application model
+	 */
+	public ModelJournal(XMLResource resource) {
+		this.resource = resource;
+	}
+
+	/**
+	 * Applies the changes recorded in the journal of the loaded model file.
+	 * The journal is ignored if it does not belong to the model file. Must be
+	 * called before the journal is attached to the resource.
+	 *
+	 * @return the number of changes which were applied
+	 * @throws IOException
+	 *             if the journal cannot be read
+	 */
+	public synchronized int replay() throws IOException {
+		File snapshot = getSnapshotFile();
+		if (snapshot == null || !snapshot.isFile()) {
+			return 0;
+		}
+		File journal = getJournalFile(snapshot);
+		if (!journal.isFile()) {
+			return 0;
+		}
+
+		int applied = 0;
+		boolean complete = false;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readLong() != snapshot.length()
+					|| in.readLong() != snapshot.lastModified()) {
+				// the journal of an older snapshot, its changes are part of
+				// the model file
+				return 0;
+			}
+			CRC32 crc = new CRC32();
+			while (true) {
+				int length;
+				try {
+					length = in.readInt();
+				} catch (EOFException e) {
+					complete = true;
+					break;
+				}
+				int checksum = in.readInt();
+				if (length < 0 || length > journal.length()) {
+					break;
+				}
+				byte[] record = new byte[length];
+				in.readFully(record);
+				crc.reset();
+				crc.update(record, 0, length);
+				if ((int) crc.getValue() != checksum) {
+					break;
+				}
+				if (apply(new DataInputStream(new ByteArrayInputStream(record)))) {
+					applied++;
+				}
+			}
+		} catch (EOFException e) {
+			// truncated record, written during a crash
+		}
+
+		if (complete) {
+			// keep appending to this journal
+			journalFile = journal;
+			baseLength = snapshot.length();
+			baseLastModified = snapshot.lastModified();
+		} else {
+			Activator.log(LogService.LOG_WARNING, "Ignoring the damaged end of the model journal " + journal); //$NON-NLS-1$
+		}
+		return applied;
+	}
+
+	private boolean apply(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		EObject eObject = resource.getEObject(readString(in));
+		String featureName = readString(in);
+		if (eObject == null) {
+			// the element is not persisted
+			return false;
+		}
+		EStructuralFeature feature = eObject.eClass().getEStructuralFeature(featureName);
+		if (feature == null) {
+			return false;
+		}
+		try {
+			switch (kind) {
+			case SET:
+				eObject.eSet(feature, readValue(in, feature));
+				return true;
+			case UNSET:
+				eObject.eUnset(feature);
+				return true;
+			case ADD: {
+				int position = in.readInt();
+				Object value = readValue(in, feature);
+				if (value == null) {
+					return false;
+				}
+				getList(eObject, feature).add(position, value);
+				return true;
+			}
+			case SET_AT: {
+				int position = in.readInt();
+				Object value = readValue(in, feature);
+				if (value == null) {
+					return false;
+				}
+				getList(eObject, feature).set(position, value);
+				return true;
+			}
+			case REMOVE:
+				getList(eObject, feature).remove(in.readInt());
+				return true;
+			case MOVE: {
+				int from = in.readInt();
+				int to = in.readInt();
+				getList(eObject, feature).move(to, from);
+				return true;
+			}
+			case PUT:
+				getMap(eObject, feature).put(readString(in), readString(in));
+				return true;
+			case REMOVE_KEY:
+				getMap(eObject, feature).removeKey(readString(in));
+				return true;
+			default:
+				return false;
+			}
+		} catch (RuntimeException e) {
+			// the model does not match the record anymore, e.g. because of a
+			// changed model fragment
+			return false;
+		}
+	}
+
+	private Object readValue(DataInputStream in, EStructuralFeature feature) throws IOException {
+		switch (in.readByte()) {
+		case VALUE_LITERAL:
+			return EcoreUtil.createFromString((EDataType) feature.getEType(), readString(in));
+		case VALUE_REFERENCE:
+			return resource.getEObject(readString(in));
+		default:
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static EList<Object> getList(EObject eObject, EStructuralFeature feature) {
+		return (EList<Object>) eObject.eGet(feature);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static EMap<String, String> getMap(EObject eObject, EStructuralFeature feature) {
+		return (EMap<String, String>) eObject.eGet(feature);
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+
+		if (notification.isTouch()) {
+			return;
+		}
+		synchronized (this) {
+			if (!snapshotRequired) {
+				record(notification);
+			}
+		}
+	}
+
+	private void record(Notification notification) {
+		Object notifier = notification.getNotifier();
+		if (notifier instanceof Resource) {
+			if (notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS) {
+				requireSnapshot();
+			}
+			return;
+		}
+		if (!(notifier instanceof EObject) || !(notification.getFeature() instanceof EStructuralFeature)) {
+			return;
+		}
+		EObject eObject = (EObject) notifier;
+		EStructuralFeature feature = (EStructuralFeature) notification.getFeature();
+		if (feature.isTransient() || feature.isDerived()) {
+			return;
+		}
+
+		try {
+			if (eObject instanceof Map.Entry<?, ?>) {
+				recordEntryChange(eObject, feature, notification);
+			} else if (isMap(feature)) {
+				recordMapChange(eObject, feature, notification);
+			} else if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+				// the structure of the model changed
+				requireSnapshot();
+			} else {
+				recordValueChange(eObject, feature, notification);
+			}
+		} catch (IOException | RuntimeException e) {
+			// value that cannot be journaled
+			requireSnapshot();
+		}
+	}
+
+	private static boolean isMap(EStructuralFeature feature) {
+		return feature.getEType().getInstanceClass() == Map.Entry.class;
+	}
+
+	/*
+	 * The value of an existing map entry changed.
+	 */
+	private void recordEntryChange(EObject entry, EStructuralFeature feature, Notification notification)
+			throws IOException {
+		EObject container = entry.eContainer();
+		EStructuralFeature mapFeature = entry.eContainmentFeature();
+		if (container == null || mapFeature == null || mapFeature.isTransient()) {
+			return;
+		}
+		Object key = ((Map.Entry<?, ?>) entry).getKey();
+		if (!"value".equals(feature.getName()) || !isStringEntry(key, notification.getNewValue())) { //$NON-NLS-1$
+			requireSnapshot();
+			return;
+		}
+		DataOutputStream out = startRecord(PUT, container, mapFeature);
+		if (out != null) {
+			writeString(out, (String) key);
+			writeString(out, (String) notification.getNewValue());
+			endRecord(out);
+		}
+	}
+
+	/*
+	 * Entries were added to or removed from a map.
+	 */
+	private void recordMapChange(EObject eObject, EStructuralFeature feature, Notification notification)
+			throws IOException {
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			recordPut(eObject, feature, notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			for (Object entry : (List<?>) notification.getNewValue()) {
+				recordPut(eObject, feature, entry);
+			}
+			break;
+		case Notification.REMOVE:
+			recordRemoveKey(eObject, feature, notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object entry : (List<?>) notification.getOldValue()) {
+				recordRemoveKey(eObject, feature, entry);
+			}
+			break;
+		default:
+			requireSnapshot();
+			break;
+		}
+	}
+
+	private void recordPut(EObject eObject, EStructuralFeature feature, Object value) throws IOException {
+		Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+		if (!isStringEntry(entry.getKey(), entry.getValue())) {
+			requireSnapshot();
+			return;
+		}
+		DataOutputStream out = startRecord(PUT, eObject, feature);
+		if (out != null) {
+			writeString(out, (String) entry.getKey());
+			writeString(out, (String) entry.getValue());
+			endRecord(out);
+		}
+	}
+
+	private void recordRemoveKey(EObject eObject, EStructuralFeature feature, Object value) throws IOException {
+		Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+		if (!isStringEntry(entry.getKey(), null)) {
+			requireSnapshot();
+			return;
+		}
+		DataOutputStream out = startRecord(REMOVE_KEY, eObject, feature);
+		if (out != null) {
+			writeString(out, (String) entry.getKey());
+			endRecord(out);
+		}
+	}
+
+	private static boolean isStringEntry(Object key, Object value) {
+		// changing whether an element is persisted changes the snapshot
+		return key instanceof String && !IWorkbench.PERSIST_STATE.equals(key)
+				&& (value == null || value instanceof String);
+	}
+
+	/*
+	 * An attribute or a non-containment reference changed.
+	 */
+	private void recordValueChange(EObject eObject, EStructuralFeature feature, Notification notification)
+			throws IOException {
+		DataOutputStream out;
+		switch (notification.getEventType()) {
+		case Notification.SET:
+			if (feature.isMany()) {
+				recordSetAt(eObject, feature, notification.getPosition(), notification.getNewValue());
+				break;
+			}
+			out = startRecord(SET, eObject, feature);
+			if (out != null) {
+				writeValue(out, feature, notification.getNewValue());
+				endRecord(out);
+			}
+			break;
+		case Notification.UNSET:
+			out = startRecord(UNSET, eObject, feature);
+			if (out != null) {
+				endRecord(out);
+			}
+			break;
+		case Notification.ADD:
+			recordAdd(eObject, feature, notification.getPosition(), notification.getNewValue());
+			break;
+		case Notification.ADD_MANY: {
+			int position = notification.getPosition();
+			for (Object value : (List<?>) notification.getNewValue()) {
+				recordAdd(eObject, feature, position++, value);
+			}
+			break;
+		}
+		case Notification.REMOVE:
+			recordRemove(eObject, feature, notification.getPosition());
+			break;
+		case Notification.REMOVE_MANY: {
+			int[] positions = (int[]) notification.getNewValue();
+			if (positions == null) {
+				// all elements were removed
+				positions = new int[((List<?>) notification.getOldValue()).size()];
+				for (int i = 0; i < positions.length; i++) {
+					positions[i] = i;
+				}
+			}
+			for (int i = positions.length - 1; i >= 0; i--) {
+				recordRemove(eObject, feature, positions[i]);
+			}
+			break;
+		}
+		case Notification.MOVE:
+			out = startRecord(MOVE, eObject, feature);
+			if (out != null) {
+				out.writeInt(((Integer) notification.getOldValue()).intValue());
+				out.writeInt(notification.getPosition());
+				endRecord(out);
+			}
+			break;
+		default:
+			requireSnapshot();
+			break;
+		}
+	}
+
+	private void recordAdd(EObject eObject, EStructuralFeature feature, int position, Object value)
+			throws IOException {
+		DataOutputStream out = startRecord(ADD, eObject, feature);
+		if (out != null) {
+			out.writeInt(position);
+			writeValue(out, feature, value);
+			endRecord(out);
+		}
+	}
+
+	/*
+	 * An element of a list was replaced.
+	 */
+	private void recordSetAt(EObject eObject, EStructuralFeature feature, int position, Object value)
+			throws IOException {
+		if (position < 0) {
+			requireSnapshot();
+			return;
+		}
+		DataOutputStream out = startRecord(SET_AT, eObject, feature);
+		if (out != null) {
+			out.writeInt(position);
+			writeValue(out, feature, value);
+			endRecord(out);
+		}
+	}
+
+	private void recordRemove(EObject eObject, EStructuralFeature feature, int position) throws IOException {
+		DataOutputStream out = startRecord(REMOVE, eObject, feature);
+		if (out != null) {
+			out.writeInt(position);
+			endRecord(out);
+		}
+	}
+
+	private void writeValue(DataOutputStream out, EStructuralFeature feature, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(VALUE_NULL);
+		} else if (feature instanceof EAttribute) {
+			out.writeByte(VALUE_LITERAL);
+			writeString(out, EcoreUtil.convertToString(((EAttribute) feature).getEAttributeType(), value));
+		} else {
+			EObject referenced = (EObject) value;
+			if (referenced.eResource() != resource) {
+				throw new IOException("Reference to an element outside of the model: " + referenced); //$NON-NLS-1$
+			}
+			out.writeByte(VALUE_REFERENCE);
+			writeString(out, resource.getID(referenced));
+		}
+	}
+
+	/**
+	 * Starts a record for a change of the given element.
+	 *
+	 * @return the stream to write the record to, or <code>null</code> if the
+	 *         element is not part of the model anymore
+	 */
+	private DataOutputStream startRecord(byte kind, EObject eObject, EStructuralFeature feature)
+			throws IOException {
+		if (eObject.eResource() != resource) {
+			return null;
+		}
+		String id = resource.getID(eObject);
+		if (id == null) {
+			requireSnapshot();
+			return null;
+		}
+		recordBuffer.reset();
+		DataOutputStream out = recordOut;
+		out.writeByte(kind);
+		writeString(out, id);
+		writeString(out, feature.getName());
+		return out;
+	}
+
+	private void endRecord(DataOutputStream out) throws IOException {
+		out.flush();
+		byte[] record = recordBuffer.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(record, 0, record.length);
+		DataOutputStream pendingOut = new DataOutputStream(pending);
+		pendingOut.writeInt(record.length);
+		pendingOut.writeInt((int) crc.getValue());
+		pendingOut.write(record);
+		pendingOut.flush();
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		// writeUTF is limited to 64k, persisted state may be larger
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Invalid string length " + length); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void requireSnapshot() {
+		snapshotRequired = true;
+		pending.reset();
+	}
+
+	/**
+	 * Saves the model: appends the recorded changes to the journal, or writes a
+	 * new snapshot of the model and starts a new journal.
+	 *
+	 * @throws IOException
+	 *             if storing fails
+	 */
+	public synchronized void save() throws IOException {
+		File snapshot = getSnapshotFile();
+		if (snapshot == null) {
+			resource.save(null);
+			return;
+		}
+		File journal = getJournalFile(snapshot);
+		if (snapshotRequired || !journal.equals(journalFile) || snapshot.length() != baseLength
+				|| snapshot.lastModified() != baseLastModified
+				|| journal.length() + pending.size() > COMPACTION_THRESHOLD) {
+			writeSnapshot(snapshot, journal);
+		} else if (pending.size() > 0) {
+			append(journal);
+		}
+	}
+
+	private void append(File journal) throws IOException {
+		try (FileOutputStream out = new FileOutputStream(journal, true)) {
+			pending.writeTo(out);
+			out.getFD().sync();
+		} catch (IOException e) {
+			// the end of the journal may be damaged
+			snapshotRequired = true;
+			throw e;
+		}
+		pending.reset();
+	}
+
+	private void writeSnapshot(File snapshot, File journal) throws IOException {
+		snapshot.getParentFile().mkdirs();
+		File temp = new File(snapshot.getPath() + ".tmp"); //$NON-NLS-1$
+		try (FileOutputStream out = new FileOutputStream(temp)) {
+			resource.save(out, null);
+			out.getFD().sync();
+		}
+		replace(temp, snapshot);
+		pending.reset();
+		snapshotRequired = false;
+
+		// an old journal does not match the new snapshot anymore, so it is
+		// never applied to it even if we crash before it is replaced
+		File tempJournal = new File(journal.getPath() + ".tmp"); //$NON-NLS-1$
+		try (FileOutputStream out = new FileOutputStream(tempJournal)) {
+			DataOutputStream header = new DataOutputStream(out);
+			header.writeInt(MAGIC);
+			header.writeInt(VERSION);
+			header.writeLong(snapshot.length());
+			header.writeLong(snapshot.lastModified());
+			header.flush();
+			out.getFD().sync();
+		}
+		replace(tempJournal, journal);
+		journalFile = journal;
+		baseLength = snapshot.length();
+		baseLastModified = snapshot.lastModified();
+	}
+
+	private static void replace(File source, File target) throws IOException {
+		try {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private File getSnapshotFile() {
+		URI uri = resource.getURI();
+		if (uri == null || !uri.isFile()) {
+			return null;
+		}
+		return new File(uri.toFileString());
+	}
+
+	/**
+	 * Returns the journal file of a model file.
+	 *
+	 * @param snapshot
+	 *            the model file
+	 * @return the journal file
+	 */
+	public static File getJournalFile(File snapshot) {
+		return snapshot == null ? null : new File(snapshot.getPath() + JOURNAL_EXTENSION);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2016 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.osgi.framework.Bundle;
 
@@ -89,6 +90,13 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Named(IWorkbench.CLEAR_PERSISTED_STATE)
 	private boolean clearPersistedState;
 
+	@Inject
+	@Optional
+	@Named(E4Workbench.JOURNAL_MODEL)
+	private boolean journalModel;
+
+	private ModelJournal journal;
+
 	/**
 	 * Constructor.
 	 *
@@ -152,6 +160,9 @@ public class ResourceHandler implements IModelResourceHandler {
 		if (clearPersistedState && workbenchData != null && workbenchData.exists()) {
 			workbenchData.delete();
 		}
+		if (clearPersistedState && workbenchData != null) {
+			ModelJournal.getJournalFile(workbenchData).delete();
+		}
 
 		// last stored time-stamp
 		long restoreLastModified = restoreLocation == null ? 0L : new File(
@@ -164,8 +175,19 @@ public class ResourceHandler implements IModelResourceHandler {
 		boolean initialModel;
 
 		resource = null;
+		journal = null;
 		if (restore && saveAndRestore) {
 			resource = loadResource(restoreLocation);
+			if (journalModel && resource instanceof XMLResource) {
+				journal = new ModelJournal((XMLResource) resource);
+				try {
+					journal.replay();
+				} catch (IOException e) {
+					// the journal may be damaged, the next save writes a new
+					// snapshot of the model
+					logger.error(e, "Unable to read the model journal"); //$NON-NLS-1$
+				}
+			}
 			// If the saved model does not have any top-level windows, Eclipse will exit
 			// immediately, so throw out the persisted state and reinitialize with the defaults.
 			if (!hasTopLevelWindows(resource)) {
@@ -174,6 +196,7 @@ public class ResourceHandler implements IModelResourceHandler {
 							"The persisted application model has no top-level window. Reinitializing with the default application model."); //$NON-NLS-1$
 				}
 				resource = null;
+				journal = null;
 			}
 		}
 		if (resource == null) {
@@ -186,6 +209,14 @@ public class ResourceHandler implements IModelResourceHandler {
 			initialModel = false;
 		}
 
+		// Record all changes from here on, including the processed fragments
+		if (journalModel && saveAndRestore && resource instanceof XMLResource) {
+			if (journal == null) {
+				journal = new ModelJournal((XMLResource) resource);
+			}
+			resource.eAdapters().add(journal);
+		}
+
 		// Add model items described in the model extension point
 		// This has to be done before commands are put into the context
 		MApplication appElement = (MApplication) resource.getContents().get(0);
@@ -210,8 +241,13 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	@Override
 	public void save() throws IOException {
-		if (saveAndRestore)
-			resource.save(null);
+		if (saveAndRestore) {
+			if (journal != null) {
+				journal.save();
+			} else {
+				resource.save(null);
+			}
+		}
 	}
 
 	/**
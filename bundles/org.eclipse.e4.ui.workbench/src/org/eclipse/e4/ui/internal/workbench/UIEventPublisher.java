@@ -144,6 +144,10 @@ public class UIEventPublisher extends EContentAdapter {
 			case Notification.UNSET:
 				oldValue = notification.getOldValue();
 				newValue = notification.getNewValue();
+				// the value replaced in a list
+				if (feature.isMany()) {
+					position = notification.getPosition();
+				}
 				break;
 			default:
 				Activator.log(LogService.LOG_ERROR, getClass().getName()
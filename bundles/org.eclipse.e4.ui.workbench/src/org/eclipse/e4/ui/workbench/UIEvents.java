@@ -77,6 +77,9 @@ public class UIEvents {
 	 * <ul>
 	 * <li>the special value {@link #ALL_ELEMENT_ID} to request changes of all
 	 * applicable elements (the default)</li>
+	 * <li>the special value {@link #UNTRACKED_ELEMENT_ID} to request changes of
+	 * the elements whose enablement does not track the context variables it
+	 * depends on</li>
 	 * <li>the {@link MApplicationElement#getElementId()} of the element to
 	 * check</li>
 	 * <li>instance of {@link Selector}</li>
@@ -94,6 +97,16 @@ public class UIEvents {
 	 */
 	public static final String ALL_ELEMENT_ID = "ALL"; //$NON-NLS-1$
 
+	/**
+	 * Special id passed to check the elements whose enablement does not track
+	 * the context variables it depends on. It is meant for changes of context
+	 * variables only, the other elements are updated when a variable they
+	 * depend on changes.
+	 *
+	 * @since 1.10
+	 */
+	public static final String UNTRACKED_ELEMENT_ID = "UNTRACKED"; //$NON-NLS-1$
+
 	/**
 	 * E4 UI Event Types. Add appropriate utility is &lt;Test&gt; method below if
 	 * new types added
@@ -0,0 +1,476 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+
+/**
+ * (NON-API) A persistent cache of decoded image data, used by the image
+ * descriptors created from URLs and files to skip decoding the images again on
+ * the next start.
+ * <p>
+ * The entries are keyed by the URL of the image, the zoom and a stamp of where
+ * the image comes from: the version and modification time of its bundle or the
+ * modification time and length of its file. Images of other URLs are not
+ * cached. Image data that could not be found is cached as well.
+ * </p>
+ * <p>
+ * The cache is a single file, which is memory mapped when opened. New entries
+ * are kept in memory and appended by {@link #close()}. When the file exceeds
+ * its maximum size, it is rewritten with the entries used since it was opened.
+ * As a mapped file cannot be replaced on every platform, the rewritten file is
+ * written next to it and replaces it when the cache is opened again.
+ * </p>
+ *
+ * @since 3.16
+ */
+public final class ImageDataCache {
+
+	private static final int MAGIC = 0x4A464943; // JFIC
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static final int HEADER_SIZE = 8;
+
+	private static final long MAX_SIZE = 32 * 1024 * 1024;
+
+	private static final byte ABSENT = 0;
+
+	private static final byte IMAGE = 1;
+
+	private static volatile ImageDataCache defaultCache;
+
+	private final File file;
+
+	private final BundleContext context;
+
+	private final MappedByteBuffer mapped;
+
+	// the position of the entry of every key in the mapped file
+	private final Map<String, Integer> index = new ConcurrentHashMap<>();
+
+	// the entries of the mapped file used since opening
+	private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+	// the entries added since opening, not written yet
+	private final Map<String, byte[]> added = new ConcurrentHashMap<>();
+
+	private final AtomicLong addedSize = new AtomicLong();
+
+	// the end of the last complete entry of the file
+	private final int validSize;
+
+	private volatile boolean closed;
+
+	private ImageDataCache(File file, BundleContext context) {
+		this.file = file;
+		this.context = context;
+		File rewritten = getRewrittenFile(file);
+		if (rewritten.exists()) {
+			try {
+				Files.move(rewritten.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException e) {
+				log("Unable to replace the image data cache " + file, e); //$NON-NLS-1$
+			}
+		}
+		MappedByteBuffer buffer = null;
+		int size = 0;
+		if (file.length() >= HEADER_SIZE && file.length() <= MAX_SIZE) {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				size = readIndex(buffer);
+			} catch (IOException e) {
+				log("Unable to read the image data cache " + file, e); //$NON-NLS-1$
+				buffer = null;
+			}
+		}
+		this.mapped = buffer;
+		this.validSize = size;
+	}
+
+	/**
+	 * Opens the cache stored in the given file. The file is created by
+	 * {@link #close()} if it does not exist.
+	 *
+	 * @param file
+	 *            the file of the cache
+	 * @param context
+	 *            a bundle context to look up the bundles of the images
+	 * @return the cache
+	 */
+	public static ImageDataCache open(File file, BundleContext context) {
+		return new ImageDataCache(file, context);
+	}
+
+	/**
+	 * @return the cache used by the image descriptors, or <code>null</code> if
+	 *         images are not cached
+	 */
+	public static ImageDataCache getDefault() {
+		return defaultCache;
+	}
+
+	/**
+	 * Sets the cache used by the image descriptors.
+	 *
+	 * @param cache
+	 *            the cache or <code>null</code> to not cache images
+	 */
+	public static void setDefault(ImageDataCache cache) {
+		defaultCache = cache;
+	}
+
+	/**
+	 * Returns the image data of an image from the cache, or decodes it and adds
+	 * it to the cache.
+	 *
+	 * @param url
+	 *            the URL of the image at zoom 100
+	 * @param zoom
+	 *            the zoom of the image data
+	 * @param decoder
+	 *            decodes the image data, may return <code>null</code>
+	 * @return the image data or <code>null</code> if the decoder returned
+	 *         <code>null</code>
+	 */
+	public ImageData getImageData(URL url, int zoom, Supplier<ImageData> decoder) {
+		String stamp = closed ? null : getStamp(url);
+		if (stamp == null) {
+			return decoder.get();
+		}
+		String key = url.toExternalForm() + '#' + zoom + '#' + stamp;
+		try {
+			byte[] entry = added.get(key);
+			if (entry != null) {
+				return readImageData(ByteBuffer.wrap(entry));
+			}
+			Integer position = index.get(key);
+			if (position != null) {
+				used.add(key);
+				ByteBuffer buffer = mapped.duplicate();
+				buffer.position(position.intValue());
+				return readImageData(buffer);
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException | SWTException e) {
+			// the entry is damaged, decode the image
+			index.remove(key);
+		}
+		ImageData data = decoder.get();
+		if (addedSize.get() < MAX_SIZE) {
+			byte[] bytes = writeImageData(data);
+			if (added.putIfAbsent(key, bytes) == null) {
+				addedSize.addAndGet(bytes.length);
+			}
+		}
+		return data;
+	}
+
+	/**
+	 * Returns the stamp of the source of the image, or <code>null</code> if it
+	 * is unknown.
+	 */
+	private String getStamp(URL url) {
+		URL resolved = url;
+		if (InternalPolicy.OSGI_AVAILABLE) {
+			URL platformURL = FileLocator.find(url);
+			if (platformURL != null) {
+				resolved = platformURL;
+			}
+		}
+		String protocol = resolved.getProtocol();
+		if ("file".equalsIgnoreCase(protocol)) { //$NON-NLS-1$
+			File imageFile;
+			try {
+				imageFile = URIUtil.toFile(URIUtil.toURI(resolved));
+			} catch (URISyntaxException e) {
+				return null;
+			}
+			if (imageFile == null) {
+				return null;
+			}
+			return imageFile.lastModified() + "_" + imageFile.length(); //$NON-NLS-1$
+		}
+		if (context != null && ("bundleentry".equals(protocol) || "bundleresource".equals(protocol))) { //$NON-NLS-1$ //$NON-NLS-2$
+			// the host is the bundle id, followed by the framework
+			String host = resolved.getHost();
+			int dot = host.indexOf('.');
+			try {
+				Bundle bundle = context.getBundle(Long.parseLong(dot < 0 ? host : host.substring(0, dot)));
+				if (bundle != null) {
+					return bundle.getSymbolicName() + '_' + bundle.getVersion() + '_' + bundle.getLastModified();
+				}
+			} catch (NumberFormatException e) {
+				// not an Equinox URL
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the positions of the entries of the file.
+	 *
+	 * @return the end of the last complete entry
+	 */
+	private int readIndex(ByteBuffer buffer) {
+		if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+			return 0;
+		}
+		int end = HEADER_SIZE;
+		try {
+			while (buffer.remaining() > 0) {
+				int length = buffer.getInt();
+				if (length < 4 || length > buffer.remaining()) {
+					break;
+				}
+				int start = buffer.position();
+				byte[] key = new byte[buffer.getInt()];
+				buffer.get(key);
+				index.put(new String(key, StandardCharsets.UTF_8), Integer.valueOf(buffer.position()));
+				buffer.position(start + length);
+				end = buffer.position();
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			// incomplete last entry, ignore it
+		}
+		return end;
+	}
+
+	private static ImageData readImageData(ByteBuffer buffer) {
+		if (buffer.get() == ABSENT) {
+			return null;
+		}
+		int width = buffer.getInt();
+		int height = buffer.getInt();
+		int depth = buffer.getInt();
+		int scanlinePad = buffer.getInt();
+		PaletteData palette;
+		if (buffer.get() != 0) {
+			palette = new PaletteData(buffer.getInt(), buffer.getInt(), buffer.getInt());
+		} else {
+			RGB[] colors = new RGB[buffer.getInt()];
+			for (int i = 0; i < colors.length; i++) {
+				colors[i] = new RGB(buffer.get() & 0xFF, buffer.get() & 0xFF, buffer.get() & 0xFF);
+			}
+			palette = new PaletteData(colors);
+		}
+		ImageData data = new ImageData(width, height, depth, palette, scanlinePad, readBytes(buffer));
+		data.transparentPixel = buffer.getInt();
+		data.maskPad = buffer.getInt();
+		data.maskData = readBytes(buffer);
+		data.alpha = buffer.getInt();
+		data.alphaData = readBytes(buffer);
+		data.type = buffer.getInt();
+		data.x = buffer.getInt();
+		data.y = buffer.getInt();
+		data.disposalMethod = buffer.getInt();
+		data.delayTime = buffer.getInt();
+		return data;
+	}
+
+	private static byte[] readBytes(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	private static byte[] writeImageData(ImageData data) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(data == null ? 1 : data.data.length + 128);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			if (data == null) {
+				out.writeByte(ABSENT);
+			} else {
+				out.writeByte(IMAGE);
+				out.writeInt(data.width);
+				out.writeInt(data.height);
+				out.writeInt(data.depth);
+				out.writeInt(data.scanlinePad);
+				PaletteData palette = data.palette;
+				out.writeBoolean(palette.isDirect);
+				if (palette.isDirect) {
+					out.writeInt(palette.redMask);
+					out.writeInt(palette.greenMask);
+					out.writeInt(palette.blueMask);
+				} else {
+					out.writeInt(palette.colors.length);
+					for (RGB color : palette.colors) {
+						out.writeByte(color.red);
+						out.writeByte(color.green);
+						out.writeByte(color.blue);
+					}
+				}
+				writeBytes(out, data.data);
+				out.writeInt(data.transparentPixel);
+				out.writeInt(data.maskPad);
+				writeBytes(out, data.maskData);
+				out.writeInt(data.alpha);
+				writeBytes(out, data.alphaData);
+				out.writeInt(data.type);
+				out.writeInt(data.x);
+				out.writeInt(data.y);
+				out.writeInt(data.disposalMethod);
+				out.writeInt(data.delayTime);
+			}
+		} catch (IOException e) {
+			// not thrown by a ByteArrayOutputStream
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(-1);
+		} else {
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static void writeEntry(DataOutputStream out, String key, byte[] entry) throws IOException {
+		byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(4 + keyBytes.length + entry.length);
+		out.writeInt(keyBytes.length);
+		out.write(keyBytes);
+		out.write(entry);
+	}
+
+	/**
+	 * Writes the entries added since the cache was opened and closes it. The
+	 * cache decodes all image data afterwards.
+	 */
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (added.isEmpty() && validSize == (mapped == null ? 0 : mapped.capacity())) {
+			return;
+		}
+		try {
+			if (mapped != null && validSize > 0 && validSize == mapped.capacity()
+					&& validSize + addedSize.get() <= MAX_SIZE) {
+				append();
+			} else {
+				rewrite();
+			}
+		} catch (IOException e) {
+			log("Unable to write the image data cache " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	private void append() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			for (Map.Entry<String, byte[]> entry : added.entrySet()) {
+				writeEntry(out, entry.getKey(), entry.getValue());
+			}
+		}
+		Files.write(file.toPath(), bytes.toByteArray(), StandardOpenOption.APPEND);
+	}
+
+	/**
+	 * Writes the used and the added entries to a new file. The new file
+	 * replaces the cache file right away if the cache file is not mapped, and
+	 * when the cache is opened again otherwise.
+	 */
+	private void rewrite() throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File temp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			for (String key : used) {
+				Integer position = index.get(key);
+				if (position == null || added.containsKey(key)) {
+					continue;
+				}
+				ByteBuffer buffer = mapped.duplicate();
+				buffer.position(position.intValue());
+				// the length of the entry precedes the key
+				byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+				int start = position.intValue() - keyBytes.length - 4;
+				int length = mapped.getInt(start - 4);
+				byte[] entry = new byte[length - 4 - keyBytes.length];
+				buffer.get(entry);
+				writeEntry(out, key, entry);
+			}
+			for (Map.Entry<String, byte[]> entry : added.entrySet()) {
+				writeEntry(out, entry.getKey(), entry.getValue());
+			}
+		}
+		// the mapping is only released once the buffer is garbage collected
+		File target = mapped == null ? file : getRewrittenFile(file);
+		Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static File getRewrittenFile(File file) {
+		return new File(file.getPath() + ".new"); //$NON-NLS-1$
+	}
+
+	private static void log(String message, Exception e) {
+		Policy.getLog().log(new Status(IStatus.WARNING, Policy.JFACE, message, e));
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public int size() {
+		int size = added.size();
+		for (String key : index.keySet()) {
+			if (!added.containsKey(key)) {
+				size++;
+			}
+		}
+		return size;
+	}
+}
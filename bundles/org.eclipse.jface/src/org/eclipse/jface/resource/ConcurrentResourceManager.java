@@ -0,0 +1,404 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.resource;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageDataProvider;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * A resource manager that can be used from any thread. Like a
+ * {@link DeviceResourceManager}, it maintains reference counts for the
+ * resources it allocates for a display, but the reference counts are kept in a
+ * concurrent map and updated without locking.
+ * <p>
+ * The SWT resources are always created on the UI thread. When a resource is
+ * requested from another thread, the calling thread blocks until the UI thread
+ * has created it. The image data of an image read from a URL or a file is
+ * decoded on the calling thread first, so that only the creation of the image
+ * handle runs on the UI thread. Other descriptors may need the UI thread to
+ * compute their image data, and create their resource on the UI thread.
+ * Resources released from another thread are disposed asynchronously on the UI
+ * thread.
+ * </p>
+ * <p>
+ * The manager counts the live resources and how often a requested resource
+ * was already allocated, see {@link #getLiveResourceCount()} and
+ * {@link #getHitRate()}. A live resource count that keeps growing points to
+ * resources that are created but never destroyed.
+ * </p>
+ * <p>
+ * {@link #dispose()} must be called on the UI thread, once no other thread
+ * uses the manager anymore.
+ * </p>
+ *
+ * @see LocalResourceManager
+ *
+ * @since 3.16
+ */
+public final class ConcurrentResourceManager extends ResourceManager {
+
+	private final Display display;
+
+	private final ConcurrentHashMap<DeviceResourceDescriptor, RefCount> map = new ConcurrentHashMap<>();
+
+	private final AtomicInteger liveResources = new AtomicInteger();
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * The zoom SWT last asked image data for, the image data of new images is
+	 * decoded for this zoom off the UI thread.
+	 */
+	private volatile int zoom = 100;
+
+	private volatile Image missingImage;
+
+	/**
+	 * Holds a reference count for a resource, and the resource once it has been
+	 * allocated on the UI thread.
+	 */
+	private static final class RefCount {
+		private final AtomicInteger count = new AtomicInteger(1);
+		private Object resource;
+		private RuntimeException failure;
+		private boolean done;
+
+		/**
+		 * @return <code>false</code> if the last reference has been released
+		 */
+		boolean acquire() {
+			int current;
+			do {
+				current = count.get();
+				if (current <= 0) {
+					return false;
+				}
+			} while (!count.compareAndSet(current, current + 1));
+			return true;
+		}
+
+		/**
+		 * @return <code>true</code> if this was the last reference
+		 */
+		boolean release() {
+			return count.decrementAndGet() == 0;
+		}
+
+		/**
+		 * Allocates the resource unless it has been allocated already. Must be
+		 * called on the UI thread.
+		 */
+		synchronized void allocate(Supplier<Object> factory) {
+			if (done) {
+				return;
+			}
+			try {
+				resource = factory.get();
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+			done = true;
+			notifyAll();
+		}
+
+		synchronized void fail(RuntimeException e) {
+			if (done) {
+				return;
+			}
+			failure = e;
+			done = true;
+			notifyAll();
+		}
+
+		/**
+		 * Waits for the resource to be allocated.
+		 */
+		synchronized Object await() {
+			boolean interrupted = false;
+			while (!done) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return resource;
+		}
+
+		/**
+		 * @return the resource or <code>null</code> if not allocated yet
+		 */
+		synchronized Object getNow() {
+			return resource;
+		}
+	}
+
+	/**
+	 * Provides the image data decoded when the image was requested, then
+	 * decodes the image data again when SWT needs it for another zoom.
+	 */
+	private final class DecodedImageDataProvider implements ImageDataProvider {
+		private final ImageDescriptor descriptor;
+		private final int decodedZoom;
+		private ImageData decoded;
+
+		DecodedImageDataProvider(ImageDescriptor descriptor) {
+			this.descriptor = descriptor;
+			decodedZoom = zoom;
+			decoded = descriptor.getImageData(decodedZoom);
+		}
+
+		@Override
+		public ImageData getImageData(int requestedZoom) {
+			zoom = requestedZoom;
+			ImageData data = decoded;
+			if (data != null && requestedZoom == decodedZoom) {
+				// only used once, don't keep it alive with the image
+				decoded = null;
+				return data;
+			}
+			return descriptor.getImageData(requestedZoom);
+		}
+	}
+
+	/**
+	 * Creates a new resource manager for the given display.
+	 *
+	 * @param display display to manage the resources of
+	 */
+	public ConcurrentResourceManager(Display display) {
+		Assert.isNotNull(display);
+		this.display = display;
+	}
+
+	@Override
+	public Device getDevice() {
+		return display;
+	}
+
+	@Override
+	public Object create(DeviceResourceDescriptor descriptor) throws DeviceResourceException {
+		while (true) {
+			RefCount count = map.get(descriptor);
+			if (count == null) {
+				RefCount newCount = new RefCount();
+				count = map.putIfAbsent(descriptor, newCount);
+				if (count == null) {
+					misses.increment();
+					return allocate(descriptor, newCount, true);
+				}
+			}
+			if (count.acquire()) {
+				hits.increment();
+				return allocate(descriptor, count, false);
+			}
+			// the last reference was released concurrently, help removing it
+			map.remove(descriptor, count);
+		}
+	}
+
+	/**
+	 * Returns the resource of the reference count. The UI thread allocates it
+	 * if that hasn't happened yet, the thread that added the reference count
+	 * prepares the allocation and has it run on the UI thread, other threads
+	 * wait for one of them.
+	 */
+	private Object allocate(DeviceResourceDescriptor descriptor, RefCount count, boolean first) {
+		try {
+			if (Display.getCurrent() == display) {
+				count.allocate(() -> createResource(descriptor, null));
+			} else if (first) {
+				DecodedImageDataProvider imageData = isDecodedOffUIThread(descriptor)
+						? new DecodedImageDataProvider((ImageDescriptor) descriptor)
+						: null;
+				display.syncExec(() -> count.allocate(() -> createResource(descriptor, imageData)));
+			}
+		} catch (RuntimeException e) {
+			// the display is disposed or the image data cannot be decoded
+			count.fail(e);
+		}
+		try {
+			return count.await();
+		} catch (RuntimeException e) {
+			map.remove(descriptor, count);
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns whether the image data of a descriptor can be decoded on any
+	 * thread and the image created from it. This is the case for the images
+	 * read from a URL or a file, which do not override
+	 * {@link ImageDescriptor#createResource(Device)}. Other descriptors, e.g.
+	 * for disabled images, read their image data from an image created on the
+	 * UI thread or create their resource differently.
+	 */
+	private static boolean isDecodedOffUIThread(DeviceResourceDescriptor descriptor) {
+		return descriptor instanceof URLImageDescriptor || descriptor instanceof FileImageDescriptor;
+	}
+
+	private Object createResource(DeviceResourceDescriptor descriptor, DecodedImageDataProvider imageData) {
+		Object resource;
+		if (imageData == null) {
+			resource = descriptor.createResource(display);
+		} else {
+			try {
+				resource = new Image(display, imageData);
+			} catch (IllegalArgumentException | SWTException e) {
+				throw new DeviceResourceException(descriptor, e);
+			}
+		}
+		liveResources.incrementAndGet();
+		return resource;
+	}
+
+	@Override
+	public void destroy(DeviceResourceDescriptor descriptor) {
+		RefCount count = map.get(descriptor);
+		if (count != null && count.release()) {
+			map.remove(descriptor, count);
+			Object resource = count.getNow();
+			if (resource != null) {
+				deallocate(descriptor, resource);
+			}
+		}
+	}
+
+	private void deallocate(DeviceResourceDescriptor descriptor, Object resource) {
+		liveResources.decrementAndGet();
+		if (Display.getCurrent() == display) {
+			descriptor.destroyResource(resource);
+		} else if (!display.isDisposed()) {
+			try {
+				display.asyncExec(() -> descriptor.destroyResource(resource));
+			} catch (SWTException e) {
+				// disposed meanwhile, which disposed the resource too
+			}
+		}
+	}
+
+	@Override
+	public Object find(DeviceResourceDescriptor descriptor) {
+		RefCount count = map.get(descriptor);
+		if (count == null) {
+			return null;
+		}
+		return count.getNow();
+	}
+
+	@Override
+	protected Image getDefaultImage() {
+		Image image = missingImage;
+		if (image == null) {
+			// created on the UI thread only, so created once
+			Runnable createMissingImage = () -> {
+				if (missingImage == null) {
+					missingImage = ImageDescriptor.getMissingImageDescriptor().createImage(display);
+				}
+			};
+			if (Display.getCurrent() == display) {
+				createMissingImage.run();
+			} else {
+				display.syncExec(createMissingImage);
+			}
+			image = missingImage;
+		}
+		return image;
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		for (Iterator<Entry<DeviceResourceDescriptor, RefCount>> iterator = map.entrySet().iterator(); iterator
+				.hasNext();) {
+			Entry<DeviceResourceDescriptor, RefCount> next = iterator.next();
+			iterator.remove();
+			Object resource = next.getValue().getNow();
+			if (resource != null) {
+				liveResources.decrementAndGet();
+				next.getKey().destroyResource(resource);
+			}
+		}
+		Image image = missingImage;
+		if (image != null) {
+			image.dispose();
+			missingImage = null;
+		}
+	}
+
+	/**
+	 * Returns the number of resources currently allocated by this manager.
+	 *
+	 * @return the number of live resources
+	 */
+	public int getLiveResourceCount() {
+		return liveResources.get();
+	}
+
+	/**
+	 * Returns how often a requested resource was allocated already.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns how often a requested resource had to be allocated.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the ratio of the requests for a resource that was allocated
+	 * already to all requests.
+	 *
+	 * @return the cache hit rate between 0 and 1, 0 if nothing was requested
+	 */
+	public double getHitRate() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrentResourceManager [live=" + getLiveResourceCount() + ", hits=" + getHitCount() //$NON-NLS-1$ //$NON-NLS-2$
+				+ ", misses=" + getMissCount() + ']'; //$NON-NLS-1$
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -102,10 +103,22 @@ class FileImageDescriptor extends ImageDescriptor {
 	 * <p>
 	 * The FileImageDescriptor implementation of this method is not used by
 	 * {@link ImageDescriptor#createImage(boolean, Device)} as of version
-	 * 3.4 so that the SWT OS optimised loading can be used.
+	 * 3.4 so that the SWT OS optimised loading can be used, unless the image
+	 * data is cached.
 	 */
 	@Override
 	public ImageData getImageData(int zoom) {
+		ImageDataCache cache = ImageDataCache.getDefault();
+		if (cache != null && location != null) {
+			URL url = location.getResource(name);
+			if (url != null) {
+				return cache.getImageData(url, zoom, () -> decodeImageData(zoom));
+			}
+		}
+		return decodeImageData(zoom);
+	}
+
+	private ImageData decodeImageData(int zoom) {
 		InputStream in = getStream(zoom);
 		ImageData result = null;
 		if (in != null) {
@@ -200,6 +213,10 @@ class FileImageDescriptor extends ImageDescriptor {
 
 	@Override
 	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		if (ImageDataCache.getDefault() != null && location != null) {
+			// use the cached image data instead of loading the files
+			return super.createImage(returnMissingImageOnError, device);
+		}
 		if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
 			try {
 				return new Image(device, new ImageProvider());
@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
@@ -74,6 +75,10 @@ class URLImageDescriptor extends ImageDescriptor {
 			if (tempURL != null) {
 				URL xUrl = getxURL(tempURL, zoom);
 				if (xUrl != null) {
+					ImageDataCache cache = ImageDataCache.getDefault();
+					if (cache != null) {
+						return cache.getImageData(tempURL, zoom, () -> URLImageDescriptor.getImageData(xUrl));
+					}
 					return URLImageDescriptor.getImageData(xUrl);
 				}
 			}
@@ -110,7 +115,7 @@ class URLImageDescriptor extends ImageDescriptor {
 	@Deprecated
 	@Override
 	public ImageData getImageData() {
-		return getImageData(getURL(url));
+		return getImageData(100);
 	}
 
 	@Override
@@ -258,8 +263,10 @@ class URLImageDescriptor extends ImageDescriptor {
 		}
 		try {
 
+			// the cached image data is used instead of loading the files
+			boolean cached = ImageDataCache.getDefault() != null;
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
-				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY && !cached) {
 					try {
 						return new Image(device, new URLImageFileNameProvider(url));
 					} catch (SWTException exception) {
@@ -289,7 +296,7 @@ class URLImageDescriptor extends ImageDescriptor {
 				return image;
 
 			}
-			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY || cached) {
 				return super.createImage(returnMissingImageOnError, device);
 			}
 
@@ -535,6 +535,9 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (comparator == null) {
 			return doGetItemCount();
 		}
+		if (usesSortKeys()) {
+			return indexForSortKey(SortKey.create(this, comparator, element), -1);
+		}
 		int count = doGetItemCount();
 		int min = 0, max = count - 1;
 		while (min <= max) {
@@ -562,6 +565,52 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		return min;
 	}
 
+	/**
+	 * Returns the index of the first item whose element is greater than the
+	 * element of the given sort key, using the sort keys cached on the items.
+	 *
+	 * @param key
+	 *            the sort key of the element to insert
+	 * @param skip
+	 *            the index of an item to ignore, or <code>-1</code>
+	 * @return the index where the item should be inserted once the ignored
+	 *         item is removed
+	 */
+	private int indexForSortKey(SortKey key, int skip) {
+		ViewerComparator comparator = getComparator();
+		int count = skip == -1 ? doGetItemCount() : doGetItemCount() - 1;
+		int min = 0, max = count - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			Item item = doGetItem(skip == -1 || mid < skip ? mid : mid + 1);
+			if (SortKey.get(this, comparator, item).compareTo(key) <= 0) {
+				min = mid + 1;
+			} else {
+				max = mid - 1;
+			}
+		}
+		return min;
+	}
+
+	@Override
+	boolean internalMoveSorted(Widget widget, Object element) {
+		if (virtualManager != null || !(widget instanceof Item)) {
+			return false;
+		}
+		applyEditorValue();
+		Item item = (Item) widget;
+		int index = doIndexOf(item);
+		int newIndex = indexForSortKey(SortKey.create(this, getComparator(), element), index);
+		if (newIndex == index) {
+			updateItem(item, element);
+		} else {
+			disassociate(item);
+			doRemove(new int[] { index });
+			createItem(element, newIndex);
+		}
+		return true;
+	}
+
 	@Override
 	protected void inputChanged(Object input, Object oldInput) {
 		getControl().setRedraw(false);
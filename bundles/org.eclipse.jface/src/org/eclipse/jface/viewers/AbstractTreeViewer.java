@@ -272,7 +272,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			// TODO: Add filtering back?
 			Object[] filtered = filter(parentElementOrTreePath, childElements);
 			ViewerComparator comparator = getComparator();
-			if (comparator != null) {
+			if (comparator != null && usesSortKeys()) {
+				SortKey.sort(this, comparator, filtered);
+			} else if (comparator != null) {
 				if (comparator instanceof TreePathViewerSorter) {
 					TreePathViewerSorter tpvs = (TreePathViewerSorter) comparator;
 					if (path == null) {
@@ -373,11 +375,14 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		// Count of elements we have added. See bug 205700 for why this is needed.
 		int newItems = 0;
 
+		boolean useSortKeys = usesSortKeys();
+
 		elementloop: for (int i = 0; i < elements.length; i++) {
 			Object element = elements[i];
+			SortKey key = useSortKeys ? SortKey.create(this, comparator, element) : null;
 			// update the index relative to the original item array
 			indexInItems = insertionPosition(items, comparator,
-					indexInItems, element, parentPath);
+					indexInItems, element, key, parentPath);
 			if (indexInItems == items.length) {
 				createTreeItem(widget, element, -1);
 				newItems++;
@@ -389,9 +394,11 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				// elements that compare equally, see
 				// TreeViewerTestBug205700.testAddEquallySortedElements.
 				int insertionIndexInItems = indexInItems;
-				while( insertionIndexInItems < items.length
-						&& internalCompare(comparator, parentPath, element,
-								items[insertionIndexInItems].getData()) == 0) {
+				while (insertionIndexInItems < items.length
+						&& (key != null
+								? SortKey.get(this, comparator, items[insertionIndexInItems]).compareTo(key)
+								: internalCompare(comparator, parentPath, element,
+										items[insertionIndexInItems].getData())) == 0) {
 					// As we cannot assume the sorter is consistent with
 					// equals() - therefore we can
 					// just check against the item prior to this index (if
@@ -463,6 +470,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 *            themselves.
 	 * @param element
 	 *            element to find position for.
+	 * @param key
+	 *            the sort key of the element, or <code>null</code> to compare
+	 *            the elements with the comparator
 	 * @param parentPath
 	 *            the tree path for the element's parent or <code>null</code>
 	 *            if the element is a root element or the sorter is not a
@@ -472,7 +482,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 
 	private int insertionPosition(Item[] items, ViewerComparator comparator,
-			int lastInsertion, Object element, TreePath parentPath) {
+			int lastInsertion, Object element, SortKey key, TreePath parentPath) {
 
 		int size = items.length;
 		if (comparator == null) {
@@ -482,8 +492,13 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 
 		while (min <= max) {
 			int mid = (min + max) / 2;
-			Object data = items[mid].getData();
-			int compare = internalCompare(comparator, parentPath, data, element);
+			int compare;
+			if (key != null) {
+				compare = SortKey.get(this, comparator, items[mid]).compareTo(key);
+			} else {
+				Object data = items[mid].getData();
+				compare = internalCompare(comparator, parentPath, data, element);
+			}
 			if (compare == 0) {
 				return mid;// Return if we already match
 			}
@@ -537,6 +552,9 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		if (comparator == null) {
 			return count;
 		}
+		if (usesSortKeys()) {
+			return indexForSortKey(items, SortKey.create(this, comparator, element));
+		}
 		int min = 0, max = count - 1;
 
 		while (min <= max) {
@@ -565,6 +583,24 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		return min;
 	}
 
+	/**
+	 * Returns the index of the first item whose element is greater than the
+	 * element of the given sort key, using the sort keys cached on the items.
+	 */
+	private int indexForSortKey(Item[] items, SortKey key) {
+		ViewerComparator comparator = getComparator();
+		int min = 0, max = items.length - 1;
+		while (min <= max) {
+			int mid = (min + max) >>> 1;
+			if (SortKey.get(this, comparator, items[mid]).compareTo(key) <= 0) {
+				min = mid + 1;
+			} else {
+				max = mid - 1;
+			}
+		}
+		return min;
+	}
+
 	/**
 	 * Return the tree path that should be used as the parent path for the given
 	 * widget and sorter. A <code>null</code> is returned if either the sorter
@@ -620,7 +656,12 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	protected Object[] getSortedChildren(Object parentElementOrTreePath) {
 		Object[] result = getFilteredChildren(parentElementOrTreePath);
 		ViewerComparator comparator = getComparator();
-		if (parentElementOrTreePath != null
+		if (comparator != null && usesSortKeys()) {
+			// be sure we're not modifying the original array from the model
+			result = result.clone();
+			// the sort keys don't depend on the parent path
+			SortKey.sort(this, comparator, result);
+		} else if (parentElementOrTreePath != null
 				&& comparator instanceof TreePathViewerSorter) {
 			TreePathViewerSorter tpvs = (TreePathViewerSorter) comparator;
 
@@ -1936,6 +1977,31 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Moves the element among its siblings by updating the children of its
+	 * parent only, then updates the labels of the element.
+	 */
+	@Override
+	boolean internalMoveSorted(Widget widget, Object element) {
+		if (!(widget instanceof Item)) {
+			return false;
+		}
+		Item parentItem = getParentItem((Item) widget);
+		Widget parent = parentItem == null ? getControl() : parentItem;
+		Object parentElement = parentItem == null ? getRoot() : parentItem.getData();
+		if (parentElement == null) {
+			return false;
+		}
+		internalRefreshStruct(parent, parentElement, false);
+		for (Item item : getChildren(parent)) {
+			if (item.getData() == element) {
+				updateItem(item, element);
+				break;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Update the structure and recurse. Items are updated in updateChildren, as
 	 * needed.
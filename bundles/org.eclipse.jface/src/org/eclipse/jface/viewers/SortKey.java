@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.swt.widgets.Item;
+
+/**
+ * The values the default {@link ViewerComparator#compare(Viewer, Object, Object)}
+ * compares an element by: its category and its label. The label is kept as a
+ * {@link CollationKey} if the comparator sorts strings with a {@link Collator}.
+ * Comparing the keys of two elements gives the same result as comparing the
+ * elements, but the category and label of an element are computed only once.
+ * <p>
+ * A viewer in incremental sorting mode keeps the key of an element on its item
+ * until the item shows another element or its labels are updated.
+ * </p>
+ *
+ * @see StructuredViewer#setIncrementalSorting(boolean)
+ * @since 3.16
+ */
+final class SortKey {
+
+	private static final String ITEM_DATA_KEY = "org.eclipse.jface.viewers.SortKey"; //$NON-NLS-1$
+
+	/**
+	 * Whether a comparator class sorts with the default implementations of
+	 * <code>compare</code> and <code>sort</code>.
+	 */
+	private static final ClassValue<Boolean> DEFAULT_COMPARE = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				if (type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() != ViewerComparator.class
+						|| type.getMethod("sort", Viewer.class, Object[].class) //$NON-NLS-1$
+								.getDeclaringClass() != ViewerComparator.class) {
+					return Boolean.FALSE;
+				}
+				if (TreePathViewerSorter.class.isAssignableFrom(type)) {
+					return Boolean.valueOf(type
+							.getMethod("compare", Viewer.class, TreePath.class, Object.class, Object.class) //$NON-NLS-1$
+							.getDeclaringClass() == TreePathViewerSorter.class
+							&& type.getMethod("category", TreePath.class, Object.class) //$NON-NLS-1$
+									.getDeclaringClass() == TreePathViewerSorter.class
+							&& type.getMethod("sort", Viewer.class, TreePath.class, Object[].class) //$NON-NLS-1$
+									.getDeclaringClass() == TreePathViewerSorter.class);
+				}
+				return Boolean.TRUE;
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	private final Object element;
+
+	private final ViewerComparator comparator;
+
+	private final int category;
+
+	/** The label as a <code>String</code> or a <code>CollationKey</code>. */
+	private final Object label;
+
+	private SortKey(Viewer viewer, ViewerComparator comparator, Object element) {
+		this.element = element;
+		this.comparator = comparator;
+		category = comparator.category(element);
+		String text = comparator.getLabel(viewer, element);
+		Comparator<? super String> stringComparator = comparator.getComparator();
+		if (stringComparator instanceof Collator) {
+			label = ((Collator) stringComparator).getCollationKey(text);
+		} else {
+			label = text;
+		}
+	}
+
+	/**
+	 * Returns whether the elements sorted by the given comparator can be
+	 * compared by their keys.
+	 *
+	 * @param comparator
+	 *            the comparator
+	 * @return <code>true</code> if the comparator does not override how
+	 *         elements are compared or sorted
+	 */
+	static boolean isSupported(ViewerComparator comparator) {
+		return DEFAULT_COMPARE.get(comparator.getClass()).booleanValue();
+	}
+
+	/**
+	 * Creates the key of an element.
+	 *
+	 * @param viewer
+	 *            the viewer providing the label of the element
+	 * @param comparator
+	 *            a comparator for which {@link #isSupported(ViewerComparator)}
+	 *            returns <code>true</code>
+	 * @param element
+	 *            the element
+	 * @return the key
+	 */
+	static SortKey create(Viewer viewer, ViewerComparator comparator, Object element) {
+		return new SortKey(viewer, comparator, element);
+	}
+
+	/**
+	 * Returns the key of the element shown by the item, creating it if the item
+	 * holds no key for its element.
+	 *
+	 * @param viewer
+	 *            the viewer of the item
+	 * @param comparator
+	 *            a comparator for which {@link #isSupported(ViewerComparator)}
+	 *            returns <code>true</code>
+	 * @param item
+	 *            the item
+	 * @return the key
+	 */
+	static SortKey get(Viewer viewer, ViewerComparator comparator, Item item) {
+		Object element = item.getData();
+		Object key = item.getData(ITEM_DATA_KEY);
+		if (key instanceof SortKey) {
+			SortKey sortKey = (SortKey) key;
+			if (sortKey.element == element && sortKey.comparator == comparator) {
+				return sortKey;
+			}
+		}
+		SortKey sortKey = new SortKey(viewer, comparator, element);
+		item.setData(ITEM_DATA_KEY, sortKey);
+		return sortKey;
+	}
+
+	/**
+	 * Removes the key held by the item, if any.
+	 *
+	 * @param item
+	 *            the item
+	 */
+	static void clear(Item item) {
+		if (item.getData(ITEM_DATA_KEY) != null) {
+			item.setData(ITEM_DATA_KEY, null);
+		}
+	}
+
+	/**
+	 * Sorts the elements in-place by their keys, the same way
+	 * {@link ViewerComparator#sort(Viewer, Object[])} sorts them.
+	 *
+	 * @param viewer
+	 *            the viewer providing the labels of the elements
+	 * @param comparator
+	 *            a comparator for which {@link #isSupported(ViewerComparator)}
+	 *            returns <code>true</code>
+	 * @param elements
+	 *            the elements to sort
+	 */
+	static void sort(Viewer viewer, ViewerComparator comparator, Object[] elements) {
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			keys[i] = new SortKey(viewer, comparator, elements[i]);
+		}
+		Comparator<? super String> stringComparator = comparator.getComparator();
+		Arrays.sort(keys, (a, b) -> a.compareTo(b, stringComparator));
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
+
+	/**
+	 * Compares this key to another key created for the same comparator.
+	 *
+	 * @param other
+	 *            the other key
+	 * @return a negative number, zero, or a positive number if the element of
+	 *         this key is less than, equal to, or greater than the element of
+	 *         the other key
+	 */
+	int compareTo(SortKey other) {
+		return compareTo(other, comparator.getComparator());
+	}
+
+	private int compareTo(SortKey other, Comparator<? super String> stringComparator) {
+		if (category != other.category) {
+			return category - other.category;
+		}
+		if (label instanceof CollationKey && other.label instanceof CollationKey) {
+			return ((CollationKey) label).compareTo((CollationKey) other.label);
+		}
+		return stringComparator.compare(labelString(), other.labelString());
+	}
+
+	private String labelString() {
+		return label instanceof CollationKey ? ((CollationKey) label).getSourceString() : (String) label;
+	}
+}
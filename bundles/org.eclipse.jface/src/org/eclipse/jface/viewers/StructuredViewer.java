@@ -83,6 +83,13 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private ViewerComparator sorter;
 
+	/**
+	 * Whether the sort keys of the elements are cached on their items.
+	 *
+	 * @see #setIncrementalSorting(boolean)
+	 */
+	private boolean incrementalSorting;
+
 	/**
 	 * This viewer's filters (element type: <code>ViewerFilter</code>).
 	 * <code>null</code> means there are no filters.
@@ -1081,11 +1088,23 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
 			result = result.clone();
-			sorter.sort(this, result);
+			if (usesSortKeys()) {
+				SortKey.sort(this, sorter, result);
+			} else {
+				sorter.sort(this, result);
+			}
 		}
 		return result;
 	}
 
+	/**
+	 * Returns whether this viewer is in incremental sorting mode and its
+	 * comparator compares elements by their sort keys.
+	 */
+	boolean usesSortKeys() {
+		return incrementalSorting && sorter != null && SortKey.isSupported(sorter);
+	}
+
 	/**
 	 * Returns this viewer's sorter, or <code>null</code> if it does not have
 	 * one.  If this viewer has a comparator that was set via
@@ -1318,6 +1337,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the corresponding widget
 	 */
 	protected void mapElement(Object element, Widget item) {
+		if (incrementalSorting && item instanceof Item) {
+			// the item shows a new element or updates its labels
+			SortKey.clear((Item) item);
+		}
 		if (elementMap != null) {
 			Object widgetOrWidgets = elementMap.get(element);
 			if (widgetOrWidgets == null) {
@@ -1372,6 +1395,43 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		return false;
 	}
 
+	/**
+	 * Returns whether a change to the given properties of the given element
+	 * requires refiltering.
+	 */
+	private boolean isFilterProperty(Object element, String[] properties) {
+		if (filters != null) {
+			for (String property : properties) {
+				for (int i = 0, n = filters.size(); i < n; ++i) {
+					if (filters.get(i).isFilterProperty(element, property)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Moves the given element, whose change affects the sort order, to its
+	 * position in the sort order and updates its labels. Only called in
+	 * incremental sorting mode.
+	 * <p>
+	 * The default implementation returns <code>false</code>, table and tree
+	 * viewers move the element.
+	 * </p>
+	 *
+	 * @param widget
+	 *            the widget for the element
+	 * @param element
+	 *            the element
+	 * @return <code>true</code> if the element was moved, <code>false</code>
+	 *         if the viewer has to be refreshed instead
+	 */
+	boolean internalMoveSorted(Widget widget, Object element) {
+		return false;
+	}
+
 	/**
 	 * Returns a new hashtable using the given capacity and this viewer's element comparer.
 	 *
@@ -1804,6 +1864,47 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Sets whether this viewer sorts its elements incrementally.
+	 * <p>
+	 * Sorting compares elements with
+	 * {@link ViewerComparator#compare(Viewer, Object, Object)}, which computes
+	 * the category and label of both elements again for every comparison. In
+	 * incremental sorting mode, if the comparator does not override
+	 * <code>compare</code> or <code>sort</code>, the category and label of an
+	 * element are computed once into a sort key. Table and tree viewers keep
+	 * the sort key of an element on its item, so an added element is inserted
+	 * at the position found by a binary search over the existing sort keys.
+	 * An element whose change affects the sort order, see
+	 * {@link #update(Object, String[])}, is moved to its new position instead
+	 * of sorting all elements again.
+	 * </p>
+	 * <p>
+	 * A sort key is computed again when the labels of its element are updated.
+	 * Clients must therefore update or refresh an element whenever its
+	 * category or label changes. The mode is off by default.
+	 * </p>
+	 *
+	 * @param incremental
+	 *            <code>true</code> to sort incrementally, <code>false</code>
+	 *            to compare elements with the comparator
+	 * @since 3.16
+	 */
+	public void setIncrementalSorting(boolean incremental) {
+		this.incrementalSorting = incremental;
+	}
+
+	/**
+	 * Returns whether this viewer sorts its elements incrementally.
+	 *
+	 * @return <code>true</code> if this viewer sorts incrementally
+	 * @see #setIncrementalSorting(boolean)
+	 * @since 3.16
+	 */
+	public boolean isIncrementalSorting() {
+		return incrementalSorting;
+	}
+
 	/**
 	 * Configures whether this structured viewer uses an internal hash table to
 	 * speeds up the mapping between elements and SWT items. This must be called
@@ -2119,6 +2220,14 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 			}
 		}
 		if (needsRefilter) {
+			if (usesSortKeys() && !isFilterProperty(element, properties)) {
+				// only the position of the element changes
+				boolean[] moved = new boolean[1];
+				preservingSelection(() -> moved[0] = internalMoveSorted(widget, element));
+				if (moved[0]) {
+					return;
+				}
+			}
 			preservingSelection(() -> {
 				internalRefresh(getRoot());
 				refreshOccurred = true;
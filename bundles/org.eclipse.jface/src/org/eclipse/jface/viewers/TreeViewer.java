@@ -708,6 +708,14 @@ public class TreeViewer extends AbstractTreeViewer {
 		}
 	}
 
+	@Override
+	boolean internalMoveSorted(Widget widget, Object element) {
+		if (contentProviderIsLazy) {
+			return false;
+		}
+		return super.internalMoveSorted(widget, element);
+	}
+
 	/*
 	 * To unmap elements correctly, we need to register a dispose listener with
 	 * the item if the tree is virtual.
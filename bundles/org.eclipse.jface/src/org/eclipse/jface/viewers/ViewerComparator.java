@@ -141,7 +141,7 @@ public class ViewerComparator {
         return getComparator().compare(name1, name2);
     }
 
-	private String getLabel(Viewer viewer, Object e1) {
+	String getLabel(Viewer viewer, Object e1) {
 		String name1;
 		if (viewer == null || !(viewer instanceof ContentViewer)) {
 			name1 = e1.toString();
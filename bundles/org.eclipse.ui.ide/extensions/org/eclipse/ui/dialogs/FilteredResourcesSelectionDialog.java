@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -422,6 +422,15 @@ public class FilteredResourcesSelectionDialog extends
 		super.applyFilter();
 	}
 
+	/**
+	 * The resource filter and the resource comparator have no mutable state, so
+	 * resources are filtered and sorted in parallel.
+	 */
+	@Override
+	protected boolean isParallelFilteringSupported() {
+		return true;
+	}
+
 	@Override
 	protected Comparator getItemsComparator() {
 		final String pattern;
@@ -45,7 +45,7 @@ public class CachedMarkerBuilder {
 
 	// The MarkerContentGenerator we are using for building
 	private MarkerContentGenerator generator;
-	private MarkerUpdateJob updateJob;
+	private IncrementUpdateJob updateJob;
 	private MarkersChangeListener markerListener;
 	private MarkerUpdateScheduler scheduler;
 
@@ -131,9 +131,9 @@ public class CachedMarkerBuilder {
 			PlatformUI.getWorkbench().getWorkingSetManager().removePropertyChangeListener(getWorkingSetListener());
 		}
 
-		if (isIncremental()) {
-			if (incrementJob != null) {
-				incrementJob.clearEntries();
+		synchronized (getUpdateScheduler().getSchedulingLock()) {
+			if (updateJob != null) {
+				updateJob.clearUpdates();
 			}
 		}
 	}
@@ -452,11 +452,7 @@ public class CachedMarkerBuilder {
 				// ensure cancellation before calling the method
 				// updateJob.cancel();
 			} else {
-				/*
-				 * updateJob = isIncremental() ? new IncrementUpdateJob(this):
-				 * new MarkerUpdateJob(this);
-				 */
-				updateJob = new MarkerUpdateJob(this);
+				updateJob = new IncrementUpdateJob(this);
 				updateJob.setPriority(Job.LONG);
 				updateJob.setSystem(true);
 			}
@@ -598,22 +594,6 @@ public class CachedMarkerBuilder {
 	}
 
 ///////	<Incremental update code>///////
-		private IncrementUpdateJob incrementJob;
-	/**
-	 * Checks whether the builder should perform incrementally Note : Incremental
-	 * updating method is NOT used and tested yet but left out for further
-	 * investigation(*).
-	 *
-	 * @return Returns true if we should collect markers incrementally.
-	 */
-	boolean isIncremental() {
-		/*
-		 * We do not update incrementally. We have
-		 * code for further investigation(*) for this anyway.
-		 */
-		return false;
-	}
-
 	/**
 	 * @return Returns the changeFlags {added,removed,changed}.
 	 */
@@ -642,18 +622,17 @@ public class CachedMarkerBuilder {
 	}
 
 	/**
-	 * Handles an incremental update
+	 * Queues an incremental update, applied by the next run of the update job.
+	 * Before the first run, the markers gathered by it contain the change.
+	 *
 	 * @param update
 	 */
 	void incrementalUpdate(MarkerUpdate update) {
 		synchronized (getUpdateScheduler().getSchedulingLock()) {
-			if (incrementJob == null) {
-				scheduleUpdateJob(MarkerUpdateScheduler.SHORT_DELAY, true);
+			if (updateJob != null) {
+				updateJob.addUpdate(update);
 			}
 		}
-		if (incrementJob != null) {
-			incrementJob.addUpdate(update);
-		}
 	}
 ///////	</Incremental update code>///////
 
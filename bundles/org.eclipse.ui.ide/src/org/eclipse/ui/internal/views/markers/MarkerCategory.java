@@ -16,72 +16,62 @@ package org.eclipse.ui.internal.views.markers;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.osgi.util.NLS;
-import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.internal.MarkerMessages;
 
 class MarkerCategory extends MarkerSupportItem {
 
-	final int start;
+	private final MarkerEntry[] children;
 
-	final int end;
-
-	private volatile MarkerEntry[] children;
+	private volatile boolean parented;
 
 	private final String name;
 
+	private final long version;
+
 	private int severity = -1;
 
 	private final Markers markers;
 
 	/**
-	 * Create a new instance of the receiver that has the markers between
-	 * startIndex and endIndex showing.
+	 * Create a new instance of the receiver that has the given markers
+	 * showing.
 	 *
 	 * @param markers
-	 * @param startIndex
-	 * @param endIndex
-	 *            the builder used to generate the children lazily.
+	 * @param children
+	 *            the sorted entries of the category, not modified afterwards
+	 * @param categoryName
+	 * @param version
+	 *            the version of the markers that last changed the category
 	 */
-	MarkerCategory(Markers markers, int startIndex,
-			int endIndex, String categoryName) {
+	MarkerCategory(Markers markers, MarkerEntry[] children, String categoryName, long version) {
 		this.markers = markers;
-		start = startIndex;
-		end = endIndex;
-		name = categoryName;
+		this.children = children;
+		this.name = categoryName;
+		this.version = version;
 	}
 
 	@Override
 	MarkerSupportItem[] getChildren() {
-		MarkerEntry[] myChildren = children;
-		if (myChildren != null) {
-			return myChildren;
-		}
-		MarkerItem[] allMarkers = markers.getMarkerEntryArray();
-		int markersLength = allMarkers.length;
-		if (start >= markersLength || end >= markersLength) {
-			// NB: the array can be changed after our creation via
-			// markers::updateWithNewMarkers so that the expected array size doesn't match
-			// anymore to our start/end values. Just return nothing in this case and let the
-			// "children" be null to avoid persistence of inconsistent data
-			return new MarkerEntry[0];
-		}
-		int totalSize = getChildrenCount();
-		myChildren = new MarkerEntry[totalSize];
-		System.arraycopy(allMarkers, start, myChildren, 0, totalSize);
-		for (MarkerEntry markerEntry : myChildren) {
-			markerEntry.setCategory(this);
+		if (!parented) {
+			for (MarkerEntry markerEntry : children) {
+				markerEntry.setCategory(this);
+			}
+			parented = true;
 		}
-		children = myChildren;
-		return myChildren;
-	}
-
-	void resetChildren() {
-		children = null;
+		return children;
 	}
 
 	@Override
 	int getChildrenCount() {
-		return end - start + 1;
+		return children.length;
+	}
+
+	/**
+	 * @return the version of the markers that last changed the category
+	 * @see Markers#getVersion()
+	 */
+	long getVersion() {
+		return version;
 	}
 
 	@Override
@@ -201,10 +191,10 @@ class MarkerCategory extends MarkerSupportItem {
 		builder.append(name);
 		builder.append(", severity="); //$NON-NLS-1$
 		builder.append(severity);
-		builder.append(", start="); //$NON-NLS-1$
-		builder.append(start);
-		builder.append(", end="); //$NON-NLS-1$
-		builder.append(end);
+		builder.append(", size="); //$NON-NLS-1$
+		builder.append(children.length);
+		builder.append(", version="); //$NON-NLS-1$
+		builder.append(version);
 		builder.append(']');
 		return builder.toString();
 	}
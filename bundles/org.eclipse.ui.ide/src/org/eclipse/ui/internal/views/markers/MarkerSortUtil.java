@@ -417,4 +417,42 @@ public class MarkerSortUtil {
 		sortStartingKElement(entries, comparator, from, entries.length - 1, k,monitor);
 	}
 
+	/**
+	 * Merges sorted entries into a sorted array, in O(k*log(n)) comparisons for
+	 * k entries merged into n entries. An entry equal to entries of the array
+	 * is placed after them.
+	 *
+	 * @param entries
+	 *            the sorted entries
+	 * @param additions
+	 *            the sorted entries to add
+	 * @param comparator
+	 * @return a new sorted array with the entries of both arrays
+	 */
+	public static MarkerEntry[] merge(MarkerEntry[] entries, MarkerEntry[] additions,
+			Comparator<MarkerItem> comparator) {
+		MarkerEntry[] result = new MarkerEntry[entries.length + additions.length];
+		int from = 0;
+		int position = 0;
+		for (MarkerEntry addition : additions) {
+			// first entry greater than the addition
+			int low = from;
+			int high = entries.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (comparator.compare(entries[middle], addition) <= 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			System.arraycopy(entries, from, result, position, low - from);
+			position += low - from;
+			result[position++] = addition;
+			from = low;
+		}
+		System.arraycopy(entries, from, result, position, entries.length - from);
+		return result;
+	}
+
 }
\ No newline at end of file
@@ -125,7 +125,7 @@ class MarkerUpdateJob extends Job {
 		if (monitor.isCanceled()) {
 			return false;
 		}
-		return markers.updateWithNewMarkers(markerEntries, true, monitor);
+		return markers.updateWithNewMarkers(markerEntries, monitor);
 	}
 
 	@Override
@@ -158,10 +158,19 @@ class MarkerUpdateJob extends Job {
 	/**
 	 * Request a clean
 	 */
-	void setClean() {
+	synchronized void setClean() {
 		this.clean = true;
 	}
 
+	/**
+	 * @return Returns if a clean is requested, and clears the request.
+	 */
+	synchronized boolean takeClean() {
+		boolean requested = clean;
+		clean = false;
+		return requested;
+	}
+
 	/**
 	 * @return last update time
 	 */
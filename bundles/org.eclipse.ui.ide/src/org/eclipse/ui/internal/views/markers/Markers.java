@@ -21,14 +21,18 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
 import org.eclipse.ui.views.markers.MarkerItem;
 import org.eclipse.ui.views.markers.internal.MarkerGroup;
@@ -38,6 +42,13 @@ import org.eclipse.ui.views.markers.internal.MarkerMessages;
 /**
  * The Markers object contains the MarkerEntry(s) collected and updated by the
  * system, also maintains the categories that markers are grouped into.
+ * <p>
+ * The entries of each category are kept sorted, so that marker changes are
+ * merged into them with O(log(n)) comparisons per change instead of sorting
+ * and grouping all markers again. Every change increments the version of the
+ * markers and of the categories it touches, which lets the viewer refresh only
+ * the categories that changed.
+ * </p>
  *
  * @since 3.6
  *
@@ -52,13 +63,22 @@ class Markers {
 	// the categories
 	private volatile MarkerCategory[] categories = EMPTY_CATEGORY_ARRAY;
 
+	// incremented by every change of the markers
+	private volatile long version;
+	// the version of the last change that added, removed or reordered categories
+	private volatile long structureVersion;
+
 	private CachedMarkerBuilder builder;
 
 	private volatile boolean inChange;
 
-	// markerToEntryMap is a lazily created map from the markers to thier
-	// corresponding entry
-	private Map<IMarker, MarkerEntry> markerToEntryMap;
+	// the group the markers were grouped by, null if they are not grouped
+	private MarkerGroup categoryGroup;
+	// the sorted entries by category, the only key is null if not grouped
+	private Map<MarkerGroupingEntry, Group> groups = new HashMap<>();
+	// the entry and the category of every marker
+	private Map<IMarker, MarkerEntry> markerToEntryMap = new HashMap<>();
+	private Map<IMarker, MarkerGroupingEntry> markerToGroupMap = new HashMap<>();
 	private Integer[] markerCounts;
 
 	Markers(CachedMarkerBuilder builder) {
@@ -66,47 +86,64 @@ class Markers {
 	}
 
 	/**
-	 * Update with newly collected markers
+	 * Update with newly collected markers, sorting and grouping them.
 	 *
 	 * @param markerEntries
 	 *            the new marker entries
-	 * @param sortAndGroup
-	 *            true sort and group them
 	 * @param monitor
 	 */
 	synchronized boolean updateWithNewMarkers(Collection<MarkerEntry> markerEntries,
-			boolean sortAndGroup, IProgressMonitor monitor) {
+			IProgressMonitor monitor) {
 		boolean initialVal = inChange;
 		try {
 			inChange = true;
-			if (markerToEntryMap != null) {
-				markerToEntryMap.clear();
-				markerToEntryMap = null;
-			}
-			markerCounts = null;
-			if (markerEntries.isEmpty()) {
-				categories = EMPTY_CATEGORY_ARRAY;
-				markerEntryArray = EMPTY_ENTRY_ARRAY;
-				return true;
-			}
-			if (monitor.isCanceled()) {
-				return false;
-			}
-			MarkerEntry[] markerArray = new MarkerEntry[markerEntries.size()];
-			markerEntries.toArray(markerArray);
-			markerEntryArray = markerArray;
-			if (sortAndGroup) {
-				if (monitor.isCanceled()) {
+			MarkerGroup group = builder.getCategoryGroup();
+			Map<MarkerGroupingEntry, List<MarkerEntry>> lists = createGroupMap(group);
+			Map<IMarker, MarkerEntry> entries = new HashMap<>();
+			Map<IMarker, MarkerGroupingEntry> entryGroups = new HashMap<>();
+			int count = 0;
+			for (MarkerEntry entry : markerEntries) {
+				if (++count % 500 == 0 && monitor.isCanceled()) {
 					return false;
 				}
-				sortAndMakeCategories(monitor);
+				IMarker marker = entry.getMarker();
+				if (marker == null) {
+					continue;// skip stale markers
+				}
+				MarkerGroupingEntry key = null;
+				if (group != null) {
+					key = findGroupValue(group, entry);
+					if (key == null) {
+						continue;
+					}
+				}
+				List<MarkerEntry> list = lists.get(key);
+				if (list == null) {
+					list = new ArrayList<>();
+					lists.put(key, list);
+				}
+				list.add(entry);
+				entries.put(marker, entry);
+				entryGroups.put(marker, key);
+			}
 
-				if (monitor.isCanceled()) {
+			monitor.subTask(MarkerMessages.MarkerView_processUpdates);
+			Comparator<MarkerItem> comparator = getComparator(group);
+			Map<MarkerGroupingEntry, Group> newGroups = createGroupMap(group);
+			long newVersion = version + 1;
+			for (Entry<MarkerGroupingEntry, List<MarkerEntry>> mapEntry : lists.entrySet()) {
+				MarkerEntry[] sorted = mapEntry.getValue().toArray(new MarkerEntry[mapEntry.getValue().size()]);
+				if (!sort(sorted, comparator, monitor)) {
 					return false;
 				}
-			} else {
-				categories = EMPTY_CATEGORY_ARRAY;
+				newGroups.put(mapEntry.getKey(), new Group(sorted, newVersion));
 			}
+			categoryGroup = group;
+			groups = newGroups;
+			markerToEntryMap = entries;
+			markerToGroupMap = entryGroups;
+			publish(newVersion, true);
+			monitor.worked(50);
 			return true;
 		} finally {
 			inChange = initialVal;
@@ -114,34 +151,145 @@ class Markers {
 	}
 
 	/**
-	 * Sort the contained marker entries and build categories if required.
+	 * Apply marker changes to the sorted and grouped entries. The changes are
+	 * applied in order, the last change of a marker wins.
 	 *
-	 * @param monitor
+	 * @param updates
+	 *            the changes
+	 * @param generator
+	 *            the generator selecting the markers to show
+	 * @return <code>true</code> if the markers changed
 	 */
-	private synchronized boolean sortAndMakeCategories(IProgressMonitor monitor) {
+	synchronized boolean applyUpdates(Collection<MarkerUpdate> updates, MarkerContentGenerator generator) {
+		// the last state of every marker, null if it was removed
+		Map<IMarker, MarkerEntry> changes = new LinkedHashMap<>();
+		for (MarkerUpdate update : updates) {
+			for (MarkerEntry entry : update.removed) {
+				changes.put(entry.getMarker(), null);
+			}
+			for (MarkerEntry entry : update.changed) {
+				changes.put(entry.getMarker(), entry);
+			}
+			for (MarkerEntry entry : update.added) {
+				changes.put(entry.getMarker(), entry);
+			}
+		}
+		if (changes.isEmpty()) {
+			return false;
+		}
 		boolean initialVal = inChange;
+		MarkerComparator markerComparator = builder.getComparator();
 		try {
 			inChange = true;
-			// Sort by Category first
-			if (builder.isShowingHierarchy()) {
-				MarkerCategory[] markerCategories = groupIntoCategories(monitor, markerEntryArray);
-				categories = markerCategories;
-			} else {
-				categories = EMPTY_CATEGORY_ARRAY;
+			// compute the new entries first, nothing is changed if the
+			// comparator turns out to be broken
+			Map<MarkerGroupingEntry, Set<MarkerEntry>> removals = createGroupMap(categoryGroup);
+			Map<MarkerGroupingEntry, List<MarkerEntry>> additions = createGroupMap(categoryGroup);
+			Map<IMarker, MarkerGroupingEntry> addedGroups = new HashMap<>();
+			for (Entry<IMarker, MarkerEntry> change : changes.entrySet()) {
+				IMarker marker = change.getKey();
+				MarkerEntry oldEntry = markerToEntryMap.get(marker);
+				if (oldEntry != null) {
+					MarkerGroupingEntry key = markerToGroupMap.get(marker);
+					Set<MarkerEntry> removed = removals.get(key);
+					if (removed == null) {
+						removed = Collections.newSetFromMap(new IdentityHashMap<>());
+						removals.put(key, removed);
+					}
+					removed.add(oldEntry);
+				}
+				MarkerEntry entry = change.getValue();
+				if (entry == null || !generator.select(entry)) {
+					change.setValue(null);
+					continue;
+				}
+				MarkerGroupingEntry key = null;
+				if (categoryGroup != null) {
+					key = findGroupValue(categoryGroup, entry);
+					if (key == null) {
+						change.setValue(null);
+						continue;
+					}
+				}
+				List<MarkerEntry> added = additions.get(key);
+				if (added == null) {
+					added = new ArrayList<>();
+					additions.put(key, added);
+				}
+				added.add(entry);
+				addedGroups.put(marker, key);
 			}
 
-			if (monitor.isCanceled()) {
-				return false;
+			Comparator<MarkerItem> comparator = getComparator(categoryGroup);
+			Map<MarkerGroupingEntry, MarkerEntry[]> newEntries = createGroupMap(categoryGroup);
+			for (MarkerGroupingEntry key : removals.keySet()) {
+				newEntries.put(key, null);
+			}
+			for (MarkerGroupingEntry key : additions.keySet()) {
+				newEntries.put(key, null);
+			}
+			for (Entry<MarkerGroupingEntry, MarkerEntry[]> mapEntry : newEntries.entrySet()) {
+				MarkerGroupingEntry key = mapEntry.getKey();
+				Group group = groups.get(key);
+				MarkerEntry[] entries = group == null ? EMPTY_ENTRY_ARRAY : group.entries;
+				Set<MarkerEntry> removed = removals.get(key);
+				if (removed != null) {
+					entries = remove(entries, removed);
+				}
+				List<MarkerEntry> added = additions.get(key);
+				if (added != null) {
+					MarkerEntry[] sorted = added.toArray(new MarkerEntry[added.size()]);
+					if (!sort(sorted, comparator, new NullProgressMonitor())) {
+						return false;
+					}
+					entries = MarkerSortUtil.merge(entries, sorted, comparator);
+				}
+				mapEntry.setValue(entries);
 			}
-			monitor.subTask(MarkerMessages.MarkerView_processUpdates);
 
-			return sortMarkerEntries(monitor);
+			for (Entry<IMarker, MarkerEntry> change : changes.entrySet()) {
+				IMarker marker = change.getKey();
+				MarkerEntry entry = change.getValue();
+				if (entry == null) {
+					markerToEntryMap.remove(marker);
+					markerToGroupMap.remove(marker);
+				} else {
+					markerToEntryMap.put(marker, entry);
+					markerToGroupMap.put(marker, addedGroups.get(marker));
+				}
+			}
+			long newVersion = version + 1;
+			boolean structureChanged = false;
+			for (Entry<MarkerGroupingEntry, MarkerEntry[]> mapEntry : newEntries.entrySet()) {
+				MarkerGroupingEntry key = mapEntry.getKey();
+				MarkerEntry[] entries = mapEntry.getValue();
+				Group group = groups.get(key);
+				if (entries.length == 0) {
+					if (group != null) {
+						groups.remove(key);
+						structureChanged = true;
+					}
+				} else if (group == null) {
+					groups.put(key, new Group(entries, newVersion));
+					structureChanged = true;
+				} else {
+					group.entries = entries;
+					group.version = newVersion;
+				}
+			}
+			publish(newVersion, structureChanged);
+			return true;
+		} catch (IllegalArgumentException e) {
+			logBrokenComparator(markerComparator, e);
+			return false;
 		} finally {
 			inChange = initialVal;
 		}
 	}
 
 	/**
+	 * Sort the contained marker entries again.
+	 *
 	 * @param monitor
 	 */
 	synchronized boolean sortMarkerEntries(IProgressMonitor monitor) {
@@ -149,148 +297,124 @@ class Markers {
 			return false;
 		}
 		boolean initialVal = inChange;
-		MarkerComparator markerComparator = builder.getComparator();
-		MarkerCategory lastCategory = null;
 		try {
 			inChange = true;
-			if (builder.isShowingHierarchy()) {
-				Comparator<MarkerItem> comparator = markerComparator.getFieldsComparator();
-				for (MarkerCategory category : categories) {
-					if (monitor.isCanceled()) {
-						return false;
-					}
-					lastCategory = category;
-					// sort various categories
-					category.resetChildren(); // reset cached children
-					int avaliable = category.end - category.start + 1;
-					int effLimit = getShowingLimit(avaliable);
-					MarkerSortUtil.sortStartingKElement(markerEntryArray,
-							comparator, category.start, category.end, effLimit,
-							monitor);
-				}
-			} else {
-				if (monitor.isCanceled()) {
+			Comparator<MarkerItem> comparator = getComparator(categoryGroup);
+			List<MarkerEntry[]> sorted = new ArrayList<>(groups.size());
+			for (Group group : groups.values()) {
+				MarkerEntry[] entries = group.entries.clone();
+				if (!sort(entries, comparator, monitor)) {
 					return false;
 				}
-				int avaialble = markerEntryArray.length - 1;
-				int effLimit = getShowingLimit(avaialble);
-				MarkerSortUtil.sortStartingKElement(markerEntryArray,
-						markerComparator, effLimit, monitor);
+				sorted.add(entries);
 			}
-			if (monitor.isCanceled()) {
-				return false;
+			long newVersion = version + 1;
+			int i = 0;
+			for (Group group : groups.values()) {
+				group.entries = sorted.get(i++);
+				group.version = newVersion;
 			}
+			publish(newVersion, true);
 			monitor.worked(50);
 			return true;
-		} catch (IllegalArgumentException e) {
-			StringBuilder err = new StringBuilder("Bug 371586: broken comparator. "); //$NON-NLS-1$
-			if (lastCategory != null) {
-				err.append(lastCategory);
-			} else {
-				err.append(markerComparator.getCategory());
-			}
-			err.append(", fields: "); //$NON-NLS-1$
-			err.append(Arrays.toString(markerComparator.getFields()));
-			IDEWorkbenchPlugin.log(err.toString(), e);
-			return false;
 		} finally {
 			inChange = initialVal;
 		}
 	}
 
 	/**
-	 * get marker limit to show, if any.
-	 *
-	 * @param available
+	 * Publish the entries and the categories of the groups.
 	 */
-	private int getShowingLimit(int available) {
-		boolean limitsEnabled = builder.getGenerator().isMarkerLimitsEnabled();
-		if(!limitsEnabled) {
-			return available;
+	private void publish(long newVersion, boolean structureChanged) {
+		int size = 0;
+		for (Group group : groups.values()) {
+			size += group.entries.length;
 		}
-
-		int limit = builder.getGenerator().getMarkerLimits();
-		int effLimit = limit;
-		if (available < effLimit || limit <= 0) {
-			effLimit = available;
+		MarkerEntry[] newEntries = new MarkerEntry[size];
+		MarkerCategory[] newCategories = categoryGroup == null ? EMPTY_CATEGORY_ARRAY
+				: new MarkerCategory[groups.size()];
+		int start = 0;
+		int i = 0;
+		for (Group group : groups.values()) {
+			MarkerEntry[] entries = group.entries;
+			System.arraycopy(entries, 0, newEntries, start, entries.length);
+			start += entries.length;
+			if (categoryGroup != null) {
+				newCategories[i++] = new MarkerCategory(this, entries,
+						categoryGroup.getMarkerField().getValue(entries[0]), group.version);
+			}
+		}
+		markerEntryArray = newEntries;
+		categories = newCategories;
+		markerCounts = null;
+		// the arrays are written before the versions, and read after them
+		if (structureChanged || categoryGroup == null) {
+			structureVersion = newVersion;
 		}
-		return effLimit;
+		version = newVersion;
 	}
 
 	/**
-	 * Sort Markers according to groups, and Group them into categories
+	 * Sort the entries completely.
 	 *
-	 * @param monitor
-	 * @param newMarkers
-	 * @return MarkerCategory
+	 * @return <code>false</code> if canceled or the comparator is broken
 	 */
-	private MarkerCategory[] groupIntoCategories(IProgressMonitor monitor, MarkerEntry[] newMarkers) {
-		Map<MarkerGroupingEntry, Integer> boundaryInfoMap = groupMarkerEntries(newMarkers,
-				builder.getCategoryGroup(), newMarkers.length - 1, monitor);
-		int start = 0;
-		MarkerCategory[] markerCategories = new MarkerCategory[boundaryInfoMap.size()];
-		int i = 0;
-		int end = 0;
-		for (Entry<MarkerGroupingEntry, Integer> entry : boundaryInfoMap.entrySet()) {
-			end = entry.getValue();
-			markerCategories[i++] = new MarkerCategory(this, start, end,
-					builder.getCategoryGroup().getMarkerField()
-							.getValue(newMarkers[start]));
-			start = end + 1;
+	private boolean sort(MarkerEntry[] entries, Comparator<MarkerItem> comparator, IProgressMonitor monitor) {
+		try {
+			MarkerSortUtil.sortStartingKElement(entries, comparator, 0, entries.length - 1, entries.length,
+					monitor);
+			return !monitor.isCanceled();
+		} catch (IllegalArgumentException e) {
+			logBrokenComparator(builder.getComparator(), e);
+			return false;
+		}
+	}
+
+	private void logBrokenComparator(MarkerComparator markerComparator, IllegalArgumentException e) {
+		StringBuilder err = new StringBuilder("Bug 371586: broken comparator. "); //$NON-NLS-1$
+		err.append(markerComparator.getCategory());
+		err.append(", fields: "); //$NON-NLS-1$
+		err.append(Arrays.toString(markerComparator.getFields()));
+		IDEWorkbenchPlugin.log(err.toString(), e);
+	}
+
+	private Comparator<MarkerItem> getComparator(MarkerGroup group) {
+		MarkerComparator markerComparator = builder.getComparator();
+		if (group != null) {
+			return markerComparator.getFieldsComparator();
 		}
-		return markerCategories;
+		return markerComparator;
 	}
 
 	/**
-	 * Sorts/groups the markers in O(N) comparisons and returns the boundary
-	 * indices in the map. The O(N) complexity requires the use of a few data
-	 * structures. But the speed benefit is tremendous at a very small price of
-	 * few extra references.
-	 *
-	 * @param entries
-	 * @param group
-	 * @param k
-	 * @return {@link Map}
-	 *
+	 * @return a map sorted like the categories of the group
 	 */
-	private Map<MarkerGroupingEntry, Integer> groupMarkerEntries(MarkerEntry[] entries, MarkerGroup group,
-			int k, IProgressMonitor monitor) {
-		TreeMap<MarkerGroupingEntry, List<MarkerEntry>> map = new TreeMap<>(
-				group.getEntriesComparator());
-		for (int i = 0; i <= k; i++) {
-			IMarker marker = entries[i].getMarker();
-			if (marker == null) {
-				continue;// skip stale markers
-			}
-			if (monitor.isCanceled()) {
-				return Collections.emptyMap();
-			}
-			try {
-				MarkerGroupingEntry groupingEntry = group.findGroupValue(marker.getType(), marker);
-				List<MarkerEntry> list = map.get(groupingEntry);
-				if (list == null) {
-					list = new ArrayList<>();
-					map.put(groupingEntry, list);
-				}
-				list.add(entries[i]);
-			} catch (CoreException e) {
-				entries[i].checkIfMarkerStale();
-			}
+	private static <V> Map<MarkerGroupingEntry, V> createGroupMap(MarkerGroup group) {
+		if (group == null) {
+			return new HashMap<>(2);
 		}
-		TreeMap<MarkerGroupingEntry, Integer> result = new TreeMap<>(
-				group.getEntriesComparator());
-		int i = 0;
-		for (Entry<MarkerGroupingEntry, List<MarkerEntry>> mapEntry : map.entrySet()) {
-			if (monitor.isCanceled()) {
-				return Collections.emptyMap();
-			}
-			MarkerGroupingEntry key = mapEntry.getKey();
-			for (MarkerEntry entry : mapEntry.getValue()) {
-				entries[i++] = entry;
+		return new TreeMap<>(group.getEntriesComparator());
+	}
+
+	private static MarkerGroupingEntry findGroupValue(MarkerGroup group, MarkerEntry entry) {
+		IMarker marker = entry.getMarker();
+		try {
+			return group.findGroupValue(marker.getType(), marker);
+		} catch (CoreException e) {
+			entry.checkIfMarkerStale();
+			return null;
+		}
+	}
+
+	private static MarkerEntry[] remove(MarkerEntry[] entries, Set<MarkerEntry> removed) {
+		MarkerEntry[] result = new MarkerEntry[entries.length];
+		int size = 0;
+		for (MarkerEntry entry : entries) {
+			if (!removed.contains(entry)) {
+				result[size++] = entry;
 			}
-			result.put(key, i - 1);
 		}
-		return result;
+		return size == result.length ? result : Arrays.copyOf(result, size);
 	}
 
 	/**
@@ -345,15 +469,6 @@ class Markers {
 	 * @return {@link MarkerItem}
 	 */
 	public synchronized MarkerItem getMarkerItem(IMarker marker) {
-		if (markerToEntryMap == null) {
-			markerToEntryMap = new HashMap<>();
-			for (MarkerEntry markerEntry : markerEntryArray) {
-				IMarker nextMarker = markerEntry.getMarker();
-				if (nextMarker != null) {
-					markerToEntryMap.put(nextMarker, markerEntry);
-				}
-			}
-		}
 		return markerToEntryMap.get(marker);
 	}
 
@@ -371,6 +486,21 @@ class Markers {
 		return categories;
 	}
 
+	/**
+	 * @return the version of the markers, incremented by every change
+	 */
+	long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return the version of the last change that added, removed or reordered
+	 *         categories, or changed markers that are not grouped
+	 */
+	long getStructureVersion() {
+		return structureVersion;
+	}
+
 	/**
 	 * @return MarkerSupportItem[]
 	 */
@@ -394,6 +524,8 @@ class Markers {
 	Markers getClone() {
 		Markers markers = new Markers(builder);
 		if (!inChange) {
+			markers.structureVersion = structureVersion;
+			markers.version = version;
 			markers.markerEntryArray = markerEntryArray.clone();
 			markers.categories = categories.clone();
 		}
@@ -407,6 +539,20 @@ class Markers {
 		return inChange;
 	}
 
+	/**
+	 * The sorted entries of a category. Accessed while holding the lock of the
+	 * markers, the entries array is never modified once assigned.
+	 */
+	private static class Group {
+		MarkerEntry[] entries;
+		long version;
+
+		Group(MarkerEntry[] entries, long version) {
+			this.entries = entries;
+			this.version = version;
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -135,7 +135,7 @@ class MarkersChangeListener implements IResourceChangeListener {
 			// return;
 			// }
 
-			if (!builder.isIncremental()) {
+			if (hasProjectChanges(event)) {
 				handleMarkerChange(event);
 				return;
 			}
@@ -161,11 +161,32 @@ class MarkersChangeListener implements IResourceChangeListener {
 	}
 
 	/**
-	 * Handle marker change event
+	 * Handle marker change event by gathering the markers again, needed when
+	 * the changes are not limited to marker deltas, e.g. a closed project.
+	 *
 	 * @param event
 	 */
 	private void handleMarkerChange(IResourceChangeEvent event) {
-		builder.getUpdateScheduler().scheduleUpdate();
+		builder.scheduleUpdate();
+	}
+
+	/**
+	 * @param event
+	 * @return true if a project was added, removed, opened or closed.
+	 */
+	private boolean hasProjectChanges(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return false;
+		}
+		for (IResourceDelta projectDelta : delta.getAffectedChildren(
+				IResourceDelta.ADDED | IResourceDelta.REMOVED | IResourceDelta.CHANGED)) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -181,10 +202,7 @@ class MarkersChangeListener implements IResourceChangeListener {
 	 * of the markers that were gathered initially, and keeps them synched at
 	 * any point with the markers of interest in Workspace. Unfortunately marker
 	 * operations cannot be locked so locking between gathering of markers and
-	 * marker deltas is not possible.
-	 *
-	 * Note : this method of updating is NOT used and tested yet and has holes
-	 * but left out SOLELY for further investigation(*).
+	 * marker deltas is not possible, see {@link IncrementUpdateJob}.
 	 *
 	 * @param event
 	 */
@@ -530,6 +548,17 @@ class MarkerUpdateScheduler {
 	 * Schedule marker update.
 	 */
 	void scheduleUpdate(long delay, boolean cancelPrevious) {
+		scheduleUpdate(delay, cancelPrevious, true);
+	}
+
+	/**
+	 * Schedule marker update.
+	 *
+	 * @param clean
+	 *            <code>true</code> to gather the markers again,
+	 *            <code>false</code> to only apply the queued marker changes
+	 */
+	void scheduleUpdate(long delay, boolean cancelPrevious, boolean clean) {
 		//we do not need to make this atomic (?)
 		builder.setBuilding(true);
 		if (cancelPrevious) {
@@ -537,7 +566,7 @@ class MarkerUpdateScheduler {
 			cancelUpdate();
 		}
 		// indicateStatus(MarkerMessages.MarkerView_queueing_updates, true);
-		updateJob = builder.scheduleUpdateJob(delay, true);
+		updateJob = builder.scheduleUpdateJob(delay, clean);
 		// updateTimer.reset();
 	}
 
@@ -804,7 +833,8 @@ class MarkerUpdateScheduler {
 
 		private void go(long delay, boolean cancelPrevious) {
 			timeB4Update = System.currentTimeMillis() + delay;
-			scheduleUpdate(delay + AFTER_MARGIN, cancelPrevious);
+			// the marker changes have been queued, no need to gather again
+			scheduleUpdate(delay + AFTER_MARGIN, cancelPrevious, false);
 		}
 	}
 }
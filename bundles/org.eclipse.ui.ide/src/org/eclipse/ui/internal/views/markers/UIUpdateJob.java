@@ -39,6 +39,9 @@ class UIUpdateJob extends WorkbenchJob {
 
 	private long lastUpdateTime=-1;
 
+	// the version of the markers last shown, -1 if not shown yet
+	private long lastVersion = -1;
+
 	/**
 	 * @param view
 	 *            the markers view base class
@@ -105,7 +108,7 @@ class UIUpdateJob extends WorkbenchJob {
 				contentProvider.inputChanged(viewer, view.getViewerInput(), clone);
 
 				viewer.getTree().setRedraw(false);
-				viewer.refresh(true);
+				refresh(viewer, clone);
 				if (!monitor.isCanceled()) {
 					//do not expand if canceled
 					view.reexpandCategories();
@@ -130,6 +133,27 @@ class UIUpdateJob extends WorkbenchJob {
 		return Status.OK_STATUS;
 	}
 
+	/**
+	 * Refresh the categories changed since the last update only, unless
+	 * categories were added or removed or the markers are not grouped.
+	 *
+	 * @param viewer
+	 * @param clone
+	 */
+	private void refresh(TreeViewer viewer, Markers clone) {
+		if (lastVersion < 0 || clone.getStructureVersion() > lastVersion
+				|| clone.getCategories() == null) {
+			viewer.refresh(true);
+		} else {
+			for (MarkerCategory category : clone.getCategories()) {
+				if (category.getVersion() > lastVersion) {
+					viewer.refresh(category, true);
+				}
+			}
+		}
+		lastVersion = clone.getVersion();
+	}
+
 	/**
 	 * @return Returns true if updating.
 	 */
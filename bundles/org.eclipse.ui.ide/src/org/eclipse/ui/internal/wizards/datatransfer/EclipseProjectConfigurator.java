@@ -14,11 +14,11 @@
 package org.eclipse.ui.internal.wizards.datatransfer;
 
 import java.io.File;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFolder;
@@ -43,15 +43,27 @@ public class EclipseProjectConfigurator implements ProjectConfigurator {
 
 	@Override
 	public Set<File> findConfigurableLocations(File root, IProgressMonitor monitor) {
-		Set<File> projectFiles = new LinkedHashSet<>();
-		Set<String> visitedDirectories = new HashSet<>();
-		WizardProjectsImportPage.collectProjectFilesFromDirectory(projectFiles, root, visitedDirectories, true,
-				monitor);
-		Set<File> res = new LinkedHashSet<>();
-		for (File projectFile : projectFiles) {
-			res.add(projectFile.getParentFile());
+		// sorted as the files are found in no particular order; by segments, so
+		// that projects come before the projects nested in them
+		Map<IPath, File> projectDirectories = new TreeMap<>(EclipseProjectConfigurator::compareSegments);
+		new ProjectFilesCollector(true).collect(root, projectFiles -> {
+			for (File projectFile : projectFiles) {
+				File directory = projectFile.getParentFile();
+				projectDirectories.put(Path.fromOSString(directory.getPath()), directory);
+			}
+		}, monitor);
+		return new LinkedHashSet<>(projectDirectories.values());
+	}
+
+	private static int compareSegments(IPath path1, IPath path2) {
+		int count = Math.min(path1.segmentCount(), path2.segmentCount());
+		for (int i = 0; i < count; i++) {
+			int result = path1.segment(i).compareTo(path2.segment(i));
+			if (result != 0) {
+				return result;
+			}
 		}
-		return res;
+		return path1.segmentCount() - path2.segmentCount();
 	}
 
 	@Override
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.wizards.datatransfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.ui.internal.ide.StatusUtil;
+import org.eclipse.ui.statushandlers.StatusManager;
+
+/**
+ * Collects the .project files under a directory. The directory tree is walked
+ * in parallel on a fork join pool, each directory being listed with
+ * {@link Files#newDirectoryStream(Path)}.
+ * <p>
+ * Directories reached more than once through symbolic links are only walked
+ * once, the walk stops at {@link #DEFAULT_MAX_DEPTH} levels below the root and
+ * the {@link #SKIPPED_DIRECTORIES} are never entered.
+ * </p>
+ * <p>
+ * The files found are passed in batches to a consumer on the thread calling
+ * {@link #collect(File, Consumer, IProgressMonitor)}, which is also the only
+ * thread using the progress monitor.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class ProjectFilesCollector {
+
+	/**
+	 * The number of levels below the root directory that are searched by
+	 * default.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 32;
+
+	/**
+	 * The names of the directories that cannot contain projects and are not
+	 * searched: the workspace metadata, version control data and package
+	 * manager caches.
+	 */
+	public static final Set<String> SKIPPED_DIRECTORIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			WizardProjectsImportPage.METADATA_FOLDER, ".git", ".hg", ".svn", "node_modules"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	// The walk is bound by I/O, so use more threads than processors
+	private static final int PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+	private static final long POLL_INTERVAL = 100;
+
+	private final boolean nestedProjects;
+
+	private final int maxDepth;
+
+	private final Set<Object> directoriesVisited = ConcurrentHashMap.newKeySet();
+
+	private final Queue<File> files = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean canceled;
+
+	private volatile Path currentDirectory;
+
+	/**
+	 * Creates a collector searching up to {@link #DEFAULT_MAX_DEPTH} levels.
+	 *
+	 * @param nestedProjects
+	 *            whether to look for projects nested in other projects
+	 */
+	public ProjectFilesCollector(boolean nestedProjects) {
+		this(nestedProjects, DEFAULT_MAX_DEPTH);
+	}
+
+	/**
+	 * @param nestedProjects
+	 *            whether to look for projects nested in other projects
+	 * @param maxDepth
+	 *            the number of levels below the root directory to search
+	 */
+	public ProjectFilesCollector(boolean nestedProjects, int maxDepth) {
+		this.nestedProjects = nestedProjects;
+		this.maxDepth = maxDepth;
+	}
+
+	/**
+	 * Collects the .project files under the directory. Returns when all of them
+	 * have been found or the monitor has been canceled.
+	 *
+	 * @param directory
+	 *            the root directory
+	 * @param consumer
+	 *            receives the .project files as they are found, on the calling
+	 *            thread
+	 * @param monitor
+	 *            The monitor to report to
+	 * @return boolean <code>true</code> if the operation was completed.
+	 */
+	public boolean collect(File directory, Consumer<List<File>> consumer, IProgressMonitor monitor) {
+		Path root = directory.toPath();
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(root, BasicFileAttributes.class);
+		} catch (IOException e) {
+			return false;
+		}
+		if (!attributes.isDirectory()) {
+			return false;
+		}
+		directoriesVisited.add(getKey(root, attributes));
+
+		ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+		try {
+			ForkJoinTask<Void> task = pool.submit(new DirectoryTask(root, 0));
+			boolean done = false;
+			while (!done) {
+				if (monitor.isCanceled()) {
+					canceled = true;
+					break;
+				}
+				try {
+					task.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+					done = true;
+				} catch (TimeoutException e) {
+					Path current = currentDirectory;
+					if (current != null) {
+						monitor.subTask(
+								NLS.bind(DataTransferMessages.WizardProjectsImportPage_CheckingMessage, current));
+					}
+				} catch (ExecutionException e) {
+					StatusManager.getManager().handle(StatusUtil.newError(e.getCause()));
+					done = true;
+				} catch (InterruptedException e) {
+					canceled = true;
+					Thread.currentThread().interrupt();
+					break;
+				}
+				publish(consumer);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		publish(consumer);
+		return !canceled;
+	}
+
+	private void publish(Consumer<List<File>> consumer) {
+		List<File> batch = new ArrayList<>();
+		File file;
+		while ((file = files.poll()) != null) {
+			batch.add(file);
+		}
+		if (!batch.isEmpty()) {
+			consumer.accept(batch);
+		}
+	}
+
+	/**
+	 * Returns the key identifying the directory: the file key where the file
+	 * system has one, the canonical path otherwise.
+	 */
+	private static Object getKey(Path directory, BasicFileAttributes attributes) {
+		Object key = attributes.fileKey();
+		if (key != null) {
+			return key;
+		}
+		try {
+			return directory.toRealPath().toString();
+		} catch (IOException e) {
+			return directory.toAbsolutePath().normalize().toString();
+		}
+	}
+
+	private final class DirectoryTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Path directory;
+
+		private final int depth;
+
+		DirectoryTask(Path directory, int depth) {
+			this.directory = directory;
+			this.depth = depth;
+		}
+
+		@Override
+		protected void compute() {
+			if (canceled) {
+				return;
+			}
+			currentDirectory = directory;
+			List<Path> subdirectories = new ArrayList<>();
+			List<Object> keys = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+				for (Path child : stream) {
+					if (canceled) {
+						return;
+					}
+					BasicFileAttributes attributes;
+					try {
+						attributes = Files.readAttributes(child, BasicFileAttributes.class);
+					} catch (IOException e) {
+						// broken symbolic link or no access
+						continue;
+					}
+					String name = child.getFileName().toString();
+					if (attributes.isDirectory()) {
+						if (depth < maxDepth && !SKIPPED_DIRECTORIES.contains(name)) {
+							subdirectories.add(child);
+							keys.add(getKey(child, attributes));
+						}
+					} else if (attributes.isRegularFile() && name.equals(IProjectDescription.DESCRIPTION_FILE_NAME)) {
+						files.add(child.toFile());
+						if (!nestedProjects) {
+							// don't search sub-directories since we can't have
+							// nested projects
+							return;
+						}
+					}
+				}
+			} catch (IOException | DirectoryIteratorException e) {
+				// not readable, skip it like File.listFiles() does
+				return;
+			}
+			// no project description found or search for nested projects
+			// enabled, so recurse into the sub-directories not seen yet
+			List<DirectoryTask> tasks = new ArrayList<>(subdirectories.size());
+			for (int i = 0; i < subdirectories.size(); i++) {
+				if (directoriesVisited.add(keys.get(i))) {
+					tasks.add(new DirectoryTask(subdirectories.get(i), depth + 1));
+				}
+			}
+			invokeAll(tasks);
+		}
+	}
+}
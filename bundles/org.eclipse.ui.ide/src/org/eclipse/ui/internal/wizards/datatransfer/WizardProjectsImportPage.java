@@ -36,10 +36,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -96,10 +95,8 @@ import org.eclipse.ui.dialogs.WizardDataTransferPage;
 import org.eclipse.ui.dialogs.WorkingSetGroup;
 import org.eclipse.ui.internal.WorkbenchPlugin;
 import org.eclipse.ui.internal.ide.IDEWorkbenchPlugin;
-import org.eclipse.ui.internal.ide.StatusUtil;
 import org.eclipse.ui.internal.registry.WorkingSetDescriptor;
 import org.eclipse.ui.internal.registry.WorkingSetRegistry;
-import org.eclipse.ui.statushandlers.StatusManager;
 import org.eclipse.ui.wizards.datatransfer.FileSystemStructureProvider;
 import org.eclipse.ui.wizards.datatransfer.ImportOperation;
 
@@ -347,6 +344,9 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 
 	private ProjectRecord[] selectedProjects = new ProjectRecord[0];
 
+	// incremented when a search starts or ends, accessed in the UI thread
+	private int scanCount;
+
 	// Keep track of the directory that we browsed to last time
 	// the wizard was invoked.
 	private static String previouslyBrowsedDirectory = ""; //$NON-NLS-1$
@@ -857,6 +857,10 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 		// status beforehand
 		final boolean dirSelected = this.projectFromDirectoryRadio
 				.getSelection();
+		final int scan = ++scanCount;
+		// the projects found in the directory, applied on the UI thread once
+		// the batches still to be shown are ignored
+		final AtomicReference<ProjectRecord[]> foundProjects = new AtomicReference<>();
 		try {
 			getContainer().run(true, true, monitor -> {
 
@@ -920,21 +924,21 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 
 				else if (dirSelected && directory.isDirectory()) {
 
-					if (!collectProjectFilesFromDirectory(files, directory,
-							null, nestedProjects, monitor)) {
+					// show the projects as they are found, and keep those
+					// found so far if the search is canceled
+					List<ProjectRecord> records = new ArrayList<>();
+					boolean completed = new ProjectFilesCollector(nestedProjects).collect(directory,
+							projectFiles -> {
+								for (File file : projectFiles) {
+									records.add(new ProjectRecord(file));
+								}
+								showProjects(scan, records.toArray(new ProjectRecord[records.size()]));
+							}, monitor);
+					foundProjects.set(records.toArray(new ProjectRecord[records.size()]));
+					if (!completed) {
 						return;
 					}
-					Iterator filesIterator3 = files.iterator();
-					selectedProjects = new ProjectRecord[files.size()];
-					int index3 = 0;
 					monitor.worked(50);
-					monitor
-							.subTask(DataTransferMessages.WizardProjectsImportPage_ProcessingMessage);
-					while (filesIterator3.hasNext()) {
-						File file = (File) filesIterator3.next();
-						selectedProjects[index3] = new ProjectRecord(file);
-						index3++;
-					}
 				} else {
 					monitor.worked(60);
 				}
@@ -944,12 +948,37 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 			IDEWorkbenchPlugin.log(e.getMessage(), e);
 		} catch (InterruptedException e) {
 			// Nothing to do if the user interrupts.
+		} finally {
+			// ignore the projects still to be shown
+			scanCount++;
+		}
+		ProjectRecord[] found = foundProjects.get();
+		if (found != null) {
+			selectedProjects = found;
 		}
 
 		lastPath = path;
 		updateProjectsStatus();
 	}
 
+	/**
+	 * Shows the projects found so far by a search that is still running.
+	 *
+	 * @param scan
+	 *            the number of the search
+	 * @param projects
+	 *            the projects found so far
+	 */
+	private void showProjects(final int scan, final ProjectRecord[] projects) {
+		projectsList.getControl().getDisplay().asyncExec(() -> {
+			if (scan != scanCount || projectsList.getControl().isDisposed()) {
+				return;
+			}
+			selectedProjects = projects;
+			projectsList.refresh(false);
+		});
+	}
+
 	private void updateProjectsStatus() {
 		projectsList.refresh(true);
 		ProjectRecord[] projects = getProjectRecords();
@@ -1026,79 +1055,6 @@ public class WizardProjectsImportPage extends WizardDataTransferPage {
 		return null;
 	}
 
-	/**
-	 * Collect the list of .project files that are under directory into files.
-	 *
-	 * @param files
-	 * @param directory
-	 * @param directoriesVisited
-	 *            Set of canonical paths of directories, used as recursion guard
-	 * @param nestedProjects
-	 *            whether to look for nested projects
-	 * @param monitor
-	 *            The monitor to report to
-	 * @return boolean <code>true</code> if the operation was completed.
-	 */
-	static boolean collectProjectFilesFromDirectory(Collection<File> files, File directory,
-			Set<String> directoriesVisited, boolean nestedProjects, IProgressMonitor monitor) {
-
-		if (monitor.isCanceled()) {
-			return false;
-		}
-		monitor.subTask(NLS.bind(
-				DataTransferMessages.WizardProjectsImportPage_CheckingMessage,
-				directory.getPath()));
-		File[] contents = directory.listFiles();
-		if (contents == null) {
-			return false;
-		}
-
-		// Initialize recursion guard for recursive symbolic links
-		if (directoriesVisited == null) {
-			directoriesVisited = new HashSet<>();
-			try {
-				directoriesVisited.add(directory.getCanonicalPath());
-			} catch (IOException exception) {
-				StatusManager.getManager().handle(StatusUtil.newError(exception));
-			}
-		}
-
-		// first look for project description files
-		final String dotProject = IProjectDescription.DESCRIPTION_FILE_NAME;
-		List<File> directories = new ArrayList<>();
-		for (File file : contents) {
-			if(file.isDirectory()){
-				directories.add(file);
-			} else if (file.getName().equals(dotProject) && file.isFile()) {
-				files.add(file);
-				if (!nestedProjects) {
-					// don't search sub-directories since we can't have nested
-					// projects
-					return true;
-				}
-			}
-		}
-		// no project description found or search for nested projects enabled,
-		// so recurse into sub-directories
-		for (File dir : directories) {
-			if (!dir.getName().equals(METADATA_FOLDER)) {
-				try {
-					String canonicalPath = dir.getCanonicalPath();
-					if (!directoriesVisited.add(canonicalPath)) {
-						// already been here --> do not recurse
-						continue;
-					}
-				} catch (IOException exception) {
-					StatusManager.getManager().handle(StatusUtil.newError(exception));
-
-				}
-				collectProjectFilesFromDirectory(files, dir,
-						directoriesVisited, nestedProjects, monitor);
-			}
-		}
-		return true;
-	}
-
 	/**
 	 * Collect the list of .project files that are under directory into files.
 	 *
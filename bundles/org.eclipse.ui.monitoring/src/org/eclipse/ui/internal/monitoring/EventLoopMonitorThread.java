@@ -45,7 +45,8 @@ import org.eclipse.ui.monitoring.UiFreezeEvent;
 /**
  * Event loop monitoring thread. Detects events that take long time to process, collects stack
  * traces of the UI thread during processing of those events, and logs the long events to the error
- * log.
+ * log. Optionally samples the UI thread continuously while it is processing events, and aggregates
+ * the samples in a {@link UiThreadProfile}.
  */
 public class EventLoopMonitorThread extends Thread {
 	private static final int EVENT_HISTORY_SIZE = 100;
@@ -80,6 +81,13 @@ public class EventLoopMonitorThread extends Thread {
 		public String uiThreadFilter;
 		/** @see org.eclipse.ui.monitoring.PreferenceConstants#NONINTERESTING_THREAD_FILTER */
 		public String noninterestingThreadFilter;
+		/**
+		 * If not {@code null}, the UI thread is sampled continuously into the profile while
+		 * it is processing events.
+		 */
+		public UiThreadProfile uiThreadProfile;
+		/** Interval between two samples of {@link #uiThreadProfile}. */
+		public int profileSampleInterval;
 
 		/**
 		 * Checks if the values of parameters for UI responsiveness monitoring are valid.
@@ -358,6 +366,8 @@ public class EventLoopMonitorThread extends Thread {
 	private final long uiThreadId;
 	private final Object sleepMonitor;
 	private final boolean logToErrorLog;
+	private final UiThreadProfile uiThreadProfile;
+	private final long profileSampleInterval;
 	private EventHistory eventHistory;
 	private ThreadMXBean threadMXBean;
 	private boolean dumpLockedMonitors;
@@ -395,6 +405,8 @@ public class EventLoopMonitorThread extends Thread {
 		logToErrorLog = args.logToErrorLog;
 		uiThreadFilter = new FilterHandler(args.uiThreadFilter);
 		noninterestingThreadFilter = new FilterHandler(args.noninterestingThreadFilter);
+		uiThreadProfile = args.uiThreadProfile;
+		profileSampleInterval = Math.max(args.profileSampleInterval, 1);
 		sleepMonitor = new Object();
 	}
 
@@ -492,6 +504,7 @@ public class EventLoopMonitorThread extends Thread {
 		display.asyncExec(() -> registerDisplayListeners());
 
 		long currTime = getTimestamp();
+		long grabProfileSampleAt = currTime + profileSampleInterval;
 
 		while (!cancelled.get()) {
 			long sleepFor;
@@ -521,6 +534,10 @@ public class EventLoopMonitorThread extends Thread {
 				sleepFor = Math.min(pollingNyquistDelay, Math.max(1, grabStackSampleAt - currTime));
 			}
 
+			if (uiThreadProfile != null) {
+				sleepFor = Math.min(sleepFor, Math.max(1, grabProfileSampleAt - currTime));
+			}
+
 			// Allow the discarded stack samples to be garbage collected.
 			for (int i = numSamples; i < stackSamples.length && stackSamples[i] != null; i++) {
 				stackSamples[i] = null;
@@ -550,6 +567,18 @@ public class EventLoopMonitorThread extends Thread {
 			}
 			boolean starved = starvedAsleepCurrentCycle || starvedAwakeCurrentCycle;
 
+			// Sample the UI thread for the profile if it is processing an event.
+			if (uiThreadProfile != null && currTime >= grabProfileSampleAt) {
+				if (currEventStartOrResumeTime != 0) {
+					ThreadInfo threadInfo =
+							threadMXBean.getThreadInfo(uiThreadId, Integer.MAX_VALUE);
+					if (threadInfo != null) {
+						uiThreadProfile.addSample(threadInfo.getStackTrace());
+					}
+				}
+				grabProfileSampleAt = currTime + profileSampleInterval;
+			}
+
 			/*
 			 * If after sleeping we see that a new event has been dispatched, mark that we should
 			 * update the stalled event state. Otherwise, check if we have surpassed our threshold
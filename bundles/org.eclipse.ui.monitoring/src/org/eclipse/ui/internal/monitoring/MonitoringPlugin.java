@@ -26,6 +26,7 @@ import org.osgi.framework.BundleContext;
  */
 public class MonitoringPlugin extends AbstractUIPlugin {
 	private static MonitoringPlugin plugin;
+	private UiThreadProfile uiThreadProfile;
 
 	@Override
 	public void start(BundleContext context) throws Exception {
@@ -43,6 +44,17 @@ public class MonitoringPlugin extends AbstractUIPlugin {
 		return plugin;
 	}
 
+	/**
+	 * Returns the profile of the UI thread. The profile is kept when the monitoring thread is
+	 * restarted.
+	 */
+	public synchronized UiThreadProfile getUiThreadProfile() {
+		if (uiThreadProfile == null) {
+			uiThreadProfile = new UiThreadProfile();
+		}
+		return uiThreadProfile;
+	}
+
 	public static void logError(String message, Throwable e) {
 		log(new Status(IStatus.ERROR, PreferenceConstants.PLUGIN_ID, message, e));
 	}
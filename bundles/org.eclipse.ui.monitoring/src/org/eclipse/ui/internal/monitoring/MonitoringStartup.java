@@ -82,6 +82,11 @@ public class MonitoringStartup implements IStartup {
 		args.noninterestingThreadFilter =
 				preferences.getString(PreferenceConstants.NONINTERESTING_THREAD_FILTER);
 		args.logToErrorLog = preferences.getBoolean(PreferenceConstants.LOG_TO_ERROR_LOG);
+		if (preferences.getBoolean(PreferenceConstants.PROFILING_ENABLED)) {
+			args.uiThreadProfile = MonitoringPlugin.getDefault().getUiThreadProfile();
+			args.profileSampleInterval =
+					preferences.getInt(PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS);
+		}
 
 		return args;
 	}
@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (C) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rolling histogram of the stack traces of the UI thread. The stacks are stored in a trie of
+ * frames, each node counting the samples whose top frame it is. The most recent samples are kept
+ * in a ring buffer of fixed size, and samples falling out of the buffer are subtracted from the
+ * histogram again.
+ * <p>
+ * The trie and the frame table are backed by primitive arrays allocated up front, so the memory
+ * used by the profile does not grow with the number of samples. Once the trie or the frame table
+ * is full, both are rebuilt from the stacks of the samples still in the window, dropping the
+ * stacks that fell out of it. If that does not free enough space, samples are truncated to their
+ * deepest frames already in the trie until the window has been replaced.
+ * <p>
+ * The histogram can be written in the collapsed stack format understood by flame graph tools:
+ * one line per distinct stack, the frames from the outermost to the innermost separated by
+ * semicolons, followed by a space and the number of samples.
+ * <p>
+ * The class is thread safe.
+ */
+public class UiThreadProfile {
+	/** Default number of samples kept in the rolling window. */
+	public static final int DEFAULT_MAX_SAMPLES = 30000;
+	/** Default maximum number of nodes of the trie. */
+	public static final int DEFAULT_MAX_NODES = 32768;
+
+	private static final int ROOT = 0;
+	private static final int NO_NODE = 0; // The root is never a child.
+	private static final int TRUNCATED_FRAME = 0;
+	private static final String TRUNCATED_FRAME_NAME = "[truncated]"; //$NON-NLS-1$
+
+	// Trie nodes, indexed by node id.
+	private final int[] parents;
+	private final int[] frames;
+	private final int[] counts;
+	private int nodeCount;
+
+	// Open addressing table of the children of all nodes, keyed by parent and frame.
+	private final int[] children;
+
+	// Interned frames. Different lines of a method share the same frame.
+	private final String[] frameNames;
+	private int frameCount;
+	private final Map<String, Integer> frameIdsByName = new HashMap<>();
+	private final Map<StackTraceElement, Integer> frameIdsByElement = new HashMap<>();
+
+	// Ring buffer of the node ids of the most recent samples.
+	private final int[] samples;
+	private int firstSample;
+	private int sampleCount;
+	private long totalSampleCount;
+	// The total sample count from which the trie may be compacted again.
+	private long nextCompaction;
+
+	/**
+	 * Creates a profile with the default capacity.
+	 */
+	public UiThreadProfile() {
+		this(DEFAULT_MAX_SAMPLES, DEFAULT_MAX_NODES);
+	}
+
+	/**
+	 * Creates a profile.
+	 *
+	 * @param maxSamples the number of samples in the rolling window
+	 * @param maxNodes the maximum number of distinct stack prefixes
+	 */
+	public UiThreadProfile(int maxSamples, int maxNodes) {
+		if (maxSamples <= 0 || maxNodes <= 1) {
+			throw new IllegalArgumentException();
+		}
+		samples = new int[maxSamples];
+		parents = new int[maxNodes];
+		frames = new int[maxNodes];
+		counts = new int[maxNodes];
+		children = new int[Integer.highestOneBit(maxNodes - 1) << 2];
+		frameNames = new String[maxNodes];
+		clear();
+	}
+
+	/**
+	 * Adds a stack trace of the UI thread to the profile, evicting the oldest sample if the
+	 * rolling window is full.
+	 *
+	 * @param stackTrace the stack trace, with the innermost frame first
+	 */
+	public synchronized void addSample(StackTraceElement[] stackTrace) {
+		int node = ROOT;
+		boolean compacted = false;
+		for (int i = stackTrace.length; --i >= 0;) {
+			int frame = internFrame(stackTrace[i]);
+			int child = getOrAddChild(node, frame);
+			if ((child == NO_NODE || frame == TRUNCATED_FRAME) && !compacted
+					&& totalSampleCount >= nextCompaction) {
+				// Make room by dropping the stacks no longer in the window, and start over.
+				compact();
+				compacted = true;
+				node = ROOT;
+				i = stackTrace.length;
+				continue;
+			}
+			if (child == NO_NODE) {
+				break;
+			}
+			node = child;
+		}
+
+		if (sampleCount == samples.length) {
+			counts[samples[firstSample]]--;
+			samples[firstSample] = node;
+			firstSample = (firstSample + 1) % samples.length;
+		} else {
+			samples[(firstSample + sampleCount++) % samples.length] = node;
+		}
+		counts[node]++;
+		totalSampleCount++;
+	}
+
+	private int internFrame(StackTraceElement element) {
+		Integer id = frameIdsByElement.get(element);
+		if (id != null) {
+			return id.intValue();
+		}
+		String name = element.getClassName() + '.' + element.getMethodName();
+		id = frameIdsByName.get(name);
+		if (id == null) {
+			if (frameCount == frameNames.length) {
+				return TRUNCATED_FRAME;
+			}
+			id = frameCount;
+			frameNames[frameCount++] = name;
+			frameIdsByName.put(name, id);
+		}
+		if (frameIdsByElement.size() < frameNames.length) {
+			frameIdsByElement.put(element, id);
+		}
+		return id.intValue();
+	}
+
+	/**
+	 * Returns the child of the node for the given frame, adding it if necessary.
+	 *
+	 * @return the child, or {@link #NO_NODE} if the trie is full
+	 */
+	private int getOrAddChild(int parent, int frame) {
+		int mask = children.length - 1;
+		int slot = hash(parent, frame) & mask;
+		while (true) {
+			int child = children[slot];
+			if (child == NO_NODE) {
+				if (nodeCount == parents.length) {
+					return NO_NODE;
+				}
+				child = nodeCount++;
+				parents[child] = parent;
+				frames[child] = frame;
+				children[slot] = child;
+				return child;
+			}
+			if (parents[child] == parent && frames[child] == frame) {
+				return child;
+			}
+			slot = (slot + 1) & mask;
+		}
+	}
+
+	private static int hash(int parent, int frame) {
+		int h = parent * 0x9E3779B1 + frame;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Rebuilds the trie and the frame table from the samples in the rolling window, removing the
+	 * nodes and frames no longer used by any of them. Node and frame ids keep their relative
+	 * order, so parents still come before their children. The nodes and frames of the stack being
+	 * added are dropped as well, so the caller has to add it again.
+	 */
+	private void compact() {
+		int[] nodeIds = new int[nodeCount];
+		int[] frameIds = new int[frameCount];
+		// Mark the nodes of the sampled stacks.
+		for (int i = 0; i < sampleCount; i++) {
+			for (int node = samples[(firstSample + i) % samples.length]; node != ROOT
+					&& nodeIds[node] == 0; node = parents[node]) {
+				nodeIds[node] = 1;
+				frameIds[frames[node]] = 1;
+			}
+		}
+		frameIds[TRUNCATED_FRAME] = TRUNCATED_FRAME;
+
+		int newFrameCount = 1;
+		for (int frame = 1; frame < frameCount; frame++) {
+			if (frameIds[frame] != 0) {
+				frameNames[newFrameCount] = frameNames[frame];
+				frameIds[frame] = newFrameCount++;
+			}
+		}
+		Arrays.fill(frameNames, newFrameCount, frameCount, null);
+		frameCount = newFrameCount;
+		frameIdsByName.clear();
+		for (int frame = 1; frame < frameCount; frame++) {
+			frameIdsByName.put(frameNames[frame], frame);
+		}
+		frameIdsByElement.values().removeIf(frame -> frameIds[frame.intValue()] == 0);
+		frameIdsByElement.replaceAll((element, frame) -> frameIds[frame.intValue()]);
+
+		Arrays.fill(children, NO_NODE);
+		int newNodeCount = 1;
+		for (int node = 1; node < nodeCount; node++) {
+			if (nodeIds[node] != 0) {
+				int child = newNodeCount++;
+				nodeIds[node] = child;
+				parents[child] = nodeIds[parents[node]];
+				frames[child] = frameIds[frames[node]];
+				counts[child] = counts[node];
+				int mask = children.length - 1;
+				int slot = hash(parents[child], frames[child]) & mask;
+				while (children[slot] != NO_NODE) {
+					slot = (slot + 1) & mask;
+				}
+				children[slot] = child;
+			}
+		}
+		Arrays.fill(counts, newNodeCount, nodeCount, 0);
+		nodeCount = newNodeCount;
+		for (int i = 0; i < sampleCount; i++) {
+			int index = (firstSample + i) % samples.length;
+			samples[index] = nodeIds[samples[index]];
+		}
+
+		// Do not compact again before the window is replaced if this freed little space.
+		if (nodeCount > parents.length / 4 * 3 || frameCount > frameNames.length / 4 * 3) {
+			nextCompaction = totalSampleCount + samples.length;
+		}
+	}
+
+	/**
+	 * Removes all samples and stacks from the profile.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(children, NO_NODE);
+		Arrays.fill(counts, 0);
+		nodeCount = 1;
+		parents[ROOT] = ROOT;
+		frameIdsByName.clear();
+		frameIdsByElement.clear();
+		Arrays.fill(frameNames, null);
+		frameNames[TRUNCATED_FRAME] = TRUNCATED_FRAME_NAME;
+		frameCount = 1;
+		firstSample = 0;
+		sampleCount = 0;
+		totalSampleCount = 0;
+		nextCompaction = 0;
+	}
+
+	/**
+	 * Returns the number of samples in the rolling window.
+	 */
+	public synchronized int getSampleCount() {
+		return sampleCount;
+	}
+
+	/**
+	 * Returns the number of samples added since the profile was created or cleared.
+	 */
+	public synchronized long getTotalSampleCount() {
+		return totalSampleCount;
+	}
+
+	/**
+	 * Writes the samples in the rolling window in collapsed stack format.
+	 *
+	 * @param out the destination
+	 * @throws IOException if writing fails
+	 */
+	public void writeCollapsedStacks(Appendable out) throws IOException {
+		int[] nodeCounts;
+		int[] nodeParents;
+		int[] nodeFrames;
+		String[] names;
+		int count;
+		// Copy the histogram to not block sampling while writing.
+		synchronized (this) {
+			count = nodeCount;
+			nodeCounts = Arrays.copyOf(counts, count);
+			nodeParents = Arrays.copyOf(parents, count);
+			nodeFrames = Arrays.copyOf(frames, count);
+			names = Arrays.copyOf(frameNames, frameCount);
+		}
+
+		int[] path = new int[16];
+		StringBuilder line = new StringBuilder();
+		for (int node = 1; node < count; node++) {
+			if (nodeCounts[node] == 0) {
+				continue;
+			}
+			int depth = 0;
+			for (int n = node; n != ROOT; n = nodeParents[n]) {
+				if (depth == path.length) {
+					path = Arrays.copyOf(path, depth * 2);
+				}
+				path[depth++] = n;
+			}
+			line.setLength(0);
+			while (--depth >= 0) {
+				line.append(names[nodeFrames[path[depth]]]);
+				if (depth > 0) {
+					line.append(';');
+				}
+			}
+			line.append(' ').append(nodeCounts[node]).append('\n');
+			out.append(line);
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder();
+		try {
+			writeCollapsedStacks(buf);
+		} catch (IOException e) {
+			// Not thrown by StringBuilder.
+		}
+		return buf.toString();
+	}
+}
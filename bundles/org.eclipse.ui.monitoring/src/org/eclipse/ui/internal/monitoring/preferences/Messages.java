@@ -31,11 +31,16 @@ public final class Messages extends NLS {
 	public static String MonitoringPreferencePage_deadlock_threshold_label;
 	public static String MonitoringPreferencePage_deadlock_threshold_too_low_error;
 	public static String MonitoringPreferencePage_enable_monitoring_label;
+	public static String MonitoringPreferencePage_enable_profiling_label;
 	public static String MonitoringPreferencePage_error_threshold_label;
 	public static String MonitoringPreferencePage_error_threshold_too_low_error;
+	public static String MonitoringPreferencePage_export_profile_button_label;
+	public static String MonitoringPreferencePage_export_profile_dialog_title;
+	public static String MonitoringPreferencePage_export_profile_error;
 	public static String MonitoringPreferencePage_log_freeze_events_label;
 	public static String MonitoringPreferencePage_max_stack_samples_label;
 	public static String MonitoringPreferencePage_noninteresting_thread_filter_label;
+	public static String MonitoringPreferencePage_profiling_sample_interval_label;
 	public static String MonitoringPreferencePage_remove_ui_thread_filter_button_label;
 	public static String MonitoringPreferencePage_remove_noninteresting_thread_filter_button_label;
 	public static String MonitoringPreferencePage_ui_thread_filter_label;
@@ -14,9 +14,15 @@
  *******************************************************************************/
 package org.eclipse.ui.internal.monitoring.preferences;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
 import org.eclipse.jface.layout.LayoutConstants;
@@ -27,9 +33,12 @@ import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
@@ -148,6 +157,12 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		createIntegerEditor(
 				PreferenceConstants.MAX_STACK_SAMPLES,
 				Messages.MonitoringPreferencePage_max_stack_samples_label, block, 0, 100);
+		createBooleanEditor(PreferenceConstants.PROFILING_ENABLED,
+				Messages.MonitoringPreferencePage_enable_profiling_label, block);
+		createIntegerEditor(
+				PreferenceConstants.PROFILING_SAMPLE_INTERVAL_MILLIS,
+				Messages.MonitoringPreferencePage_profiling_sample_interval_label, block, 1, 1000);
+		createExportProfileButton(block);
 		GridLayoutFactory.fillDefaults()
 				.numColumns(2)
 				.spacing(LayoutConstants.getSpacing())
@@ -183,6 +198,32 @@ public class MonitoringPreferencePage extends FieldEditorPreferencePage
 		return block;
 	}
 
+	private void createExportProfileButton(Composite parent) {
+		Button button = new Button(parent, SWT.PUSH);
+		button.setText(Messages.MonitoringPreferencePage_export_profile_button_label);
+		button.addListener(SWT.Selection, event -> exportProfile());
+		GridDataFactory.swtDefaults().span(2, 1).applyTo(button);
+	}
+
+	private void exportProfile() {
+		FileDialog dialog = new FileDialog(getShell(), SWT.SAVE);
+		dialog.setText(Messages.MonitoringPreferencePage_export_profile_dialog_title);
+		dialog.setFileName("ui-thread-profile.txt"); //$NON-NLS-1$
+		dialog.setOverwrite(true);
+		String fileName = dialog.open();
+		if (fileName == null) {
+			return;
+		}
+		try (Writer writer = Files.newBufferedWriter(Paths.get(fileName), StandardCharsets.UTF_8)) {
+			MonitoringPlugin.getDefault().getUiThreadProfile().writeCollapsedStacks(writer);
+		} catch (IOException e) {
+			MonitoringPlugin.logError(e.getMessage(), e);
+			MessageDialog.openError(getShell(),
+					Messages.MonitoringPreferencePage_export_profile_dialog_title,
+					NLS.bind(Messages.MonitoringPreferencePage_export_profile_error, fileName));
+		}
+	}
+
 	private static Control createEmptySpace(Composite parent, int height, int span) {
 		Label label= new Label(parent, SWT.LEFT);
 		GridDataFactory.fillDefaults().span(span, 1).hint(0, height).applyTo(label);
@@ -58,6 +58,20 @@ public class PreferenceConstants {
 	 * message if all stack frames of the thread match the filter.
 	 */
 	public static final String NONINTERESTING_THREAD_FILTER = "noninteresting_thread_filter"; //$NON-NLS-1$
+	/**
+	 * If true, the stack of the UI thread is sampled continuously while it is processing events,
+	 * and the samples are aggregated into a histogram that can be exported in collapsed stack
+	 * format.
+	 *
+	 * @since 1.2
+	 */
+	public static final String PROFILING_ENABLED = "profiling_enabled"; //$NON-NLS-1$
+	/**
+	 * Interval in milliseconds between two samples of the UI thread when profiling is enabled.
+	 *
+	 * @since 1.2
+	 */
+	public static final String PROFILING_SAMPLE_INTERVAL_MILLIS = "profiling_sample_interval"; //$NON-NLS-1$
 
 	private PreferenceConstants() {}
 }
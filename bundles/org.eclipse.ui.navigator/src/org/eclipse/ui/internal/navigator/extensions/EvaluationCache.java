@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2015 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,94 +17,98 @@ package org.eclipse.ui.internal.navigator.extensions;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.ui.internal.navigator.VisibilityAssistant;
 import org.eclipse.ui.internal.navigator.VisibilityAssistant.VisibilityListener;
 
 /**
  * A cache for evaluated {@link NavigatorContentDescriptor}.
+ * <p>
+ * The elements are softly referenced, so that the cache does not keep them
+ * alive, and the number of cached elements is bounded: once the bound is
+ * exceeded, the least recently used quarter of the entries is evicted. The
+ * descriptors computed with and without overrides are kept in the same entry.
+ * </p>
+ * <p>
+ * The cache is thread safe; it may be queried and updated from background
+ * content providers.
+ * </p>
  */
 public class EvaluationCache implements VisibilityListener {
-	// TODO Have an LRU cache with max size as well as SoftReferences, to help
-	// prevent pathological GC performance that can happen where there are a
-	// large number of softly reachable objects, as well as helping to reduce
-	// dependence on the GC from keeping this cache's size in line in the first
-	// place.
 
-	// TODO Counters for cache hits, misses, replacements, etc.
+	/**
+	 * The default maximum number of cached elements.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 10000;
 
-	// TODO Either the overrides and not overrides case should "share" parts of
-	// their data structures (for example, this can be a map of key -> pair
-	// instead of two maps) OR not bother tracking "overrides or not" state here
-	// and instead let users of this class handle it with two instances of this
-	// class.
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluations = new HashMap<>();
-	private final Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> evaluationsWithOverrides = new HashMap<>();
+	/**
+	 * The descriptors cached for one element.
+	 */
+	private static final class Entry {
+		volatile NavigatorContentDescriptor[] descriptors;
+		volatile NavigatorContentDescriptor[] descriptorsWithOverrides;
+		volatile long lastAccess;
 
-	private final ReferenceQueue<Object> evaluationsQueue = new ReferenceQueue<>();
-	private final ReferenceQueue<Object> evaluationsWithOverridesQueue = new ReferenceQueue<>();
+		NavigatorContentDescriptor[] get(boolean toComputeOverrides) {
+			return toComputeOverrides ? descriptorsWithOverrides : descriptors;
+		}
+
+		void set(NavigatorContentDescriptor[] theDescriptors, boolean toComputeOverrides) {
+			if (toComputeOverrides) {
+				descriptorsWithOverrides = theDescriptors;
+			} else {
+				descriptors = theDescriptors;
+			}
+		}
+	}
+
+	private final Map<EvaluationReference<Object>, Entry> entries = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	private final int maxSize;
+
+	// Logical time of the last accesses, for the least recently used eviction.
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
 
 	/**
 	 * @param anAssistant the VisisbilityAssistant to register with, must be non-null
 	 */
 	public EvaluationCache(VisibilityAssistant anAssistant) {
+		this(anAssistant, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param anAssistant
+	 *            the VisisbilityAssistant to register with, must be non-null
+	 * @param maxSize
+	 *            the maximum number of cached elements
+	 */
+	public EvaluationCache(VisibilityAssistant anAssistant, int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize); //$NON-NLS-1$
+		}
+		this.maxSize = maxSize;
 		anAssistant.addListener(this);
 	}
 
 	private void cleanUpStaleEntries() {
-		// TODO Only clean up to a certain number of entries per call when merely accessing or setting?
-		// TODO Periodic task to run this every now and then, ala org.eclipse.core.runtime.jobs.Job?
-		// If this is done, will need to make this class thread safe.
-
-		// Not thread safe, but this whole class isn't, so that is fine.
 		Reference<?> r;
 		// Reference#poll thankfully does not block if there is nothing available.
-		while ((r = evaluationsQueue.poll()) != null) {
-			processStaleEntry(r, evaluations);
-		}
-		while ((r = evaluationsWithOverridesQueue.poll()) != null) {
-			processStaleEntry(r, evaluationsWithOverrides);
-		}
-	}
-
-	private static void processStaleEntry(Reference<?> r,
-			Map<? extends Reference<?>, ? extends Reference<?>> fromMap) {
-		if (r instanceof EvaluationReference) {
-			// Key has been collected; clear its entry.
-			EvaluationValueReference<?> oldVal = (EvaluationValueReference<?>) fromMap.remove(r);
-			if (oldVal != null) {
-				// Clear the key from the value so we don't try to prematurely
-				// remove any potential new mapping upon cleanUpStaleEntries()
-				oldVal.clear();
-			}
-		}
-		if (r instanceof EvaluationValueReference) {
-			// If the value has been collected, get its key, and then remove that entry.
-			EvaluationReference<?> key = ((EvaluationValueReference<?>) r).getKey();
-			if (key != null) {
-				fromMap.remove(key);
-			}
-		}
-		// All other Reference types we just leave alone.
-	}
-
-	private static NavigatorContentDescriptor[] getDescriptorsFromMap(Object anElement,
-			Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> map) {
-		// Need to wrap in the reference type before querying, else it won't be found by HashMap.
-		EvaluationReference<Object> key = new EvaluationReference<>(anElement);
-		NavigatorContentDescriptor[] cachedDescriptors = null;
-		Reference<NavigatorContentDescriptor[]> cache = map.get(key);
-		if (cache != null && (cachedDescriptors = cache.get()) == null) {
-			// There was an entry, but it has been collected; remove stale mapping.
-			EvaluationValueReference<NavigatorContentDescriptor[]> value = map.remove(key);
-			if (value != null) {
-				// Clear the key from the value so we don't try to prematurely remove any potential new mapping upon cleanUpStaleEntries()
-				value.clear();
-			}
+		while ((r = queue.poll()) != null) {
+			// The element has been collected. A collected EvaluationReference
+			// is only equal to itself, so this removes exactly its entry.
+			entries.remove(r);
 		}
-		return cachedDescriptors;
 	}
 
 	/**
@@ -123,31 +127,16 @@ public class EvaluationCache implements VisibilityListener {
 		if (anElement == null)
 			return null;
 
-		if (toComputeOverrides) {
-			return getDescriptorsFromMap(anElement, evaluations);
-		}
-		return getDescriptorsFromMap(anElement, evaluationsWithOverrides);
-	}
-
-	private static void setDescriptorsInMap(Object anElement, NavigatorContentDescriptor[] theDescriptors,
-			Map<EvaluationReference<Object>, EvaluationValueReference<NavigatorContentDescriptor[]>> map,
-			ReferenceQueue<Object> queue) {
-		// Ideally, we would use a WeakReference wrapper if the object given uses identity equality
-		// (we can test if the class uses Object's equals or has its own override), and only use a SoftReference
-		// if the object overrides equals, but that is a bit too unwieldy to check (it would require
-		// checking reflective data) to be worth it.
-		EvaluationReference<Object> key = new EvaluationReference<>(anElement, queue);
-		EvaluationValueReference<NavigatorContentDescriptor[]> newValue =
-				new EvaluationValueReference<>(theDescriptors, key, queue);
-		EvaluationValueReference<NavigatorContentDescriptor[]> oldValue = map.put(key, newValue);
-		if (oldValue != null) {
-			// "Swap" the correct key instance when swapping the value, or else the above, temporary
-			// lookup key will be collected too early (not the actual anElement, but the Reference object).
-			// Not truly needed, but it will help the point of this field not go to waste.
-			newValue.swapKey(oldValue);
-			// Clear the key so we don't try to prematurely remove the new mapping upon cleanUpStaleEntries()
-			oldValue.clear();
+		// Need to wrap in the reference type before querying, else it won't be found.
+		Entry entry = entries.get(new EvaluationReference<>(anElement));
+		NavigatorContentDescriptor[] cachedDescriptors = entry == null ? null : entry.get(toComputeOverrides);
+		if (cachedDescriptors == null) {
+			misses.increment();
+			return null;
 		}
+		entry.lastAccess = clock.incrementAndGet();
+		hits.increment();
+		return cachedDescriptors;
 	}
 
 	/**
@@ -165,10 +154,52 @@ public class EvaluationCache implements VisibilityListener {
 			boolean toComputeOverrides) {
 		cleanUpStaleEntries();
 		if (anElement != null) {
-			if (toComputeOverrides) {
-				setDescriptorsInMap(anElement, theDescriptors, evaluations, evaluationsQueue);
-			} else {
-				setDescriptorsInMap(anElement, theDescriptors, evaluationsWithOverrides, evaluationsWithOverridesQueue);
+			// The key registered with the queue is only kept if there is no
+			// entry for the element yet.
+			Entry entry = entries.computeIfAbsent(new EvaluationReference<>(anElement, queue), k -> new Entry());
+			entry.set(theDescriptors, toComputeOverrides);
+			entry.lastAccess = clock.incrementAndGet();
+			if (entries.size() > maxSize) {
+				evict();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the least recently used entries until the cache is down to three
+	 * quarters of its maximum size. Evicting in batches keeps the cost of
+	 * finding the oldest entries low. Threads arriving while another one is
+	 * evicting do not wait: the evicting thread checks the size again when it
+	 * is done.
+	 */
+	private void evict() {
+		while (entries.size() > maxSize && evicting.compareAndSet(false, true)) {
+			try {
+				evictOldest(entries.size() - maxSize * 3 / 4);
+			} finally {
+				evicting.set(false);
+			}
+		}
+	}
+
+	private void evictOldest(int toEvict) {
+		long[] accessTimes = new long[entries.size()];
+		int count = 0;
+		for (Entry entry : entries.values()) {
+			if (count == accessTimes.length) {
+				break;
+			}
+			accessTimes[count++] = entry.lastAccess;
+		}
+		if (toEvict <= 0 || count == 0) {
+			return;
+		}
+		Arrays.sort(accessTimes, 0, count);
+		long threshold = accessTimes[Math.min(toEvict, count) - 1];
+		// Entries used since the snapshot have a higher access time and are kept.
+		for (Map.Entry<EvaluationReference<Object>, Entry> entry : entries.entrySet()) {
+			if (entry.getValue().lastAccess <= threshold && entries.remove(entry.getKey(), entry.getValue())) {
+				evictions.increment();
 			}
 		}
 	}
@@ -187,21 +218,53 @@ public class EvaluationCache implements VisibilityListener {
 	 * Clears the cache.
 	 */
 	public void clear() {
-		// Dump everything in the reference queues.
+		// Dump everything in the reference queue.
 		// Don't bother removing from the map based on references, we are about to clear everything anyways.
-		// This might lead to some premature removals because yet to be collected values are not clearing
-		// their key reference, but that is worth having a fast clearing of the maps.
-		// Thankfully, this should be rare, as when reference objects themselves are GCed before being added
-		// to a reference queue, they don't get added at all.
-		while (evaluationsQueue.poll() != null) {
+		while (queue.poll() != null) {
 			// No need to do anything with the reference, we just need to drain
 			// the queue.
 		}
-		while (evaluationsWithOverridesQueue.poll() != null) {
-			// No need to do anything with the reference, we just need to drain
-			// the queue.
-		}
-		evaluations.clear();
-		evaluationsWithOverrides.clear();
+		entries.clear();
+	}
+
+	/**
+	 * @return the number of cached elements
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the maximum number of cached elements
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @return the number of lookups which found cached descriptors
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups which found no cached descriptors
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of elements evicted because the cache was full
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "EvaluationCache[size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", evictions=" + getEvictionCount() + ']'; //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+}
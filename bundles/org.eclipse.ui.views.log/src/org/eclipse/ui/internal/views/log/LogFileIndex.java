@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Index of the top level records (<code>!SESSION</code> and <code>!ENTRY</code>) of a log file.
+ * The file is scanned once in fixed size chunks, recording the byte offset of every record and the
+ * severity of every entry, without creating any string or {@link LogEntry}. A record extends up to
+ * the start of the next record, so sub-entries are part of their top level entry. When the file
+ * grows, only the appended part is scanned by {@link #update(FileChannel)}.
+ * <p>
+ * The records selected for display are then read with {@link #openStream(FileChannel, int[], int)}.
+ * </p>
+ */
+class LogFileIndex {
+
+	/** Severity recorded for <code>!SESSION</code> records */
+	static final int SESSION = -1;
+
+	private static final byte[] ENTRY_TAG = "!ENTRY".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+	private static final byte[] SESSION_TAG = LogSession.SESSION.getBytes(StandardCharsets.US_ASCII);
+	private static final int CHUNK_SIZE = 64 * 1024;
+	// enough for "!ENTRY <pluginID> <severity>"
+	private static final int LINE_HEAD_SIZE = 512;
+
+	private long[] offsets = new long[256];
+	private int[] severities = new int[256];
+	private int size;
+	private long length;
+
+	// state of the scan at the end of the indexed part of the file
+	private final byte[] lineHead = new byte[LINE_HEAD_SIZE];
+	private int lineHeadLength;
+	private boolean leadingWhitespace = true;
+	private long lineStart;
+	// whether the last line, which may still be incomplete, was added as a record
+	private boolean lastLineAdded;
+	// the first bytes of the file, to notice when it is replaced
+	private byte[] head = new byte[0];
+
+	private LogFileIndex() {
+	}
+
+	/**
+	 * Scans the given log file.
+	 *
+	 * @param channel the channel of the log file
+	 * @return the index of the records of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	static LogFileIndex create(FileChannel channel) throws IOException {
+		LogFileIndex index = new LogFileIndex();
+		index.update(channel);
+		return index;
+	}
+
+	/**
+	 * Scans the part of the log file which was appended since it was last indexed.
+	 *
+	 * @param channel the channel of the indexed file
+	 * @return <code>false</code> if the file was truncated or replaced by another file, in which
+	 *         case the index is unchanged and a new index has to be created
+	 * @throws IOException if the file cannot be read
+	 */
+	boolean update(FileChannel channel) throws IOException {
+		long newLength = channel.size();
+		if (newLength < length || !Arrays.equals(head, readHead(channel, head.length))) {
+			return false;
+		}
+		if (lastLineAdded) {
+			// the line is added again once it is complete
+			size--;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+		long position = length;
+		while (position < newLength) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if (read <= 0) {
+				break;
+			}
+			byte[] bytes = buffer.array();
+			for (int i = 0; i < read; i++) {
+				byte b = bytes[i];
+				if (b == '\n' || b == '\r') {
+					addLine();
+					lineStart = position + i + 1;
+					lineHeadLength = 0;
+					leadingWhitespace = true;
+				} else if (leadingWhitespace && (b == ' ' || b == '\t')) {
+					// like String.trim() in LogReader
+				} else if (lineHeadLength < LINE_HEAD_SIZE) {
+					leadingWhitespace = false;
+					lineHead[lineHeadLength++] = b;
+				}
+			}
+			position += read;
+		}
+		length = position;
+		lastLineAdded = addLine();
+		if (head.length < LINE_HEAD_SIZE) {
+			head = readHead(channel, (int) Math.min(length, LINE_HEAD_SIZE));
+		}
+		return true;
+	}
+
+	private static byte[] readHead(FileChannel channel, int headLength) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(headLength);
+		while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+			// read until the buffer is full
+		}
+		return buffer.array();
+	}
+
+	private boolean addLine() {
+		if (startsWith(lineHead, lineHeadLength, ENTRY_TAG)) {
+			add(lineStart, parseSeverity(lineHead, lineHeadLength));
+			return true;
+		} else if (startsWith(lineHead, lineHeadLength, SESSION_TAG)) {
+			add(lineStart, SESSION);
+			return true;
+		}
+		return false;
+	}
+
+	private static boolean startsWith(byte[] line, int lineLength, byte[] prefix) {
+		if (lineLength < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (line[i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the severity like {@link LogEntry#processEntry(String)}: the third token of
+	 * <code>!ENTRY &lt;pluginID&gt; &lt;severity&gt; &lt;code&gt; &lt;date&gt;</code>, or 0 if it is
+	 * not a number.
+	 */
+	private static int parseSeverity(byte[] line, int lineLength) {
+		int token = 0;
+		int i = 0;
+		while (i < lineLength) {
+			while (i < lineLength && isSpace(line[i])) {
+				i++;
+			}
+			if (i == lineLength) {
+				break;
+			}
+			if (token == 2) {
+				int severity = 0;
+				int start = i;
+				while (i < lineLength && !isSpace(line[i])) {
+					byte b = line[i++];
+					if (b < '0' || b > '9' || i - start > 9) {
+						return 0;
+					}
+					severity = severity * 10 + (b - '0');
+				}
+				return severity;
+			}
+			while (i < lineLength && !isSpace(line[i])) {
+				i++;
+			}
+			token++;
+		}
+		return 0;
+	}
+
+	private static boolean isSpace(byte b) {
+		return b == ' ' || b == '\t';
+	}
+
+	private void add(long offset, int severity) {
+		if (size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, size * 2);
+			severities = Arrays.copyOf(severities, size * 2);
+		}
+		offsets[size] = offset;
+		severities[size] = severity;
+		size++;
+	}
+
+	/**
+	 * @return the number of records
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @return the length of the file when it was last indexed
+	 */
+	long length() {
+		return length;
+	}
+
+	long getOffset(int record) {
+		return offsets[record];
+	}
+
+	long getEnd(int record) {
+		return record + 1 < size ? offsets[record + 1] : length;
+	}
+
+	boolean isSession(int record) {
+		return severities[record] == SESSION;
+	}
+
+	/**
+	 * @return the severity of an entry, or {@link #SESSION}
+	 */
+	int getSeverity(int record) {
+		return severities[record];
+	}
+
+	/**
+	 * Reads the first line of a record.
+	 */
+	String readFirstLine(FileChannel channel, int record) throws IOException {
+		long end = Math.min(getEnd(record), getOffset(record) + LINE_HEAD_SIZE);
+		ByteBuffer buffer = ByteBuffer.allocate((int) (end - getOffset(record)));
+		channel.read(buffer, getOffset(record));
+		byte[] bytes = buffer.array();
+		int lineLength = 0;
+		while (lineLength < buffer.position() && bytes[lineLength] != '\n' && bytes[lineLength] != '\r') {
+			lineLength++;
+		}
+		return new String(bytes, 0, lineLength, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Opens a stream over the given records, in the given order. The byte ranges of the records
+	 * are looked up when the stream is opened, so the index may be updated while the stream is
+	 * read.
+	 *
+	 * @param channel the channel of the indexed file
+	 * @param records the records to read
+	 * @param count the number of records to read from the array
+	 * @return a stream of the contents of the records, closing the channel when closed
+	 */
+	InputStream openStream(FileChannel channel, int[] records, int count) {
+		long[] starts = new long[count];
+		long[] ends = new long[count];
+		for (int i = 0; i < count; i++) {
+			starts[i] = getOffset(records[i]);
+			ends[i] = getEnd(records[i]);
+		}
+		return new InputStream() {
+			private int current = -1;
+			private long position;
+			private long end;
+
+			private boolean nextRange() {
+				while (position >= end) {
+					if (++current >= count) {
+						return false;
+					}
+					position = starts[current];
+					end = ends[current];
+				}
+				return true;
+			}
+
+			@Override
+			public int read() throws IOException {
+				byte[] b = new byte[1];
+				return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (len == 0) {
+					return 0;
+				}
+				if (!nextRange()) {
+					return -1;
+				}
+				int toRead = (int) Math.min(len, end - position);
+				int read = channel.read(ByteBuffer.wrap(b, off, toRead), position);
+				if (read < 0) {
+					// the file was truncated
+					end = position;
+					return nextRange() ? read(b, off, len) : -1;
+				}
+				position += read;
+				return read;
+			}
+
+			@Override
+			public void close() throws IOException {
+				channel.close();
+			}
+		};
+	}
+
+	/**
+	 * Opens a channel for reading the given file.
+	 */
+	static FileChannel open(File file) throws IOException {
+		return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+	}
+}
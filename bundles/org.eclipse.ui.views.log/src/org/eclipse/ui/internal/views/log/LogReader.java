@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@
 package org.eclipse.ui.internal.views.log;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.*;
@@ -36,6 +37,10 @@ class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
+	// the index of the last read log file, which is extended when the file grows
+	private static File indexedFile;
+	private static LogFileIndex logFileIndex;
+
 	public static LogSession parseLogFile(File file, long maxLogTailSizeInMegaByte, List<LogEntry> entries,
 			IMemento memento) {
 		if (!file.exists())
@@ -56,7 +61,7 @@ class LogReader {
 		long maxTailSizeInBytes = maxLogTailSizeInMegaByte > 0 ? maxLogTailSizeInMegaByte * ONE_MEGA_BYTE_IN_BYTES
 				: ONE_MEGA_BYTE_IN_BYTES;
 		try (BufferedReader reader = new BufferedReader(
-				new InputStreamReader(new TailInputStream(file, maxTailSizeInBytes), StandardCharsets.UTF_8))) {
+				new InputStreamReader(openLogStream(file, maxTailSizeInBytes, memento), StandardCharsets.UTF_8))) {
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null)
@@ -168,6 +173,87 @@ class LogReader {
 		return currentSession;
 	}
 
+	/**
+	 * Opens a stream over the parts of the log file that can show up in the view: all sessions, and
+	 * the entries in the last <code>maxTailSizeInBytes</code> of the file passing the filter of
+	 * the memento after the start of the current session. With an entry limit only the last
+	 * entries up to the limit are read. The selection is made on a {@link LogFileIndex} of the
+	 * file, without creating entries. The index is kept for the next call, which only scans the
+	 * part of the file appended in between.
+	 */
+	private static synchronized InputStream openLogStream(File file, long maxTailSizeInBytes, IMemento memento)
+			throws IOException {
+		FileChannel channel = LogFileIndex.open(file);
+		try {
+			LogFileIndex index = getIndex(file, channel);
+			int size = index.size();
+
+			// entries before the current session are cleared when parsing
+			int first = 0;
+			if (!memento.getString(LogView.P_SHOW_ALL_SESSIONS).equals("true")) { //$NON-NLS-1$
+				LogSession currentSession = null;
+				for (int i = 0; i < size; i++) {
+					if (index.isSession(i)) {
+						LogSession session = new LogSession();
+						session.processLogLine(index.readFirstLine(channel, i).trim());
+						currentSession = updateCurrentSession(currentSession, session);
+						if (currentSession == session) {
+							first = i;
+						}
+					}
+				}
+			}
+
+			int limit = Integer.MAX_VALUE;
+			long tailStart = index.length() - maxTailSizeInBytes;
+			if (memento.getString(LogView.P_USE_LIMIT).equals("true")) { //$NON-NLS-1$
+				limit = memento.getInteger(LogView.P_LOG_LIMIT).intValue();
+			}
+
+			// find the oldest entry which is still within the limit
+			int from = size;
+			for (int i = size - 1, count = 0; i >= first && count < limit; i--) {
+				if (isSelected(index, i, tailStart, memento)) {
+					from = i;
+					count++;
+				}
+			}
+
+			int[] records = new int[size];
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (index.isSession(i) || (i >= from && isSelected(index, i, tailStart, memento))) {
+					records[count++] = i;
+				}
+			}
+			return index.openStream(channel, records, count);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the index of the given file, updated with the records appended since the last
+	 * call, or a new index if another file was read last or the file was truncated.
+	 */
+	private static LogFileIndex getIndex(File file, FileChannel channel) throws IOException {
+		LogFileIndex index = file.equals(indexedFile) ? logFileIndex : null;
+		// forget the index in case the update fails half way
+		logFileIndex = null;
+		if (index == null || !index.update(channel)) {
+			index = LogFileIndex.create(channel);
+		}
+		indexedFile = file;
+		logFileIndex = index;
+		return index;
+	}
+
+	private static boolean isSelected(LogFileIndex index, int record, long tailStart, IMemento memento) {
+		return !index.isSession(record) && index.getOffset(record) >= tailStart
+				&& isLogged(index.getSeverity(record), memento);
+	}
+
 	public static LogSession parseLogFile(File file, List<LogEntry> entries, IMemento memento) {
 		return parseLogFile(file, ONE_MEGA_BYTE_IN_BYTES, entries, memento);
 	}
@@ -231,7 +317,10 @@ class LogReader {
 	 * @return is entry logged or filtered
 	 */
 	public static boolean isLogged(LogEntry entry, IMemento memento) {
-		int severity = entry.getSeverity();
+		return isLogged(entry.getSeverity(), memento);
+	}
+
+	private static boolean isLogged(int severity, IMemento memento) {
 		switch (severity) {
 			case IStatus.INFO :
 				return memento.getString(LogView.P_LOG_INFO).equals("true"); //$NON-NLS-1$
@@ -123,6 +123,7 @@ public class LogView extends ViewPart implements ILogListener {
 	private Shell fTextShell;
 
 	private boolean fFirstEvent = true;
+	private Job fReadLogJob;
 
 	private TreeColumn fColumn1;
 	private TreeColumn fColumn2;
@@ -188,7 +189,6 @@ public class LogView extends ViewPart implements ILogListener {
 		composite.setLayout(layout);
 		composite.setLayoutData(new GridData(GridData.FILL_BOTH));
 
-		readLogFile();
 		createViewer(composite);
 		getSite().setSelectionProvider(fFilteredTree.getViewer());
 		createActions();
@@ -198,6 +198,18 @@ public class LogView extends ViewPart implements ILogListener {
 
 		makeHoverShell();
 
+		// the log file can be large, read it without blocking the UI thread
+		fReadLogJob = new Job(Messages.LogView_operation_reading) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				readLogFile();
+				asyncRefresh(false);
+				return Status.OK_STATUS;
+			}
+		};
+		fReadLogJob.setSystem(true);
+		fReadLogJob.schedule();
+
 		Platform.addLogListener(this);
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(fFilteredTree, IHelpContextIds.LOG_VIEW);
 		getSite().getWorkbenchWindow().addPerspectiveListener(new IPerspectiveListener2() {
@@ -649,6 +661,7 @@ public class LogView extends ViewPart implements ILogListener {
 	public void dispose() {
 		writeSettings();
 		Platform.removeLogListener(this);
+		fReadLogJob.cancel();
 		fClipboard.dispose();
 		if (fTextShell != null)
 			fTextShell.dispose();
@@ -834,22 +847,23 @@ public class LogView extends ViewPart implements ILogListener {
 	 * Reads the chosen backing log file
 	 */
 	void readLogFile() {
+		List<LogEntry> result = new ArrayList<>();
+		LogSession lastLogSession = LogReader.parseLogFile(this.fInputFile, getLogMaxTailSize(), result, this.fMemento);
+
 		synchronized (this) {
 			elements.clear();
 			groups.clear();
-		}
+			if (lastLogSession != null
+					&& (lastLogSession.getDate() == null || isEclipseStartTime(lastLogSession.getDate()))) {
+				currentSession = lastLogSession;
+			} else {
+				currentSession = null;
+			}
 
-		List<LogEntry> result = new ArrayList<>();
-		LogSession lastLogSession = LogReader.parseLogFile(this.fInputFile, getLogMaxTailSize(), result, this.fMemento);
-		if (lastLogSession != null && (lastLogSession.getDate() == null || isEclipseStartTime(lastLogSession.getDate()))) {
-			currentSession = lastLogSession;
-		} else {
-			currentSession = null;
+			group(result);
+			limitEntriesCount();
 		}
 
-		group(result);
-		limitEntriesCount();
-
 		getSite().getShell().getDisplay().asyncExec(() -> setContentDescription(getTitleSummary()));
 
 	}
@@ -1020,7 +1034,7 @@ public class LogView extends ViewPart implements ILogListener {
 		}
 
 		if (fFirstEvent || (currentSession == null)) {
-			readLogFile();
+			fReadLogJob.schedule();
 			asyncRefresh(true);
 			fFirstEvent = false;
 		} else {
@@ -55,6 +55,7 @@ public class Messages extends NLS {
 	public static String LogView_confirmOverwrite_message;
 	public static String LogView_operation_importing;
 	public static String LogView_operation_reloading;
+	public static String LogView_operation_reading;
 	public static String LogView_activate;
 	public static String LogView_AddingBatchedEvents;
 	public static String LogView_view_currentLog;
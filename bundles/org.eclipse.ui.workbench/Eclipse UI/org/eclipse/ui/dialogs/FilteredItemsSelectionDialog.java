@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,8 +34,12 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.IHandler;
@@ -210,9 +214,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private ItemsFilter currentlyCompletingFilter;
 
-	private List<Object> lastCompletedResult;
-
-	private ItemsFilter lastCompletedFilter;
+	private final CompletedResults completedResults = new CompletedResults();
 
 	private String initialPatternText;
 
@@ -222,6 +224,27 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 	private static final String EMPTY_STRING = ""; //$NON-NLS-1$
 
+	/**
+	 * Number of items matched or ranked by one task of the parallel filtering.
+	 */
+	private static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * Number of items below which filtering is not worth parallelizing.
+	 */
+	private static final int PARALLEL_THRESHOLD = 2 * CHUNK_SIZE;
+
+	/**
+	 * Number of items shown before all items are sorted.
+	 */
+	private static final int FIRST_PAGE_SIZE = 200;
+
+	/**
+	 * Number of items above which the first page is shown before all items are
+	 * sorted.
+	 */
+	private static final int FIRST_PAGE_THRESHOLD = 10000;
+
 	private boolean refreshWithLastSelection = false;
 
 	private IHandlerActivation showViewHandler;
@@ -974,9 +997,15 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 	}
 
 	/**
-	 * Schedule refresh job.
+	 * Schedule refresh job. The results of earlier searches are not reused
+	 * afterwards, as the items may have changed.
 	 */
 	public void scheduleRefresh() {
+		completedResults.clear();
+		scheduleRefreshJob();
+	}
+
+	private void scheduleRefreshJob() {
 		refreshCacheJob.cancelAll();
 		refreshCacheJob.schedule();
 	}
@@ -1155,6 +1184,25 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 	 */
 	protected abstract Comparator getItemsComparator();
 
+	/**
+	 * Returns whether the items may be filtered and sorted by several threads
+	 * at once. If <code>true</code>, large sets of items are split into chunks
+	 * which are matched and ranked in parallel, so
+	 * {@link ItemsFilter#matchItem(Object)} of the filters and the comparator
+	 * returned by {@link #getItemsComparator()} must be thread safe.
+	 * <p>
+	 * The default implementation returns <code>false</code>. Subclasses may
+	 * override.
+	 * </p>
+	 *
+	 * @return <code>true</code> if items can be filtered and sorted in
+	 *         parallel, <code>false</code> otherwise
+	 * @since 3.114
+	 */
+	protected boolean isParallelFilteringSupported() {
+		return false;
+	}
+
 	/**
 	 * Fills the content provider with matching items.
 	 *
@@ -1916,8 +1964,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 			contentProvider.addHistoryItems(itemsFilter);
 
-			if (!(lastCompletedFilter != null && lastCompletedFilter
-					.isSubFilter(this.itemsFilter)))
+			if (completedResults.find(this.itemsFilter) == null)
 				contentProvider.refresh();
 
 			filterJob.schedule();
@@ -1932,12 +1979,12 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 	 * refreshes the dialog (progress monitor and elements list).
 	 *
 	 * Depending on the filter, <code>FilterJob</code> decides which kind of
-	 * search will be run inside <code>filterContent</code>. If the last
-	 * filtering is done (last completed filter), is not null, and the new
-	 * filter is a sub-filter ({@link FilteredItemsSelectionDialog.ItemsFilter#isSubFilter(FilteredItemsSelectionDialog.ItemsFilter)})
-	 * of the last, then <code>FilterJob</code> only filters in the cache. If
-	 * it is the first filtering or the new filter isn't a sub-filter of the
-	 * last one, a full search is run.
+	 * search will be run inside <code>filterContent</code>. If the result of
+	 * an equal filter is remembered, e.g. after deleting the last character of
+	 * the pattern, it is reused. If the new filter is a sub-filter
+	 * ({@link FilteredItemsSelectionDialog.ItemsFilter#isSubFilter(FilteredItemsSelectionDialog.ItemsFilter)})
+	 * of a remembered one, then <code>FilterJob</code> only filters its
+	 * result. Otherwise a full search is run.
 	 */
 	private class FilterJob extends Job {
 
@@ -2020,31 +2067,24 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		protected void filterContent(GranualProgressMonitor monitor)
 				throws CoreException {
 
-			if (lastCompletedFilter != null
-					&& lastCompletedFilter.isSubFilter(this.itemsFilter)) {
-
-				int length = lastCompletedResult.size() / 500;
-				monitor
-						.beginTask(
-								WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName,
-								length);
-
-				for (int pos = 0; pos < lastCompletedResult.size(); pos++) {
-
-					Object item = lastCompletedResult.get(pos);
-					if (monitor.isCanceled())
-						break;
-					contentProvider.add(item, itemsFilter);
-
-					if ((pos % 500) == 0) {
-						monitor.worked(1);
-					}
+			CompletedResult completed = completedResults.find(this.itemsFilter);
+			if (completed != null) {
+				List<Object> matches;
+				if (completed.filter.equalsFilter(this.itemsFilter)) {
+					matches = completed.items;
+				} else {
+					matches = matchItems(completed.items, monitor);
+				}
+				if (!monitor.isCanceled()) {
+					contentProvider.addAll(matches, itemsFilter);
+					contentProvider.rememberResult(itemsFilter);
 				}
 
 			} else {
 
-				lastCompletedFilter = null;
-				lastCompletedResult = null;
+				// The items may have changed since the remembered results were
+				// computed.
+				completedResults.clear();
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor,
 									WorkbenchMessages.FilteredItemsSelectionDialog_searchJob_taskName,
@@ -2061,6 +2101,139 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 
 		}
 
+		/**
+		 * Returns the given items which match the filter, in parallel if
+		 * supported by the dialog.
+		 *
+		 * @param source
+		 *            the items to filter
+		 * @param monitor
+		 *            for monitoring progress
+		 * @return the matching items, in the order of the source
+		 */
+		private List<Object> matchItems(List<Object> source, GranualProgressMonitor monitor) {
+			int chunks = (source.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			monitor.beginTask(WorkbenchMessages.FilteredItemsSelectionDialog_cacheSearchJob_taskName, chunks);
+			List<Object> matches = new ArrayList<>();
+			if (!isParallelFilteringSupported() || source.size() < PARALLEL_THRESHOLD) {
+				for (int start = 0; start < source.size() && !monitor.isCanceled(); start += CHUNK_SIZE) {
+					matches.addAll(matchItems(source, start, Math.min(start + CHUNK_SIZE, source.size()), monitor));
+					monitor.worked(1);
+				}
+				return matches;
+			}
+
+			List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>(chunks);
+			for (int start = 0; start < source.size(); start += CHUNK_SIZE) {
+				int from = start;
+				int to = Math.min(start + CHUNK_SIZE, source.size());
+				tasks.add(ForkJoinPool.commonPool().submit(() -> matchItems(source, from, to, monitor)));
+			}
+			// Joining in order keeps the order of the source and lets the
+			// progress be reported from this thread.
+			for (ForkJoinTask<List<Object>> task : tasks) {
+				if (monitor.isCanceled()) {
+					task.cancel(false);
+				} else {
+					matches.addAll(task.join());
+					monitor.worked(1);
+				}
+			}
+			return matches;
+		}
+
+		private List<Object> matchItems(List<Object> source, int from, int to, IProgressMonitor monitor) {
+			List<Object> matches = new ArrayList<>();
+			for (int pos = from; pos < to; pos++) {
+				if ((pos & 0xff) == 0 && monitor.isCanceled()) {
+					break;
+				}
+				Object item = source.get(pos);
+				if (itemsFilter.matchItem(item)) {
+					matches.add(item);
+				}
+			}
+			return matches;
+		}
+
+	}
+
+	/**
+	 * A remembered result of a filtering.
+	 */
+	private static class CompletedResult {
+		final ItemsFilter filter;
+		final List<Object> items;
+
+		CompletedResult(ItemsFilter filter, List<Object> items) {
+			this.filter = filter;
+			this.items = items;
+		}
+	}
+
+	/**
+	 * The results of the last completed filterings, most recent first. Results
+	 * of sub-filters of the last full search are kept, so that deleting
+	 * characters from the pattern reuses them instead of searching again.
+	 */
+	private class CompletedResults {
+
+		private static final int MAX_RESULTS = 16;
+
+		private static final int MAX_ITEMS = 1000000;
+
+		private final LinkedList<CompletedResult> results = new LinkedList<>();
+
+		/**
+		 * Remembers the result of the given filter.
+		 *
+		 * @param itemsFilter
+		 *            the filter
+		 * @param items
+		 *            the matching items
+		 */
+		synchronized void add(ItemsFilter itemsFilter, List<Object> items) {
+			results.removeIf(result -> result.filter.equalsFilter(itemsFilter));
+			results.addFirst(new CompletedResult(itemsFilter, items));
+			// keep the most recent result, drop older ones beyond the limits
+			int count = 0;
+			int total = 0;
+			for (Iterator<CompletedResult> it = results.iterator(); it.hasNext();) {
+				CompletedResult result = it.next();
+				if (count > 0 && (count == MAX_RESULTS || total + result.items.size() > MAX_ITEMS)) {
+					it.remove();
+				} else {
+					count++;
+					total += result.items.size();
+				}
+			}
+		}
+
+		/**
+		 * Returns the result of a filter equal to the given one, or else the
+		 * smallest result of a filter of which the given one is a sub-filter.
+		 *
+		 * @param itemsFilter
+		 *            the filter
+		 * @return the result, or <code>null</code> if there is none
+		 */
+		synchronized CompletedResult find(ItemsFilter itemsFilter) {
+			CompletedResult best = null;
+			for (CompletedResult result : results) {
+				if (result.filter.equalsFilter(itemsFilter)) {
+					return result;
+				}
+				if (result.filter.isSubFilter(itemsFilter)
+						&& (best == null || result.items.size() < best.items.size())) {
+					best = result;
+				}
+			}
+			return best;
+		}
+
+		synchronized void clear() {
+			results.clear();
+		}
 	}
 
 	/**
@@ -2488,8 +2661,10 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 * unfortunately sometimes the method <code>getFilteredElements()</code>
 		 * could be run with a null monitor, the <code>reset</code> flag have
 		 * to be left intact.
+		 * <p>
+		 * The flag is read by the threads ranking the first items.
 		 */
-		private boolean reset;
+		private volatile boolean reset;
 
 		/**
 		 * Creates new instance of <code>ContentProvider</code>.
@@ -2555,6 +2730,20 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 			}
 		}
 
+		/**
+		 * Adds items which are known to match the filter.
+		 *
+		 * @param matches
+		 *            the matching items
+		 * @param itemsFilter
+		 *            the filter the items match
+		 */
+		public void addAll(List<Object> matches, ItemsFilter itemsFilter) {
+			if (itemsFilter == filter) {
+				this.items.addAll(matches);
+			}
+		}
+
 		/**
 		 * Add all history items to <code>contentProvider</code>.
 		 *
@@ -2571,6 +2760,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 									this.items.add(item);
 								} else {
 									this.selectionHistory.remove(item);
+									completedResults.clear();
 								}
 							}
 						}
@@ -2583,7 +2773,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 * Refresh dialog.
 		 */
 		public void refresh() {
-			scheduleRefresh();
+			scheduleRefreshJob();
 		}
 
 		/**
@@ -2597,6 +2787,8 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		public Object removeHistoryElement(Object item) {
 			if (this.selectionHistory != null)
 				this.selectionHistory.remove(item);
+			// the remembered results contain the matching history items
+			completedResults.clear();
 			if (filter == null || filter.getPattern().length() == 0) {
 				items.remove(item);
 				duplicates.remove(item);
@@ -2618,6 +2810,7 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		public void addHistoryElement(Object item) {
 			if (this.selectionHistory != null)
 				this.selectionHistory.accessed(item);
+			completedResults.clear();
 			if (filter == null || !filter.matchItem(item)) {
 				this.items.remove(item);
 				this.duplicates.remove(item);
@@ -2699,28 +2892,88 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 		 * @return sorted items
 		 */
 		private Object[] getSortedItems() {
-			if (lastSortedItems.size() != items.size()) {
+			if (!isSorted()) {
 				synchronized (lastSortedItems) {
+					Object[] sortedItems = items.toArray();
+					Comparator<Object> comparator = getHistoryComparator();
+					if (isParallelFilteringSupported() && sortedItems.length >= PARALLEL_THRESHOLD) {
+						Arrays.parallelSort(sortedItems, comparator);
+					} else {
+						Arrays.sort(sortedItems, comparator);
+					}
 					lastSortedItems.clear();
-					lastSortedItems.addAll(items);
-					Collections.sort(lastSortedItems, getHistoryComparator());
+					lastSortedItems.addAll(Arrays.asList(sortedItems));
 				}
 			}
 			return lastSortedItems.toArray();
 		}
 
+		private boolean isSorted() {
+			return lastSortedItems.size() == items.size();
+		}
+
+		/**
+		 * Returns the first items in sorted order, without sorting all items.
+		 * The items are split into chunks, the first items of each chunk are
+		 * selected, in parallel if supported, and then merged.
+		 *
+		 * @param count
+		 *            the number of items to return
+		 * @return the first items, sorted, or <code>null</code> if canceled
+		 */
+		private Object[] getFirstItems(int count) {
+			Object[] unsorted = items.toArray();
+			Comparator<Object> comparator = getHistoryComparator();
+			List<Object> candidates = new ArrayList<>();
+			if (isParallelFilteringSupported() && unsorted.length >= PARALLEL_THRESHOLD) {
+				List<ForkJoinTask<List<Object>>> tasks = new ArrayList<>();
+				for (int start = 0; start < unsorted.length; start += CHUNK_SIZE) {
+					int from = start;
+					int to = Math.min(start + CHUNK_SIZE, unsorted.length);
+					tasks.add(ForkJoinPool.commonPool()
+							.submit(() -> getFirstItems(unsorted, from, to, count, comparator)));
+				}
+				for (ForkJoinTask<List<Object>> task : tasks) {
+					if (reset) {
+						task.cancel(false);
+					} else {
+						candidates.addAll(task.join());
+					}
+				}
+			} else {
+				candidates = getFirstItems(unsorted, 0, unsorted.length, count, comparator);
+			}
+			if (reset) {
+				return null;
+			}
+			candidates.sort(comparator);
+			return candidates.subList(0, Math.min(count, candidates.size())).toArray();
+		}
+
+		private List<Object> getFirstItems(Object[] unsorted, int from, int to, int count,
+				Comparator<Object> comparator) {
+			// the greatest of the first items at the head
+			PriorityQueue<Object> firstItems = new PriorityQueue<>(count + 1, comparator.reversed());
+			for (int i = from; i < to && !reset; i++) {
+				firstItems.add(unsorted[i]);
+				if (firstItems.size() > count) {
+					firstItems.poll();
+				}
+			}
+			return new ArrayList<>(firstItems);
+		}
+
 		/**
 		 * Remember result of filtering.
 		 *
 		 * @param itemsFilter
 		 */
 		public void rememberResult(ItemsFilter itemsFilter) {
-			List<Object> itemsList = Collections.synchronizedList(Arrays
-					.asList(getSortedItems()));
+			// the order does not matter, the result is only filtered again
+			List<Object> itemsList = Arrays.asList(items.toArray());
 			// synchronization
 			if (itemsFilter == filter) {
-				lastCompletedFilter = itemsFilter;
-				lastCompletedResult = itemsList;
+				completedResults.add(itemsFilter, itemsList);
 			}
 
 		}
@@ -2841,11 +3094,50 @@ public abstract class FilteredItemsSelectionDialog extends SelectionStatusDialog
 				ticks /= 2;
 			}
 
+			if (!isSorted() && items.size() >= FIRST_PAGE_THRESHOLD) {
+				showFirstPage(parent);
+			}
+
 			// get already sorted array
 			Object[] filteredElements = getSortedItems();
 
 			monitor.worked(ticks);
 
+			return prepareItems(parent, filteredElements, monitor, ticks);
+		}
+
+		/**
+		 * Shows the first items while all items are being sorted.
+		 *
+		 * @param parent
+		 *            the parent
+		 */
+		private void showFirstPage(Object parent) {
+			Object[] firstItems = getFirstItems(FIRST_PAGE_SIZE);
+			if (firstItems == null || reset) {
+				return;
+			}
+			lastFilteredItems = Arrays.asList(prepareItems(parent, firstItems, new NullProgressMonitor(), 1));
+			refreshCacheJob.refreshJob.schedule();
+		}
+
+		/**
+		 * Filters sorted items using the provided <code>ViewerFilter</code>s
+		 * and adds a separator below the history items.
+		 *
+		 * @param parent
+		 *            the parent
+		 * @param filteredElements
+		 *            the sorted items
+		 * @param monitor
+		 *            progress monitor
+		 * @param ticks
+		 *            the ticks of the monitor to use for each filter and for
+		 *            adding the separator
+		 * @return an array of filtered items
+		 */
+		private Object[] prepareItems(Object parent, Object[] filteredElements, IProgressMonitor monitor,
+				int ticks) {
 			// filter the elements using provided ViewerFilters
 			if (filters != null && filteredElements != null) {
 				for (Iterator<?> iter = filters.iterator(); iter.hasNext();) {
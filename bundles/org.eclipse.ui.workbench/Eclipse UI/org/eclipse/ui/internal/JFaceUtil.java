@@ -14,12 +14,15 @@
 
 package org.eclipse.ui.internal;
 
+import java.io.File;
+
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.internal.ImageDataCache;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.util.Policy;
@@ -35,6 +38,13 @@ import org.eclipse.ui.statushandlers.StatusManager;
  */
 final class JFaceUtil {
 
+	/**
+	 * The system property enabling the persistent cache of decoded images.
+	 */
+	private static final String IMAGE_DATA_CACHE_PROPERTY = "org.eclipse.jface.imageDataCache"; //$NON-NLS-1$
+
+	private static final String IMAGE_DATA_CACHE_FILE = "imageData.cache"; //$NON-NLS-1$
+
 	private JFaceUtil() {
 		// prevents instantiation
 	}
@@ -109,4 +119,30 @@ final class JFaceUtil {
 
 		JFacePreferences.setPreferenceStore(WorkbenchPlugin.getDefault().getPreferenceStore());
 	}
+
+	/**
+	 * Opens the persistent cache of decoded images in the workbench state
+	 * location, if enabled by the <code>org.eclipse.jface.imageDataCache</code>
+	 * system property.
+	 */
+	public static void initializeImageDataCache() {
+		if (!Boolean.getBoolean(IMAGE_DATA_CACHE_PROPERTY) || Platform.getInstanceLocation() == null
+				|| !Platform.getInstanceLocation().isSet()) {
+			return;
+		}
+		WorkbenchPlugin plugin = WorkbenchPlugin.getDefault();
+		File file = plugin.getStateLocation().append(IMAGE_DATA_CACHE_FILE).toFile();
+		ImageDataCache.setDefault(ImageDataCache.open(file, plugin.getBundle().getBundleContext()));
+	}
+
+	/**
+	 * Writes and closes the persistent cache of decoded images.
+	 */
+	public static void disposeImageDataCache() {
+		ImageDataCache cache = ImageDataCache.getDefault();
+		if (cache != null) {
+			ImageDataCache.setDefault(null);
+			cache.close();
+		}
+	}
 }
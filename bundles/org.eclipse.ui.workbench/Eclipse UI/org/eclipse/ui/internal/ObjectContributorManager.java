@@ -21,9 +21,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IAdapterManager;
@@ -53,6 +57,12 @@ import org.eclipse.ui.PlatformUI;
  *				its superinterfaces then B and its superinterfaces)
  *		</il>
  * </ul>
+ * <p>
+ * The search order of a class is computed once and shared by all managers.
+ * The contributors found for a class are cached until a contributor for a
+ * type in its search order is registered or unregistered. The lookups can be
+ * done from any thread.
+ * </p>
  *
  * @see IObjectContributor
  */
@@ -75,17 +85,77 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
 		IObjectContributor contributor;
 	}
 
+	/**
+	 * The search order of a class as defined in the comment of
+	 * {@link ObjectContributorManager}.
+	 */
+	private static final class TypeHierarchy {
+		/** The class and its superclasses, unmodifiable. */
+		final List classOrder;
+
+		/** The interfaces of the classes in search order, unmodifiable. */
+		final List interfaceOrder;
+
+		/** The classes, each followed by its direct interfaces, unmodifiable. */
+		final List combinedOrder;
+
+		/** The names of the classes and interfaces. */
+		final Set typeNames;
+
+		TypeHierarchy(Class type) {
+			List classes = new ArrayList(4);
+			List combined = new ArrayList(4);
+			for (Class clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+				classes.add(clazz);
+				combined.add(clazz);
+				combined.addAll(Arrays.asList(clazz.getInterfaces()));
+			}
+			List interfaces = new ArrayList(4);
+			Map seen = new HashMap(4);
+			for (Iterator it = classes.iterator(); it.hasNext();) {
+				internalComputeInterfaceOrder(((Class) it.next()).getInterfaces(), interfaces, seen);
+			}
+			typeNames = new HashSet(classes.size() + interfaces.size());
+			for (Iterator it = classes.iterator(); it.hasNext();) {
+				typeNames.add(((Class) it.next()).getName());
+			}
+			for (Iterator it = interfaces.iterator(); it.hasNext();) {
+				typeNames.add(((Class) it.next()).getName());
+			}
+			classOrder = Collections.unmodifiableList(classes);
+			interfaceOrder = Collections.unmodifiableList(interfaces);
+			combinedOrder = Collections.unmodifiableList(combined);
+		}
+	}
+
+	/**
+	 * The search orders of the classes. A class value does not keep the class
+	 * loader of a class alive.
+	 */
+	private static final ClassValue<TypeHierarchy> TYPE_HIERARCHIES = new ClassValue<TypeHierarchy>() {
+		@Override
+		protected TypeHierarchy computeValue(Class<?> type) {
+			return new TypeHierarchy(type);
+		}
+	};
+
     /** Table of contributors. */
     protected Map contributors;
 
-    /** Cache of object class contributor search paths; <code>null</code> if none. */
-    protected Map objectLookup;
+    /** Cache of object class contributor search paths. */
+    protected final Map objectLookup = new ConcurrentHashMap();
 
-    /** Cache of resource adapter class contributor search paths; <code>null</code> if none. */
-    protected Map resourceAdapterLookup;
+    /** Cache of resource adapter class contributor search paths. */
+    protected final Map resourceAdapterLookup = new ConcurrentHashMap();
 
-    /** Cache of adaptable class contributor search paths; <code>null</code> if none. */
-    protected Map adaptableLookup;
+    /** Cache of adaptable class contributor search paths. */
+    protected final Map adaptableLookup = new ConcurrentHashMap();
+
+    /**
+     * Incremented whenever cached search paths are flushed, so that search
+     * paths computed concurrently with the flush are not cached.
+     */
+    private final AtomicLong lookupGeneration = new AtomicLong();
 
     protected Set contributorRecordSet;
 
@@ -95,9 +165,6 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
     public ObjectContributorManager() {
     	contributors = new Hashtable(5);
         contributorRecordSet = new HashSet(5);
-        objectLookup = null;
-        resourceAdapterLookup = null;
-        adaptableLookup = null;
         String extensionPointId = getExtensionPointFilter();
         if (extensionPointId != null) {
         	IExtensionPoint extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(
@@ -139,13 +206,11 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * The search order is defined in this class' comment.
      */
     protected final List computeClassOrder(Class extensibleClass) {
-        ArrayList result = new ArrayList(4);
-        Class clazz = extensibleClass;
-        while (clazz != null) {
-            result.add(clazz);
-            clazz = clazz.getSuperclass();
-        }
-        return result;
+        return new ArrayList(getTypeHierarchy(extensibleClass).classOrder);
+    }
+
+    private static TypeHierarchy getTypeHierarchy(Class type) {
+        return TYPE_HIERARCHIES.get(type);
     }
 
     /**
@@ -164,46 +229,48 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
     }
 
     /**
-     * Flushes the cache of contributor search paths.  This is generally required
-     * whenever a contributor is added or removed.
-     * <p>
-     * It is likely easier to just toss the whole cache rather than trying to be
-     * smart and remove only those entries affected.
+     * Flushes the cache of contributor search paths.  Registering or
+     * unregistering a contributor only flushes the search paths containing its
+     * target type, see {@link #flushLookup(String)}.
      */
     public void flushLookup() {
-        objectLookup = null;
-        resourceAdapterLookup = null;
-        adaptableLookup = null;
+        lookupGeneration.incrementAndGet();
+        objectLookup.clear();
+        resourceAdapterLookup.clear();
+        adaptableLookup.clear();
     }
 
     /**
-     * Cache the real adapter class contributor search path.
+     * Flushes the cached contributor search paths that contain the given type.
+     * This is required whenever a contributor for the type is added or
+     * removed.
+     *
+     * @param targetType the type whose contributors changed
      */
-    private void cacheResourceAdapterLookup(Class adapterClass, List results) {
-        if (resourceAdapterLookup == null) {
-			resourceAdapterLookup = new HashMap();
-		}
-        resourceAdapterLookup.put(adapterClass, results);
+    private void flushLookup(String targetType) {
+        lookupGeneration.incrementAndGet();
+        flushLookup(objectLookup, targetType);
+        flushLookup(resourceAdapterLookup, targetType);
+        adaptableLookup.remove(targetType);
     }
 
-    /**
-     * Cache the real adapter class contributor search path.
-     */
-    private void cacheAdaptableLookup(String adapterClass, List results) {
-        if (adaptableLookup == null) {
-			adaptableLookup = new HashMap();
-		}
-        adaptableLookup.put(adapterClass, results);
+    private static void flushLookup(Map classLookup, String targetType) {
+        for (Iterator classes = classLookup.keySet().iterator(); classes.hasNext();) {
+            if (getTypeHierarchy((Class) classes.next()).typeNames.contains(targetType)) {
+                classes.remove();
+            }
+        }
     }
 
     /**
-     * Cache the object class contributor search path.
+     * Cache a contributor search path, unless the cache was flushed since
+     * the generation the search path was computed in.
      */
-    private void cacheObjectLookup(Class objectClass, List results) {
-        if (objectLookup == null) {
-			objectLookup = new HashMap();
-		}
-        objectLookup.put(objectClass, results);
+    private void cacheLookup(Map lookup, Object key, List results, long generation) {
+        lookup.put(key, results);
+        if (lookupGeneration.get() != generation) {
+            lookup.remove(key, results);
+        }
     }
 
     /**
@@ -222,12 +289,10 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * Return the list of contributors for the supplied class.
      */
     protected List addContributorsFor(Class objectClass) {
-
-        List classList = computeClassOrder(objectClass);
+        TypeHierarchy hierarchy = getTypeHierarchy(objectClass);
         List result = new ArrayList();
-        addContributorsFor(classList, result);
-        classList = computeInterfaceOrder(classList); // interfaces
-        addContributorsFor(classList, result);
+        addContributorsFor(hierarchy.classOrder, result);
+        addContributorsFor(hierarchy.interfaceOrder, result); // interfaces
         return result;
     }
 
@@ -250,7 +315,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * on the class hierarchy. Interfaces will be searched
      * based on their position in the result list.
      */
-    private void internalComputeInterfaceOrder(Class[] interfaces, List result,
+    private static void internalComputeInterfaceOrder(Class[] interfaces, List result,
             Map seen) {
         List newInterfaces = new ArrayList(seen.size());
         for (Class currentInterface : interfaces) {
@@ -318,11 +383,12 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
             String targetType) {
         List contributorList = (List) contributors.get(targetType);
         if (contributorList == null) {
-            contributorList = new ArrayList(5);
+            // copied on write, so that lookups can run concurrently
+            contributorList = new CopyOnWriteArrayList();
             contributors.put(targetType, contributorList);
         }
         contributorList.add(contributor);
-        flushLookup();
+        flushLookup(targetType);
 
         IConfigurationElement element = Adapters.adapt(contributor, IConfigurationElement.class);
 
@@ -361,7 +427,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
         if (contributorList.isEmpty()) {
 			contributors.remove(targetType);
 		}
-        flushLookup();
+        flushLookup(targetType);
     }
 
 
@@ -372,7 +438,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      */
     public void unregisterContributors(String targetType) {
         contributors.remove(targetType);
-        flushLookup();
+        flushLookup(targetType);
     }
 
     protected List getContributors(Object object) {
@@ -416,12 +482,10 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * @since 3.1
      */
     protected List getObjectContributors(Class objectClass) {
-		List objectList = null;
 		// Lookup the results in the cache first.
-		if (objectLookup != null) {
-			objectList = (List) objectLookup.get(objectClass);
-		}
+		List objectList = (List) objectLookup.get(objectClass);
 		if (objectList == null) {
+			long generation = lookupGeneration.get();
 			objectList = addContributorsFor(objectClass);
 			if (objectList.isEmpty()) {
 				objectList = Collections.EMPTY_LIST;
@@ -429,7 +493,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
 			else {
 				objectList = Collections.unmodifiableList(objectList);
 			}
-			cacheObjectLookup(objectClass, objectList);
+			cacheLookup(objectLookup, objectClass, objectList, generation);
 		}
 		return objectList;
 	}
@@ -446,18 +510,16 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * @since 3.1
      */
 	protected List getResourceContributors(Class resourceClass) {
-		List resourceList = null;
-		if (resourceAdapterLookup != null) {
-			resourceList = (List) resourceAdapterLookup.get(resourceClass);
-		}
+		List resourceList = (List) resourceAdapterLookup.get(resourceClass);
 		if (resourceList == null) {
+			long generation = lookupGeneration.get();
 			resourceList = addContributorsFor(resourceClass);
 			if (resourceList.isEmpty()) {
 				resourceList = Collections.EMPTY_LIST;
 			} else {
 				resourceList = Collections.unmodifiableList(filterOnlyAdaptableContributors(resourceList));
 			}
-			cacheResourceAdapterLookup(resourceClass, resourceList);
+			cacheLookup(resourceAdapterLookup, resourceClass, resourceList, generation);
 		}
 		return resourceList;
 	}
@@ -472,14 +534,12 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * @since 3.1
      */
 	protected List getAdaptableContributors(String adapterType) {
-		List adaptableList = null;
 		// Lookup the results in the cache first, there are two caches
 		// one that stores non-adapter contributions and the other
 		// contains adapter contributions.
-		if (adaptableLookup != null) {
-			adaptableList = (List) adaptableLookup.get(adapterType);
-		}
+		List adaptableList = (List) adaptableLookup.get(adapterType);
 		if (adaptableList == null) {
+			long generation = lookupGeneration.get();
 			// ignore resource adapters because these must be adapted via the
 			// IContributorResourceAdapter.
 			if (LegacyResourceSupport.isResourceType(adapterType) || LegacyResourceSupport.isResourceMappingType(adapterType)) {
@@ -493,7 +553,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
 					adaptableList = Collections.unmodifiableList(filterOnlyAdaptableContributors(adaptableList));
 				}
 			}
-			cacheAdaptableLookup(adapterType, adaptableList);
+			cacheLookup(adaptableLookup, adapterType, adaptableList, generation);
 		}
 		return adaptableList;
 	}
@@ -521,20 +581,7 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
      * The search order is defined in this class' comment.
      */
     protected List computeCombinedOrder(Class inputClass) {
-        List result = new ArrayList(4);
-        Class clazz = inputClass;
-        while (clazz != null) {
-            // add the class
-            result.add(clazz);
-            // add all the interfaces it implements
-            Class[] interfaces = clazz.getInterfaces();
-            for (Class currentInterface : interfaces) {
-                result.add(currentInterface);
-            }
-            // get the superclass
-            clazz = clazz.getSuperclass();
-        }
-        return result;
+        return getTypeHierarchy(inputClass).combinedOrder;
     }
 
 	private List filterOnlyAdaptableContributors(List contributors) {
@@ -673,23 +720,31 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
 			return null;
 		}
 
+        // The common types only depend on the classes of the objects, so
+        // each distinct class is looked at once.
+        Set objectClasses = new LinkedHashSet(4);
+        for (int i = 0, size = objects.size(); i < size; i++) {
+            objectClasses.add(objects.get(i).getClass());
+        }
+        Iterator otherObjectClasses = objectClasses.iterator();
+        Class firstClass = (Class) otherObjectClasses.next();
+
         // Optimization: if n==1 (or if all objects are of the same class), then the common class is the object's class,
         // and the common adapters are the adapters cached for that class in the adapter manager
         // See bug 177592 for more details.
-        if (allSameClass(objects)) {
-
-        	Class clazz = objects.get(0).getClass();
-        	commonAdapters.addAll(Arrays.asList(Platform.getAdapterManager().computeAdapterTypes(clazz)));
+        if (objectClasses.size() == 1) {
+        	commonAdapters.addAll(Arrays.asList(Platform.getAdapterManager().computeAdapterTypes(firstClass)));
         	List result = new ArrayList(1);
-        	result.add(clazz);
+        	result.add(firstClass);
         	return result;
         }
 
         // Compute all the super classes, interfaces, and adapters
-        // for the first element.
-        List classes = computeClassOrder(objects.get(0).getClass());
+        // for the first class.
+        TypeHierarchy firstHierarchy = getTypeHierarchy(firstClass);
+        List classes = new ArrayList(firstHierarchy.classOrder);
         List adapters = computeAdapterOrder(classes);
-        List interfaces = computeInterfaceOrder(classes);
+        List interfaces = new ArrayList(firstHierarchy.interfaceOrder);
 
         // Cache of all types found in the selection - this is needed
         // to compute common adapters.
@@ -698,17 +753,19 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
         boolean classesEmpty = classes.isEmpty();
         boolean interfacesEmpty = interfaces.isEmpty();
 
-        // Traverse the selection if there is more than one element selected.
-        for (int i = 1; i < objects.size(); i++) {
-            // Compute all the super classes for the current element
-            List otherClasses = computeClassOrder(objects.get(i).getClass());
+        // Traverse the other classes of the selection.
+        while (otherObjectClasses.hasNext()) {
+            TypeHierarchy otherHierarchy = getTypeHierarchy((Class) otherObjectClasses.next());
+
+            // The super classes for the current class
+            List otherClasses = otherHierarchy.classOrder;
             if (!classesEmpty) {
                 classesEmpty = extractCommonClasses(classes, otherClasses);
             }
 
-            // Compute all the interfaces for the current element
+            // The interfaces for the current class
             // and all of its super classes.
-            List otherInterfaces = computeInterfaceOrder(otherClasses);
+            List otherInterfaces = otherHierarchy.interfaceOrder;
             if (!interfacesEmpty) {
                 interfacesEmpty = extractCommonClasses(interfaces,
                         otherInterfaces);
@@ -788,22 +845,6 @@ public abstract class ObjectContributorManager implements IExtensionChangeHandle
         return results;
     }
 
-    /**
-     * Returns <code>true</code> if all objects in the given list are of the same class,
-     * <code>false</code> otherwise.
-	 */
-	private boolean allSameClass(List objects) {
-		int size = objects.size();
-		if (size <= 1) return true;
-		Class clazz = objects.get(0).getClass();
-		for (int i = 1; i < size; ++i) {
-			if (!objects.get(i).getClass().equals(clazz)) {
-				return false;
-			}
-		}
-		return true;
-	}
-
 	private boolean extractCommonClasses(List classes, List otherClasses) {
         boolean classesEmpty = true;
         if (otherClasses.isEmpty()) {
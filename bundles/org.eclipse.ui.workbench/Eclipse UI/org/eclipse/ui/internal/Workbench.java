@@ -1591,6 +1591,7 @@ public final class Workbench extends EventManager implements IWorkbench,
 
 		// Set up the JFace preference store
 		JFaceUtil.initializeJFacePreferences();
+		JFaceUtil.initializeImageDataCache();
 
 		// TODO Correctly order service initialization
 		// there needs to be some serious consideration given to
@@ -3005,6 +3006,7 @@ public final class Workbench extends EventManager implements IWorkbench,
 		// shutdown the rest of the workbench
 		activityHelper.shutdown();
 		uninitializeImages();
+		JFaceUtil.disposeImageDataCache();
 		if (WorkbenchPlugin.getDefault() != null) {
 			WorkbenchPlugin.getDefault().reset();
 		}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.activities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import org.eclipse.ui.activities.IActivityPatternBinding;
+
+/**
+ * Finds the activities whose pattern bindings match an identifier without
+ * testing every pattern. Equality patterns are looked up by their string,
+ * regular expressions are indexed by their literal prefix, so only the
+ * patterns whose prefix starts the identifier are matched against it. Patterns
+ * without a literal prefix, such as <code>.*&#47;org\.eclipse\.debug.*</code>,
+ * are matched against every identifier.
+ * <p>
+ * An index is immutable, a new one is created when the pattern bindings
+ * change.
+ * </p>
+ *
+ * @since 3.114
+ */
+public final class ActivityPatternIndex {
+
+	private static final class RegexBinding {
+		final String activityId;
+
+		final Pattern pattern;
+
+		RegexBinding(String activityId, Pattern pattern) {
+			this.activityId = activityId;
+			this.pattern = pattern;
+		}
+	}
+
+	private final Map<String, Set<String>> activityIdsByString = new HashMap<>();
+
+	private final Map<String, List<RegexBinding>> regexBindingsByPrefix = new HashMap<>();
+
+	// The distinct lengths of the prefixes in ascending order
+	private final int[] prefixLengths;
+
+	/**
+	 * Creates the index of the pattern bindings.
+	 *
+	 * @param activityPatternBindingsByActivityId
+	 *            the pattern bindings of the activities
+	 */
+	public ActivityPatternIndex(Map<String, Set<IActivityPatternBinding>> activityPatternBindingsByActivityId) {
+		Set<Integer> lengths = new TreeSet<>();
+		for (Entry<String, Set<IActivityPatternBinding>> entry : activityPatternBindingsByActivityId.entrySet()) {
+			String activityId = entry.getKey();
+			for (IActivityPatternBinding binding : entry.getValue()) {
+				if (binding.isEqualityPattern()) {
+					activityIdsByString.computeIfAbsent(binding.getString(), string -> new HashSet<>())
+							.add(activityId);
+				} else {
+					Pattern pattern = binding.getPattern();
+					String prefix = getLiteralPrefix(pattern.pattern());
+					regexBindingsByPrefix.computeIfAbsent(prefix, p -> new ArrayList<>())
+							.add(new RegexBinding(activityId, pattern));
+					lengths.add(Integer.valueOf(prefix.length()));
+				}
+			}
+		}
+		prefixLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the ids of the activities with a pattern binding matching the
+	 * identifier.
+	 *
+	 * @param identifierId
+	 *            the identifier
+	 * @return the activity ids, may be empty
+	 */
+	public Set<String> getActivityIds(String identifierId) {
+		Set<String> activityIds = new HashSet<>();
+		Set<String> equal = activityIdsByString.get(identifierId);
+		if (equal != null) {
+			activityIds.addAll(equal);
+		}
+		for (int length : prefixLengths) {
+			if (length > identifierId.length()) {
+				break;
+			}
+			List<RegexBinding> bindings = regexBindingsByPrefix.get(identifierId.substring(0, length));
+			if (bindings == null) {
+				continue;
+			}
+			for (RegexBinding binding : bindings) {
+				if (!activityIds.contains(binding.activityId) && binding.pattern.matcher(identifierId).matches()) {
+					activityIds.add(binding.activityId);
+				}
+			}
+		}
+		return activityIds.isEmpty() ? Collections.emptySet() : activityIds;
+	}
+
+	/**
+	 * Returns the string every match of the regular expression starts with.
+	 * The prefix ends at the first character that is not matched literally,
+	 * and is empty if the expression has alternatives.
+	 *
+	 * @param regex
+	 *            the regular expression
+	 * @return the literal prefix, may be empty
+	 */
+	public static String getLiteralPrefix(String regex) {
+		if (regex.indexOf('|') >= 0) {
+			return ""; //$NON-NLS-1$
+		}
+		StringBuilder prefix = new StringBuilder();
+		int i = 0;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			char literal;
+			int next;
+			if (c == '\\') {
+				if (i + 1 == regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+					// a character class, quotation or back reference
+					break;
+				}
+				literal = regex.charAt(i + 1);
+				next = i + 2;
+			} else if ("^$.?*+()[]{}".indexOf(c) >= 0) { //$NON-NLS-1$
+				break;
+			} else {
+				literal = c;
+				next = i + 1;
+			}
+			if (next < regex.length() && "?*+{".indexOf(regex.charAt(next)) >= 0) { //$NON-NLS-1$
+				// the character is optional or repeated
+				break;
+			}
+			prefix.append(literal);
+			i = next;
+		}
+		return prefix.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ActivityPatternIndex [strings=" + activityIdsByString.size() + ", prefixes=" //$NON-NLS-1$ //$NON-NLS-2$
+				+ regexBindingsByPrefix.size() + ", prefixLengths=" + Arrays.toString(prefixLengths) + ']'; //$NON-NLS-1$
+	}
+}
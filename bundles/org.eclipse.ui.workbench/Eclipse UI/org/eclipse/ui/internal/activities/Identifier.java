@@ -16,7 +16,7 @@
 package org.eclipse.ui.internal.activities;
 
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Set;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.ui.activities.IIdentifier;
@@ -30,7 +30,15 @@ final class Identifier implements IIdentifier {
     private static final int HASH_INITIAL = Identifier.class.getName()
             .hashCode();
 
-	private static final Set<Identifier> strongReferences = new HashSet<>();
+	/**
+	 * The identifiers with listeners. The activity managers hold weakly the
+	 * identifiers not requested recently, so the identifiers with listeners
+	 * must be held here to keep their listeners notified. Identifiers are
+	 * compared by identity, as equal identifiers of different activity
+	 * managers must all be held.
+	 */
+	private static final Set<Identifier> strongReferences = Collections
+			.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
 
 	private Set<String> activityIds = Collections.emptySet();
 
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.ui.internal.activities;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The identifiers of an activity manager. The identifiers requested most
+ * recently are held strongly, up to a maximum number. The others are only held
+ * weakly: they are found and kept up to date as long as they are referenced
+ * elsewhere, and collected otherwise. An identifier with listeners is always
+ * referenced, as {@link Identifier} holds it until its last listener is
+ * removed.
+ * <p>
+ * This class is not thread safe, the activity manager synchronizes its access.
+ * </p>
+ *
+ * @since 3.114
+ */
+final class IdentifierCache {
+
+	/**
+	 * The default maximum number of identifiers held strongly.
+	 */
+	static final int DEFAULT_MAX_SIZE = 4096;
+
+	private static final class IdentifierReference extends WeakReference<Identifier> {
+		final String id;
+
+		IdentifierReference(Identifier identifier, ReferenceQueue<Identifier> queue) {
+			super(identifier, queue);
+			id = identifier.getId();
+		}
+	}
+
+	private final int maxSize;
+
+	private final Map<String, Identifier> recent;
+
+	private final Map<String, IdentifierReference> all = new HashMap<>();
+
+	private final ReferenceQueue<Identifier> queue = new ReferenceQueue<>();
+
+	/**
+	 * @param maxSize
+	 *            the maximum number of identifiers held strongly
+	 */
+	IdentifierCache(int maxSize) {
+		this.maxSize = maxSize;
+		recent = new LinkedHashMap<String, Identifier>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Identifier> eldest) {
+				return size() > IdentifierCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param id
+	 * @return the identifier or <code>null</code> if it is not cached
+	 */
+	Identifier get(String id) {
+		Identifier identifier = recent.get(id);
+		if (identifier == null) {
+			IdentifierReference reference = all.get(id);
+			if (reference != null) {
+				identifier = reference.get();
+				if (identifier != null) {
+					recent.put(id, identifier);
+				}
+			}
+		}
+		return identifier;
+	}
+
+	/**
+	 * @param identifier
+	 *            the identifier to add
+	 */
+	void put(Identifier identifier) {
+		purge();
+		all.put(identifier.getId(), new IdentifierReference(identifier, queue));
+		recent.put(identifier.getId(), identifier);
+	}
+
+	/**
+	 * @return the identifiers that have not been collected
+	 */
+	List<Identifier> getIdentifiers() {
+		purge();
+		List<Identifier> identifiers = new ArrayList<>(all.size());
+		for (IdentifierReference reference : all.values()) {
+			Identifier identifier = reference.get();
+			if (identifier != null) {
+				identifiers.add(identifier);
+			}
+		}
+		return identifiers;
+	}
+
+	/**
+	 * @return the number of identifiers held strongly
+	 */
+	int getRecentSize() {
+		return recent.size();
+	}
+
+	/**
+	 * @return the number of identifiers that have not been collected yet
+	 */
+	int size() {
+		purge();
+		return all.size();
+	}
+
+	private void purge() {
+		IdentifierReference reference;
+		while ((reference = (IdentifierReference) queue.poll()) != null) {
+			// a new identifier may have been added meanwhile
+			all.remove(reference.id, reference);
+		}
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.core.expressions.Expression;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -69,6 +70,12 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 	private Map<String, Set<IActivityPatternBinding>> activityPatternBindingsByActivityId = new HashMap<>();
 
+	/**
+	 * The index of activityPatternBindingsByActivityId, also read by the
+	 * identifier update job.
+	 */
+	private volatile ActivityPatternIndex activityPatternIndex = new ActivityPatternIndex(Collections.emptyMap());
+
     private IActivityRegistry activityRegistry;
 
 	private Map<String, Category> categoriesById = new HashMap<>();
@@ -83,7 +90,15 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 	private Set<String> enabledActivityIds = new HashSet<>();
 
-	private Map<String, Identifier> identifiersById = new HashMap<>();
+	private final IdentifierCache identifiers = new IdentifierCache(IdentifierCache.DEFAULT_MAX_SIZE);
+
+	private final LongAdder identifierHits = new LongAdder();
+
+	private final LongAdder identifierMisses = new LongAdder();
+
+	private final LongAdder identifierResolutions = new LongAdder();
+
+	private final LongAdder identifierResolutionNanos = new LongAdder();
 
     /**
      * Avoid endless circular referencing of re-adding activity to evaluation
@@ -187,17 +202,76 @@ public final class MutableActivityManager extends AbstractActivityManager
 			throw new NullPointerException();
 		}
 
-        Identifier identifier = identifiersById.get(identifierId);
+        Identifier identifier = identifiers.get(identifierId);
 
         if (identifier == null) {
+			identifierMisses.increment();
             identifier = new Identifier(identifierId);
             updateIdentifier(identifier);
-            identifiersById.put(identifierId, identifier);
+			identifiers.put(identifier);
+		} else {
+			identifierHits.increment();
         }
 
         return identifier;
     }
 
+	/**
+	 * Returns how often {@link #getIdentifier(String)} returned a cached
+	 * identifier.
+	 *
+	 * @return the number of cache hits
+	 * @since 3.114
+	 */
+	public long getIdentifierHitCount() {
+		return identifierHits.sum();
+	}
+
+	/**
+	 * Returns how often {@link #getIdentifier(String)} had to create an
+	 * identifier.
+	 *
+	 * @return the number of cache misses
+	 * @since 3.114
+	 */
+	public long getIdentifierMissCount() {
+		return identifierMisses.sum();
+	}
+
+	/**
+	 * Returns how often the activities and the enablement of an identifier
+	 * were computed, for new identifiers and when the activities changed.
+	 *
+	 * @return the number of identifier resolutions
+	 * @since 3.114
+	 */
+	public long getIdentifierResolutionCount() {
+		return identifierResolutions.sum();
+	}
+
+	/**
+	 * Returns the total time spent computing the activities and the enablement
+	 * of identifiers.
+	 *
+	 * @return the time in nanoseconds
+	 * @since 3.114
+	 */
+	public long getIdentifierResolutionTime() {
+		return identifierResolutionNanos.sum();
+	}
+
+	/**
+	 * Returns the number of identifiers that are kept up to date. Only the
+	 * most recently requested identifiers are held by the manager, the others
+	 * are kept as long as they are referenced elsewhere.
+	 *
+	 * @return the number of identifiers
+	 * @since 3.114
+	 */
+	synchronized public int getIdentifierCount() {
+		return identifiers.size();
+	}
+
 	private void getRequiredActivityIds(Set<String> activityIds, Set<String> requiredActivityIds) {
 		for (Iterator<String> iterator = activityIds.iterator(); iterator.hasNext();) {
             String activityId = iterator.next();
@@ -252,13 +326,9 @@ public final class MutableActivityManager extends AbstractActivityManager
 		for (Iterator<Entry<String, IdentifierEvent>> iterator = identifierEventsByIdentifierId.entrySet()
                 .iterator(); iterator.hasNext();) {
 			Entry<String, IdentifierEvent> entry = iterator.next();
-			String identifierId = entry.getKey();
 			IdentifierEvent identifierEvent = entry.getValue();
-			Identifier identifier = identifiersById.get(identifierId);
-
-            if (identifier != null) {
-				identifier.fireIdentifierChanged(identifierEvent);
-			}
+			Identifier identifier = (Identifier) identifierEvent.getIdentifier();
+			identifier.fireIdentifierChanged(identifierEvent);
         }
     }
 
@@ -413,6 +483,7 @@ public final class MutableActivityManager extends AbstractActivityManager
         this.activityRequirementBindingsByActivityId = activityRequirementBindingsByActivityId;
         this.activityDefinitionsById = activityDefinitionsById;
         this.activityPatternBindingsByActivityId = activityPatternBindingsByActivityId;
+		this.activityPatternIndex = new ActivityPatternIndex(activityPatternBindingsByActivityId);
         this.categoryActivityBindingsByCategoryId = categoryActivityBindingsByCategoryId;
         this.categoryDefinitionsById = categoryDefinitionsById;
         boolean definedActivityIdsChanged = false;
@@ -450,7 +521,7 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 		Map<String, CategoryEvent> categoryEventsByCategoryId = updateCategories(categoriesById.keySet());
 
-		Map<String, IdentifierEvent> identifierEventsByIdentifierId = updateIdentifiers(identifiersById.keySet());
+		Map<String, IdentifierEvent> identifierEventsByIdentifierId = updateIdentifiers(identifiers.getIdentifiers());
 
         if (definedActivityIdsChanged || definedCategoryIdsChanged
                 || enabledActivityIdsChanged) {
@@ -554,8 +625,8 @@ public final class MutableActivityManager extends AbstractActivityManager
 			Set<String> previouslyEnabledActivityIds) {
 		// don't update identifiers if the enabled activity set has not changed
         if (activityManagerChanged) {
-			Map<String, IdentifierEvent> identifierEventsByIdentifierId = updateIdentifiers(identifiersById
-                    .keySet(), deltaActivityIds);
+			Map<String, IdentifierEvent> identifierEventsByIdentifierId = updateIdentifiers(
+					identifiers.getIdentifiers(), deltaActivityIds);
             if (identifierEventsByIdentifierId != null) {
 				notifyIdentifiers(identifierEventsByIdentifierId);
 			}
@@ -774,6 +845,14 @@ public final class MutableActivityManager extends AbstractActivityManager
     }
 
 	private IdentifierEvent updateIdentifier(Identifier identifier, Set<String> changedActivityIds) {
+		long start = System.nanoTime();
+		IdentifierEvent identifierEvent = resolveIdentifier(identifier, changedActivityIds);
+		identifierResolutions.increment();
+		identifierResolutionNanos.add(System.nanoTime() - start);
+		return identifierEvent;
+	}
+
+	private IdentifierEvent resolveIdentifier(Identifier identifier, Set<String> changedActivityIds) {
         String id = identifier.getId();
 		Set<String> activityIds = new HashSet<>();
 
@@ -797,19 +876,14 @@ public final class MutableActivityManager extends AbstractActivityManager
                         enabledChanged);
 			}
         } else {
-			Set<String> activityIdsToUpdate = new HashSet<>(changedActivityIds);
-            if (identifier.getActivityIds() != null) {
-                activityIdsToUpdate.addAll(identifier.getActivityIds());
-            }
-			for (Iterator<String> iterator = activityIdsToUpdate.iterator(); iterator
-                    .hasNext();) {
-                String activityId = iterator.next();
-                Activity activity = (Activity) getActivity(activityId);
-
-                if (activity.isMatch(id)) {
-                    activityIds.add(activityId);
-               }
-            }
+			// only the changed activities and the current ones may differ
+			Set<String> currentActivityIds = identifier.getActivityIds();
+			for (String activityId : activityPatternIndex.getActivityIds(id)) {
+				if (changedActivityIds.contains(activityId)
+						|| (currentActivityIds != null && currentActivityIds.contains(activityId))) {
+					activityIds.add(activityId);
+				}
+			}
 
             activityIdsChanged = identifier.setActivityIds(activityIds);
 
@@ -826,24 +900,19 @@ public final class MutableActivityManager extends AbstractActivityManager
         return null;
     }
 
-	private Map<String, IdentifierEvent> updateIdentifiers(Collection<String> identifierIds) {
-        return updateIdentifiers(identifierIds, definedActivityIds);
+	private Map<String, IdentifierEvent> updateIdentifiers(Collection<Identifier> identifiers) {
+        return updateIdentifiers(identifiers, definedActivityIds);
     }
 
-	private Map<String, IdentifierEvent> updateIdentifiers(Collection<String> identifierIds,
+	private Map<String, IdentifierEvent> updateIdentifiers(Collection<Identifier> identifiers,
 			Set<String> changedActivityIds) {
 		Map<String, IdentifierEvent> identifierEventsByIdentifierId = new TreeMap<>();
 
-		for (Iterator<String> iterator = identifierIds.iterator(); iterator.hasNext();) {
-			String identifierId = iterator.next();
-			Identifier identifier = identifiersById.get(identifierId);
-
-			if (identifier != null) {
-				IdentifierEvent identifierEvent = updateIdentifier(identifier, changedActivityIds);
+		for (Identifier identifier : identifiers) {
+			IdentifierEvent identifierEvent = updateIdentifier(identifier, changedActivityIds);
 
-				if (identifierEvent != null) {
-					identifierEventsByIdentifierId.put(identifierId, identifierEvent);
-				}
+			if (identifierEvent != null) {
+				identifierEventsByIdentifierId.put(identifier.getId(), identifierEvent);
 			}
 		}
 
@@ -879,15 +948,10 @@ public final class MutableActivityManager extends AbstractActivityManager
 
 				while (!deferredIdentifiers.isEmpty()) {
 					Identifier identifier = deferredIdentifiers.remove(0);
-					Set<String> activityIds = new HashSet<>();
-					for (Iterator<String> iterator = definedActivityIds.iterator(); iterator.hasNext();) {
-						String activityId = iterator.next();
-						Activity activity = (Activity) getActivity(activityId);
-
-						if (activity.isMatch(identifier.getId())) {
-							activityIds.add(activityId);
-						}
-					}
+					long start = System.nanoTime();
+					Set<String> activityIds = activityPatternIndex.getActivityIds(identifier.getId());
+					identifierResolutions.increment();
+					identifierResolutionNanos.add(System.nanoTime() - start);
 
 					boolean activityIdsChanged = identifier.setActivityIds(activityIds);
 					if (activityIdsChanged) {
@@ -18,11 +18,15 @@ package org.eclipse.ui.internal.decorators;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -44,7 +48,10 @@ import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
  * The DecorationScheduler is the class that handles the decoration of elements
- * using a background thread.
+ * using a bounded pool of background decoration workers. The workers pull the
+ * elements from a concurrent queue, in which every element is queued once
+ * until it is decorated, and publish the decorated elements in batches to the
+ * label update job.
  */
 public class DecorationScheduler {
 
@@ -52,10 +59,13 @@ public class DecorationScheduler {
 
 	// When decorations are computed they are added to this cache via
 	// decorated() method
-	Map resultCache = new HashMap();
+	Map<IDecorationContext, Map<Object, DecorationResult>> resultCache = new ConcurrentHashMap<>();
 
 	// Objects that need an icon and text computed for display to the user
-	List awaitingDecoration = new ArrayList();
+	Queue<Object> awaitingDecoration = new ConcurrentLinkedQueue<>();
+
+	// Number of elements in awaitingDecoration, which has no constant time size
+	private final AtomicInteger awaitingDecorationCount = new AtomicInteger();
 
 	// Objects that are awaiting a label update.
 	Set pendingUpdate = new HashSet();
@@ -63,13 +73,14 @@ public class DecorationScheduler {
 	// Key to lock write access to the pending update set
 	Object pendingKey = new Object();
 
-	Map awaitingDecorationValues = new HashMap();
+	// The reference for each element in awaitingDecoration
+	Map<Object, DecorationReference> awaitingDecorationValues = new ConcurrentHashMap<>();
 
 	DecoratorManager decoratorManager;
 
-	boolean shutdown = false;
+	volatile boolean shutdown = false;
 
-	Job decorationJob;
+	Job[] decorationJobs;
 
 	UIJob updateJob;
 
@@ -83,6 +94,24 @@ public class DecorationScheduler {
 	/** Amount of time to delay the update notification when max reached. */
 	static final int UPDATE_DELAY = 100;
 
+	/** Maximum number of decoration workers. */
+	static final int MAX_WORKERS = 4;
+
+	/** Number of queued elements that justify an additional worker. */
+	static final int ELEMENTS_PER_WORKER = 16;
+
+	/** Number of decorated elements a worker publishes at once. */
+	static final int PUBLISH_BATCH_SIZE = 64;
+
+	// Throughput statistics
+	private final AtomicLong decorationCount = new AtomicLong();
+
+	private final AtomicLong busyNanos = new AtomicLong();
+
+	private final AtomicInteger activeWorkers = new AtomicInteger();
+
+	private volatile long busySince;
+
 	/**
 	 * Return a new instance of the receiver configured for the supplied
 	 * DecoratorManager.
@@ -91,7 +120,7 @@ public class DecorationScheduler {
 	 */
 	DecorationScheduler(DecoratorManager manager) {
 		decoratorManager = manager;
-		createDecorationJob();
+		createDecorationJobs();
 	}
 
 	/**
@@ -134,30 +163,56 @@ public class DecorationScheduler {
 	 *            The decoration context
 	 */
 
-	synchronized void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
+	void queueForDecoration(Object element, Object adaptedElement, boolean forceUpdate,
 			String undecoratedText, IDecorationContext context) {
 
 		Assert.isNotNull(context);
-		DecorationReference reference = (DecorationReference) awaitingDecorationValues.get(element);
-		if (reference != null) {
-			if (forceUpdate) {// Make sure we don't loose a force
-				reference.setForceUpdate(forceUpdate);
+		boolean[] queued = new boolean[1];
+		// The reference is only modified while its entry is locked, so a
+		// worker which removed it sees all contexts added before.
+		awaitingDecorationValues.compute(element, (key, reference) -> {
+			if (reference != null) {
+				if (forceUpdate) {// Make sure we don't loose a force
+					reference.setForceUpdate(forceUpdate);
+				}
+				reference.addContext(context);
+				return reference;
 			}
-			reference.addContext(context);
-		} else {
 			reference = new DecorationReference(element, adaptedElement, context);
 			reference.setForceUpdate(forceUpdate);
 			reference.setUndecoratedText(undecoratedText);
-			awaitingDecorationValues.put(element, reference);
+			queued[0] = true;
+			return reference;
+		});
+		if (queued[0]) {
 			awaitingDecoration.add(element);
+			int count = awaitingDecorationCount.incrementAndGet();
 			if (shutdown) {
 				return;
 			}
-			decorationJob.schedule();
+			scheduleWorkers(count);
 		}
 
 	}
 
+	/**
+	 * Schedule as many decoration workers as the number of queued elements
+	 * justifies.
+	 *
+	 * @param queuedCount
+	 *            the number of elements awaiting decoration
+	 */
+	private void scheduleWorkers(int queuedCount) {
+		int workers = Math.min(decorationJobs.length, 1 + (queuedCount - 1) / ELEMENTS_PER_WORKER);
+		for (int i = 0; i < workers; i++) {
+			Job worker = decorationJobs[i];
+			// a running worker keeps pulling elements until the queue is empty
+			if (i == 0 || worker.getState() == Job.NONE) {
+				worker.schedule();
+			}
+		}
+	}
+
 	/**
 	 * Decorate the supplied image, element and its adapted value.
 	 *
@@ -214,21 +269,16 @@ public class DecorationScheduler {
 
 	private DecorationResult internalGetResult(Object element,
 			IDecorationContext context) {
-		Map results = (Map) resultCache.get(context);
+		Map<Object, DecorationResult> results = resultCache.get(context);
 		if (results != null) {
-			return (DecorationResult) results.get(element);
+			return results.get(element);
 		}
 		return null;
 	}
 
 	protected void internalPutResult(Object element,
 			IDecorationContext context, DecorationResult result) {
-		Map results = (Map) resultCache.get(context);
-		if (results == null) {
-			results = new HashMap();
-			resultCache.put(context, results);
-		}
-		results.put(element, result);
+		resultCache.computeIfAbsent(context, c -> new ConcurrentHashMap<>()).put(element, result);
 	}
 
 	/**
@@ -258,32 +308,64 @@ public class DecorationScheduler {
 	}
 
 	/**
-	 * Get the next resource to be decorated.
+	 * Get the next resource to be decorated. May be called concurrently by
+	 * several decoration workers.
 	 *
-	 * @return IResource
+	 * @return the reference or <code>null</code> if the queue is empty
 	 */
-	synchronized DecorationReference nextElement() {
+	DecorationReference nextElement() {
+		Object element;
+		while (!shutdown && (element = awaitingDecoration.poll()) != null) {
+			awaitingDecorationCount.decrementAndGet();
+			DecorationReference reference = awaitingDecorationValues.remove(element);
+			if (reference != null) {
+				return reference;
+			}
+		}
+		return null;
+	}
 
-		if (shutdown || awaitingDecoration.isEmpty()) {
-			return null;
+	/**
+	 * Publish the elements a worker has decorated to the update job.
+	 *
+	 * @param decoratedElements
+	 *            the elements whose labels have to be updated, cleared
+	 *            afterwards
+	 */
+	private void publishDecorated(List<Object> decoratedElements) {
+		if (!decoratedElements.isEmpty()) {
+			synchronized (pendingKey) {
+				pendingUpdate.addAll(decoratedElements);
+			}
+			decoratedElements.clear();
 		}
-		Object element = awaitingDecoration.remove(0);
+		if (!hasPendingUpdates()) {
+			decorated();
+		}
+	}
 
-		return (DecorationReference) awaitingDecorationValues.remove(element);
+	/**
+	 * Create the jobs used for running decoration.
+	 */
+	private void createDecorationJobs() {
+		int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() - 1));
+		decorationJobs = new Job[workers];
+		for (int i = 0; i < workers; i++) {
+			decorationJobs[i] = createDecorationJob();
+		}
+		decorationJobs[0].schedule();
 	}
 
 	/**
-	 * Create the Thread used for running decoration.
+	 * Create a Job used for running decoration.
 	 */
-	private void createDecorationJob() {
-		decorationJob = new Job(WorkbenchMessages.DecorationScheduler_CalculationJobName) {
+	private Job createDecorationJob() {
+		Job decorationJob = new Job(WorkbenchMessages.DecorationScheduler_CalculationJobName) {
 			@Override
 			public IStatus run(IProgressMonitor monitor) {
 
-				synchronized (DecorationScheduler.this) {
-					if (shutdown) {
-						return Status.CANCEL_STATUS;
-					}
+				if (shutdown) {
+					return Status.CANCEL_STATUS;
 				}
 
 				while (updatesPending()) {
@@ -299,27 +381,40 @@ public class DecorationScheduler {
 
 				SubMonitor subMonitor = SubMonitor.convert(monitor);
 				subMonitor.setTaskName(WorkbenchMessages.DecorationScheduler_CalculatingTask);
-				// will block if there are no resources to be decorated
 				DecorationReference reference;
-
-				while ((reference = nextElement()) != null) {
-
-					SubMonitor loopMonitor = subMonitor.setWorkRemaining(100).split(1);
-					Object element = reference.getElement();
-					boolean force = reference.shouldForceUpdate();
-					IDecorationContext[] contexts = reference.getContexts();
-					loopMonitor.setWorkRemaining(contexts.length);
-					for (IDecorationContext context : contexts) {
-						ensureResultCached(element, force, context);
-						loopMonitor.split(1);
-					}
-					// Only notify listeners when we have exhausted the
-					// queue of decoration requests.
-					synchronized (DecorationScheduler.this) {
-						if (awaitingDecoration.isEmpty()) {
-							decorated();
+				List<Object> decoratedElements = new ArrayList<>(PUBLISH_BATCH_SIZE);
+
+				workerStarted();
+				try {
+					while ((reference = nextElement()) != null) {
+
+						SubMonitor loopMonitor = subMonitor.setWorkRemaining(100).split(1);
+						Object element = reference.getElement();
+						boolean force = reference.shouldForceUpdate();
+						IDecorationContext[] contexts = reference.getContexts();
+						loopMonitor.setWorkRemaining(contexts.length);
+						boolean needsUpdate = false;
+						for (IDecorationContext context : contexts) {
+							needsUpdate |= ensureResultCached(element, force, context);
+							loopMonitor.split(1);
+						}
+						decorationCount.incrementAndGet();
+						// Add an update for only the original element to
+						// prevent multiple updates
+						if (needsUpdate) {
+							decoratedElements.add(element);
+						}
+						// Notify listeners in batches and when we have
+						// exhausted the queue of decoration requests.
+						if (decoratedElements.size() >= PUBLISH_BATCH_SIZE || awaitingDecoration.isEmpty()) {
+							publishDecorated(decoratedElements);
 						}
 					}
+				} finally {
+					if (!decoratedElements.isEmpty()) {
+						publishDecorated(decoratedElements);
+					}
+					workerStopped();
 				}
 				return Status.OK_STATUS;
 			}
@@ -333,47 +428,31 @@ public class DecorationScheduler {
 			 *            whether an update should be forced
 			 * @param context
 			 *            the decoration context
+			 * @return <code>true</code> if the label of the element has to be
+			 *         updated
 			 */
-			private void ensureResultCached(Object element, boolean force,
+			private boolean ensureResultCached(Object element, boolean force,
 					IDecorationContext context) {
 				boolean elementIsCached = internalGetResult(element, context) != null;
 				if (elementIsCached) {
-					synchronized (pendingKey) {
-						pendingUpdate.add(element);
-					}
-
+					return true;
 				}
 
-				if (!elementIsCached) {
-					DecorationBuilder cacheResult = new DecorationBuilder(context);
-					// Calculate the decoration
-					decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
-
-					// If we should update regardless then put a result
-					// anyways
-					if (cacheResult.hasValue() || force) {
-
-						// Synchronize on the result lock as we want to
-						// be sure that we do not try and decorate during
-						// label update servicing.
-						// Note: resultCache and pendingUpdate modifications
-						// must be done atomically.
-
-						// Add the decoration even if it's empty in
-						// order to indicate that the decoration is
-						// ready
-						internalPutResult(element, context, cacheResult.createResult());
-
-						// Add an update for only the original element
-						// to
-						// prevent multiple updates and clear the cache.
-						synchronized (pendingKey) {
-							pendingUpdate.add(element);
-						}
+				DecorationBuilder cacheResult = new DecorationBuilder(context);
+				// Calculate the decoration
+				decoratorManager.getLightweightManager().getDecorations(element, cacheResult);
 
+				// If we should update regardless then put a result
+				// anyways
+				if (cacheResult.hasValue() || force) {
 
-					}
+					// Add the decoration even if it's empty in
+					// order to indicate that the decoration is
+					// ready
+					internalPutResult(element, context, cacheResult.createResult());
+					return true;
 				}
+				return false;
 			}
 
 			@Override
@@ -389,7 +468,46 @@ public class DecorationScheduler {
 
 		decorationJob.setSystem(true);
 		decorationJob.setPriority(Job.DECORATE);
-		decorationJob.schedule();
+		return decorationJob;
+	}
+
+	private void workerStarted() {
+		if (activeWorkers.getAndIncrement() == 0) {
+			busySince = System.nanoTime();
+		}
+	}
+
+	private void workerStopped() {
+		long since = busySince;
+		if (activeWorkers.decrementAndGet() == 0) {
+			busyNanos.addAndGet(System.nanoTime() - since);
+		}
+	}
+
+	/**
+	 * Return the number of elements the decoration workers have decorated.
+	 *
+	 * @return the number of decorated elements
+	 */
+	public long getDecorationCount() {
+		return decorationCount.get();
+	}
+
+	/**
+	 * Return the decoration throughput, measured over the time in which at
+	 * least one decoration worker was running.
+	 *
+	 * @return the number of decorated elements per second
+	 */
+	public double getDecorationsPerSecond() {
+		long busy = busyNanos.get();
+		if (activeWorkers.get() > 0) {
+			busy += System.nanoTime() - busySince;
+		}
+		if (busy <= 0) {
+			return 0;
+		}
+		return decorationCount.get() * 1_000_000_000d / busy;
 	}
 
 	/**
@@ -1015,6 +1015,17 @@ public class DecoratorManager implements ILabelProviderListener,
 		return decoratorArray;
 	}
 
+	/**
+	 * Returns the scheduler decorating the elements in the background. This
+	 * method is public for use by test cases. No other classes outside of this
+	 * package should use this method.
+	 *
+	 * @return DecorationScheduler
+	 */
+	public DecorationScheduler getDecorationScheduler() {
+		return scheduler;
+	}
+
 	/**
 	 * Returns the lightweightManager. This method is public for use by test
 	 * cases. No other classes outside of this package should use this method.
@@ -37,6 +37,8 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements
 
 	static final String ATT_ICON = "icon"; //$NON-NLS-1$
 
+	private static final String ATT_THREAD_SAFE = "threadSafe"; //$NON-NLS-1$
+
 	// Constants for quadrants
 	/**
 	 * Position <code>TOP_LEFT</code>. Value <code>0</code>
@@ -85,7 +87,7 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements
 	 * The DeclarativeDecorator is the internal decorator supplied by the
 	 * decorator definition.
 	 */
-	private ILightweightLabelDecorator decorator;
+	private volatile ILightweightLabelDecorator decorator;
 
 	private int quadrant;
 
@@ -107,6 +109,17 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements
 	 */
 	protected ILightweightLabelDecorator internalGetDecorator()
 			throws CoreException {
+		ILightweightLabelDecorator current = decorator;
+		if (current != null) {
+			return current;
+		}
+		// decoration workers may ask for the decorator concurrently
+		synchronized (this) {
+			return createDecorator();
+		}
+	}
+
+	private ILightweightLabelDecorator createDecorator() throws CoreException {
 		if (labelProviderCreationFailed) {
 			return null;
 		}
@@ -165,6 +178,16 @@ class LightweightDecoratorDefinition extends DecoratorDefinition implements
 		return definingElement.getAttribute(DecoratorDefinition.ATT_CLASS) == null;
 	}
 
+	/**
+	 * Return whether the decorator may be called concurrently from several
+	 * decoration threads. Declarative decorators are always thread safe.
+	 *
+	 * @return boolean <code>true</code> if the decorator is thread safe
+	 */
+	public boolean isThreadSafe() {
+		return isDeclarative() || Boolean.parseBoolean(definingElement.getAttribute(ATT_THREAD_SAFE));
+	}
+
 	/**
 	 * Return the icon location.
 	 *
@@ -119,7 +119,11 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		}
 	}
 
-	private LightweightRunnable runnable = new LightweightRunnable();
+	/**
+	 * Lock held while running decorators which are not declared as thread
+	 * safe, so that they never run concurrently.
+	 */
+	private final Object serialDecorationLock = new Object();
 
 	// The lightweight definitions read from the registry
 	private LightweightDecoratorDefinition[] lightweightDefinitions;
@@ -161,7 +165,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @return whether the definition was added
 	 * @since 3.0
 	 */
-	public boolean addDecorator(LightweightDecoratorDefinition decorator) {
+	public synchronized boolean addDecorator(LightweightDecoratorDefinition decorator) {
 		if (getLightweightDecoratorDefinition(decorator.getId()) == null) {
 			LightweightDecoratorDefinition[] oldDefs = lightweightDefinitions;
 			lightweightDefinitions = new LightweightDecoratorDefinition[lightweightDefinitions.length + 1];
@@ -196,7 +200,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * @return whether the definition was removed
 	 * @since 3.1
 	 */
-	public boolean removeDecorator(LightweightDecoratorDefinition decorator) {
+	public synchronized boolean removeDecorator(LightweightDecoratorDefinition decorator) {
 		int idx = getLightweightDecoratorDefinitionIdx(decorator.getId());
 		if (idx != -1) {
 			LightweightDecoratorDefinition[] oldDefs = lightweightDefinitions;
@@ -285,7 +289,7 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	 * Reset any cached values.
 	 */
 	void reset() {
-		runnable.clearReferences();
+		// Nothing is cached: every decoration uses its own runnable
 	}
 
 	/**
@@ -331,7 +335,11 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 		List elements = new ArrayList(1);
 		elements.add(element);
 		LightweightDecoratorDefinition[] decoratorArray = EMPTY_LIGHTWEIGHT_DEF;
-		List contributors = getContributors(elements);
+		List contributors;
+		// the contributor lookup caches are shared by all decoration workers
+		synchronized (this) {
+			contributors = getContributors(elements);
+		}
 		if (!contributors.isEmpty()) {
 			Collection decorators = DecoratorManager.getDecoratorsFor(element,
 					(DecoratorDefinition[]) contributors
@@ -364,7 +372,9 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	}
 
 	/**
-	 * Decorate the element receiver in a SafeRunnable.
+	 * Decorate the element receiver in a SafeRunnable. This may be called from
+	 * several decoration workers at once; decorators which are not thread safe
+	 * are run one at a time.
 	 *
 	 * @param element
 	 *            The Object to be decorated
@@ -376,8 +386,15 @@ public class LightweightDecoratorManager extends ObjectContributorManager {
 	private void decorate(Object element, DecorationBuilder decoration,
 			LightweightDecoratorDefinition decorator) {
 
+		LightweightRunnable runnable = new LightweightRunnable();
 		runnable.setValues(element, decoration, decorator);
-		SafeRunner.run(runnable);
+		if (decorator.isThreadSafe()) {
+			SafeRunner.run(runnable);
+		} else {
+			synchronized (serialDecorationLock) {
+				SafeRunner.run(runnable);
+			}
+		}
 	}
 
 
@@ -14,8 +14,13 @@
 package org.eclipse.ui.internal.progress;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -25,6 +30,7 @@ import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.ScrolledComposite;
+import org.eclipse.swt.events.ControlAdapter;
 import org.eclipse.swt.events.ControlEvent;
 import org.eclipse.swt.events.ControlListener;
 import org.eclipse.swt.events.FocusAdapter;
@@ -44,12 +50,28 @@ import org.eclipse.ui.internal.WorkbenchPlugin;
 /**
  * The DetailedProgressViewer is a viewer that shows the details of all in
  * progress job or jobs that are finished awaiting user input.
+ * <p>
+ * The viewer is virtual: a {@link ProgressInfoItem} is only created for the
+ * rows in or near the visible area, the rows above and below it are stood in
+ * for by spacers of their estimated height. Progress updates of jobs without
+ * an item cost nothing, their item shows the current state once it is
+ * created.
+ * </p>
  *
  * @since 3.2
  *
  */
 public class DetailedProgressViewer extends AbstractProgressViewer {
 
+	// The number of rows with items above and below the visible area
+	private static final int OVERSCAN = 2;
+
+	// The number of rows with items while the visible area is not known
+	private static final int INITIAL_ROWS = 20;
+
+	// The height of a row until one has been measured
+	private static final int DEFAULT_ROW_HEIGHT = 40;
+
 	//Maximum number of entries to display so that the view does not flood the UI with events
 	private int maxDisplayed;
 
@@ -59,6 +81,25 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	private Composite noEntryArea;
 
+	// The elements of all rows in display order
+	private final List<JobTreeElement> displayed = new ArrayList<>();
+
+	private final Set<JobTreeElement> displayedSet = new HashSet<>();
+
+	// The items of the rows in or near the visible area
+	private final Map<JobTreeElement, ProgressInfoItem> items = new HashMap<>();
+
+	private Composite topSpacer;
+
+	private Composite bottomSpacer;
+
+	// The largest height of an item measured so far, including the spacing
+	private int rowHeight;
+
+	private boolean updatingRows;
+
+	private boolean rowsStale;
+
 	/**
 	 * Create a new instance of the receiver with a control that is a child of
 	 * parent with style style.
@@ -82,6 +123,9 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		control.setBackground(parent.getDisplay().getSystemColor(
 				SWT.COLOR_LIST_BACKGROUND));
 
+		topSpacer = createSpacer();
+		bottomSpacer = createSpacer();
+
 		control.addFocusListener(new FocusAdapter() {
 
 			private boolean settingFocus = false;
@@ -101,8 +145,8 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		control.addControlListener(new ControlListener() {
 			@Override
 			public void controlMoved(ControlEvent e) {
-				updateVisibleItems();
-
+				// scrolled, create the items of the rows coming into view
+				updateRows();
 			}
 
 			@Override
@@ -111,6 +155,13 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			}
 		});
 
+		scrolled.addControlListener(new ControlAdapter() {
+			@Override
+			public void controlResized(ControlEvent e) {
+				updateRows();
+			}
+		});
+
 		PlatformUI.getWorkbench().getHelpSystem().setHelp(control,
 				IWorkbenchHelpContextIds.RESPONSIVE_UI);
 
@@ -139,6 +190,24 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		scrolled.addDisposeListener(x -> prefs.removePropertyChangeListener(listener));
 	}
 
+	/**
+	 * Create a spacer standing in for the rows without items. It is excluded
+	 * from the layout while there are no such rows.
+	 *
+	 * @return Composite
+	 */
+	private Composite createSpacer() {
+		Composite spacer = new Composite(control, SWT.NONE);
+		spacer.setBackground(control.getBackground());
+		GridData data = new GridData(SWT.FILL, SWT.NONE, true, false);
+		data.widthHint = 0;
+		data.heightHint = 0;
+		data.exclude = true;
+		spacer.setLayoutData(data);
+		spacer.setVisible(false);
+		return spacer;
+	}
+
 	public void propertyChange(PropertyChangeEvent event) {
 		if (!IPreferenceConstants.MAX_PROGRESS_ENTRIES.equals(event.getProperty())) {
 			return;
@@ -156,14 +225,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		ViewerComparator sorter = getComparator();
 
 		// Use a Set in case we are getting something added that exists
-		Set<JobTreeElement> newItems = new LinkedHashSet<>(elements.length);
-
-		Control[] existingChildren = control.getChildren();
-		for (Control child : existingChildren) {
-			if (child.getData() != null) {
-				newItems.add((JobTreeElement) child.getData());
-			}
-		}
+		Set<JobTreeElement> newItems = new LinkedHashSet<>(displayed);
 
 		for (JobTreeElement element : elements) {
 			if (element != null) {
@@ -178,26 +240,35 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			sorter.sort(this, infos);
 		}
 
-		// Update with the new elements to prevent flash
-		for (Control child : existingChildren) {
-			((ProgressInfoItem) child).dispose();
-		}
-
-		int totalSize = Math.min(newItems.size(), getMaxDisplayed());
+		// The items of the rows still shown are kept to prevent flash
+		setDisplayed(infos);
+		updateRows();
+	}
 
+	/**
+	 * Set the elements of the rows, up to the maximal number of displayed
+	 * items.
+	 *
+	 * @param infos
+	 *            the elements in display order
+	 */
+	private void setDisplayed(Object[] infos) {
+		displayed.clear();
+		displayedSet.clear();
+		int totalSize = Math.min(infos.length, getMaxDisplayed());
 		for (int i = 0; i < totalSize; i++) {
-			ProgressInfoItem item = createNewItem(infos[i]);
-			item.setColor(i);
+			JobTreeElement info = (JobTreeElement) infos[i];
+			if (displayedSet.add(info)) {
+				displayed.add(info);
+			}
 		}
-
-		updateForShowingProgress();
 	}
 
 	/**
 	 * Update for the progress being displayed.
 	 */
 	private void updateForShowingProgress() {
-		if (control.getChildren().length > 0) {
+		if (!displayed.isEmpty()) {
 			updateSize();
 			scrolled.setContent(control);
 		} else {
@@ -207,6 +278,148 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		control.requestLayout();
 	}
 
+	/**
+	 * Create the items of the rows in or near the visible area, dispose the
+	 * others and size the spacers for the rows without items.
+	 */
+	private void updateRows() {
+		if (control.isDisposed()) {
+			return;
+		}
+		if (updatingRows) {
+			// scrolled by the update itself, the rows need another pass
+			rowsStale = true;
+			return;
+		}
+		updatingRows = true;
+		try {
+			int passes = 0;
+			do {
+				rowsStale = false;
+				doUpdateRows();
+			} while (rowsStale && ++passes < 3);
+		} finally {
+			updatingRows = false;
+		}
+	}
+
+	private void doUpdateRows() {
+		int first = 0;
+		int last = -1;
+		boolean changed = (scrolled.getContent() == control) == displayed.isEmpty();
+		if (displayed.isEmpty()) {
+			changed |= createItems(first, last);
+		} else {
+			int estimate;
+			do {
+				estimate = getRowHeight();
+				int top;
+				int visibleRows;
+				int height = scrolled.getClientArea().height;
+				if (height <= 0) {
+					top = 0;
+					visibleRows = INITIAL_ROWS;
+				} else {
+					top = scrolled.getOrigin().y;
+					visibleRows = height / estimate + 1;
+				}
+				first = Math.max(0, Math.min(top / estimate, displayed.size() - visibleRows) - OVERSCAN);
+				last = Math.min(displayed.size() - 1, first + visibleRows + 2 * OVERSCAN);
+				changed |= createItems(first, last);
+				// measured higher rows than estimated, fewer rows fit
+			} while (getRowHeight() != estimate);
+		}
+		changed |= setSpacerRows(topSpacer, first);
+		changed |= setSpacerRows(bottomSpacer, displayed.size() - 1 - last);
+		if (changed) {
+			updateForShowingProgress();
+		}
+		updateVisibleItems();
+	}
+
+	/**
+	 * Create the missing items of the rows from first to last and dispose the
+	 * items of all other rows.
+	 *
+	 * @param first
+	 * @param last
+	 * @return boolean <code>true</code> if items were created, disposed or
+	 *         moved
+	 */
+	private boolean createItems(int first, int last) {
+		boolean changed = false;
+		Set<JobTreeElement> range = new HashSet<>(displayed.subList(first, last + 1));
+		for (Iterator<Entry<JobTreeElement, ProgressInfoItem>> iterator = items.entrySet().iterator(); iterator
+				.hasNext();) {
+			Entry<JobTreeElement, ProgressInfoItem> entry = iterator.next();
+			if (!range.contains(entry.getKey())) {
+				iterator.remove();
+				entry.getValue().dispose();
+				changed = true;
+			}
+		}
+
+		for (int i = first; i <= last; i++) {
+			JobTreeElement info = displayed.get(i);
+			ProgressInfoItem item = items.get(info);
+			if (item == null) {
+				item = createNewItem(info);
+				items.put(info, item);
+				measure(item);
+				changed = true;
+			}
+			item.setColor(i);
+		}
+
+		// The items follow the top spacer in display order
+		Control[] children = control.getChildren();
+		boolean ordered = children.length == range.size() + 2;
+		for (int i = first; ordered && i <= last; i++) {
+			ordered = children[i - first + 1] == items.get(displayed.get(i));
+		}
+		if (!ordered) {
+			for (int i = first; i <= last; i++) {
+				items.get(displayed.get(i)).moveAbove(bottomSpacer);
+			}
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Update the row height with the height of the item.
+	 *
+	 * @param item
+	 */
+	private void measure(ProgressInfoItem item) {
+		int spacing = ((GridLayout) control.getLayout()).verticalSpacing;
+		rowHeight = Math.max(rowHeight, item.computeSize(SWT.DEFAULT, SWT.DEFAULT).y + spacing);
+	}
+
+	private int getRowHeight() {
+		return rowHeight > 0 ? rowHeight : DEFAULT_ROW_HEIGHT;
+	}
+
+	/**
+	 * Set the spacer to the estimated height of the rows.
+	 *
+	 * @param spacer
+	 * @param rows
+	 * @return boolean <code>true</code> if the height changed
+	 */
+	private boolean setSpacerRows(Composite spacer, int rows) {
+		GridData data = (GridData) spacer.getLayoutData();
+		int spacing = ((GridLayout) control.getLayout()).verticalSpacing;
+		int height = rows > 0 ? rows * getRowHeight() - spacing : 0;
+		if (data.heightHint == height) {
+			return false;
+		}
+		data.heightHint = height;
+		data.exclude = rows <= 0;
+		spacer.setVisible(rows > 0);
+		return true;
+	}
+
 	/**
 	 * Create a new item for info.
 	 *
@@ -244,8 +457,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 			@Override
 			public void select() {
-				for (Control element : control.getChildren()) {
-					ProgressInfoItem child = (ProgressInfoItem) element;
+				for (ProgressInfoItem child : items.values()) {
 					if (!item.equals(child)) {
 						child.selectWidgets(false);
 					}
@@ -264,22 +476,11 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * @param item
 	 */
 	protected void selectPrevious(ProgressInfoItem item) {
-		Control[] children = control.getChildren();
-		for (int i = 0; i < children.length; i++) {
-			ProgressInfoItem child = (ProgressInfoItem) children[i];
-			if (item.equals(child)) {
-				ProgressInfoItem previous;
-				if (i == 0) {
-					previous = (ProgressInfoItem) children[children.length - 1];
-				} else {
-					previous = (ProgressInfoItem) children[i - 1];
-				}
-
-				item.selectWidgets(false);
-				previous.selectWidgets(true);
-				return;
-			}
+		int index = displayed.indexOf(item.getInfo());
+		if (index < 0) {
+			return;
 		}
+		select(item, index == 0 ? displayed.size() - 1 : index - 1);
 	}
 
 	/**
@@ -288,23 +489,28 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * @param item
 	 */
 	protected void selectNext(ProgressInfoItem item) {
-		Control[] children = control.getChildren();
-		for (int i = 0; i < children.length; i++) {
-			ProgressInfoItem child = (ProgressInfoItem) children[i];
-			if (item.equals(child)) {
-				ProgressInfoItem next;
-				if (i == children.length - 1) {
-					next = (ProgressInfoItem) children[0];
-				} else {
-					next = (ProgressInfoItem) children[i + 1];
-				}
-				item.selectWidgets(false);
-				next.selectWidgets(true);
-
-				return;
-			}
+		int index = displayed.indexOf(item.getInfo());
+		if (index < 0) {
+			return;
 		}
+		select(item, index == displayed.size() - 1 ? 0 : index + 1);
+	}
 
+	/**
+	 * Move the selection from the item to the row at index, creating its item
+	 * if needed.
+	 *
+	 * @param item
+	 * @param index
+	 */
+	private void select(ProgressInfoItem item, int index) {
+		item.selectWidgets(false);
+		JobTreeElement info = displayed.get(index);
+		reveal(info);
+		ProgressInfoItem next = items.get(info);
+		if (next != null) {
+			next.selectWidgets(true);
+		}
 	}
 
 	@Override
@@ -314,16 +520,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 	@Override
 	protected Widget doFindItem(Object element) {
-		for (Control control : control.getChildren()) {
-			if (control.isDisposed()
-					|| control.getData() == null) {
-				continue;
-			}
-			if (control.getData().equals(element)) {
-				return control;
-			}
-		}
-		return null;
+		return items.get(element);
 	}
 
 	@Override
@@ -331,6 +528,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		if (usingElementMap()) {
 			unmapElement(item);
 		}
+		items.remove(((ProgressInfoItem) item).getInfo());
 		item.dispose();
 
 		add((JobTreeElement) element);
@@ -362,12 +560,15 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 			refreshAll();
 			return;
 		}
-		Widget widget = findItem(element);
-		if (widget == null) {
-			add((JobTreeElement) element);
+		ProgressInfoItem item = items.get(element);
+		if (item == null) {
+			// Rows without item show the current state once they get one
+			if (!displayedSet.contains(element)) {
+				add((JobTreeElement) element);
+			}
 			return;
 		}
-		((ProgressInfoItem) widget).refresh();
+		item.refresh();
 
 		updateSize();
 	}
@@ -375,41 +576,59 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	@Override
 	public void remove(JobTreeElement... elements) {
 
-		for (Object element : elements) {
-			JobTreeElement treeElement = (JobTreeElement) element;
+		for (JobTreeElement treeElement : elements) {
 			// Make sure we are not keeping this one
 			if (FinishedJobs.getInstance().isKept(treeElement)) {
-				Widget item = doFindItem(element);
+				ProgressInfoItem item = items.get(treeElement);
 				if (item != null) {
-					((ProgressInfoItem) item).refresh();
+					item.refresh();
 				}
 
-			} else {
-				Widget item = doFindItem(treeElement);
-				if (item == null) {
-					// Is the parent showing?
-					Object parent = treeElement.getParent();
-					if (parent != null)
-						item = doFindItem(parent);
-				}
-				if (item != null) {
-					unmapElement(element);
-					item.dispose();
+			} else if (!removeRow(treeElement)) {
+				// Is the parent showing?
+				Object parent = treeElement.getParent();
+				if (parent != null) {
+					removeRow(parent);
 				}
 			}
 		}
 
-		Control[] existingChildren = control.getChildren();
-		for (int i = 0; i < existingChildren.length; i++) {
-			ProgressInfoItem item = (ProgressInfoItem) existingChildren[i];
-			item.setColor(i);
+		updateRows();
+	}
+
+	/**
+	 * Remove the row of the element.
+	 *
+	 * @param element
+	 * @return boolean <code>true</code> if the element had a row
+	 */
+	private boolean removeRow(Object element) {
+		if (!displayedSet.remove(element)) {
+			return false;
+		}
+		displayed.remove(element);
+		ProgressInfoItem item = items.remove(element);
+		if (item != null) {
+			item.dispose();
 		}
-		updateForShowingProgress();
+		return true;
 	}
 
 	@Override
 	public void reveal(Object element) {
-
+		int index = displayed.indexOf(element);
+		if (index < 0) {
+			return;
+		}
+		int height = scrolled.getClientArea().height;
+		int top = scrolled.getOrigin().y;
+		int y = index * getRowHeight();
+		if (y < top) {
+			scrolled.setOrigin(0, y);
+		} else if (y + getRowHeight() > top + height) {
+			scrolled.setOrigin(0, Math.max(0, y + getRowHeight() - height));
+		}
+		updateRows();
 	}
 
 	@Override
@@ -430,9 +649,9 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 *
 	 */
 	public void setFocus() {
-		Control[] children = control.getChildren();
-		if (children.length > 0) {
-			((ProgressInfoItem)children[0]).setButtonFocus();
+		ProgressInfoItem[] progressInfoItems = getProgressInfoItems();
+		if (progressInfoItems.length > 0) {
+			progressInfoItems[0].setButtonFocus();
 		} else {
 			noEntryArea.setFocus();
 		}
@@ -445,19 +664,14 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 
 		Object[] infos = getSortedChildren(getRoot());
 
-		for (Control control : control.getChildren()) {
-			control.dispose();
-
-		}
-
-		int maxLength = Math.min(infos.length, getMaxDisplayed());
-		// Create new ones if required
-		for (int i = 0; i < maxLength; i++) {
-			ProgressInfoItem item = createNewItem((JobTreeElement) infos[i]);
-			item.setColor(i);
+		setDisplayed(infos);
+		// The new items are created with the current state
+		for (ProgressInfoItem item : items.values()) {
+			if (displayedSet.contains(item.getInfo())) {
+				item.refresh();
+			}
 		}
-
-		updateForShowingProgress();
+		updateRows();
 	}
 
 	/**
@@ -465,7 +679,7 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 	 * area.
 	 */
 	private void updateVisibleItems() {
-		updateVisibleProgressItems(control.getChildren());
+		updateVisibleProgressItems(items.values().toArray(new Control[items.size()]));
 	}
 
 	private void updateVisibleProgressItems(Control... progressInfoItems) {
@@ -487,11 +701,30 @@ public class DetailedProgressViewer extends AbstractProgressViewer {
 		scrolled.setMinSize(size);
 	}
 
+	/**
+	 * Return the items of the rows in or near the visible area. The rows
+	 * further away have no item.
+	 *
+	 * @return the items in display order
+	 */
 	public ProgressInfoItem[] getProgressInfoItems() {
-		Control[] children = control.getChildren();
-		ProgressInfoItem[] progressInfoItems = new ProgressInfoItem[children.length];
-		System.arraycopy(children, 0, progressInfoItems, 0, children.length);
-		return progressInfoItems;
+		List<ProgressInfoItem> progressInfoItems = new ArrayList<>(items.size());
+		for (JobTreeElement info : displayed) {
+			ProgressInfoItem item = items.get(info);
+			if (item != null) {
+				progressInfoItems.add(item);
+			}
+		}
+		return progressInfoItems.toArray(new ProgressInfoItem[progressInfoItems.size()]);
+	}
+
+	/**
+	 * Return the elements of all rows, including the rows without an item.
+	 *
+	 * @return the elements in display order
+	 */
+	public JobTreeElement[] getDisplayedElements() {
+		return displayed.toArray(new JobTreeElement[displayed.size()]);
 	}
 
 	/**
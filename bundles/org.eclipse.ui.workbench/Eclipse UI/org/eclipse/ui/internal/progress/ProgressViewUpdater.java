@@ -18,7 +18,10 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.eclipse.jface.util.Throttler;
 import org.eclipse.ui.IWorkbenchPreferenceConstants;
 import org.eclipse.ui.PlatformUI;
@@ -42,15 +45,34 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
 
     /**
      * The UpdatesInfo is a private class for keeping track of the updates
-     * required.
+     * required. The updates are queued without locking by the threads
+     * reporting progress and drained by the UI thread. The refreshes of an
+     * element are coalesced until the UI thread takes them, so a job reporting
+     * progress many times between two updates is refreshed once.
      */
 	static class UpdatesInfo {
 
-		Collection<JobTreeElement> additions = new LinkedHashSet<>();
+		private static final int ADD = 0;
 
-		Collection<JobTreeElement> deletions = new LinkedHashSet<>();
+		private static final int REMOVE = 1;
 
-		Collection<JobTreeElement> refreshes = new LinkedHashSet<>();
+		private static final int REFRESH = 2;
+
+		private static final class Update {
+			final JobTreeElement element;
+
+			final int kind;
+
+			Update(JobTreeElement element, int kind) {
+				this.element = element;
+				this.kind = kind;
+			}
+		}
+
+		private final Queue<Update> updates = new ConcurrentLinkedQueue<>();
+
+		// The elements with a refresh in the queue
+		private final Set<JobTreeElement> pendingRefreshes = ConcurrentHashMap.newKeySet();
 
 		volatile boolean updateAll;
 
@@ -63,8 +85,8 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
          *
          * @param addition
          */
-		synchronized void add(JobTreeElement addition) {
-            additions.add(addition);
+		void add(JobTreeElement addition) {
+			updates.add(new Update(addition, ADD));
         }
 
         /**
@@ -72,33 +94,69 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
          *
          * @param removal
          */
-		synchronized void remove(JobTreeElement removal) {
-            deletions.add(removal);
+		void remove(JobTreeElement removal) {
+			updates.add(new Update(removal, REMOVE));
         }
 
         /**
-         * Add a refresh update
+         * Add a refresh update, unless one is queued already
          *
          * @param refresh
          */
-		synchronized void refresh(JobTreeElement refresh) {
-            refreshes.add(refresh);
+		void refresh(JobTreeElement refresh) {
+			if (pendingRefreshes.add(refresh)) {
+				updates.add(new Update(refresh, REFRESH));
+			}
         }
 
+		/**
+		 * Take the next queued update.
+		 *
+		 * @return the update or <code>null</code> if there is none
+		 */
+		private Update poll() {
+			Update update = updates.poll();
+			if (update != null && update.kind == REFRESH) {
+				// Further refreshes have to be queued again
+				pendingRefreshes.remove(update.element);
+			}
+			return update;
+		}
+
         /**
-         * Reset the caches after completion of an update.
+         * Discard the queued updates, as everything is refreshed.
          */
-		synchronized void reset() {
-            additions.clear();
-            deletions.clear();
-            refreshes.clear();
-            updateAll = false;
+		void reset() {
+			updateAll = false;
+			while (poll() != null) {
+				// discard it
+			}
         }
 
 		/**
+		 * Take the queued updates. Must only be called by one thread at a time.
+		 *
 		 * @return array containing updated, added and deleted items
 		 */
-		synchronized JobTreeElement[][] processForUpdate() {
+		JobTreeElement[][] processForUpdate() {
+			Collection<JobTreeElement> additions = new LinkedHashSet<>();
+			Collection<JobTreeElement> deletions = new LinkedHashSet<>();
+			Collection<JobTreeElement> refreshes = new LinkedHashSet<>();
+			Update update;
+			while ((update = poll()) != null) {
+				switch (update.kind) {
+				case ADD:
+					additions.add(update.element);
+					break;
+				case REMOVE:
+					deletions.add(update.element);
+					break;
+				default:
+					refreshes.add(update.element);
+					break;
+				}
+			}
+
 			HashSet<JobTreeElement> staleAdditions = new HashSet<>();
 
             Iterator<JobTreeElement> additionsIterator = additions.iterator();
@@ -228,8 +286,6 @@ class ProgressViewUpdater implements IJobProgressManagerListener {
 			JobTreeElement[] additionItems = elements[1];
 			JobTreeElement[] deletionItems = elements[2];
 
-			currentInfo.reset();
-
 			for (IProgressUpdateCollector collector : collectors) {
 				if (updateItems.length > 0) {
 					collector.refresh(updateItems);
@@ -80,8 +80,9 @@ public final class EvaluationService implements IEvaluationService {
 				}
 			}
 			// This ties tool item enablement to variable changes that can
-			// effect the enablement.
-			getEventBroker().send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, UIEvents.ALL_ELEMENT_ID);
+			// effect the enablement. The tool items tracking the variables
+			// read by their handler are updated when these change.
+			getEventBroker().send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, UIEvents.UNTRACKED_ELEMENT_ID);
 			return true;
 		}
 	};
@@ -15,6 +15,7 @@
 package org.eclipse.e4.emf.xpath.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -26,6 +27,8 @@ import org.apache.commons.jxpath.JXPathNotFoundException;
 import org.eclipse.e4.emf.xpath.EcoreXPathContextFactory;
 import org.eclipse.e4.emf.xpath.XPathContext;
 import org.eclipse.e4.emf.xpath.XPathContextFactory;
+import org.eclipse.e4.emf.xpath.XPathExpression;
+import org.eclipse.e4.emf.xpath.test.model.xpathtest.Node;
 import org.eclipse.e4.emf.xpath.test.model.xpathtest.XpathtestPackage;
 import org.eclipse.e4.emf.xpath.test.model.xpathtest.impl.ExtendedNodeImpl;
 import org.eclipse.e4.emf.xpath.test.model.xpathtest.impl.MenuImpl;
@@ -118,6 +121,28 @@ public class ExampleQueriesTestCase {
 		//assertFalse(i.hasNext());
 	}
 
+	@Test
+	public void testCompiledQuery() {
+		XPathExpression expression = xpathContext.compile("//*[@id='element2.1']");
+		assertEquals("//*[@id='element2.1']", expression.getExpression());
+
+		Object node = expression.getValue(xpathContext);
+		assertSame(NodeImpl.class, node.getClass());
+		assertEquals("element2.1", ((Node) node).getId());
+
+		// the expression can be reused in other contexts
+		XPathContextFactory<EObject> f = EcoreXPathContextFactory.newInstance();
+		XPathContext nodeContext = f.newContext((EObject) xpathContext.getValue("nodes[2]"));
+		assertSame(node, expression.getValue(nodeContext));
 
+		Iterator<Object> i = expression.iterate(xpathContext);
+		assertTrue(i.hasNext());
+		assertSame(node, i.next());
+
+		// changes of the model are seen by the next evaluation
+		((Node) node).setId("renamed");
+		assertFalse(expression.iterate(xpathContext).hasNext());
+		assertSame(node, xpathContext.compile("//*[@id=\"renamed\"]").getValue(xpathContext));
+	}
 
 }
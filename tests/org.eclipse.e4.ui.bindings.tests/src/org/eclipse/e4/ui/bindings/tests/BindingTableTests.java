@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ package org.eclipse.e4.ui.bindings.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
@@ -189,6 +190,23 @@ public class BindingTableTests {
 		assertFalse(table.isPartialMatch(ctrl8));
 	}
 
+	@Test
+	public void testPartialMatchAfterRemove() throws Exception {
+		BindingTable table = loadTable(ID_DIALOG_AND_WINDOW);
+		Binding about = getTestBinding(ABOUT_ID);
+		KeySequence ctrl5 = KeySequence.getInstance("CTRL+5");
+		assertTrue(table.isPartialMatch(ctrl5));
+
+		table.removeBinding(about);
+		assertFalse(table.isPartialMatch(ctrl5));
+		assertNull(table.getPartialMatches(ctrl5));
+		assertNull(table.getPerfectMatch(about.getTriggerSequence()));
+
+		table.addBinding(about);
+		assertTrue(table.isPartialMatch(ctrl5));
+		assertEquals(about, table.getPerfectMatch(about.getTriggerSequence()));
+	}
+
 	@Test
 	public void testContextSet() {
 		BindingTableManager manager = ContextInjectionFactory.make(BindingTableManager.class, workbenchContext);
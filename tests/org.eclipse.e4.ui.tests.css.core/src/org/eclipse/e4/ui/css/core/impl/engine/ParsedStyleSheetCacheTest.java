@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.css.core.impl.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.tests.css.core.util.ParserTestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.w3c.css.sac.InputSource;
+import org.w3c.dom.css.CSSStyleSheet;
+
+public class ParsedStyleSheetCacheTest {
+
+	private static final String URI = "platform:/plugin/org.eclipse.e4.ui.tests.css.core/test.css";
+
+	@BeforeEach
+	public void setUp() {
+		ParsedStyleSheetCache.INSTANCE.clear();
+	}
+
+	private static CSSStyleSheet parse(CSSEngine engine, String uri, String css) throws IOException {
+		InputSource source = new InputSource();
+		source.setURI(uri);
+		source.setByteStream(new ByteArrayInputStream(css.getBytes(StandardCharsets.UTF_8)));
+		return (CSSStyleSheet) engine.parseStyleSheet(source);
+	}
+
+	@Test
+	public void testRulesAreShared() throws IOException {
+		String css = "Button { color: red; }\nLabel { color: blue; }";
+		CSSStyleSheet first = parse(ParserTestUtil.createEngine(), URI, css);
+		long hits = ParsedStyleSheetCache.INSTANCE.getHitCount();
+
+		CSSEngine engine = ParserTestUtil.createEngine();
+		CSSStyleSheet second = parse(engine, URI, css);
+		assertNotSame(first, second);
+		assertSame(first.getCssRules(), second.getCssRules());
+		assertEquals(2, second.getCssRules().getLength());
+		assertEquals(hits + 1, ParsedStyleSheetCache.INSTANCE.getHitCount());
+		assertEquals(1, engine.getDocumentCSS().getStyleSheets().getLength());
+	}
+
+	@Test
+	public void testChangedContentIsParsed() throws IOException {
+		CSSStyleSheet first = parse(ParserTestUtil.createEngine(), URI, "Button { color: red; }");
+		CSSStyleSheet second = parse(ParserTestUtil.createEngine(), URI, "Button { color: green; }");
+		assertNotSame(first.getCssRules(), second.getCssRules());
+		assertEquals(2, ParsedStyleSheetCache.INSTANCE.size());
+	}
+
+	@Test
+	public void testKeyDependsOnUriAndContent() {
+		byte[] content = "Button { color: red; }".getBytes(StandardCharsets.UTF_8);
+		String key = ParsedStyleSheetCache.getKey(AbstractCSSEngine.class, URI, content);
+		assertEquals(key, ParsedStyleSheetCache.getKey(AbstractCSSEngine.class, URI, content.clone()));
+		assertNotEquals(key, ParsedStyleSheetCache.getKey(AbstractCSSEngine.class, URI + "x", content));
+		content[0] = 'b';
+		assertNotEquals(key, ParsedStyleSheetCache.getKey(AbstractCSSEngine.class, URI, content));
+	}
+}
@@ -119,6 +119,35 @@ public class ViewCSSTest {
 		assertEquals("color: blue;", buttonStyle.getCssText());
 	}
 
+	@Test
+	public void testGetComputedStyleIndexedSelectors() throws Exception {
+		String css = "#myId { color: red; }\n" + ".myClass { color: green; }\n" + "Button { color: blue; }\n"
+				+ "* { font-weight: bold; }\n" + "Shell > .other { color: black; }\n";
+		ViewCSS viewCSS = createViewCss(css);
+
+		final TestElement shell = new TestElement("Shell", engine);
+		final TestElement button = new TestElement("Button", shell, engine);
+		CSSStyleDeclaration buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertNotNull(buttonStyle);
+		assertEquals("blue", buttonStyle.getPropertyCSSValue("color").getCssText());
+		assertEquals("bold", buttonStyle.getPropertyCSSValue("font-weight").getCssText());
+
+		button.setClass("other  myClass");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		// the child selector adds the specificity of its Shell element
+		assertEquals("black", buttonStyle.getPropertyCSSValue("color").getCssText());
+
+		button.setId("myId");
+		buttonStyle = viewCSS.getComputedStyle(button, null);
+		assertEquals("red", buttonStyle.getPropertyCSSValue("color").getCssText());
+
+		final TestElement label = new TestElement("Label", engine);
+		label.setClass("other");
+		CSSStyleDeclaration labelStyle = viewCSS.getComputedStyle(label, null);
+		// only the universal rule matches, the label has no Shell parent
+		assertEquals(1, labelStyle.getLength());
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void testRuleCaching() throws Exception {
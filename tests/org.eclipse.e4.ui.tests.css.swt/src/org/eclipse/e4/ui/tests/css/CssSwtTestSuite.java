@@ -30,6 +30,7 @@ import org.eclipse.e4.ui.tests.css.swt.Bug419482Test;
 import org.eclipse.e4.ui.tests.css.swt.Bug459961Test;
 import org.eclipse.e4.ui.tests.css.swt.ButtonTest;
 import org.eclipse.e4.ui.tests.css.swt.ButtonTextTransformTest;
+import org.eclipse.e4.ui.tests.css.swt.CSSSWTRestyleQueueTest;
 import org.eclipse.e4.ui.tests.css.swt.CSSSWTWidgetTest;
 import org.eclipse.e4.ui.tests.css.swt.CTabFolderTest;
 import org.eclipse.e4.ui.tests.css.swt.CTabItemTest;
@@ -94,6 +95,7 @@ import org.junit.runners.Suite;
 	StyledTextScrollbarTest.class,
 	TableTest.class,
 	TreeTest.class,
+	CSSSWTRestyleQueueTest.class,
 	TabbedPropertiesListTest.class,
 	TabbedPropertiesTitleTest.class})
 public class CssSwtTestSuite {
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.tests.css.swt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.e4.ui.css.swt.engine.CSSSWTRestyleQueue;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Widget;
+import org.junit.Test;
+
+public class CSSSWTRestyleQueueTest extends CSSSWTTestCase {
+
+	private final Map<Widget, Boolean> styled = new LinkedHashMap<>();
+
+	private CSSSWTRestyleQueue createQueue() {
+		return new CSSSWTRestyleQueue(display, styled::put);
+	}
+
+	private void processEvents() {
+		while (display.readAndDispatch()) {
+			// run the pending flush
+		}
+	}
+
+	@Test
+	public void testRestylesOncePerTurn() {
+		CSSSWTRestyleQueue queue = createQueue();
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Button button = new Button(shell, SWT.PUSH);
+
+		queue.restyle(button, false);
+		queue.restyle(button, false);
+		queue.restyle(button, true);
+		assertTrue(queue.isDirty());
+		assertTrue(styled.isEmpty());
+
+		processEvents();
+		assertFalse(queue.isDirty());
+		assertEquals(1, styled.size());
+		assertEquals(Boolean.TRUE, styled.get(button));
+		assertEquals(3, queue.getRequestedCount());
+		assertEquals(1, queue.getPerformedCount());
+	}
+
+	@Test
+	public void testDirtyParentCoversChildren() {
+		CSSSWTRestyleQueue queue = createQueue();
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Composite composite = new Composite(shell, SWT.NONE);
+		Button first = new Button(composite, SWT.PUSH);
+		Button second = new Button(shell, SWT.PUSH);
+
+		queue.restyle(first, true);
+		queue.restyle(composite, true);
+		queue.restyle(second, false);
+		queue.restyle(shell, false);
+		queue.flush();
+
+		// the shell is not styled with its children, so it does not cover them
+		assertEquals(3, styled.size());
+		assertFalse(styled.containsKey(first));
+		assertEquals(Boolean.TRUE, styled.get(composite));
+		assertEquals(Boolean.FALSE, styled.get(second));
+		assertEquals(Boolean.FALSE, styled.get(shell));
+		assertEquals(4, queue.getRequestedCount());
+		assertEquals(3, queue.getPerformedCount());
+	}
+
+	@Test
+	public void testDisposedWidgetsAreSkipped() {
+		CSSSWTRestyleQueue queue = createQueue();
+		Shell shell = new Shell(display, SWT.SHELL_TRIM);
+		Button button = new Button(shell, SWT.PUSH);
+
+		queue.restyle(button, true);
+		button.dispose();
+		queue.restyle(button, true);
+		processEvents();
+
+		assertTrue(styled.isEmpty());
+		assertEquals(2, queue.getRequestedCount());
+		assertEquals(0, queue.getPerformedCount());
+	}
+}
@@ -442,4 +442,44 @@ public class EModelServiceFindTest {
 		assertEquals(1, elements.size());
 		assertEquals(part, elements.get(0));
 	}
+
+	@Test
+	public void testFindElementsAfterModelChanges() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+		List<String> tags = new ArrayList<>();
+		tags.add("secondTag");
+
+		MPartStack stack = modelService.findElements(application, null, MPartStack.class).get(0);
+		MPart part = modelService.findElements(application, null, MPart.class, tags).get(0);
+
+		part.setElementId("changedId");
+		assertSame(part, modelService.find("changedId", application));
+		part.setElementId("otherId");
+		assertNull(modelService.find("changedId", application));
+		assertSame(part, modelService.find("otherId", application));
+
+		part.getTags().remove("secondTag");
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+		part.getTags().add("secondTag");
+		part.getTags().add("secondTag");
+		part.getTags().remove("secondTag");
+		assertEquals(1, modelService.findElements(application, null, null, tags).size());
+
+		stack.getChildren().remove(part);
+		assertNull(modelService.find("otherId", application));
+		assertEquals(0, modelService.findElements(application, null, null, tags).size());
+
+		MWindow window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		window.getSharedElements().add(part);
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		stack.getChildren().add(placeholder);
+		assertEquals(0, modelService.findElements(application.getChildren().get(0), "otherId", null).size());
+
+		placeholder.setRef(part);
+		assertEquals(1, modelService.findElements(application.getChildren().get(0), "otherId", null).size());
+		placeholder.setRef(null);
+		assertEquals(0, modelService.findElements(application.getChildren().get(0), "otherId", null).size());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 Brian de Alwis and others.
+ * Copyright (c) 2012, 2026 Brian de Alwis and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,17 @@ package org.eclipse.e4.ui.tests.application;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.services.internal.events.EventBroker;
+import org.eclipse.e4.ui.services.internal.events.IBatchEventHandler;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.UIEvents.EventTags;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +37,7 @@ import org.osgi.service.event.EventHandler;
 /**
  * Simple tests of the event broker
  */
+@SuppressWarnings("restriction")
 public class EventBrokerTest extends UITest {
 	private static final String TEST_TOPIC = "test/EventBrokerTest";
 
@@ -121,4 +130,143 @@ public class EventBrokerTest extends UITest {
 		assertEquals("subscription was not removed", 2, seen.get());
 	}
 
+	@Test
+	public void testBatchCoalescesSetEvents() {
+		EventBroker eb = context.get(EventBroker.class);
+		assertNotNull(eb);
+		List<Event> events = new ArrayList<>();
+		eb.subscribe(TEST_TOPIC, events::add);
+
+		Object element = new Object();
+		eb.beginBatch();
+		try {
+			eb.send(TEST_TOPIC, createSetEvent(element, "a", "b"));
+			eb.send(TEST_TOPIC, createSetEvent(element, "b", "c"));
+			eb.send(TEST_TOPIC, createSetEvent(new Object(), "x", "y"));
+			assertEquals(0, events.size());
+		} finally {
+			eb.endBatch();
+		}
+
+		assertEquals(2, events.size());
+		assertEquals("a", events.get(0).getProperty(EventTags.OLD_VALUE));
+		assertEquals("c", events.get(0).getProperty(EventTags.NEW_VALUE));
+		assertEquals("y", events.get(1).getProperty(EventTags.NEW_VALUE));
+
+		// changing a feature back and forth does not send events
+		events.clear();
+		eb.beginBatch();
+		try {
+			eb.send(TEST_TOPIC, createSetEvent(element, "c", "d"));
+			eb.send(TEST_TOPIC, createSetEvent(element, "d", "c"));
+		} finally {
+			eb.endBatch();
+		}
+		assertEquals(0, events.size());
+	}
+
+	@Test
+	public void testBatchKeepsSetEventsOfListPositions() {
+		EventBroker eb = context.get(EventBroker.class);
+		assertNotNull(eb);
+		List<Event> events = new ArrayList<>();
+		eb.subscribe(TEST_TOPIC, events::add);
+
+		Object element = new Object();
+		eb.beginBatch();
+		try {
+			eb.send(TEST_TOPIC, createListSetEvent(element, 0, "a", "b"));
+			eb.send(TEST_TOPIC, createListSetEvent(element, 1, "x", "y"));
+			eb.send(TEST_TOPIC, createListSetEvent(element, 1, "y", "z"));
+		} finally {
+			eb.endBatch();
+		}
+
+		assertEquals(2, events.size());
+		assertEquals("b", events.get(0).getProperty(EventTags.NEW_VALUE));
+		assertEquals("x", events.get(1).getProperty(EventTags.OLD_VALUE));
+		assertEquals("z", events.get(1).getProperty(EventTags.NEW_VALUE));
+	}
+
+	@Test
+	public void testBatchHandlerFailureDoesNotStopDelivery() {
+		EventBroker eb = context.get(EventBroker.class);
+		assertNotNull(eb);
+		List<Integer> batchSizes = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			eb.subscribe(TEST_TOPIC, new IBatchEventHandler() {
+				@Override
+				public void handleEvent(Event event) {
+					batchSizes.add(1);
+				}
+
+				@Override
+				public void handleEvents(List<Event> events) {
+					batchSizes.add(events.size());
+					throw new IllegalStateException("expected by the test");
+				}
+			});
+		}
+
+		eb.beginBatch();
+		try {
+			eb.send(TEST_TOPIC, new Object());
+			eb.send(TEST_TOPIC, new Object());
+		} finally {
+			eb.endBatch();
+		}
+
+		assertEquals(2, batchSizes.size());
+	}
+
+	@Test
+	public void testBatchHandler() {
+		EventBroker eb = context.get(EventBroker.class);
+		assertNotNull(eb);
+		List<Integer> batchSizes = new ArrayList<>();
+		eb.subscribe(TEST_TOPIC, new IBatchEventHandler() {
+			@Override
+			public void handleEvent(Event event) {
+				batchSizes.add(1);
+			}
+
+			@Override
+			public void handleEvents(List<Event> events) {
+				batchSizes.add(events.size());
+			}
+		});
+
+		eb.beginBatch();
+		try {
+			for (int i = 0; i < 3; i++) {
+				eb.send(TEST_TOPIC, new Object());
+			}
+		} finally {
+			eb.endBatch();
+		}
+		eb.send(TEST_TOPIC, new Object());
+
+		assertEquals(2, batchSizes.size());
+		assertEquals(3, batchSizes.get(0).intValue());
+		assertEquals(1, batchSizes.get(1).intValue());
+	}
+
+	private static Map<String, Object> createListSetEvent(Object element, int position, Object oldValue,
+			Object newValue) {
+		Map<String, Object> data = createSetEvent(element, oldValue, newValue);
+		data.put(EventTags.ATTNAME, "tags");
+		data.put(EventTags.POSITION, Integer.valueOf(position));
+		return data;
+	}
+
+	private static Map<String, Object> createSetEvent(Object element, Object oldValue, Object newValue) {
+		Map<String, Object> data = new HashMap<>();
+		data.put(EventTags.ELEMENT, element);
+		data.put(EventTags.TYPE, UIEvents.EventTypes.SET);
+		data.put(EventTags.ATTNAME, "label");
+		data.put(EventTags.OLD_VALUE, oldValue);
+		data.put(EventTags.NEW_VALUE, newValue);
+		return data;
+	}
+
 }
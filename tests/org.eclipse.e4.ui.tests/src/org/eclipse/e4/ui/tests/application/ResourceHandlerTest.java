@@ -15,18 +15,23 @@
 
 package org.eclipse.e4.ui.tests.application;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.E4XMIResourceFactory;
+import org.eclipse.e4.ui.internal.workbench.ModelJournal;
 import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MApplication;
@@ -41,6 +46,9 @@ import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.junit.Before;
 import org.junit.Test;
@@ -229,4 +237,54 @@ public class ResourceHandlerTest {
 		MApplication unchangedApplication = (MApplication) verifyResource.getContents().get(0);
 		assertEquals(2, unchangedApplication.getChildren().size());
 	}
+
+	@Test
+	public void testJournaledChangesAreReplayed() throws IOException {
+		Path snapshot = Files.createTempFile(null, ".xmi");
+		snapshot.toFile().deleteOnExit();
+		ModelJournal.getJournalFile(snapshot.toFile()).deleteOnExit();
+		resource.setURI(URI.createFileURI(snapshot.toString()));
+
+		ModelJournal journal = new ModelJournal((XMLResource) resource);
+		resource.eAdapters().add(journal);
+		journal.save();
+		byte[] snapshotContent = Files.readAllBytes(snapshot);
+
+		// attribute and persisted state changes only go to the journal
+		MWindow window = application.getChildren().get(0);
+		window.setLabel("Journaled label");
+		window.getPersistedState().put("journal.key", "value1");
+		window.getPersistedState().put("journal.key", "value2");
+		application.getTags().add("journal.tag");
+		application.getTags().add("journal.tag2");
+		application.getTags().set(application.getTags().indexOf("journal.tag2"), "journal.tag3");
+		journal.save();
+		assertArrayEquals(snapshotContent, Files.readAllBytes(snapshot));
+
+		MApplication restored = loadWithJournal(snapshot);
+		MWindow restoredWindow = restored.getChildren().get(0);
+		assertEquals("Journaled label", restoredWindow.getLabel());
+		assertEquals("value2", restoredWindow.getPersistedState().get("journal.key"));
+		assertTrue(restored.getTags().contains("journal.tag"));
+		assertEquals(application.getTags(), restored.getTags());
+
+		// structural changes write a new snapshot
+		MWindow newWindow = MBasicFactory.INSTANCE.createWindow();
+		application.getChildren().add(newWindow);
+		journal.save();
+		assertFalse(Arrays.equals(snapshotContent, Files.readAllBytes(snapshot)));
+
+		restored = loadWithJournal(snapshot);
+		assertEquals(application.getChildren().size(), restored.getChildren().size());
+		assertEquals("Journaled label", restored.getChildren().get(0).getLabel());
+	}
+
+	private MApplication loadWithJournal(Path snapshot) throws IOException {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap()
+				.put(Resource.Factory.Registry.DEFAULT_EXTENSION, new E4XMIResourceFactory());
+		Resource restored = resourceSet.getResource(URI.createFileURI(snapshot.toString()), true);
+		new ModelJournal((XMLResource) restored).replay();
+		return (MApplication) restored.getContents().get(0);
+	}
 }
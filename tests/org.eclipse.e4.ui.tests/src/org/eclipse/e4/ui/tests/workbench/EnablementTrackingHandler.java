@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.tests.workbench;
+
+import javax.inject.Named;
+import org.eclipse.e4.core.di.annotations.CanExecute;
+import org.eclipse.e4.core.di.annotations.Execute;
+import org.eclipse.e4.core.di.annotations.Optional;
+
+/**
+ * A tool item handler whose enablement depends on a context variable.
+ */
+public class EnablementTrackingHandler {
+
+	public static final String ENABLED_VARIABLE = "enablementTrackingHandler.enabled";
+
+	public int canExecuteCount;
+
+	@CanExecute
+	public boolean canExecute(@Optional @Named(ENABLED_VARIABLE) Boolean enabled) {
+		canExecuteCount++;
+		return enabled == null || enabled.booleanValue();
+	}
+
+	@Execute
+	public void execute() {
+	}
+}
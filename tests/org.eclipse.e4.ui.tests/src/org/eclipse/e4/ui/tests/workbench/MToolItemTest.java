@@ -19,7 +19,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.function.BooleanSupplier;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.PartRenderingEngine;
@@ -31,8 +33,10 @@ import org.eclipse.e4.ui.model.application.ui.menu.MDirectToolItem;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.ToolItem;
 import org.junit.After;
@@ -286,4 +290,95 @@ public class MToolItemTest {
 		toolItem2.setSelected(true);
 		assertTrue(toolItemWidget2.getSelection());
 	}
+
+	private MDirectToolItem createEnablementTrackingItem() {
+		MTrimmedWindow window = ems.createModelElement(MTrimmedWindow.class);
+		MTrimBar trimBar = ems.createModelElement(MTrimBar.class);
+		MToolBar toolBar = ems.createModelElement(MToolBar.class);
+		MDirectToolItem toolItem = ems.createModelElement(MDirectToolItem.class);
+		toolItem.setContributionURI(
+				"bundleclass://org.eclipse.e4.ui.tests/org.eclipse.e4.ui.tests.workbench.EnablementTrackingHandler");
+
+		window.getTrimBars().add(trimBar);
+		trimBar.getChildren().add(toolBar);
+		toolBar.getChildren().add(toolItem);
+
+		MApplication application = ems.createModelElement(MApplication.class);
+		application.getChildren().add(window);
+		application.setContext(appContext);
+		appContext.set(MApplication.class, application);
+
+		wb = new E4Workbench(window, appContext);
+		wb.createAndRunUI(window);
+		assertTrue(toolItem.getWidget() instanceof ToolItem);
+		return toolItem;
+	}
+
+	private void requestEnablementUpdate(String id) {
+		appContext.get(IEventBroker.class).send(UIEvents.REQUEST_ENABLEMENT_UPDATE_TOPIC, id);
+	}
+
+	/**
+	 * Processes the events of the display for some time or until a condition
+	 * is met.
+	 */
+	private static boolean processEvents(BooleanSupplier condition, long millis) {
+		Display display = Display.getDefault();
+		long end = System.currentTimeMillis() + millis;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > end) {
+				return false;
+			}
+			if (!display.readAndDispatch()) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Test
+	public void testMToolItem_EnablementTracksContextVariables() {
+		MDirectToolItem toolItem = createEnablementTrackingItem();
+		requestEnablementUpdate(UIEvents.ALL_ELEMENT_ID);
+		assertTrue(processEvents(() -> toolItem.getObject() != null
+				&& ((EnablementTrackingHandler) toolItem.getObject()).canExecuteCount > 0, 5000));
+		EnablementTrackingHandler handler = (EnablementTrackingHandler) toolItem.getObject();
+		assertTrue(toolItem.isEnabled());
+		int count = handler.canExecuteCount;
+
+		// the variable read by the handler updates the item without a request
+		appContext.set(EnablementTrackingHandler.ENABLED_VARIABLE, Boolean.FALSE);
+		assertTrue(processEvents(() -> !toolItem.isEnabled(), 5000));
+		assertTrue(handler.canExecuteCount > count);
+		assertFalse(((ToolItem) toolItem.getWidget()).getEnabled());
+
+		appContext.set(EnablementTrackingHandler.ENABLED_VARIABLE, Boolean.TRUE);
+		assertTrue(processEvents(toolItem::isEnabled, 5000));
+	}
+
+	@Test
+	public void testMToolItem_EnablementUpdateOfUntrackedItems() {
+		MDirectToolItem toolItem = createEnablementTrackingItem();
+
+		// an item whose enablement was never computed is not tracked yet
+		requestEnablementUpdate(UIEvents.UNTRACKED_ELEMENT_ID);
+		assertTrue(processEvents(() -> toolItem.getObject() != null
+				&& ((EnablementTrackingHandler) toolItem.getObject()).canExecuteCount > 0, 5000));
+		EnablementTrackingHandler handler = (EnablementTrackingHandler) toolItem.getObject();
+		int count = handler.canExecuteCount;
+
+		// a tracked item is left alone by requests for untracked items
+		requestEnablementUpdate(UIEvents.UNTRACKED_ELEMENT_ID);
+		processEvents(() -> false, 500);
+		assertEquals(count, handler.canExecuteCount);
+
+		// requests for all items update it
+		requestEnablementUpdate(UIEvents.ALL_ELEMENT_ID);
+		assertTrue(processEvents(() -> handler.canExecuteCount > count, 5000));
+	}
 }
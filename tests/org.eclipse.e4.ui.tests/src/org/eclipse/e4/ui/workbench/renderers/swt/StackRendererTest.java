@@ -15,6 +15,8 @@
 package org.eclipse.e4.ui.workbench.renderers.swt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -25,6 +27,7 @@ import java.util.HashMap;
 import java.util.List;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
+import org.eclipse.e4.ui.internal.workbench.swt.AbstractPartRenderer;
 import org.eclipse.e4.ui.internal.workbench.swt.CSSConstants;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.PartRenderingEngine;
@@ -38,6 +41,7 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.custom.CTabItem;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
@@ -139,6 +143,37 @@ public class StackRendererTest {
 						.getMethodExecutionCount("setClassnameAndId(.+)"));
 	}
 
+	@Test
+	public void testMaxTabItems() throws Exception {
+		StackRenderer stackRenderer = (StackRenderer) partStack.getRenderer();
+		CTabFolder tabFolder = (CTabFolder) partStack.getWidget();
+		stackRenderer.setMaxTabItems(3);
+		try {
+			List<MPart> parts = new ArrayList<MPart>();
+			for (int i = 0; i < 10; i++) {
+				MPart newPart = ems.createModelElement(MPart.class);
+				newPart.setLabel("part " + i);
+				partStack.getChildren().add(newPart);
+				parts.add(newPart);
+			}
+			while (Display.getDefault().readAndDispatch()) {
+			}
+			assertEquals(3, tabFolder.getItemCount());
+			assertNull(stackRenderer.findItemForPart(parts.get(9)));
+
+			long createdCount = stackRenderer.getCreatedTabItemCount();
+			partStack.setSelectedElement(parts.get(9));
+			while (Display.getDefault().readAndDispatch()) {
+			}
+			assertEquals(3, tabFolder.getItemCount());
+			assertSame(tabFolder.getSelection(), stackRenderer.findItemForPart(parts.get(9)));
+			assertSame(part, tabFolder.getItem(0).getData(AbstractPartRenderer.OWNING_ME));
+			assertEquals(createdCount + 1, stackRenderer.getCreatedTabItemCount());
+		} finally {
+			stackRenderer.setMaxTabItems(0);
+		}
+	}
+
 	// helper functions
 	private static class CTabItemStylingMethodsListener implements
 			InvocationHandler {
@@ -21,7 +21,9 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -286,6 +288,90 @@ public class Diffs_ListDiffTests {
 				Arrays.asList(new Object[] { "c", "a", "b" }));
 	}
 
+	@Test
+	public void testComputeListDiff_LargeUniqueShuffle() {
+		List<Object> oldList = createSequence(500);
+		List<Object> newList = new ArrayList<Object>(oldList);
+		Collections.shuffle(newList.subList(100, 200), new Random(1));
+		newList.remove(300);
+		newList.add(400, "added");
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeUniqueMoveIsReportedAsMove() {
+		List<Object> oldList = createSequence(500);
+		List<Object> newList = new ArrayList<Object>(oldList);
+		newList.add(400, newList.remove(10));
+
+		ListDiff diff = Diffs.computeListDiff(oldList, newList);
+		final int[] moves = new int[1];
+		diff.accept(new ListDiffVisitor() {
+			@Override
+			public void handleAdd(int index, Object element) {
+				fail("unexpected add");
+			}
+
+			@Override
+			public void handleRemove(int index, Object element) {
+				fail("unexpected remove");
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, Object element) {
+				assertEquals(10, oldIndex);
+				assertEquals(400, newIndex);
+				moves[0]++;
+			}
+		});
+		assertEquals(1, moves[0]);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeWithDuplicates() {
+		Random random = new Random(1);
+		List<Object> oldList = new ArrayList<Object>();
+		for (int i = 0; i < 500; i++) {
+			oldList.add(Integer.valueOf(random.nextInt(10)));
+		}
+		List<Object> newList = new ArrayList<Object>(oldList);
+		for (int i = 0; i < 50; i++) {
+			newList.set(random.nextInt(newList.size()), Integer.valueOf(random.nextInt(10)));
+		}
+		newList.subList(200, 250).clear();
+		newList.add(0, null);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeShuffledWithDuplicates() {
+		List<Object> oldList = new ArrayList<Object>();
+		for (int i = 0; i < 10000; i++) {
+			oldList.add(Integer.valueOf(i % 100));
+		}
+		List<Object> newList = new ArrayList<Object>(oldList);
+		Collections.shuffle(newList, new Random(1));
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeDisjoint() {
+		List<Object> oldList = createSequence(200);
+		List<Object> newList = new ArrayList<Object>();
+		for (int i = 0; i < 200; i++) {
+			newList.add("new" + i);
+		}
+		checkComputedListDiff(oldList, newList);
+	}
+
+	private static List<Object> createSequence(int size) {
+		List<Object> list = new ArrayList<Object>();
+		for (int i = 0; i < size; i++) {
+			list.add("element" + i);
+		}
+		return list;
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff diff = Diffs.computeListDiff(oldList, newList);
 
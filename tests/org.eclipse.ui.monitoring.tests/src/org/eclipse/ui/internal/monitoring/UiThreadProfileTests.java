@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *	   IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.monitoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link UiThreadProfile} class.
+ */
+public class UiThreadProfileTests {
+	private static StackTraceElement frame(String method, int line) {
+		return new StackTraceElement("a.B", method, "B.java", line);
+	}
+
+	/**
+	 * Creates a stack trace from the outermost to the innermost frame.
+	 */
+	private static StackTraceElement[] stack(StackTraceElement... outermostFirst) {
+		StackTraceElement[] stack = new StackTraceElement[outermostFirst.length];
+		for (int i = 0; i < stack.length; i++) {
+			stack[i] = outermostFirst[outermostFirst.length - 1 - i];
+		}
+		return stack;
+	}
+
+	private static List<String> lines(UiThreadProfile profile) {
+		String[] lines = profile.toString().split("\n");
+		Arrays.sort(lines);
+		return Arrays.asList(lines);
+	}
+
+	@Test
+	public void testCollapsedStacks() {
+		UiThreadProfile profile = new UiThreadProfile(100, 100);
+		profile.addSample(stack(frame("main", 1), frame("run", 2), frame("paint", 3)));
+		profile.addSample(stack(frame("main", 1), frame("run", 2), frame("paint", 4)));
+		profile.addSample(stack(frame("main", 1), frame("run", 5)));
+		profile.addSample(stack(frame("main", 1), frame("layout", 6)));
+
+		assertEquals(Arrays.asList(
+				"a.B.main;a.B.layout 1",
+				"a.B.main;a.B.run 1",
+				"a.B.main;a.B.run;a.B.paint 2"),
+				lines(profile));
+		assertEquals(4, profile.getSampleCount());
+	}
+
+	@Test
+	public void testRollingWindow() {
+		UiThreadProfile profile = new UiThreadProfile(2, 100);
+		profile.addSample(stack(frame("main", 1), frame("old", 2)));
+		profile.addSample(stack(frame("main", 1), frame("new", 3)));
+		profile.addSample(stack(frame("main", 1), frame("new", 3)));
+
+		assertEquals(Arrays.asList("a.B.main;a.B.new 2"), lines(profile));
+		assertEquals(2, profile.getSampleCount());
+		assertEquals(3, profile.getTotalSampleCount());
+	}
+
+	@Test
+	public void testTruncatedWhenFull() {
+		UiThreadProfile profile = new UiThreadProfile(10, 3);
+		profile.addSample(stack(frame("main", 1), frame("run", 2), frame("paint", 3)));
+
+		assertEquals(Arrays.asList("a.B.main;a.B.run 1"), lines(profile));
+	}
+
+	@Test
+	public void testCompactedWhenFull() {
+		UiThreadProfile profile = new UiThreadProfile(10, 16);
+		for (int i = 0; i < 100; i++) {
+			profile.addSample(stack(frame("main", 1), frame("run" + i, 2)));
+		}
+
+		// The stacks of the last 10 samples are all recorded in full.
+		List<String> expected = new ArrayList<>();
+		for (int i = 90; i < 100; i++) {
+			expected.add("a.B.main;a.B.run" + i + " 1");
+		}
+		Collections.sort(expected);
+		assertEquals(expected, lines(profile));
+	}
+
+	@Test
+	public void testCompactionDeferredWhenWindowIsFull() {
+		UiThreadProfile profile = new UiThreadProfile(2, 4);
+		profile.addSample(stack(frame("main", 1), frame("a", 2)));
+		profile.addSample(stack(frame("main", 1), frame("b", 3)));
+		// Both stacks are still in the window, so there is no room for this one.
+		profile.addSample(stack(frame("main", 1), frame("c", 4)));
+		assertEquals(Arrays.asList("a.B.main 1", "a.B.main;a.B.b 1"), lines(profile));
+
+		profile.addSample(stack(frame("main", 1), frame("d", 5)));
+		profile.addSample(stack(frame("main", 1), frame("e", 6)));
+		assertEquals(Arrays.asList("a.B.main 1", "a.B.main;a.B.e 1"), lines(profile));
+	}
+
+	@Test
+	public void testClear() {
+		UiThreadProfile profile = new UiThreadProfile(10, 10);
+		profile.addSample(stack(frame("main", 1)));
+		profile.clear();
+
+		assertEquals("", profile.toString());
+		assertEquals(0, profile.getSampleCount());
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.core.commands.Category;
+import org.eclipse.core.commands.Command;
+import org.eclipse.core.commands.CommandManager;
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.core.commands.contexts.Context;
+import org.eclipse.core.commands.contexts.ContextManager;
+import org.eclipse.e4.ui.bindings.internal.BindingTable;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.keys.KeyBinding;
+import org.eclipse.jface.bindings.keys.KeySequence;
+import org.eclipse.jface.bindings.keys.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups in a {@link BindingTable} with <code>size</code> key bindings:
+ * single key strokes first, then two key strokes sharing a few prefixes, like
+ * the bindings of an IDE.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("restriction")
+public class BindingTableBenchmark {
+
+	private static final String SCHEME_ID = "org.eclipse.ui.defaultAcceleratorConfiguration";
+	private static final String CONTEXT_ID = "org.eclipse.ui.contexts.window";
+	private static final String[] MODIFIERS = { "CTRL+", "ALT+", "SHIFT+", "CTRL+SHIFT+", "CTRL+ALT+", "ALT+SHIFT+" };
+	// Q is only used in prefixes, so that no single key stroke is a prefix
+	private static final String[] PREFIXES = { "CTRL+Q", "ALT+Q", "SHIFT+Q", "CTRL+SHIFT+Q", "CTRL+ALT+Q",
+			"ALT+SHIFT+Q", "CTRL+ALT+SHIFT+Q", "F12" };
+	private static final String KEYS = "ABCDEFGHIJKLMNOPRSTUVWXYZ0123456789";
+	private static final int STROKES = MODIFIERS.length * KEYS.length();
+
+	@Param({ "500", "1500" })
+	public int size;
+
+	private BindingTable table;
+	private KeySequence existing;
+	private KeySequence missing;
+	private KeySequence prefix;
+	private ParameterizedCommand command;
+
+	@Setup
+	public void setUp() throws ParseException {
+		if (size > STROKES * (PREFIXES.length + 1)) {
+			throw new IllegalArgumentException("Too many bindings: " + size);
+		}
+		ContextManager contextManager = new ContextManager();
+		Context context = contextManager.getContext(CONTEXT_ID);
+		context.define("In Windows", null, null);
+		CommandManager commandManager = new CommandManager();
+		Category category = commandManager.getCategory("benchmark");
+		category.define("Benchmark", null);
+
+		List<Binding> bindings = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			Command cmd = commandManager.getCommand("benchmark.command" + i);
+			cmd.define("Command " + i, null, category);
+			ParameterizedCommand parameterizedCommand = new ParameterizedCommand(cmd, null);
+			bindings.add(new KeyBinding(KeySequence.getInstance(createSequence(i)), parameterizedCommand, SCHEME_ID,
+					CONTEXT_ID, null, null, null, Binding.SYSTEM));
+		}
+
+		table = new BindingTable(context);
+		for (Binding binding : bindings) {
+			table.addBinding(binding);
+		}
+		Binding binding = bindings.get(size - 1);
+		existing = (KeySequence) binding.getTriggerSequence();
+		command = binding.getParameterizedCommand();
+		missing = KeySequence.getInstance("CTRL+ALT+SHIFT+F11");
+		prefix = KeySequence.getInstance(PREFIXES[0]);
+	}
+
+	/**
+	 * Returns distinct key sequences: all single key strokes, then the two key
+	 * strokes starting with the first of {@link #PREFIXES}, then with the
+	 * second one and so on.
+	 */
+	private static String createSequence(int i) {
+		String stroke = MODIFIERS[i / KEYS.length() % MODIFIERS.length] + KEYS.charAt(i % KEYS.length());
+		return i < STROKES ? stroke : PREFIXES[i / STROKES - 1] + ' ' + stroke;
+	}
+
+	@Benchmark
+	public Binding getPerfectMatch() {
+		return table.getPerfectMatch(existing);
+	}
+
+	@Benchmark
+	public Binding getPerfectMatchMissing() {
+		return table.getPerfectMatch(missing);
+	}
+
+	@Benchmark
+	public boolean isPartialMatch() {
+		return table.isPartialMatch(prefix);
+	}
+
+	@Benchmark
+	public Collection<Binding> getPartialMatches() {
+		return table.getPartialMatches(prefix);
+	}
+
+	@Benchmark
+	public Binding getBestSequenceFor() {
+		return table.getBestSequenceFor(command);
+	}
+}
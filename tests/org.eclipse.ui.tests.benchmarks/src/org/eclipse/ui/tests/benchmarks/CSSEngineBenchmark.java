@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.e4.ui.css.core.dom.ElementAdapter;
+import org.eclipse.e4.ui.css.core.engine.CSSEngine;
+import org.eclipse.e4.ui.css.core.impl.engine.CSSEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * {@link org.eclipse.e4.ui.css.core.impl.engine.AbstractCSSEngine#applyStyles(Object, boolean)}
+ * of a style sheet with <code>rules</code> rules to a synthetic widget tree
+ * with <code>depth</code> levels of <code>breadth</code> children each.
+ * <p>
+ * The widgets are plain objects, so no display is needed, and no property
+ * handlers are registered: the benchmark measures the matching of the
+ * selectors and the computation of the styles, not the styling of real
+ * widgets.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CSSEngineBenchmark {
+
+	private static final String[] TYPES = { "Composite", "Label", "Button", "Text", "Tree", "CTabFolder", "ToolBar" };
+	private static final int CLASSES = 20;
+
+	@Param({ "5" })
+	public int breadth;
+
+	@Param({ "4" })
+	public int depth;
+
+	@Param({ "100", "1000" })
+	public int rules;
+
+	private CSSEngine engine;
+	private Widget root;
+	private int widgetCount;
+
+	/**
+	 * Synthetic widget, the native object styled by the engine.
+	 */
+	static class Widget {
+		final String type;
+		final String id;
+		final String cssClass;
+		final Widget parent;
+		final List<Widget> children = new ArrayList<>();
+
+		Widget(String type, String id, String cssClass, Widget parent) {
+			this.type = type;
+			this.id = id;
+			this.cssClass = cssClass;
+			this.parent = parent;
+			if (parent != null) {
+				parent.children.add(this);
+			}
+		}
+	}
+
+	static class WidgetElement extends ElementAdapter {
+		WidgetElement(Widget widget, CSSEngine engine) {
+			super(widget, engine);
+		}
+
+		private Widget getWidget() {
+			return (Widget) getNativeWidget();
+		}
+
+		@Override
+		public String getLocalName() {
+			return getWidget().type;
+		}
+
+		@Override
+		public String getAttribute(String name) {
+			return "";
+		}
+
+		@Override
+		public String getNamespaceURI() {
+			return null;
+		}
+
+		@Override
+		public Node getParentNode() {
+			Widget parent = getWidget().parent;
+			return parent == null ? null : engine.getElement(parent);
+		}
+
+		@Override
+		public NodeList getChildNodes() {
+			List<Widget> children = getWidget().children;
+			return new NodeList() {
+				@Override
+				public Node item(int index) {
+					return engine.getElement(children.get(index));
+				}
+
+				@Override
+				public int getLength() {
+					return children.size();
+				}
+			};
+		}
+
+		@Override
+		public String getCSSId() {
+			return getWidget().id;
+		}
+
+		@Override
+		public String getCSSClass() {
+			return getWidget().cssClass;
+		}
+
+		@Override
+		public String getCSSStyle() {
+			return null;
+		}
+	}
+
+	static class BenchmarkCSSEngine extends CSSEngineImpl {
+		@Override
+		public void reapply() {
+		}
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		engine = new BenchmarkCSSEngine();
+		engine.setElementProvider((element, e) -> new WidgetElement((Widget) element, e));
+		engine.parseStyleSheet(new StringReader(createStyleSheet()));
+		root = new Widget("Shell", "shell", null, null);
+		createChildren(root, depth);
+	}
+
+	private void createChildren(Widget parent, int levels) {
+		if (levels == 0) {
+			return;
+		}
+		for (int i = 0; i < breadth; i++) {
+			int n = widgetCount++;
+			String type = levels > 1 ? "Composite" : TYPES[n % TYPES.length];
+			Widget widget = new Widget(type, "widget" + n, "c" + n % CLASSES, parent);
+			createChildren(widget, levels - 1);
+		}
+	}
+
+	/**
+	 * Creates a style sheet mixing the kinds of selectors of the platform
+	 * themes: element names, classes, ids, descendant and child combinators and
+	 * pseudo classes.
+	 */
+	private String createStyleSheet() {
+		StringBuilder css = new StringBuilder();
+		for (int i = 0; i < rules; i++) {
+			String type = TYPES[i % TYPES.length];
+			switch (i % 6) {
+			case 0:
+				css.append(type);
+				break;
+			case 1:
+				css.append('.').append('c').append(i % CLASSES);
+				break;
+			case 2:
+				css.append('#').append("widget").append(i);
+				break;
+			case 3:
+				css.append("Composite .c").append(i % CLASSES).append(' ').append(type);
+				break;
+			case 4:
+				css.append("Composite > ").append(type).append(".c").append(i % CLASSES);
+				break;
+			default:
+				css.append(type).append(":selected");
+				break;
+			}
+			css.append(" { color: #").append(String.format("%06x", i * 0x10101 & 0xffffff))
+					.append("; font-size: ").append(8 + i % 5).append("px; }\n");
+		}
+		return css.toString();
+	}
+
+	@Benchmark
+	public void applyStyles() {
+		engine.applyStyles(root, true);
+	}
+}
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class of benchmarks which need widgets. SWT has to be used from the
+ * thread which created the display, so the display is created by each
+ * benchmark thread, in the setup of the trial. The shell is never opened.
+ * <p>
+ * Subclasses create their widgets in {@link #createContents()}.
+ * </p>
+ */
+@State(Scope.Thread)
+public abstract class DisplayFixture {
+
+	protected Display display;
+	protected Shell shell;
+
+	@Setup(Level.Trial)
+	public void createDisplay() {
+		display = new Display();
+		shell = new Shell(display, SWT.SHELL_TRIM);
+		shell.setLayout(new FillLayout());
+		shell.setSize(800, 600);
+		createContents();
+	}
+
+	/**
+	 * Creates the widgets of the benchmark in {@link #shell}.
+	 */
+	protected abstract void createContents();
+
+	@TearDown(Level.Trial)
+	public void disposeDisplay() {
+		shell.dispose();
+		display.dispose();
+	}
+
+	/**
+	 * Processes the pending events, e.g. the deferred repaints of the
+	 * widgets. Called after each invocation so that the events of one
+	 * invocation are not processed in the next.
+	 */
+	@TearDown(Level.Invocation)
+	public void readAndDispatch() {
+		while (display.readAndDispatch()) {
+			// keep going
+		}
+	}
+}
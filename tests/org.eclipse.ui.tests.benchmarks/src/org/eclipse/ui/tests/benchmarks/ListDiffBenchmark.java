@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link Diffs#computeListDiff(List, List)} of two lists of <code>size</code>
+ * elements, the new list being derived from the old one by a typical
+ * <code>change</code>:
+ * <ul>
+ * <li><code>append</code>: one percent of elements added at the end</li>
+ * <li><code>edit</code>: one percent of elements replaced at random
+ * positions</li>
+ * <li><code>move</code>: one element moved from the end to the start</li>
+ * <li><code>shuffle</code>: all elements in a different order</li>
+ * <li><code>replace</code>: no element in common</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListDiffBenchmark {
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	@Param({ "append", "edit", "move", "shuffle", "replace" })
+	public String change;
+
+	private List<String> oldList;
+	private List<String> newList;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		oldList = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			oldList.add("Element " + i);
+		}
+		newList = new ArrayList<>(oldList);
+		int changes = Math.max(1, size / 100);
+		switch (change) {
+		case "append":
+			for (int i = 0; i < changes; i++) {
+				newList.add("New " + i);
+			}
+			break;
+		case "edit":
+			for (int i = 0; i < changes; i++) {
+				newList.set(random.nextInt(size), "New " + i);
+			}
+			break;
+		case "move":
+			newList.add(0, newList.remove(size - 1));
+			break;
+		case "shuffle":
+			Collections.shuffle(newList, random);
+			break;
+		case "replace":
+			for (int i = 0; i < size; i++) {
+				newList.set(i, "New " + i);
+			}
+			break;
+		default:
+			throw new IllegalArgumentException(change);
+		}
+	}
+
+	@Benchmark
+	public ListDiff<String> computeListDiff() {
+		return Diffs.computeListDiff(oldList, newList);
+	}
+}
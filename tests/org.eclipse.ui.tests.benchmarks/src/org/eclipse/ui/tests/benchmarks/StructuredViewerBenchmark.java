@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * {@link org.eclipse.jface.viewers.StructuredViewer#refresh()} and
+ * {@link org.eclipse.jface.viewers.StructuredViewer#setInput(Object)} of a
+ * table with <code>size</code> items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StructuredViewerBenchmark extends DisplayFixture {
+
+	@Param({ "1000", "10000" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean useHashlookup;
+
+	private TableViewer viewer;
+	private List<String> input;
+
+	@Override
+	protected void createContents() {
+		viewer = new TableViewer(shell, SWT.MULTI | SWT.FULL_SELECTION);
+		viewer.setUseHashlookup(useHashlookup);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setLabelProvider(new LabelProvider());
+		input = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			input.add("Item " + i);
+		}
+		viewer.setInput(input);
+	}
+
+	@Benchmark
+	public void refresh() {
+		viewer.refresh();
+	}
+
+	@Benchmark
+	public void setInput() {
+		viewer.setInput(input);
+	}
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.SWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * {@link org.eclipse.jface.viewers.AbstractTreeViewer#expandAll()} of a tree
+ * with <code>depth</code> levels of <code>breadth</code> children each. The
+ * input is set again before each invocation, so that all items are created by
+ * the expansion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TreeViewerBenchmark extends DisplayFixture {
+
+	@Param({ "10" })
+	public int breadth;
+
+	@Param({ "3", "4" })
+	public int depth;
+
+	@Param({ "false", "true" })
+	public boolean useHashlookup;
+
+	private TreeViewer viewer;
+	private Node root;
+
+	static class Node {
+		final String name;
+		final Node parent;
+		Node[] children;
+
+		Node(String name, Node parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	static class NodeContentProvider implements ITreeContentProvider {
+		@Override
+		public Object[] getElements(Object inputElement) {
+			return getChildren(inputElement);
+		}
+
+		@Override
+		public Object[] getChildren(Object parentElement) {
+			Node[] children = ((Node) parentElement).children;
+			return children == null ? new Object[0] : children;
+		}
+
+		@Override
+		public Object getParent(Object element) {
+			return ((Node) element).parent;
+		}
+
+		@Override
+		public boolean hasChildren(Object element) {
+			return ((Node) element).children != null;
+		}
+	}
+
+	private static Node createTree(String name, Node parent, int breadth, int depth) {
+		Node node = new Node(name, parent);
+		if (depth > 0) {
+			node.children = new Node[breadth];
+			for (int i = 0; i < breadth; i++) {
+				node.children[i] = createTree(name + '.' + i, node, breadth, depth - 1);
+			}
+		}
+		return node;
+	}
+
+	@Override
+	protected void createContents() {
+		viewer = new TreeViewer(shell, SWT.MULTI);
+		viewer.setUseHashlookup(useHashlookup);
+		viewer.setContentProvider(new NodeContentProvider());
+		viewer.setLabelProvider(new LabelProvider());
+		root = createTree("Node", null, breadth, depth);
+	}
+
+	@Setup(Level.Invocation)
+	public void setInput() {
+		viewer.setInput(root);
+	}
+
+	@Benchmark
+	public void expandAll() {
+		viewer.expandAll();
+	}
+}
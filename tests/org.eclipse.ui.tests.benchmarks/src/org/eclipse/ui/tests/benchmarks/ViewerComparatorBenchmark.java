@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link ViewerComparator#sort(org.eclipse.jface.viewers.Viewer, Object[])}
+ * of <code>size</code> strings in random order, comparing their labels with
+ * the default collator. Copying the unsorted array is part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ViewerComparatorBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private ViewerComparator comparator;
+	private Object[] elements;
+
+	@Setup
+	public void setUp() {
+		comparator = new ViewerComparator();
+		Random random = new Random(42);
+		elements = new Object[size];
+		for (int i = 0; i < size; i++) {
+			elements[i] = "Element " + random.nextInt(size);
+		}
+	}
+
+	@Benchmark
+	public Object[] sort() {
+		Object[] sorted = elements.clone();
+		comparator.sort(null, sorted);
+		return sorted;
+	}
+}
@@ -127,6 +127,51 @@ public class EvaluationCacheTest extends NavigatorTestBase {
 		Assert.assertNull(cache.getDescriptors(key, true));
 	}
 
+	@Test
+	public void testOverridesShareEntry() {
+		Object key = new Object();
+		cache.setDescriptors(key, new NavigatorContentDescriptor[0], false);
+		cache.setDescriptors(key, new NavigatorContentDescriptor[0], true);
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		INavigatorViewerDescriptor mockViewerDescript = new TestNavigatorViewerDescriptor();
+		INavigatorActivationService mockActivationService = new TestNavigatorActivationService();
+		VisibilityAssistant mockAssistant = new VisibilityAssistant(mockViewerDescript, mockActivationService);
+		EvaluationCache boundedCache = new EvaluationCache(mockAssistant, 100);
+
+		Object[] keys = new Object[1000];
+		NavigatorContentDescriptor[] value = new NavigatorContentDescriptor[0];
+		Object recentlyUsed = new Object();
+		boundedCache.setDescriptors(recentlyUsed, value, false);
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = new Object();
+			boundedCache.setDescriptors(keys[i], value, false);
+			Assert.assertTrue(boundedCache.size() <= boundedCache.getMaxSize());
+			// Keep one entry in use, it must not be evicted.
+			Assert.assertSame(value, boundedCache.getDescriptors(recentlyUsed, false));
+		}
+		Assert.assertSame(value, boundedCache.getDescriptors(keys[keys.length - 1], false));
+		Assert.assertNull(boundedCache.getDescriptors(keys[0], false));
+		Assert.assertEquals(keys.length + 1 - boundedCache.size(), boundedCache.getEvictionCount());
+	}
+
+	@Test
+	public void testStatistics() {
+		Object key = new Object();
+		Assert.assertNull(cache.getDescriptors(key, false));
+		cache.setDescriptors(key, new NavigatorContentDescriptor[0], false);
+		cache.getDescriptors(key, false);
+		cache.getDescriptors(key, false);
+		// Only the descriptors without overrides are cached.
+		Assert.assertNull(cache.getDescriptors(key, true));
+		Assert.assertEquals(2, cache.getHitCount());
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(0, cache.getEvictionCount());
+	}
+
 	// TODO Some way to reliably test the clearing of entries. Possibly using
 	// java.lang.ref.Reference#enqueue().
 }
@@ -51,6 +51,8 @@ public class JFacePerformanceSuite extends FilteredTestSuite {
 		addTest(new ProgressMonitorDialogPerformanceTest("testLongNames"));
 		addTest(new ShrinkingTreeTest("testTreeViewerRefresh"));
 		addTest(new CollatorPerformanceTest("testCollator"));
+		addTest(new ListDiffPerformanceTest("testIndexedListDiff"));
+		addTest(new ListDiffPerformanceTest("testScanningListDiff"));
 
 	}
 }
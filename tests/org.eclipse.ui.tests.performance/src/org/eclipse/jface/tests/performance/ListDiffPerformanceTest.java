@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.internal.databinding.observable.ListDifferenceAnalyzer;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * Compares the indexed list diff algorithm used by
+ * {@link org.eclipse.core.databinding.observable.Diffs#computeListDiff} with
+ * the scanning algorithm it used before.
+ */
+public class ListDiffPerformanceTest extends BasicPerformanceTest {
+
+	private static final int LIST_SIZE = 50000;
+
+	private static final int ITERATIONS = 10;
+
+	private List<Object> oldList;
+
+	private List<Object> newList;
+
+	private List<Object> oldDuplicatesList;
+
+	private List<Object> newDuplicatesList;
+
+	public ListDiffPerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		Random random = new Random(1);
+		oldList = new ArrayList<>();
+		for (int i = 0; i < LIST_SIZE; i++) {
+			oldList.add("element" + i);
+		}
+		// a typical setAll: some rows removed, some added, a block re-sorted
+		newList = new ArrayList<>(oldList);
+		for (int i = 0; i < 100; i++) {
+			newList.remove(random.nextInt(newList.size()));
+			newList.add(random.nextInt(newList.size()), "added" + i);
+		}
+		Collections.shuffle(newList.subList(LIST_SIZE / 2, LIST_SIZE / 2 + 500), random);
+
+		// a list with many duplicates which is sorted differently, so that
+		// there is hardly any common subsequence
+		oldDuplicatesList = new ArrayList<>();
+		for (int i = 0; i < LIST_SIZE; i++) {
+			oldDuplicatesList.add(Integer.valueOf(i % 1000));
+		}
+		newDuplicatesList = new ArrayList<>(oldDuplicatesList);
+		Collections.shuffle(newDuplicatesList, random);
+	}
+
+	/**
+	 * Diff of two large lists of unique elements with the indexed algorithm.
+	 */
+	public void testIndexedListDiff() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			List<ListDiffEntry<Object>> diffs = new ArrayList<>();
+			startMeasuring();
+			ListDifferenceAnalyzer.createIndexedListDiffs(oldList, newList, diffs);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Diff of two large lists of unique elements with the scanning algorithm,
+	 * as a baseline for {@link #testIndexedListDiff()}.
+	 */
+	public void testScanningListDiff() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			List<ListDiffEntry<Object>> diffs = new ArrayList<>();
+			startMeasuring();
+			ListDifferenceAnalyzer.createScanningListDiffs(oldList, newList, diffs);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Diff of two large shuffled lists with duplicate elements with the
+	 * indexed algorithm, which has to give up on finding a shortest edit
+	 * script.
+	 */
+	public void testIndexedListDiffShuffledDuplicates() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			List<ListDiffEntry<Object>> diffs = new ArrayList<>();
+			startMeasuring();
+			ListDifferenceAnalyzer.createIndexedListDiffs(oldDuplicatesList, newDuplicatesList, diffs);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Diff of two large shuffled lists with duplicate elements with the
+	 * scanning algorithm, as a baseline for
+	 * {@link #testIndexedListDiffShuffledDuplicates()}.
+	 */
+	public void testScanningListDiffShuffledDuplicates() {
+		for (int i = 0; i < ITERATIONS; i++) {
+			List<ListDiffEntry<Object>> diffs = new ArrayList<>();
+			startMeasuring();
+			ListDifferenceAnalyzer.createScanningListDiffs(oldDuplicatesList, newDuplicatesList, diffs);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
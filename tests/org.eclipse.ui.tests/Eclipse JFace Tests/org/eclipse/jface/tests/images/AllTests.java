@@ -20,7 +20,8 @@ import org.junit.runners.Suite;
 
 @RunWith(Suite.class)
 @Suite.SuiteClasses({ ImageRegistryTest.class, ResourceManagerTest.class, FileImageDescriptorTest.class,
-		DecorationOverlayIconTest.class })
+		DecorationOverlayIconTest.class, ConcurrentResourceManagerTest.class,
+		ImageDataCacheTest.class })
 public class AllTests {
 
 	public static void main(String[] args) {
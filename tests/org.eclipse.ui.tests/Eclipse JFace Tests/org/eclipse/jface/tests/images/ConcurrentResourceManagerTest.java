@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.resource.ColorDescriptor;
+import org.eclipse.jface.resource.ConcurrentResourceManager;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.plugin.AbstractUIPlugin;
+
+import junit.framework.TestCase;
+
+public class ConcurrentResourceManagerTest extends TestCase {
+
+	private Display display;
+
+	private ConcurrentResourceManager manager;
+
+	private static ImageDescriptor getImage(String path) {
+		return AbstractUIPlugin.imageDescriptorFromPlugin("org.eclipse.ui.tests", path);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		display = Display.getCurrent();
+		manager = new ConcurrentResourceManager(display);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		manager.dispose();
+		assertEquals("Detected leaks", 0, manager.getLiveResourceCount());
+		super.tearDown();
+	}
+
+	private <T> T runInBackground(Supplier<T> supplier) {
+		CompletableFuture<T> future = CompletableFuture.supplyAsync(supplier);
+		future.whenComplete((result, e) -> display.wake());
+		// the UI thread has to run while the resources are created
+		while (!future.isDone()) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+		return future.join();
+	}
+
+	public void testReferenceCounting() {
+		ColorDescriptor descriptor = ColorDescriptor.createFrom(new RGB(10, 200, 54));
+		Color color = manager.createColor(descriptor);
+		assertSame(color, manager.createColor(ColorDescriptor.createFrom(new RGB(10, 200, 54))));
+		assertEquals(1, manager.getLiveResourceCount());
+		assertEquals(1, manager.getMissCount());
+		assertEquals(1, manager.getHitCount());
+		assertEquals(0.5, manager.getHitRate(), 0);
+		assertSame(color, manager.find(descriptor));
+
+		manager.destroyColor(descriptor);
+		assertEquals(1, manager.getLiveResourceCount());
+		manager.destroyColor(descriptor);
+		assertEquals(0, manager.getLiveResourceCount());
+		assertNull(manager.find(descriptor));
+	}
+
+	public void testCreateInBackground() {
+		ImageDescriptor descriptor = getImage("icons/anything.gif");
+		Image image = runInBackground(() -> manager.createImage(descriptor));
+		assertFalse(image.isDisposed());
+		assertSame(image, manager.createImage(descriptor));
+		assertEquals(1, manager.getLiveResourceCount());
+
+		runInBackground(() -> {
+			manager.destroyImage(descriptor);
+			manager.destroyImage(descriptor);
+			return null;
+		});
+		assertEquals(0, manager.getLiveResourceCount());
+		// disposed asynchronously on the UI thread
+		while (display.readAndDispatch()) {
+			// run the pending disposal
+		}
+		assertTrue(image.isDisposed());
+	}
+
+	public void testCreateDisabledInBackground() {
+		ImageDescriptor descriptor = ImageDescriptor.createWithFlags(getImage("icons/anything.gif"),
+				SWT.IMAGE_DISABLED);
+		Image image = runInBackground(() -> manager.createImage(descriptor));
+		assertFalse(image.isDisposed());
+		assertEquals(1, manager.getLiveResourceCount());
+
+		// the disabled image, not the image it is derived from
+		Image expected = descriptor.createImage(display);
+		try {
+			ImageData expectedData = expected.getImageData();
+			ImageData data = image.getImageData();
+			assertEquals(expectedData.width, data.width);
+			assertEquals(expectedData.height, data.height);
+			for (int x = 0; x < data.width; x++) {
+				for (int y = 0; y < data.height; y++) {
+					assertEquals(expectedData.palette.getRGB(expectedData.getPixel(x, y)),
+							data.palette.getRGB(data.getPixel(x, y)));
+				}
+			}
+		} finally {
+			expected.dispose();
+		}
+	}
+
+	public void testCreateConcurrently() {
+		ImageDescriptor descriptor = getImage("icons/binary_co.gif");
+		Image[] images = runInBackground(() -> {
+			CompletableFuture<Image> first = CompletableFuture.supplyAsync(() -> manager.createImage(descriptor));
+			CompletableFuture<Image> second = CompletableFuture.supplyAsync(() -> manager.createImage(descriptor));
+			return new Image[] { first.join(), second.join() };
+		});
+		assertSame(images[0], images[1]);
+		assertEquals(1, manager.getLiveResourceCount());
+		assertEquals(2, manager.getHitCount() + manager.getMissCount());
+	}
+
+	public void testDispose() {
+		Image image = manager.createImage(getImage("icons/view.gif"));
+		Color color = manager.createColor(new RGB(200, 220, 54));
+		assertEquals(2, manager.getLiveResourceCount());
+		manager.dispose();
+		assertTrue(image.isDisposed());
+		assertTrue(color.isDisposed());
+		assertEquals(0, manager.getLiveResourceCount());
+	}
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.internal.ImageDataCache;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.ui.tests.TestPlugin;
+
+import junit.framework.TestCase;
+
+public class ImageDataCacheTest extends TestCase {
+
+	private File directory;
+
+	private File cacheFile;
+
+	private URL imageURL;
+
+	private final AtomicInteger decoded = new AtomicInteger();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		directory = Files.createTempDirectory("ImageDataCacheTest").toFile();
+		cacheFile = new File(directory, "imageData.cache");
+		File image = new File(directory, "anything.gif");
+		try (InputStream in = TestPlugin.getDefault().getBundle().getEntry("icons/anything.gif").openStream()) {
+			Files.copy(in, image.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		imageURL = image.toURI().toURL();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		for (File file : directory.listFiles()) {
+			file.delete();
+		}
+		directory.delete();
+		super.tearDown();
+	}
+
+	private ImageData getImageData(ImageDataCache cache, URL url) {
+		return cache.getImageData(url, 100, () -> {
+			decoded.incrementAndGet();
+			try (InputStream in = url.openStream()) {
+				return new ImageData(in);
+			} catch (IOException e) {
+				return null;
+			}
+		});
+	}
+
+	public void testPersisted() {
+		ImageDataCache cache = ImageDataCache.open(cacheFile, TestPlugin.getDefault().getBundle().getBundleContext());
+		ImageData original = getImageData(cache, imageURL);
+		assertNotNull(original);
+		assertEquals(1, decoded.get());
+		getImageData(cache, imageURL);
+		assertEquals(1, decoded.get());
+		cache.close();
+		assertTrue(cacheFile.isFile());
+
+		cache = ImageDataCache.open(cacheFile, TestPlugin.getDefault().getBundle().getBundleContext());
+		assertEquals(1, cache.size());
+		ImageData cached = getImageData(cache, imageURL);
+		assertEquals(1, decoded.get());
+		assertEquals(original.width, cached.width);
+		assertEquals(original.height, cached.height);
+		assertEquals(original.depth, cached.depth);
+		assertEquals(original.transparentPixel, cached.transparentPixel);
+		assertEquals(original.palette.isDirect, cached.palette.isDirect);
+		for (int x = 0; x < original.width; x++) {
+			for (int y = 0; y < original.height; y++) {
+				assertEquals(original.getPixel(x, y), cached.getPixel(x, y));
+			}
+		}
+		cache.close();
+	}
+
+	public void testMissingImage() throws IOException {
+		URL missing = new File(directory, "missing.gif").toURI().toURL();
+		ImageDataCache cache = ImageDataCache.open(cacheFile, null);
+		assertNull(getImageData(cache, missing));
+		assertNull(getImageData(cache, missing));
+		assertEquals(1, decoded.get());
+		cache.close();
+	}
+
+	public void testModifiedFile() throws IOException {
+		ImageDataCache cache = ImageDataCache.open(cacheFile, null);
+		getImageData(cache, imageURL);
+		cache.close();
+
+		File image = new File(imageURL.getPath());
+		assertTrue(image.setLastModified(image.lastModified() - 10000));
+		cache = ImageDataCache.open(cacheFile, null);
+		getImageData(cache, imageURL);
+		assertEquals(2, decoded.get());
+		cache.close();
+	}
+
+	public void testFileNameWithSpaces() throws IOException {
+		File image = new File(directory, "any thing.gif");
+		Files.copy(new File(imageURL.getPath()).toPath(), image.toPath());
+		URL url = image.toURI().toURL();
+		ImageDataCache cache = ImageDataCache.open(cacheFile, null);
+		getImageData(cache, url);
+		cache.close();
+
+		cache = ImageDataCache.open(cacheFile, null);
+		assertEquals(1, cache.size());
+		getImageData(cache, url);
+		assertEquals(1, decoded.get());
+		cache.close();
+	}
+
+	public void testRewriteMappedFile() throws IOException {
+		ImageDataCache cache = ImageDataCache.open(cacheFile, null);
+		getImageData(cache, imageURL);
+		cache.close();
+
+		// an incomplete entry makes the cache rewrite the mapped file
+		Files.write(cacheFile.toPath(), new byte[] { 0, 0, 1 }, StandardOpenOption.APPEND);
+		cache = ImageDataCache.open(cacheFile, null);
+		getImageData(cache, imageURL);
+		cache.close();
+
+		cache = ImageDataCache.open(cacheFile, null);
+		assertEquals(1, cache.size());
+		getImageData(cache, imageURL);
+		assertEquals(1, decoded.get());
+		cache.close();
+		assertEquals(1, directory.listFiles((dir, name) -> name.startsWith(cacheFile.getName())).length);
+	}
+}
@@ -89,6 +89,21 @@ public class TableViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	public void testIncrementalSortingInsertElement(){
+		fViewer.setIncrementalSorting(true);
+		fViewer.setComparator(new ViewerComparator());
+		team1.addMember("Duong");
+		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
+	}
+
+	public void testIncrementalSortingMoveElement(){
+		fViewer.setIncrementalSorting(true);
+		fViewer.setComparator(new LabelComparator());
+		renameMember(team1, "Andrea", "Zora");
+		assertEquals(TEAM1_SORTED_WITH_RENAME.length, getTableViewer().getTable().getItemCount());
+		assertSortedResult(TEAM1_SORTED_WITH_RENAME);
+	}
+
 	private void assertSortedResult(String[] expected){
 		TableItem[] items = getTableViewer().getTable().getItems();
 		for (int i = 0; i < items.length; i++){
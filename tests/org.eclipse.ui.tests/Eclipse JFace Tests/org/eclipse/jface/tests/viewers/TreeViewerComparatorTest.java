@@ -136,6 +136,24 @@ public class TreeViewerComparatorTest extends ViewerComparatorTest{
 		assertSortedResult(expected);
 	}
 
+	public void testIncrementalSortingInsertElement(){
+		fViewer.setIncrementalSorting(true);
+		fViewer.setComparator(new ViewerComparator());
+		getTreeViewer().expandAll();
+		team1.addMember("Duong");
+		String[][] expected = {TEAM3_SORTED, TEAM2_SORTED, TEAM1_SORTED_WITH_INSERT};
+		assertSortedResult(expected);
+	}
+
+	public void testIncrementalSortingMoveElement(){
+		fViewer.setIncrementalSorting(true);
+		fViewer.setComparator(new LabelComparator());
+		getTreeViewer().expandAll();
+		renameMember(team1, "Andrea", "Zora");
+		String[][] expected = {TEAM3_SORTED, TEAM2_SORTED, TEAM1_SORTED_WITH_RENAME};
+		assertSortedResult(expected);
+	}
+
 	private void assertSortedResult(String[][] resultArrays){
 		TreeItem[] rootItems = getTreeViewer().getTree().getItems();
 		assertEquals("Number of root items in tree not correct (actual=" + rootItems.length + ")", 3, rootItems.length);
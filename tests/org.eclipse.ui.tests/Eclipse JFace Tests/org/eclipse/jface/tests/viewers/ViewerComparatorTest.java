@@ -26,6 +26,7 @@ import org.eclipse.jface.viewers.ListViewer;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
 
 /**
  * @since 3.2
@@ -39,6 +40,8 @@ public abstract class ViewerComparatorTest extends ViewerTestCase {
 			"Michael", "Mike", "Paul", "Susan", "Tod"};
 	protected String[] TEAM1_SORTED_WITH_INSERT = {"Andrea", "Boris", "Duong", "Eric", "Karice", "Kim",
 			"Michael", "Mike", "Paul", "Susan", "Tod"};
+	protected String[] TEAM1_SORTED_WITH_RENAME = {"Boris", "Eric", "Karice", "Kim",
+			"Michael", "Mike", "Paul", "Susan", "Tod", "Zora"};
 
 	protected String RUNTIME = "Runtime";
 	protected String[] TEAM2 = {"Pascal", "DJ", "Jeff", "Andrew", "Oleg"};
@@ -234,8 +237,33 @@ public abstract class ViewerComparatorTest extends ViewerTestCase {
 
 	}
 
+	/*
+	 * comparator sorting by the label of the elements
+	 */
+	protected static class LabelComparator extends ViewerComparator {
+		@Override
+		public boolean isSorterProperty(Object element, String property) {
+			return IBasicPropertyConstants.P_TEXT.equals(property);
+		}
+	}
+
 	public ViewerComparatorTest(String name) {
 		super(name);
 	}
 
+	/**
+	 * Renames the first member of the team with the given name and updates it
+	 * in the viewer.
+	 */
+	protected void renameMember(Team team, String name, String newName) {
+		for (TeamMember member : team.members) {
+			if (member.name.equals(name)) {
+				member.name = newName;
+				fViewer.update(member, new String[] { IBasicPropertyConstants.P_TEXT });
+				return;
+			}
+		}
+		fail("No member " + name);
+	}
+
 }
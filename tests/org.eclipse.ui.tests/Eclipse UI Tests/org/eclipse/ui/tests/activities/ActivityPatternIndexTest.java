@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.activities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ui.activities.IActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternBinding;
+import org.eclipse.ui.internal.activities.ActivityPatternIndex;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that the pattern index finds the same activities as matching every
+ * pattern.
+ */
+public class ActivityPatternIndexTest extends TestCase {
+
+	private final Map<String, Set<IActivityPatternBinding>> bindingsByActivityId = new HashMap<>();
+
+	private final List<ActivityPatternBinding> bindings = new ArrayList<>();
+
+	private void bind(String activityId, String pattern, boolean isEqualityPattern) {
+		ActivityPatternBinding binding = new ActivityPatternBinding(activityId, pattern, isEqualityPattern);
+		bindingsByActivityId.computeIfAbsent(activityId, id -> new HashSet<>()).add(binding);
+		bindings.add(binding);
+	}
+
+	public void testLiteralPrefix() {
+		assertEquals("org.eclipse.jdt.", ActivityPatternIndex.getLiteralPrefix("org\\.eclipse\\.jdt\\..*"));
+		assertEquals("org", ActivityPatternIndex.getLiteralPrefix("org.eclipse.jdt.*"));
+		assertEquals("", ActivityPatternIndex.getLiteralPrefix(".*/org\\.eclipse\\.debug.*"));
+		assertEquals("", ActivityPatternIndex.getLiteralPrefix("org\\.a.*|org\\.b.*"));
+		assertEquals("a", ActivityPatternIndex.getLiteralPrefix("ab?c"));
+		assertEquals("ab", ActivityPatternIndex.getLiteralPrefix("abc{2}"));
+		assertEquals("", ActivityPatternIndex.getLiteralPrefix("\\Qorg.x\\E.*"));
+		assertEquals("", ActivityPatternIndex.getLiteralPrefix("(?i)org.*"));
+		assertEquals("a\\b", ActivityPatternIndex.getLiteralPrefix("a\\\\b.*"));
+	}
+
+	public void testMatchesLikePatterns() {
+		bind("jdt", "org\\.eclipse\\.jdt\\..*", false);
+		bind("jdt", "org\\.eclipse\\.jdt\\.ui/org\\.eclipse\\.jdt\\.ui\\.JavaPerspective", true);
+		bind("debug", ".*/org\\.eclipse\\.debug.*", false);
+		bind("team", "org\\.eclipse\\.team\\.[a-z]+/.*", false);
+		bind("either", "org\\.a.*|org\\.b.*", false);
+		bind("loose", "org.eclipse.*", false);
+		bind("exact", "org.eclipse.pde.ui/org.eclipse.pde.ui.PDEPerspective", true);
+		ActivityPatternIndex index = new ActivityPatternIndex(bindingsByActivityId);
+
+		for (String id : Arrays.asList("org.eclipse.jdt.ui/org.eclipse.jdt.ui.PackageExplorer",
+				"org.eclipse.jdt.ui/org\\.eclipse\\.jdt\\.ui\\.JavaPerspective", "orgXeclipse.jdt.core/x",
+				"org.eclipse.ui/org.eclipse.debug.ui.DebugView", "org.eclipse.team.cvs/view", "org.eclipse.team.CVS/view",
+				"org.b/c", "org.eclipse.pde.ui/org.eclipse.pde.ui.PDEPerspective", "org.eclipse.pde.ui", "org", "")) {
+			Set<String> expected = new HashSet<>();
+			for (ActivityPatternBinding binding : bindings) {
+				if (binding.isMatch(id)) {
+					expected.add(binding.getActivityId());
+				}
+			}
+			assertEquals(id, expected, index.getActivityIds(id));
+		}
+	}
+}
@@ -194,6 +194,36 @@ public class DynamicTest extends UITestCase {
         assertTrue(manipulatedIdentifiers.size() == 1);
     }
 
+	/**
+	 * Test that an identifier with a listener is kept up to date after it has
+	 * been evicted from the identifiers held by the activity manager.
+	 */
+	public void testIdentifierListenerAfterEviction() {
+		int[] changeCount = new int[1];
+		addCountingListener("org.eclipse.pattern3", changeCount); //$NON-NLS-1$
+		for (int i = 0; i < 10000; i++) {
+			activityManager.getIdentifier("org.eclipse.evicting" + i); //$NON-NLS-1$
+		}
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+		}
+
+		Set<String> copySet = new HashSet<>(activityManager.getEnabledActivityIds());
+		copySet.remove("org.eclipse.activity3"); //$NON-NLS-1$
+		activityManager.setEnabledActivityIds(copySet);
+		assertEquals(1, changeCount[0]);
+		assertFalse(activityManager.getIdentifier("org.eclipse.pattern3").isEnabled()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds a listener without keeping a reference to the identifier.
+	 */
+	private void addCountingListener(String identifierId, int[] changeCount) {
+		IIdentifier identifier = activityManager.getIdentifier(identifierId);
+		assertTrue(identifier.isEnabled());
+		identifier.addIdentifierListener(identifierEvent -> changeCount[0]++);
+	}
+
     /**
      * Test the activity manager listener.
      *
@@ -42,5 +42,6 @@ public class DataTransferTestSuite extends TestSuite {
         addTest(new TestSuite(ImportExportWizardsCategoryTests.class));
 		addTest(new TestSuite(SmartImportTests.class));
 		addTest(new TestSuite(ZipSlipTests.class));
+		addTest(new TestSuite(ProjectFilesCollectorTest.class));
     }
 }
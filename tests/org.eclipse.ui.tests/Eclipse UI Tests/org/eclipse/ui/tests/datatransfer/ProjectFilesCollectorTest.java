@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.datatransfer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.ui.internal.wizards.datatransfer.EclipseProjectConfigurator;
+import org.eclipse.ui.internal.wizards.datatransfer.ProjectFilesCollector;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+import org.junit.Test;
+
+public class ProjectFilesCollectorTest extends UITestCase {
+
+	private Path root;
+
+	public ProjectFilesCollectorTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		root = Files.createTempDirectory("ProjectFilesCollectorTest");
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		try (Stream<Path> paths = Files.walk(root)) {
+			// children first, symbolic links are not followed
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+		super.doTearDown();
+	}
+
+	private void createProjects(String... paths) throws IOException {
+		for (String path : paths) {
+			Path directory = root.resolve(path);
+			Files.createDirectories(directory);
+			Files.createFile(directory.resolve(".project"));
+		}
+	}
+
+	private Set<String> collect(ProjectFilesCollector collector) {
+		Set<String> projects = new TreeSet<>();
+		assertTrue(collector.collect(root.toFile(), files -> {
+			for (File file : files) {
+				projects.add(root.relativize(file.getParentFile().toPath()).toString().replace(File.separatorChar, '/'));
+			}
+		}, new NullProgressMonitor()));
+		return projects;
+	}
+
+	private static Set<String> set(String... elements) {
+		Set<String> set = new TreeSet<>();
+		for (String element : elements) {
+			set.add(element);
+		}
+		return set;
+	}
+
+	@Test
+	public void testNestedProjects() throws IOException {
+		createProjects("a", "a/b", "c/d/e");
+		assertEquals(set("a", "a/b", "c/d/e"), collect(new ProjectFilesCollector(true)));
+		assertEquals(set("a", "c/d/e"), collect(new ProjectFilesCollector(false)));
+	}
+
+	@Test
+	public void testSkippedDirectories() throws IOException {
+		createProjects("a", ".git/b", "node_modules/c", ".metadata/d");
+		assertEquals(set("a"), collect(new ProjectFilesCollector(true)));
+	}
+
+	@Test
+	public void testMaxDepth() throws IOException {
+		createProjects("1/2", "1/2/3/4");
+		assertEquals(set("1/2"), collect(new ProjectFilesCollector(true, 3)));
+		assertEquals(set("1/2", "1/2/3/4"), collect(new ProjectFilesCollector(true, 4)));
+	}
+
+	@Test
+	public void testSymbolicLinkLoop() throws IOException {
+		createProjects("a/b");
+		try {
+			Files.createSymbolicLink(root.resolve("a/b/loop"), root.resolve("a"));
+		} catch (IOException | UnsupportedOperationException e) {
+			// no symbolic links on this file system
+			return;
+		}
+		List<File> files = new ArrayList<>();
+		assertTrue(new ProjectFilesCollector(true).collect(root.toFile(), files::addAll, new NullProgressMonitor()));
+		assertEquals(1, files.size());
+	}
+
+	@Test
+	public void testConfigurableLocationsOrder() throws IOException {
+		createProjects("a/-b", "a", "a/b", "a-c");
+		List<String> locations = new ArrayList<>();
+		for (File location : new EclipseProjectConfigurator().findConfigurableLocations(root.toFile(),
+				new NullProgressMonitor())) {
+			locations.add(root.relativize(location.toPath()).toString().replace(File.separatorChar, '/'));
+		}
+		// nested projects come after the project containing them
+		assertEquals(Arrays.asList("a", "a/-b", "a/b", "a-c"), locations);
+	}
+
+	@Test
+	public void testCanceled() throws IOException {
+		createProjects("a");
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertFalse(new ProjectFilesCollector(true).collect(root.toFile(), files -> {
+		}, monitor));
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.ILightweightLabelDecorator;
+
+/**
+ * A lightweight decorator that counts its decorations and the largest number
+ * of decorations running at the same time.
+ */
+public class ConcurrencyTestDecorator implements ILightweightLabelDecorator {
+
+	public static final String SUFFIX = "_CONCURRENT";
+
+	final AtomicInteger decorated = new AtomicInteger();
+
+	final AtomicInteger maxRunning = new AtomicInteger();
+
+	private final AtomicInteger running = new AtomicInteger();
+
+	@Override
+	public void decorate(Object element, IDecoration decoration) {
+		int current = running.incrementAndGet();
+		maxRunning.accumulateAndGet(current, Math::max);
+		try {
+			Thread.sleep(2);
+		} catch (InterruptedException e) {
+			// ignore
+		}
+		decoration.addSuffix(SUFFIX);
+		decorated.incrementAndGet();
+		running.decrementAndGet();
+	}
+
+	@Override
+	public void addListener(ILabelProviderListener listener) {
+	}
+
+	@Override
+	public void dispose() {
+	}
+
+	@Override
+	public boolean isLabelProperty(Object element, String property) {
+		return false;
+	}
+
+	@Override
+	public void removeListener(ILabelProviderListener listener) {
+	}
+
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationScheduler;
+import org.eclipse.ui.internal.decorators.DecoratorManager;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+
+/**
+ * Tests that the decoration workers of the {@link DecorationScheduler} only
+ * run thread safe decorators concurrently and count their decorations.
+ */
+public class DecorationSchedulerTest extends UITestCase {
+
+	private static final String THREAD_SAFE_ID = "org.eclipse.ui.tests.decorators.threadSafeDecorator";
+
+	private static final String SERIAL_ID = "org.eclipse.ui.tests.decorators.serialDecorator";
+
+	private static final int ELEMENT_COUNT = 200;
+
+	public DecorationSchedulerTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		getDecoratorManager().setEnabled(THREAD_SAFE_ID, false);
+		getDecoratorManager().setEnabled(SERIAL_ID, false);
+		super.doTearDown();
+	}
+
+	public void testThreadSafeDecorator() {
+		ConcurrencyTestDecorator decorator = decorateElements(THREAD_SAFE_ID);
+
+		// The scheduler uses one worker less than the number of processors
+		if (Runtime.getRuntime().availableProcessors() > 2) {
+			assertTrue("Thread safe decorator never ran concurrently", decorator.maxRunning.get() > 1);
+		}
+	}
+
+	public void testSerialDecorator() {
+		ConcurrencyTestDecorator decorator = decorateElements(SERIAL_ID);
+
+		assertEquals("Decorator without threadSafe ran concurrently", 1, decorator.maxRunning.get());
+	}
+
+	/**
+	 * Enable the decorator and decorate many elements with it.
+	 *
+	 * @return the decorator
+	 */
+	private ConcurrencyTestDecorator decorateElements(String decoratorId) {
+		DecoratorManager manager = getDecoratorManager();
+		manager.setEnabled(decoratorId, true);
+		ConcurrencyTestDecorator decorator = (ConcurrencyTestDecorator) manager
+				.getLightweightLabelDecorator(decoratorId);
+		assertNotNull("Decorator not enabled: " + decoratorId, decorator);
+
+		DecorationScheduler scheduler = manager.getDecorationScheduler();
+		long decorationCount = scheduler.getDecorationCount();
+
+		TreeElement root = new TreeElement(null, 0);
+		TreeElement[] elements = new TreeElement[ELEMENT_COUNT];
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = new TreeElement(root, i);
+			// a forced decoration is always computed in the background
+			assertFalse(manager.prepareDecoration(elements[i], elements[i].name));
+		}
+
+		processEventsUntil(() -> {
+			for (TreeElement element : elements) {
+				if (!scheduler.isDecorationReady(element, DecorationContext.DEFAULT_CONTEXT)) {
+					return false;
+				}
+			}
+			return true;
+		}, 30000);
+
+		for (TreeElement element : elements) {
+			assertTrue("Element not decorated: " + element.name,
+					scheduler.isDecorationReady(element, DecorationContext.DEFAULT_CONTEXT));
+		}
+		assertEquals(elements[0].name + ConcurrencyTestDecorator.SUFFIX,
+				manager.decorateText(elements[0].name, elements[0]));
+		assertEquals(ELEMENT_COUNT, decorator.decorated.get());
+		assertTrue("Decorations not counted", scheduler.getDecorationCount() - decorationCount >= ELEMENT_COUNT);
+		assertTrue("No decoration throughput", scheduler.getDecorationsPerSecond() > 0);
+		return decorator;
+	}
+
+	private static DecoratorManager getDecoratorManager() {
+		return WorkbenchPlugin.getDefault().getDecoratorManager();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2007 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,12 +19,18 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.swt.events.ShellAdapter;
 import org.eclipse.swt.events.ShellEvent;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.Text;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.FilteredResourcesSelectionDialog;
@@ -55,6 +61,76 @@ public class UIFilteredResourcesSelectionDialogAuto extends
 		closeDialog(dialog);
 	}
 
+	/**
+	 * Checks the items found when narrowing and widening the pattern over
+	 * enough resources to filter them in parallel and to show a first page
+	 * before sorting all of them.
+	 *
+	 * @throws Exception
+	 */
+	public void testManyResources() throws Exception {
+		int count = 20000;
+		IFolder folder = project.getFolder("manyResources");
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			folder.create(false, true, null);
+			for (int i = 0; i < count; i++) {
+				folder.getFile("item" + i + ".txt").create(null, false, null);
+			}
+		}, null);
+
+		final MockedFilteredResourcesSelectionDialog dialog = createDialog();
+		dialog.open();
+		Text pattern = (Text) dialog.getPatternControl();
+		Table table = findTable(dialog.getShell());
+
+		pattern.setText("item");
+		assertItemCount(count, table);
+
+		// item1, item10 to item19, ..., item10000 to item19999
+		pattern.setText("item1");
+		assertItemCount(11111, table);
+
+		// the result of the first search is reused
+		pattern.setText("item");
+		assertItemCount(count, table);
+
+		// but not after a refresh
+		folder.getFile("item1new.txt").create(null, false, null);
+		dialog.scheduleRefresh();
+		pattern.setText("item1");
+		assertItemCount(11112, table);
+		pattern.setText("item");
+		assertItemCount(count + 1, table);
+
+		closeDialog(dialog);
+	}
+
+	private static Table findTable(Composite composite) {
+		for (Control child : composite.getChildren()) {
+			if (child instanceof Table) {
+				return (Table) child;
+			}
+			if (child instanceof Composite) {
+				Table table = findTable((Composite) child);
+				if (table != null) {
+					return table;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void assertItemCount(int expected, Table table) throws InterruptedException {
+		Display display = table.getDisplay();
+		long end = System.currentTimeMillis() + 60000;
+		while (table.getItemCount() != expected && System.currentTimeMillis() < end) {
+			if (!display.readAndDispatch()) {
+				Thread.sleep(10);
+			}
+		}
+		assertEquals(expected, table.getItemCount());
+	}
+
 	private static MockedFilteredResourcesSelectionDialog createDialog() {
 		final IWorkbenchWindow window = PlatformUI.getWorkbench()
 				.getActiveWorkbenchWindow();
@@ -51,6 +51,7 @@ import org.junit.runners.Suite;
 //	WorkbenchWindowSubordinateSourcesTests.class,
 	ReopenMenuTest.class,
 	UtilTest.class,
+	ObjectContributorManagerTest.class,
 	MarkerTesterTest.class,
 	TextHandlerTest.class,
 	PerspectiveSwitcherTest.class,
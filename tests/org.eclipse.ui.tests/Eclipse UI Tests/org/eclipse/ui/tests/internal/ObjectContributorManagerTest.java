@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ui.internal.IObjectContributor;
+import org.eclipse.ui.internal.ObjectContributorManager;
+
+import junit.framework.TestCase;
+
+/**
+ * @since 3.114
+ */
+public class ObjectContributorManagerTest extends TestCase {
+
+	private static class TestContributor implements IObjectContributor {
+		@Override
+		public boolean isApplicableTo(Object object) {
+			return true;
+		}
+
+		@Override
+		public boolean canAdapt() {
+			return false;
+		}
+	}
+
+	private static class TestManager extends ObjectContributorManager {
+		List<?> getContributorsFor(Object object) {
+			return getContributors(object);
+		}
+
+		List<?> getContributorsFor(List<?> elements) {
+			return getContributors(elements);
+		}
+
+		boolean isCached(Class<?> objectClass) {
+			return objectLookup.containsKey(objectClass);
+		}
+	}
+
+	private TestManager manager;
+
+	public ObjectContributorManagerTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		manager = new TestManager();
+	}
+
+	public void testRegisterFlushesAffectedClasses() {
+		IObjectContributor number = new TestContributor();
+		manager.registerContributor(number, Number.class.getName());
+		assertEquals(Arrays.asList(number), manager.getContributorsFor(Integer.valueOf(1)));
+		assertTrue(manager.getContributorsFor("text").isEmpty());
+		assertTrue(manager.isCached(Integer.class));
+		assertTrue(manager.isCached(String.class));
+
+		IObjectContributor charSequence = new TestContributor();
+		manager.registerContributor(charSequence, CharSequence.class.getName());
+		assertTrue(manager.isCached(Integer.class));
+		assertFalse(manager.isCached(String.class));
+		assertEquals(Arrays.asList(charSequence), manager.getContributorsFor("text"));
+
+		manager.unregisterContributor(number, Number.class.getName());
+		assertFalse(manager.isCached(Integer.class));
+		assertTrue(manager.isCached(String.class));
+		assertTrue(manager.getContributorsFor(Integer.valueOf(1)).isEmpty());
+	}
+
+	public void testFlushLookup() {
+		manager.registerContributor(new TestContributor(), Number.class.getName());
+		manager.getContributorsFor(Integer.valueOf(1));
+		manager.flushLookup();
+		assertFalse(manager.isCached(Integer.class));
+	}
+
+	public void testMultiSelection() {
+		IObjectContributor number = new TestContributor();
+		IObjectContributor serializable = new TestContributor();
+		manager.registerContributor(number, Number.class.getName());
+		manager.registerContributor(serializable, java.io.Serializable.class.getName());
+
+		List<Object> numbers = Arrays.asList(Integer.valueOf(1), Long.valueOf(2), Integer.valueOf(3));
+		assertEquals(Arrays.asList(number, serializable), manager.getContributorsFor(numbers));
+
+		List<Object> mixed = Arrays.asList(Integer.valueOf(1), "text", Integer.valueOf(3));
+		assertEquals(Arrays.asList(serializable), manager.getContributorsFor(mixed));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.ui.tests.markers;
 import java.util.Arrays;
 import java.util.Comparator;
 
+import org.eclipse.ui.internal.views.markers.MarkerEntry;
 import org.eclipse.ui.internal.views.markers.MarkerSortUtil;
 import org.eclipse.ui.internal.views.markers.MockMarkerEntry;
 import org.eclipse.ui.tests.harness.util.UITestCase;
@@ -48,6 +49,28 @@ public class MarkerSortUtilTest extends UITestCase {
 	public void testCompleteSort() {
 		sortToLimit(ARRAYSIZE,ARRAYSIZE);
 	}
+
+	public void testMerge() {
+		MockMarkerEntry[] all = generateArray(ARRAYSIZE);
+		Comparator<MarkerItem> comparator = (o1, o2) -> ((MockMarkerEntry) o1).name
+				.compareTo(((MockMarkerEntry) o2).name);
+		for (int added : new int[] { 0, 1, 10, ARRAYSIZE / 2, ARRAYSIZE }) {
+			MarkerEntry[] entries = Arrays.copyOfRange(all, added, ARRAYSIZE);
+			MarkerEntry[] additions = Arrays.copyOfRange(all, 0, added);
+			Arrays.sort(entries, comparator);
+			Arrays.sort(additions, comparator);
+			MarkerEntry[] merged = MarkerSortUtil.merge(entries, additions, comparator);
+			MockMarkerEntry[] sorted = all.clone();
+			Arrays.sort(sorted, comparator);
+			assertEquals(ARRAYSIZE, merged.length);
+			for (int i = 0; i < ARRAYSIZE; i++) {
+				if (!sorted[i].equals(merged[i])) {
+					fail("Incorrect merging by MarkerSortUtil.merge(...)");
+				}
+			}
+		}
+	}
+
 	/**
 	 *
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,15 @@
 
 package org.eclipse.ui.tests.markers;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ui.IPageLayout;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
@@ -38,6 +47,16 @@ public class MarkerViewTests extends UITestCase {
 		super(testName);
 	}
 
+	private IProject project;
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (project != null) {
+			project.delete(true, null);
+		}
+		super.doTearDown();
+	}
+
 	public void testOpenView() {
 		IWorkbenchWindow window = PlatformUI.getWorkbench()
 				.getActiveWorkbenchWindow();
@@ -53,4 +72,57 @@ public class MarkerViewTests extends UITestCase {
 		}
 
 	}
+
+	public void testMarkerUpdates() throws Exception {
+		IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		MarkersTestMarkersView view = (MarkersTestMarkersView) page.showView("org.eclipse.ui.tests.markerTests");
+
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("MarkerViewTests");
+		project.create(null);
+		project.open(null);
+		IFile file = project.getFile("file.txt");
+		file.create(null, false, null);
+		IMarker[] markers = new IMarker[4];
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			for (int i = 0; i < 3; i++) {
+				markers[i] = createProblem(file, "problem " + i);
+			}
+		}, null);
+		assertCurrentMarkers(view, markers[0], markers[1], markers[2]);
+
+		// a single delta removing, changing and adding markers
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			markers[0].delete();
+			markers[1].setAttribute(IMarker.MESSAGE, "changed problem");
+			markers[3] = createProblem(file, "problem 3");
+		}, null);
+		assertCurrentMarkers(view, markers[1], markers[2], markers[3]);
+	}
+
+	private static IMarker createProblem(IFile file, String message) throws CoreException {
+		IMarker marker = file.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.MESSAGE, message);
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		return marker;
+	}
+
+	private void assertCurrentMarkers(MarkersTestMarkersView view, IMarker... expected) {
+		Set<IMarker> expectedSet = new HashSet<>(Arrays.asList(expected));
+		processEventsUntil(() -> expectedSet.equals(getCurrentMarkers(view)), 10000);
+		assertEquals(expectedSet, getCurrentMarkers(view));
+	}
+
+	/**
+	 * Returns the markers shown for the test project, failing if a marker is
+	 * shown more than once.
+	 */
+	private Set<IMarker> getCurrentMarkers(MarkersTestMarkersView view) {
+		Set<IMarker> markers = new HashSet<>();
+		for (IMarker marker : view.getCurrentMarkers()) {
+			if (project.equals(marker.getResource().getProject())) {
+				assertTrue("Marker shown twice", markers.add(marker));
+			}
+		}
+		return markers;
+	}
 }
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.ScrolledComposite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.ToolBar;
+import org.eclipse.ui.internal.IPreferenceConstants;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.progress.DetailedProgressViewer;
+import org.eclipse.ui.internal.progress.FinishedJobs;
+import org.eclipse.ui.internal.progress.JobInfo;
+import org.eclipse.ui.internal.progress.JobTreeElement;
+import org.eclipse.ui.internal.progress.ProgressInfoItem;
+import org.eclipse.ui.internal.progress.ProgressViewerContentProvider;
+import org.eclipse.ui.progress.IProgressConstants;
+
+/**
+ * Tests that the {@link DetailedProgressViewer} only creates items for the
+ * rows near the visible area and that the progress updates are coalesced.
+ */
+public class DetailedProgressViewerTest extends ProgressTestCase {
+
+	private static final int JOB_COUNT = 300;
+
+	// The rows with items above and below the visible area, and the partially
+	// visible rows
+	private static final int EXTRA_ROWS = 2 * 2 + 2;
+
+	private Shell shell;
+
+	private ProgressViewerContentProvider provider;
+
+	/**
+	 * @param testName
+	 */
+	public DetailedProgressViewerTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		FinishedJobs.getInstance().clearAll();
+		getPreferenceStore().setValue(IPreferenceConstants.MAX_PROGRESS_ENTRIES, 1000);
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (provider != null) {
+			provider.stopListening();
+		}
+		if (shell != null) {
+			shell.dispose();
+		}
+		FinishedJobs.getInstance().clearAll();
+		getPreferenceStore().setToDefault(IPreferenceConstants.MAX_PROGRESS_ENTRIES);
+		super.doTearDown();
+	}
+
+	public void testItemsBounded() throws Exception {
+		DetailedProgressViewer viewer = showManyJobs();
+
+		ProgressInfoItem[] items = viewer.getProgressInfoItems();
+		assertTrue("No items created", items.length > 0);
+		assertTrue("Too many items created: " + items.length, items.length <= getMaxItems(viewer, items));
+	}
+
+	public void testScrollCreatesItems() throws Exception {
+		DetailedProgressViewer viewer = showManyJobs();
+		JobTreeElement[] elements = viewer.getDisplayedElements();
+		assertTrue(hasItem(viewer, elements[0]));
+		assertFalse(hasItem(viewer, elements[elements.length - 1]));
+
+		ScrolledComposite scrolled = (ScrolledComposite) viewer.getControl();
+		scrolled.setOrigin(0, scrolled.getContent().getSize().y);
+		processEvents();
+
+		assertTrue("Item of the last row not created", hasItem(viewer, elements[elements.length - 1]));
+		assertFalse("Item of the first row not disposed", hasItem(viewer, elements[0]));
+		ProgressInfoItem[] items = viewer.getProgressInfoItems();
+		assertTrue("Too many items created: " + items.length, items.length <= getMaxItems(viewer, items));
+	}
+
+	public void testKeyboardRevealCreatesItems() throws Exception {
+		DetailedProgressViewer viewer = showManyJobs();
+		JobTreeElement[] elements = viewer.getDisplayedElements();
+		ProgressInfoItem first = viewer.getProgressInfoItems()[0];
+		assertSame(elements[0], first.getInfo());
+
+		// Arrow up in the first row wraps to the last one
+		Event event = new Event();
+		event.detail = SWT.TRAVERSE_ARROW_PREVIOUS;
+		getToolBar(first).notifyListeners(SWT.Traverse, event);
+		processEvents();
+
+		assertTrue("Item of the last row not created", hasItem(viewer, elements[elements.length - 1]));
+		assertFalse("Item of the first row not disposed", hasItem(viewer, elements[0]));
+	}
+
+	public void testRefreshesCoalesced() throws Exception {
+		final int steps = 200;
+		Job job = new Job("Reporting Job") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask(getName(), steps);
+				for (int i = 0; i < steps; i++) {
+					try {
+						Thread.sleep(2);
+					} catch (InterruptedException e) {
+						// ignore
+					}
+					monitor.worked(1);
+				}
+				monitor.done();
+				return Status.OK_STATUS;
+			}
+		};
+
+		List<Long> refreshTimes = new ArrayList<>();
+		List<Long> refreshCounts = new ArrayList<>();
+		shell = new Shell(getWorkbench().getDisplay());
+		DetailedProgressViewer viewer = new DetailedProgressViewer(shell, SWT.NONE);
+		provider = new ProgressViewerContentProvider(viewer, false, false) {
+			@Override
+			public void refresh(JobTreeElement... elements) {
+				long count = Arrays.stream(elements)
+						.filter(e -> e instanceof JobInfo && ((JobInfo) e).getJob() == job).count();
+				if (count > 0) {
+					refreshTimes.add(Long.valueOf(System.nanoTime()));
+					refreshCounts.add(Long.valueOf(count));
+				}
+			}
+		};
+
+		job.schedule();
+		processEventsUntil(() -> job.getResult() != null, 10000);
+		assertNotNull("Job did not finish", job.getResult());
+		// wait for the pending update
+		processEventsUntil(() -> false, 300);
+
+		assertFalse("Job never refreshed", refreshTimes.isEmpty());
+		for (Long count : refreshCounts) {
+			assertEquals("Job refreshed more than once in an update", 1, count.longValue());
+		}
+		assertTrue("Refreshes not coalesced: " + refreshTimes.size(), refreshTimes.size() < steps / 2);
+		for (int i = 1; i < refreshTimes.size(); i++) {
+			long gap = (refreshTimes.get(i).longValue() - refreshTimes.get(i - 1).longValue()) / 1000000;
+			// The updates are throttled to one per 100ms, less timer slack
+			assertTrue("Refreshes only " + gap + "ms apart", gap >= 50);
+		}
+	}
+
+	/**
+	 * Open the progress view and run many kept jobs.
+	 *
+	 * @return the viewer of the progress view
+	 */
+	private DetailedProgressViewer showManyJobs() throws Exception {
+		openProgressView();
+		DetailedProgressViewer viewer = progressView.getViewer();
+
+		List<Job> jobs = new ArrayList<>();
+		for (int i = 0; i < JOB_COUNT; i++) {
+			DummyJob job = new DummyJob("Dummy Job " + i, Status.OK_STATUS);
+			job.setProperty(IProgressConstants.KEEP_PROPERTY, Boolean.TRUE);
+			job.schedule();
+			jobs.add(job);
+		}
+		for (Job job : jobs) {
+			job.join();
+		}
+		processEventsUntil(() -> viewer.getDisplayedElements().length >= JOB_COUNT, 30000);
+		assertTrue("Not all jobs shown", viewer.getDisplayedElements().length >= JOB_COUNT);
+		return viewer;
+	}
+
+	/**
+	 * Return the number of items that may exist for the visible area.
+	 */
+	private int getMaxItems(DetailedProgressViewer viewer, ProgressInfoItem[] items) {
+		int minHeight = Integer.MAX_VALUE;
+		for (ProgressInfoItem item : items) {
+			minHeight = Math.min(minHeight, Math.max(1, item.getSize().y));
+		}
+		int visibleHeight = ((ScrolledComposite) viewer.getControl()).getClientArea().height;
+		return visibleHeight / minHeight + EXTRA_ROWS;
+	}
+
+	private static boolean hasItem(DetailedProgressViewer viewer, JobTreeElement element) {
+		for (ProgressInfoItem item : viewer.getProgressInfoItems()) {
+			if (item.getInfo() == element) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static ToolBar getToolBar(ProgressInfoItem item) {
+		for (Control child : item.getChildren()) {
+			if (child instanceof ToolBar) {
+				return (ToolBar) child;
+			}
+		}
+		fail("No tool bar in " + item);
+		return null;
+	}
+
+	private static IPreferenceStore getPreferenceStore() {
+		return WorkbenchPlugin.getDefault().getPreferenceStore();
+	}
+
+}
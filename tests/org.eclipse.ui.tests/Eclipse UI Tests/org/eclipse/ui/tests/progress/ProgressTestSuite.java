@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 @Suite.SuiteClasses({
 	ProgressContantsTest.class,
 	ProgressViewTests.class,
+	DetailedProgressViewerTest.class,
 	JobInfoTest.class,
 	JobInfoTestOrdering.class,
 	ProgressAnimationItemTest.class,
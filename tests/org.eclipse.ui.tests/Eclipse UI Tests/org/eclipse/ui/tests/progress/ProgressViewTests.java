@@ -108,6 +108,7 @@ public class ProgressViewTests extends ProgressTestCase {
 
 	private int countJobs(Job job) {
 		int count = 0;
+		// Only rows near the visible area have an item, all rows fit here
 		ProgressInfoItem[] progressInfoItems = progressView.getViewer().getProgressInfoItems();
 		for (ProgressInfoItem progressInfoItem : progressInfoItems) {
 			JobTreeElement info = progressInfoItem.getInfo();
@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.views.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link LogFileIndex}.
+ */
+public class LogFileIndexTest {
+
+	private static final String SESSION = "!SESSION 2026-01-01 10:00:00.000 ---------------------------------\n"
+			+ "eclipse.buildId=unknown\n";
+	private static final String ERROR = "!ENTRY org.eclipse.ui 4 0 2026-01-01 10:00:01.000\n"
+			+ "!MESSAGE An error\n"
+			+ "!STACK 0\n"
+			+ "java.lang.Exception\n"
+			+ "\tat Test.run(Test.java:1)\n"
+			+ "!SUBENTRY 1 org.eclipse.ui 2 0 2026-01-01 10:00:01.000\n"
+			+ "!MESSAGE A child\n\n";
+	private static final String WARNING = "  !ENTRY org.eclipse.jface 2 0 2026-01-01 10:00:02.000\r\n"
+			+ "!MESSAGE A warning\r\n\r\n";
+	private static final String INFO = "!ENTRY org.eclipse.core 1 0 2026-01-01 10:00:03.000\n"
+			+ "!MESSAGE An info\n\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = folder.newFile(".log");
+	}
+
+	@Test
+	public void testOffsetsAndSeverities() throws IOException {
+		String log = SESSION + ERROR + WARNING + INFO;
+		write(log, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			assertEquals(log.length(), index.length());
+			assertEquals(4, index.size());
+
+			assertTrue(index.isSession(0));
+			assertEquals(0, index.getOffset(0));
+			assertEquals(SESSION.length(), index.getEnd(0));
+
+			// the sub-entry belongs to its top level entry
+			assertEquals(IStatus.ERROR, index.getSeverity(1));
+			assertEquals(SESSION.length(), index.getOffset(1));
+			assertEquals(SESSION.length() + ERROR.length(), index.getEnd(1));
+
+			// leading whitespace is ignored, as when parsing
+			assertEquals(IStatus.WARNING, index.getSeverity(2));
+			assertEquals(SESSION.length() + ERROR.length(), index.getOffset(2));
+
+			assertEquals(IStatus.INFO, index.getSeverity(3));
+			assertEquals(log.length() - INFO.length(), index.getOffset(3));
+			assertEquals(log.length(), index.getEnd(3));
+
+			assertEquals(SESSION.substring(0, SESSION.indexOf('\n')), index.readFirstLine(channel, 0));
+		}
+	}
+
+	@Test
+	public void testTruncatedLastRecord() throws IOException {
+		String truncated = "!ENTRY org.eclipse.ui 4 0 2026-01-01 10:00:04.000\n!MESSAGE cut o";
+		String log = SESSION + INFO + truncated;
+		write(log, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			assertEquals(3, index.size());
+			assertEquals(IStatus.ERROR, index.getSeverity(2));
+			assertEquals(log.length() - truncated.length(), index.getOffset(2));
+			assertEquals(log.length(), index.getEnd(2));
+		}
+	}
+
+	@Test
+	public void testTruncatedEntryLine() throws IOException {
+		write(SESSION + "!ENTRY org.eclipse.ui", false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			assertEquals(2, index.size());
+			// no severity yet
+			assertEquals(0, index.getSeverity(1));
+		}
+	}
+
+	@Test
+	public void testUpdate() throws IOException {
+		String partial = "!ENTRY org.eclipse.ui";
+		write(SESSION + INFO + partial, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			assertEquals(3, index.size());
+
+			write(ERROR.substring(partial.length()) + WARNING, true);
+			assertTrue(index.update(channel));
+			assertEquals(SESSION.length() + INFO.length() + ERROR.length() + WARNING.length(), index.length());
+			// the incomplete entry line is not indexed twice
+			assertEquals(4, index.size());
+			assertEquals(SESSION.length() + INFO.length(), index.getOffset(2));
+			assertEquals(IStatus.ERROR, index.getSeverity(2));
+			assertEquals(IStatus.WARNING, index.getSeverity(3));
+			assertEquals(index.length(), index.getEnd(3));
+
+			// nothing appended
+			assertTrue(index.update(channel));
+			assertEquals(4, index.size());
+		}
+	}
+
+	@Test
+	public void testUpdateTruncatedFile() throws IOException {
+		write(SESSION + ERROR + WARNING, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			write(SESSION, false);
+			assertFalse(index.update(channel));
+			assertEquals(3, index.size());
+		}
+	}
+
+	@Test
+	public void testUpdateReplacedFile() throws IOException {
+		write(SESSION + INFO, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			write(SESSION.replace("10:00:00", "11:00:00") + ERROR + WARNING, false);
+			assertFalse(index.update(channel));
+		}
+	}
+
+	@Test
+	public void testOpenStream() throws IOException {
+		write(SESSION + ERROR + WARNING + INFO, false);
+
+		FileChannel channel = LogFileIndex.open(file);
+		LogFileIndex index = LogFileIndex.create(channel);
+		try (InputStream in = index.openStream(channel, new int[] { 0, 3, 1 }, 2)) {
+			assertEquals(SESSION + INFO, read(in));
+		}
+		assertFalse("closing the stream closes the channel", channel.isOpen());
+	}
+
+	@Test
+	public void testOpenStreamBeforeUpdate() throws IOException {
+		write(SESSION + ERROR, false);
+
+		try (FileChannel channel = LogFileIndex.open(file)) {
+			LogFileIndex index = LogFileIndex.create(channel);
+			InputStream in = index.openStream(channel, new int[] { 1 }, 1);
+			write(INFO, true);
+			assertTrue(index.update(channel));
+			// the stream still ends where the record ended when it was opened
+			assertEquals(ERROR, read(in));
+		}
+	}
+
+	private void write(String text, boolean append) throws IOException {
+		if (append) {
+			Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+		} else {
+			Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[7];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+}